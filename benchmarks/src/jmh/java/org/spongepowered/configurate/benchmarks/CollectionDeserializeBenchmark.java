@@ -0,0 +1,79 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.benchmarks;
+
+import io.leangen.geantyref.TypeToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.serialize.SerializationException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deserialization of large collections through the built-in map and list
+ * serializers.
+ *
+ * <p>The tree is a map of {@link #size} keys, each holding a short list of
+ * integers, so the cost is dominated by visiting children rather than by
+ * converting scalars.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2G", "-Xmx2G"})
+public class CollectionDeserializeBenchmark {
+
+    private static final TypeToken<Map<String, List<Integer>>> TYPE = new TypeToken<Map<String, List<Integer>>>() {};
+    private static final int ELEMENTS = 4;
+
+    @Param({"100", "10000", "100000"})
+    public int size;
+
+    private BasicConfigurationNode node;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.node = BasicConfigurationNode.root();
+        for (int i = 0; i < this.size; ++i) {
+            final BasicConfigurationNode list = this.node.node("key-" + i);
+            for (int j = 0; j < ELEMENTS; ++j) {
+                list.appendListNode().raw(i + j);
+            }
+        }
+    }
+
+    @Benchmark
+    public Map<String, List<Integer>> deserialize() throws SerializationException {
+        return this.node.get(TYPE);
+    }
+
+}
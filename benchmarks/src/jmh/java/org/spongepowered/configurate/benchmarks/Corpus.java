@@ -0,0 +1,100 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.benchmarks;
+
+import org.spongepowered.configurate.CommentedConfigurationNode;
+
+import java.util.Random;
+
+/**
+ * Deterministically generated configuration documents of varying size.
+ *
+ * <p>Each document is a map of records, where every record mixes the scalar
+ * types supported by all formats with nested maps and lists, and every
+ * eighth record carries a comment.</p>
+ */
+public enum Corpus {
+    /**
+     * Roughly 1 KiB when rendered.
+     */
+    SMALL(4),
+    /**
+     * Roughly 100 KiB when rendered.
+     */
+    MEDIUM(512),
+    /**
+     * Several MiB when rendered.
+     */
+    LARGE(16_384);
+
+    private static final long SEED = 8_675_309L;
+    private static final String[] WORDS = {
+        "alpha", "bravo", "charlie", "delta", "echo", "foxtrot", "golf", "hotel",
+        "india", "juliett", "kilo", "lima", "mike", "november", "oscar", "papa"
+    };
+
+    private final int records;
+
+    Corpus(final int records) {
+        this.records = records;
+    }
+
+    /**
+     * Get the number of records in the generated document.
+     *
+     * @return the record count
+     */
+    public int records() {
+        return this.records;
+    }
+
+    /**
+     * Generate a fresh copy of this document.
+     *
+     * @return the document root
+     */
+    public CommentedConfigurationNode generate() {
+        final Random random = new Random(SEED);
+        final CommentedConfigurationNode root = CommentedConfigurationNode.root();
+        root.node("version").raw(3);
+        final CommentedConfigurationNode records = root.node("records");
+        for (int i = 0; i < this.records; ++i) {
+            final CommentedConfigurationNode record = records.node("record-" + i);
+            if (i % 8 == 0) {
+                record.comment("Record number " + i + ", generated for benchmarking");
+            }
+            record.node("id").raw(i);
+            record.node("name").raw(word(random) + ' ' + word(random));
+            record.node("enabled").raw(random.nextBoolean());
+            record.node("weight").raw(random.nextDouble() * 100);
+            record.node("timestamp").raw(1_600_000_000_000L + random.nextInt(Integer.MAX_VALUE));
+            final CommentedConfigurationNode tags = record.node("tags");
+            for (int j = 0; j < 3; ++j) {
+                tags.appendListNode().raw(word(random));
+            }
+            final CommentedConfigurationNode limits = record.node("limits");
+            limits.node("min").raw(random.nextInt(1000));
+            limits.node("max").raw(1000 + random.nextInt(1000));
+        }
+        return root;
+    }
+
+    private static String word(final Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.benchmarks;
+
+import org.spongepowered.configurate.gson.GsonConfigurationLoader;
+import org.spongepowered.configurate.hocon.HoconConfigurationLoader;
+import org.spongepowered.configurate.jackson.JacksonConfigurationLoader;
+import org.spongepowered.configurate.loader.AbstractConfigurationLoader;
+import org.spongepowered.configurate.xml.XmlConfigurationLoader;
+import org.spongepowered.configurate.yaml.YamlConfigurationLoader;
+
+/**
+ * The format loaders under benchmark.
+ */
+public enum Format {
+    GSON {
+        @Override
+        public AbstractConfigurationLoader.Builder<?, ?> builder() {
+            return GsonConfigurationLoader.builder();
+        }
+    },
+    JACKSON {
+        @Override
+        public AbstractConfigurationLoader.Builder<?, ?> builder() {
+            return JacksonConfigurationLoader.builder();
+        }
+    },
+    HOCON {
+        @Override
+        public AbstractConfigurationLoader.Builder<?, ?> builder() {
+            return HoconConfigurationLoader.builder();
+        }
+    },
+    YAML {
+        @Override
+        public AbstractConfigurationLoader.Builder<?, ?> builder() {
+            return YamlConfigurationLoader.builder();
+        }
+    },
+    XML {
+        @Override
+        public AbstractConfigurationLoader.Builder<?, ?> builder() {
+            return XmlConfigurationLoader.builder();
+        }
+    };
+
+    /**
+     * Create a new loader builder with default settings for this format.
+     *
+     * @return a new builder
+     */
+    public abstract AbstractConfigurationLoader.Builder<?, ?> builder();
+
+}
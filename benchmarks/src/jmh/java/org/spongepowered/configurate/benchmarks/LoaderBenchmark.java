@@ -0,0 +1,85 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.loader.ConfigurationLoader;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.StringReader;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link ConfigurationLoader#load()} and
+ * {@link ConfigurationLoader#save(ConfigurationNode)} for every format.
+ *
+ * <p>Documents are read from and written to memory, so the measurement
+ * covers parsing, tree construction and rendering, but no disk I/O.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2G", "-Xmx2G"})
+public class LoaderBenchmark {
+
+    @Param
+    public Format format;
+
+    @Param
+    public Corpus corpus;
+
+    private ConfigurationLoader<?> loader;
+    private ConfigurationNode loaded;
+
+    @Setup(Level.Trial)
+    public void setup() throws ConfigurateException {
+        final String document = this.format.builder().buildAndSaveString(this.corpus.generate());
+        this.loader = this.format.builder()
+            .source(() -> new BufferedReader(new StringReader(document)))
+            .sink(() -> new BufferedWriter(Writer.nullWriter()))
+            .build();
+        this.loaded = this.loader.load();
+    }
+
+    @Benchmark
+    public ConfigurationNode load() throws ConfigurateException {
+        return this.loader.load();
+    }
+
+    @Benchmark
+    public void save() throws ConfigurateException {
+        this.loader.save(this.loaded);
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.benchmarks;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Object-mapped types used by the object mapping benchmarks.
+ */
+final class MappedTypes {
+
+    private MappedTypes() {
+    }
+
+    enum Method {
+        GET, POST, PUT, DELETE
+    }
+
+    @ConfigSerializable
+    static class Limits {
+        int min;
+        int max;
+        long timeoutMillis;
+    }
+
+    @ConfigSerializable
+    static class Endpoint {
+        String path = "/";
+        Method method = Method.GET;
+        Limits limits = new Limits();
+        @Nullable Endpoint fallback;
+    }
+
+    @ConfigSerializable
+    static class Service {
+        String name = "";
+        int port;
+        boolean enabled;
+        double weight;
+        List<String> tags = new ArrayList<>();
+        Limits limits = new Limits();
+        Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+    }
+
+    @ConfigSerializable
+    static class Fleet {
+        List<Service> services = new ArrayList<>();
+    }
+
+    @ConfigSerializable
+    record LimitsRecord(int min, int max, long timeoutMillis) {
+    }
+
+    @ConfigSerializable
+    record ServiceRecord(String name, int port, boolean enabled, double weight, List<String> tags, LimitsRecord limits) {
+    }
+
+    @ConfigSerializable
+    record FleetRecord(List<ServiceRecord> services) {
+    }
+
+    static Limits limits(final int seed) {
+        final Limits limits = new Limits();
+        limits.min = seed;
+        limits.max = seed * 10;
+        limits.timeoutMillis = seed * 1_000L;
+        return limits;
+    }
+
+    /**
+     * Create a fleet whose services each hold endpoints with a chain of
+     * fallbacks, giving a graph {@code depth} levels deeper than the
+     * service itself.
+     *
+     * @param services number of services
+     * @param depth length of each endpoint's fallback chain
+     * @return a new fleet
+     */
+    static Fleet fleet(final int services, final int depth) {
+        final Fleet fleet = new Fleet();
+        for (int i = 0; i < services; ++i) {
+            final Service service = new Service();
+            service.name = "service-" + i;
+            service.port = 8000 + i;
+            service.enabled = i % 2 == 0;
+            service.weight = i / 3d;
+            service.tags.add("tier-" + i % 3);
+            service.tags.add("zone-" + i % 5);
+            service.limits = limits(i);
+            for (int j = 0; j < 4; ++j) {
+                service.endpoints.put("endpoint-" + j, endpoint(j, depth));
+            }
+            fleet.services.add(service);
+        }
+        return fleet;
+    }
+
+    private static Endpoint endpoint(final int idx, final int depth) {
+        final Endpoint endpoint = new Endpoint();
+        endpoint.path = "/api/v" + depth + "/" + idx;
+        endpoint.method = Method.values()[idx % Method.values().length];
+        endpoint.limits = limits(idx + depth);
+        if (depth > 0) {
+            endpoint.fallback = endpoint(idx, depth - 1);
+        }
+        return endpoint;
+    }
+
+    static FleetRecord fleetRecord(final int services) {
+        final List<ServiceRecord> records = new ArrayList<>(services);
+        for (int i = 0; i < services; ++i) {
+            records.add(new ServiceRecord(
+                "service-" + i,
+                8000 + i,
+                i % 2 == 0,
+                i / 3d,
+                List.of("tier-" + i % 3, "zone-" + i % 5),
+                new LimitsRecord(i, i * 10, i * 1_000L)
+            ));
+        }
+        return new FleetRecord(records);
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.spongepowered.configurate.AttributedConfigurationNode;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.CommentedConfigurationNode;
+import org.spongepowered.configurate.ConfigurationNode;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Memory footprint of configuration nodes without hints, comments or
+ * attributes.
+ *
+ * <p>Each invocation builds a tree of {@link #NODES} nodes, made of mapping
+ * sections holding integer scalars, from precomputed keys and values.
+ * {@code build} is measured per node, so the {@code gc.alloc.rate.norm}
+ * reported by the gc profiler is the number of bytes allocated for each
+ * node. {@code retained} reports the heap still in use per node once the
+ * tree is built, as the {@code retainedBytesPerNode} counter.</p>
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2G", "-Xmx2G"})
+public class NodeFootprintBenchmark {
+
+    private static final int SECTIONS = 10_000;
+    private static final int ENTRIES = 9;
+    static final int NODES = SECTIONS * (ENTRIES + 1);
+
+    /**
+     * The node implementations under benchmark.
+     */
+    public enum NodeType {
+        BASIC {
+            @Override
+            ConfigurationNode root() {
+                return BasicConfigurationNode.root();
+            }
+        },
+        COMMENTED {
+            @Override
+            ConfigurationNode root() {
+                return CommentedConfigurationNode.root();
+            }
+        },
+        ATTRIBUTED {
+            @Override
+            ConfigurationNode root() {
+                return AttributedConfigurationNode.root();
+            }
+        };
+
+        abstract ConfigurationNode root();
+    }
+
+    /**
+     * Heap usage reported alongside the {@code retained} benchmark.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long retainedBytesPerNode;
+    }
+
+    @Param
+    public NodeType type;
+
+    private final String[] sectionKeys = new String[SECTIONS];
+    private final String[] entryKeys = new String[ENTRIES];
+    private final Integer[] values = new Integer[ENTRIES];
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < SECTIONS; ++i) {
+            this.sectionKeys[i] = "section-" + i;
+        }
+        for (int i = 0; i < ENTRIES; ++i) {
+            this.entryKeys[i] = "entry-" + i;
+            this.values[i] = i;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @OperationsPerInvocation(NODES)
+    public ConfigurationNode build() {
+        return this.populate();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void retained(final Footprint footprint, final Blackhole blackhole) {
+        final long before = usedHeap();
+        final ConfigurationNode root = this.populate();
+        footprint.retainedBytesPerNode = (usedHeap() - before) / NODES;
+        blackhole.consume(root);
+    }
+
+    private ConfigurationNode populate() {
+        final ConfigurationNode root = this.type.root();
+        for (final String sectionKey : this.sectionKeys) {
+            final ConfigurationNode section = root.node(sectionKey);
+            for (int i = 0; i < ENTRIES; ++i) {
+                section.node(this.entryKeys[i]).raw(this.values[i]);
+            }
+        }
+        return root;
+    }
+
+    private static long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; ++i) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
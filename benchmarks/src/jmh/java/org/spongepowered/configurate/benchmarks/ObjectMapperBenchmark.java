@@ -0,0 +1,101 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.objectmapping.ObjectMapper;
+import org.spongepowered.configurate.serialize.SerializationException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Steady-state throughput of object mapping, once mappers have been
+ * resolved and cached by the default factory.
+ *
+ * <p>The {@code contended} variants run on several threads at once, sharing
+ * one factory, to expose lock contention in the mapper cache.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2G", "-Xmx2G"})
+public class ObjectMapperBenchmark {
+
+    @Param
+    public Shape shape;
+
+    private ObjectMapper.Factory factory;
+    private ObjectMapper<Object> mapper;
+    private Object value;
+    private ConfigurationNode source;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() throws SerializationException {
+        this.factory = ObjectMapper.factory();
+        this.mapper = (ObjectMapper<Object>) this.factory.get(this.shape.type());
+        this.value = this.shape.sample();
+        this.source = BasicConfigurationNode.root();
+        this.mapper.save(this.value, this.source);
+    }
+
+    @Benchmark
+    public Object load() throws SerializationException {
+        return this.mapper.load(this.source);
+    }
+
+    @Benchmark
+    public ConfigurationNode save() throws SerializationException {
+        final ConfigurationNode target = BasicConfigurationNode.root();
+        this.mapper.save(this.value, target);
+        return target;
+    }
+
+    @Benchmark
+    public ObjectMapper<?> factoryGet() throws SerializationException {
+        return this.factory.get(this.shape.type());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object loadContended() throws SerializationException {
+        return this.mapper.load(this.source);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public ObjectMapper<?> factoryGetContended() throws SerializationException {
+        return this.factory.get(this.shape.type());
+    }
+
+}
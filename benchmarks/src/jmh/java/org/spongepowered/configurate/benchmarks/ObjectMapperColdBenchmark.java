@@ -0,0 +1,91 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.ConfigurationOptions;
+import org.spongepowered.configurate.objectmapping.ObjectMapper;
+import org.spongepowered.configurate.serialize.SerializationException;
+import org.spongepowered.configurate.serialize.TypeSerializerCollection;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of first use: discovering a mapper for a type, and loading through
+ * serializer collections whose caches are empty.
+ *
+ * <p>Every invocation gets a new factory and serializer collection, so no
+ * Configurate-level cache is warm. The JVM itself is still warmed up by
+ * the warmup iterations; run with {@code -wi 0} and a high fork count to
+ * also include class loading and interpretation.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20, batchSize = 1)
+@Measurement(iterations = 50, batchSize = 1)
+@Fork(value = 5, jvmArgsAppend = {"-Xms2G", "-Xmx2G"})
+public class ObjectMapperColdBenchmark {
+
+    @Param
+    public Shape shape;
+
+    private ConfigurationNode template;
+    private ObjectMapper.Factory factory;
+    private ConfigurationNode source;
+
+    @Setup(Level.Trial)
+    public void setupTrial() throws SerializationException {
+        this.template = BasicConfigurationNode.root();
+        this.template.set(this.shape.type(), this.shape.sample());
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        this.factory = ObjectMapper.factoryBuilder().build();
+        final TypeSerializerCollection serializers = TypeSerializerCollection.builder()
+            .registerAnnotatedObjects(this.factory)
+            .registerAll(TypeSerializerCollection.defaults())
+            .build();
+        this.source = BasicConfigurationNode.root(ConfigurationOptions.defaults().serializers(serializers))
+            .from(this.template);
+    }
+
+    @Benchmark
+    public ObjectMapper<?> mapperCold() throws SerializationException {
+        return this.factory.get(this.shape.type());
+    }
+
+    @Benchmark
+    public Object loadCold() throws SerializationException {
+        return this.source.get(this.shape.type());
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.benchmarks;
+
+import java.lang.reflect.Type;
+
+/**
+ * Object graphs of different shapes, for object mapping benchmarks.
+ */
+public enum Shape {
+    /**
+     * A single object with only scalar fields.
+     */
+    FLAT(MappedTypes.Limits.class) {
+        @Override
+        Object sample() {
+            return MappedTypes.limits(42);
+        }
+    },
+    /**
+     * Nested objects, lists and maps, six levels deep.
+     */
+    DEEP(MappedTypes.Fleet.class) {
+        @Override
+        Object sample() {
+            return MappedTypes.fleet(16, 4);
+        }
+    },
+    /**
+     * Records, handled by the record field discoverer.
+     */
+    RECORD(MappedTypes.FleetRecord.class) {
+        @Override
+        Object sample() {
+            return MappedTypes.fleetRecord(16);
+        }
+    };
+
+    private final Type type;
+
+    Shape(final Type type) {
+        this.type = type;
+    }
+
+    /**
+     * Get the root type of this shape.
+     *
+     * @return the mapped type
+     */
+    Type type() {
+        return this.type;
+    }
+
+    /**
+     * Create a populated instance of {@link #type()}.
+     *
+     * @return a new instance
+     */
+    abstract Object sample();
+
+}
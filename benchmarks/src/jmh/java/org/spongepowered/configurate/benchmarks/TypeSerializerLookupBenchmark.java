@@ -0,0 +1,113 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.benchmarks;
+
+import io.leangen.geantyref.GenericTypeReflector;
+import io.leangen.geantyref.TypeToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.configurate.objectmapping.ObjectMapper;
+import org.spongepowered.configurate.serialize.TypeSerializer;
+import org.spongepowered.configurate.serialize.TypeSerializerCollection;
+
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of serializer lookup in {@link TypeSerializerCollection}.
+ *
+ * <p>The warm variants query the shared default collection, whose lookup
+ * caches are populated after the first call. The cold variant builds a new
+ * collection for every invocation.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2G", "-Xmx2G"})
+public class TypeSerializerLookupBenchmark {
+
+    /**
+     * Types to look up, covering exact, hierarchy and factory matches.
+     */
+    public enum Lookup {
+        STRING(String.class),
+        LIST(new TypeToken<List<String>>() {}.getType()),
+        MAP(new TypeToken<Map<String, Integer>>() {}.getType()),
+        ENUM(MappedTypes.Method.class),
+        MAPPED(MappedTypes.Service.class);
+
+        final Type type;
+        final AnnotatedType annotated;
+
+        Lookup(final Type type) {
+            this.type = type;
+            this.annotated = GenericTypeReflector.annotate(type);
+        }
+    }
+
+    @Param
+    public Lookup lookup;
+
+    private TypeSerializerCollection serializers;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.serializers = TypeSerializerCollection.defaults();
+    }
+
+    @Benchmark
+    public TypeSerializer<?> getType() {
+        return this.serializers.get(this.lookup.type);
+    }
+
+    @Benchmark
+    public TypeSerializer<?> getAnnotatedType() {
+        return this.serializers.get(this.lookup.annotated);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public TypeSerializer<?> getTypeContended() {
+        return this.serializers.get(this.lookup.type);
+    }
+
+    @Benchmark
+    public TypeSerializer<?> getTypeCold() {
+        return TypeSerializerCollection.builder()
+            .registerAnnotatedObjects(ObjectMapper.factory())
+            .registerAll(TypeSerializerCollection.defaults())
+            .build()
+            .get(this.lookup.type);
+    }
+
+}
@@ -23,21 +23,27 @@ import static java.util.Objects.requireNonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.serialize.SerializationException;
 import org.spongepowered.configurate.serialize.TypeSerializer;
-import org.spongepowered.configurate.util.UnmodifiableCollections;
 
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Type;
+import java.util.AbstractList;
+import java.util.AbstractMap;
 import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
-import java.util.LinkedList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 /**
  * Simple implementation of {@link ConfigurationNode}.
@@ -73,10 +79,17 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
      */
     volatile ConfigValue<N, A> value;
 
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<AbstractConfigurationNode, Map> HINTS_UPDATER =
+        AtomicReferenceFieldUpdater.newUpdater(AbstractConfigurationNode.class, Map.class, "hints");
+
     /**
      * Storage for representation hints.
+     *
+     * <p>Hints are rare, so the map is immutable and shared until a hint is
+     * set, and is replaced as a whole on every change.</p>
      */
-    final Map<RepresentationHint<?>, Object> hints;
+    volatile Map<RepresentationHint<?>, Object> hints;
 
     protected AbstractConfigurationNode(final @Nullable Object key, final @Nullable A parent, final ConfigurationOptions options) {
         requireNonNull(options, "options");
@@ -88,7 +101,7 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
         this.options = options;
         this.parent = parent;
         this.value = NullConfigValue.instance();
-        this.hints = new ConcurrentHashMap<>();
+        this.hints = Collections.emptyMap();
 
         // if the parent is null, this node is a root node, and is therefore "attached"
         if (parent == null) {
@@ -102,7 +115,7 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
         this.key = copyOf.key;
         this.parent = parent;
         this.value = copyOf.value.copy(this.implSelf());
-        this.hints = new ConcurrentHashMap<>(copyOf.hints);
+        this.hints = copyOf.hints;
     }
 
     /**
@@ -274,34 +287,31 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
             return this.self();
         }
 
-        this.hints.clear();
-        this.hints.putAll(that.ownHints());
+        this.hints = immutableHints(that.ownHints());
         if (that.isList()) {
             // handle list
             this.attachIfNecessary();
             final ListConfigValue<N, A> newList = new ListConfigValue<>(this.implSelf());
-            synchronized (that) {
-                final List<? extends ConfigurationNode> children = that.childrenList();
-                for (int i = 0; i < children.size(); i++) {
-                    final A node = this.createNode(i);
-                    node.attached = true;
-                    node.from(children.get(i));
-                    newList.putChild(i, node);
-                }
-            }
+            // forEachChild holds the source's child lock for the whole walk
+            that.forEachChild(child -> {
+                final int index = newList.values.size();
+                final A node = this.createNode(index);
+                node.attached = true;
+                node.from(child);
+                newList.putChild(index, node);
+            });
             this.value = newList;
         } else if (that.isMap()) {
             // handle map
             this.attachIfNecessary();
             final MapConfigValue<N, A> newMap = new MapConfigValue<>(this.implSelf());
-            synchronized (that) {
-                for (final Map.Entry<Object, ? extends ConfigurationNode> entry : that.childrenMap().entrySet()) {
-                    final A node = this.createNode(entry.getKey());
-                    node.attached = true;
-                    node.from(entry.getValue());
-                    newMap.putChild(entry.getKey(), node);
-                }
-            }
+            that.forEachChild(child -> {
+                final Object key = requireNonNull(child.key(), "key");
+                final A node = this.createNode(key);
+                node.attached = true;
+                node.from(child);
+                newMap.putChild(key, node);
+            });
             this.value = newMap;
         } else {
             // handle scalar/null
@@ -343,8 +353,8 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
                 if (!(value instanceof MapConfigValue)) {
                     value = new MapConfigValue<>(this.implSelf());
                 }
-            } else if (!(value instanceof ScalarConfigValue)) {
-                value = new ScalarConfigValue<>(this.implSelf());
+            } else if (!(value instanceof ScalarConfigValue) || !((ScalarConfigValue<N, A>) value).holds(newValue)) {
+                value = ScalarConfigValue.holding(this.implSelf(), newValue);
             }
 
             // insert the data into the config value
@@ -360,7 +370,14 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
             return this.from(other);
         }
 
-        this.hints.putAll(other.ownHints());
+        final Map<RepresentationHint<?>, ?> otherHints = other.ownHints();
+        if (!otherHints.isEmpty()) {
+            this.updateHints(hints -> {
+                final Map<RepresentationHint<?>, Object> merged = new HashMap<>(hints);
+                merged.putAll(otherHints);
+                return Collections.unmodifiableMap(merged);
+            });
+        }
         if (other.isMap()) {
             final ConfigValue<N, A> oldValue;
             ConfigValue<N, A> newValue;
@@ -440,6 +457,110 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
         }
     }
 
+    @Override
+    public final N rawInt(final int value) {
+        this.attachIfNecessary();
+        synchronized (this) {
+            final ScalarConfigValue.OfInt<N, A> scalar =
+                this.primitiveScalar(ScalarConfigValue.OfInt.class, ScalarConfigValue.OfInt::new);
+            scalar.setInt(value);
+            this.value = scalar;
+        }
+        return this.self();
+    }
+
+    @Override
+    public final N rawLong(final long value) {
+        this.attachIfNecessary();
+        synchronized (this) {
+            final ScalarConfigValue.OfLong<N, A> scalar =
+                this.primitiveScalar(ScalarConfigValue.OfLong.class, ScalarConfigValue.OfLong::new);
+            scalar.setLong(value);
+            this.value = scalar;
+        }
+        return this.self();
+    }
+
+    @Override
+    public final N rawDouble(final double value) {
+        this.attachIfNecessary();
+        synchronized (this) {
+            final ScalarConfigValue.OfDouble<N, A> scalar =
+                this.primitiveScalar(ScalarConfigValue.OfDouble.class, ScalarConfigValue.OfDouble::new);
+            scalar.setDouble(value);
+            this.value = scalar;
+        }
+        return this.self();
+    }
+
+    @Override
+    public final N rawBoolean(final boolean value) {
+        this.attachIfNecessary();
+        synchronized (this) {
+            final ScalarConfigValue.OfBoolean<N, A> scalar =
+                this.primitiveScalar(ScalarConfigValue.OfBoolean.class, ScalarConfigValue.OfBoolean::new);
+            scalar.setBoolean(value);
+            this.value = scalar;
+        }
+        return this.self();
+    }
+
+    /**
+     * Get the current value if it is a scalar of {@code type}, or else a new
+     * one from {@code factory}.
+     *
+     * <p>Must be called while holding this node's lock.</p>
+     */
+    @SuppressWarnings("unchecked")
+    private <V extends ScalarConfigValue<N, A>> V primitiveScalar(final Class<?> type, final Function<A, V> factory) {
+        final ConfigValue<N, A> value = this.value;
+        return type.isInstance(value) ? (V) value : factory.apply(this.implSelf());
+    }
+
+    // primitive scalars are read directly, other values go through Scalars
+
+    @Override
+    public final int getInt(final int def) { // @cs-: NoGetSetPrefix (not a bean method)
+        final ConfigValue<N, A> value = this.value;
+        if (value instanceof ScalarConfigValue.OfInt<?, ?>) {
+            return ((ScalarConfigValue.OfInt<?, ?>) value).value;
+        }
+        return ScopedConfigurationNode.super.getInt(def);
+    }
+
+    @Override
+    public final long getLong(final long def) { // @cs-: NoGetSetPrefix (not a bean method)
+        final ConfigValue<N, A> value = this.value;
+        if (value instanceof ScalarConfigValue.OfLong<?, ?>) {
+            return ((ScalarConfigValue.OfLong<?, ?>) value).value;
+        } else if (value instanceof ScalarConfigValue.OfInt<?, ?>) {
+            return ((ScalarConfigValue.OfInt<?, ?>) value).value;
+        }
+        return ScopedConfigurationNode.super.getLong(def);
+    }
+
+    @Override
+    public final double getDouble(final double def) { // @cs-: NoGetSetPrefix (not a bean method)
+        final ConfigValue<N, A> value = this.value;
+        if (value instanceof ScalarConfigValue.OfDouble<?, ?>) {
+            return ((ScalarConfigValue.OfDouble<?, ?>) value).value;
+        } else if (value instanceof ScalarConfigValue.OfInt<?, ?>) {
+            return ((ScalarConfigValue.OfInt<?, ?>) value).value;
+        } else if (value instanceof ScalarConfigValue.OfLong<?, ?>) {
+            return ((ScalarConfigValue.OfLong<?, ?>) value).value;
+        }
+        return ScopedConfigurationNode.super.getDouble(def);
+    }
+
+    @Override
+    public final boolean getBoolean(final boolean def) { // @cs-: NoGetSetPrefix (not a bean method)
+        final ConfigValue<N, A> value = this.value;
+        if (value instanceof ScalarConfigValue.OfBoolean<?, ?>) {
+            return ((ScalarConfigValue.OfBoolean<?, ?>) value).value;
+        }
+        return ScopedConfigurationNode.super.getBoolean(def);
+    }
+
     @Override
     public final N node(final Object... path) {
         A pointer = this.implSelf();
@@ -516,6 +637,47 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
         return value instanceof MapConfigValue ? ((MapConfigValue<N, A>) value).unwrapped() : Collections.emptyMap();
     }
 
+    @Override
+    public final List<N> childrenListView() {
+        return new ChildrenListView();
+    }
+
+    @Override
+    public final Map<Object, N> childrenMapView() {
+        return new ChildrenMapView();
+    }
+
+    @Override
+    public final int childCount() {
+        final ConfigValue<N, A> value = this.value;
+        if (value instanceof ListConfigValue) {
+            final List<A> children = ((ListConfigValue<N, A>) value).values;
+            synchronized (children) {
+                return children.size();
+            }
+        } else if (value instanceof MapConfigValue) {
+            return ((MapConfigValue<N, A>) value).values.size();
+        } else {
+            return 0;
+        }
+    }
+
+    @Override
+    public final void forEachChild(final Consumer<? super ConfigurationNode> action) {
+        requireNonNull(action, "action");
+        final ConfigValue<N, A> value = this.value;
+        if (value instanceof ListConfigValue) {
+            final List<A> children = ((ListConfigValue<N, A>) value).values;
+            synchronized (children) {
+                for (final A child : children) {
+                    action.accept(child);
+                }
+            }
+        } else if (value instanceof MapConfigValue) {
+            ((MapConfigValue<N, A>) value).values.values().forEach(action);
+        }
+    }
+
     @Override
     public boolean empty() {
         return this.value.isEmpty();
@@ -599,6 +761,10 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
         return parent == null ? null : parent.self();
     }
 
+    final @Nullable A implParent() {
+        return this.parent;
+    }
+
     @Override
     public final ConfigurationOptions options() {
         return this.options;
@@ -734,60 +900,54 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
         }
     }
 
-    @SuppressWarnings({"JdkObsolete", "unchecked"})
     private <S, T, E extends Exception> T visitInternal(final ConfigurationVisitor<S, T, E> visitor, final S state) throws E {
         visitor.beginVisit(this.self(), state);
         if (!(this.value instanceof NullConfigValue)) { // only visit if we have an actual value
-            final LinkedList<Object> toVisit = new LinkedList<>();
-            toVisit.add(this);
-
-            @Nullable Object active;
-            while ((active = toVisit.pollFirst()) != null) {
-                // try to pop a node from the stack, or handle the node exit if applicable
-                final @Nullable A current = VisitorNodeEnd.popFromVisitor(active, visitor, state);
-                if (current == null) {
-                    continue;
-                }
-
-                try {
-                    visitor.enterNode(current.self(), state);
-                    final ConfigValue<N, A> value = current.value;
-                    if (value instanceof MapConfigValue) {
-                        visitor.enterMappingNode(current.self(), state);
-                        toVisit.addFirst(new VisitorNodeEnd(current, true));
-                        toVisit.addAll(0, ((MapConfigValue<N, A>) value).values.values());
-                    } else if (value instanceof ListConfigValue) {
-                        visitor.enterListNode(current.self(), state);
-                        toVisit.addFirst(new VisitorNodeEnd(current, false));
-                        toVisit.addAll(0, ((ListConfigValue<N, A>) value).values);
-                    } else if (value instanceof ScalarConfigValue) {
-                        visitor.enterScalarNode(current.self(), state);
-                    } else if (!(value instanceof NullConfigValue)) { // temporary workaround, no null values should appear in attached nodes
-                        throw new IllegalStateException("Unknown value type " + value.getClass() + " at " + current.path());
-                    }
-                } catch (final Exception ex) {
-                    // Assign an appropriate path to ConfigurateExceptions
-                    if (ex instanceof ConfigurateException) {
-                        ((ConfigurateException) ex).initPath(current::path);
-                    }
-                    throw (E) ex;
-                }
-            }
+            new VisitorStack<N, A>().walk(this.implSelf(), visitor, state);
         }
         return visitor.endVisit(state);
     }
 
     @Override
-    public final <V> N hint(final RepresentationHint<V> hint, final @Nullable V value) {
-        if (value == null) {
-            this.hints.remove(hint);
-        } else {
-            this.hints.put(hint, value);
+    public final <S, T, E extends Exception> T visitParallel(final ConfigurationVisitor.Parallel<S, T, E> visitor, final S state) throws E {
+        visitor.beginVisit(this.self(), state);
+        S result = state;
+        if (!(this.value instanceof NullConfigValue)) { // only visit if we have an actual value
+            result = ParallelVisitorTask.visit(this.implSelf(), visitor, state);
         }
+        return visitor.endVisit(result);
+    }
+
+    @Override
+    public final <V> N hint(final RepresentationHint<V> hint, final @Nullable V value) {
+        this.updateHints(hints -> {
+            if (value == null ? !hints.containsKey(hint) : value.equals(hints.get(hint))) {
+                return hints;
+            }
+            final Map<RepresentationHint<?>, Object> updated = new HashMap<>(hints);
+            if (value == null) {
+                updated.remove(hint);
+            } else {
+                updated.put(hint, value);
+            }
+            return updated.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(updated);
+        });
 
         return this.self();
     }
 
+    @SuppressWarnings("unchecked")
+    private void updateHints(final UnaryOperator<Map<RepresentationHint<?>, Object>> update) {
+        Map<RepresentationHint<?>, Object> existing;
+        do {
+            existing = this.hints;
+        } while (!HINTS_UPDATER.compareAndSet(this, existing, update.apply(existing)));
+    }
+
+    private static Map<RepresentationHint<?>, Object> immutableHints(final Map<RepresentationHint<?>, ?> hints) {
+        return hints.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(new HashMap<>(hints));
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public final <V> @Nullable V hint(final RepresentationHint<V> hint) {
@@ -811,7 +971,7 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
 
     @Override
     public final Map<RepresentationHint<?>, ?> ownHints() {
-        return UnmodifiableCollections.copyOf(this.hints);
+        return this.hints;
     }
 
     @Override
@@ -844,4 +1004,69 @@ abstract class AbstractConfigurationNode<N extends ScopedConfigurationNode<N>, A
 
     protected abstract A implSelf();
 
+    /**
+     * A live, read-only view of the list children of a node.
+     *
+     * <p>Node implementations are always their own scoped node type, so the
+     * backing list can be exposed without unwrapping each element.</p>
+     */
+    private final class ChildrenListView extends AbstractList<N> implements RandomAccess {
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private List<N> children() {
+            final ConfigValue<N, A> value = AbstractConfigurationNode.this.value;
+            return value instanceof ListConfigValue ? (List) ((ListConfigValue<N, A>) value).values : Collections.emptyList();
+        }
+
+        @Override
+        public N get(final int index) {
+            final List<N> children = this.children();
+            synchronized (children) {
+                return children.get(index);
+            }
+        }
+
+        @Override
+        public int size() {
+            final List<N> children = this.children();
+            synchronized (children) {
+                return children.size();
+            }
+        }
+
+    }
+
+    /**
+     * A live, read-only view of the map children of a node.
+     */
+    private final class ChildrenMapView extends AbstractMap<Object, N> {
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private Map<Object, N> children() {
+            final ConfigValue<N, A> value = AbstractConfigurationNode.this.value;
+            return value instanceof MapConfigValue ? (Map) ((MapConfigValue<N, A>) value).values : Collections.emptyMap();
+        }
+
+        @Override
+        public Set<Entry<Object, N>> entrySet() {
+            return Collections.unmodifiableMap(this.children()).entrySet();
+        }
+
+        @Override
+        public @Nullable N get(final @Nullable Object key) {
+            return this.children().get(key);
+        }
+
+        @Override
+        public boolean containsKey(final @Nullable Object key) {
+            return this.children().containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return this.children().size();
+        }
+
+    }
+
 }
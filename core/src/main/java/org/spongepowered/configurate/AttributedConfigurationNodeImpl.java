@@ -21,6 +21,7 @@ import static java.util.Objects.requireNonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.util.UnmodifiableCollections;
 
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -31,7 +32,8 @@ class AttributedConfigurationNodeImpl extends AbstractCommentedConfigurationNode
         implements AttributedConfigurationNode {
 
     private String tagName;
-    private final Map<String, String> attributes = new LinkedHashMap<>();
+    // most nodes have no attributes, so a map is only allocated once one is added
+    private Map<String, String> attributes = Collections.emptyMap();
 
     protected AttributedConfigurationNodeImpl(final String tagName, final @Nullable Object path,
             final @Nullable AttributedConfigurationNodeImpl parent, final ConfigurationOptions options) {
@@ -66,7 +68,7 @@ class AttributedConfigurationNodeImpl extends AbstractCommentedConfigurationNode
             throw new IllegalArgumentException("Attribute name cannot be null/empty");
         }
         attachIfNecessary();
-        this.attributes.put(name, value);
+        this.mutableAttributes().put(name, value);
         return this;
     }
 
@@ -83,14 +85,23 @@ class AttributedConfigurationNodeImpl extends AbstractCommentedConfigurationNode
                 throw new IllegalArgumentException("Attribute name cannot be null/empty");
             }
         }
-        this.attributes.clear();
-        if (!attributes.isEmpty()) {
+        if (attributes.isEmpty()) {
+            this.attributes = Collections.emptyMap();
+        } else {
             attachIfNecessary();
-            this.attributes.putAll(attributes);
+            this.attributes = new LinkedHashMap<>(attributes);
         }
         return this;
     }
 
+    private Map<String, String> mutableAttributes() {
+        // only the shared empty map is replaced, so a map emptied by removing attributes is reused
+        if (this.attributes == Collections.<String, String>emptyMap()) {
+            this.attributes = new LinkedHashMap<>();
+        }
+        return this.attributes;
+    }
+
     @Override
     public Map<String, String> attributes() {
         return UnmodifiableCollections.copyOf(this.attributes);
@@ -143,7 +154,9 @@ class AttributedConfigurationNodeImpl extends AbstractCommentedConfigurationNode
     @Override
     protected AttributedConfigurationNodeImpl copy(final @Nullable AttributedConfigurationNodeImpl parent) {
         final AttributedConfigurationNodeImpl copy = new AttributedConfigurationNodeImpl(this.tagName, parent, this);
-        copy.attributes.putAll(this.attributes);
+        if (!this.attributes.isEmpty()) {
+            copy.attributes = new LinkedHashMap<>(this.attributes);
+        }
         COMMENT_UPDATER.set(copy, this.comment);
         return copy;
     }
@@ -0,0 +1,239 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The differences between two node trees, as sets of paths.
+ *
+ * <p>Differences are reported as compactly as possible: when a whole
+ * subtree is added or removed, only the path of its root is included, and
+ * when a value changes type (for example from a scalar to a map), only that
+ * node is reported as changed. Comments and representation hints are not
+ * compared.</p>
+ *
+ * <p>Diffs are computed between {@link ConfigurationSnapshot snapshots}.
+ * Subtrees that are shared between the two snapshots, or whose cached
+ * structural hashes and contents are equal, are skipped without being
+ * descended into.</p>
+ *
+ * @since 4.2.0
+ */
+public final class ConfigurationDiff {
+
+    private static final ConfigurationDiff EMPTY = new ConfigurationDiff(Collections.emptySet(), Collections.emptySet(),
+        Collections.emptySet());
+
+    private final Set<NodePath> added;
+    private final Set<NodePath> removed;
+    private final Set<NodePath> changed;
+
+    /**
+     * Compute the differences between two nodes.
+     *
+     * <p>Both nodes are captured as snapshots first. When one tree is
+     * compared repeatedly, prefer
+     * {@link #between(ConfigurationSnapshot, ConfigurationSnapshot)} with a
+     * retained snapshot, so its structural hashes are only computed
+     * once.</p>
+     *
+     * @param previous the old tree
+     * @param current the new tree
+     * @return the differences, with paths relative to the compared nodes
+     * @since 4.2.0
+     */
+    public static ConfigurationDiff between(final ConfigurationNode previous, final ConfigurationNode current) {
+        return between(previous.snapshot(), current.snapshot());
+    }
+
+    /**
+     * Compute the differences between two snapshots.
+     *
+     * @param previous the old tree
+     * @param current the new tree
+     * @return the differences, with paths relative to the compared snapshots
+     * @since 4.2.0
+     */
+    public static ConfigurationDiff between(final ConfigurationSnapshot previous, final ConfigurationSnapshot current) {
+        requireNonNull(previous, "previous");
+        requireNonNull(current, "current");
+        if (unchanged(previous, current)) {
+            return EMPTY;
+        }
+
+        final ConfigurationDiff diff = new ConfigurationDiff(new LinkedHashSet<>(), new LinkedHashSet<>(), new LinkedHashSet<>());
+        diff.compare(NodePath.path(), previous, current);
+        return diff;
+    }
+
+    private ConfigurationDiff(final Set<NodePath> added, final Set<NodePath> removed, final Set<NodePath> changed) {
+        this.added = added;
+        this.removed = removed;
+        this.changed = changed;
+    }
+
+    private static boolean unchanged(final ConfigurationSnapshot previous, final ConfigurationSnapshot current) {
+        // hash codes are cached on snapshots, so this only descends into subtrees that are likely equal
+        return previous == current || previous.hashCode() == current.hashCode() && previous.equals(current);
+    }
+
+    private void compare(final NodePath path, final ConfigurationSnapshot previous, final ConfigurationSnapshot current) {
+        if (previous.isMap() && current.isMap()) {
+            final Map<Object, ConfigurationSnapshot> oldChildren = previous.childrenMap();
+            final Map<Object, ConfigurationSnapshot> newChildren = current.childrenMap();
+            for (final Map.Entry<Object, ConfigurationSnapshot> entry : oldChildren.entrySet()) {
+                final ConfigurationSnapshot other = newChildren.get(entry.getKey());
+                if (other == null) {
+                    this.removed.add(path.withAppendedChild(entry.getKey()));
+                } else if (!unchanged(entry.getValue(), other)) {
+                    this.compare(path.withAppendedChild(entry.getKey()), entry.getValue(), other);
+                }
+            }
+            for (final Object key : newChildren.keySet()) {
+                if (!oldChildren.containsKey(key)) {
+                    this.added.add(path.withAppendedChild(key));
+                }
+            }
+        } else if (previous.isList() && current.isList()) {
+            final List<ConfigurationSnapshot> oldChildren = previous.childrenList();
+            final List<ConfigurationSnapshot> newChildren = current.childrenList();
+            final int common = Math.min(oldChildren.size(), newChildren.size());
+            for (int i = 0; i < common; ++i) {
+                if (!unchanged(oldChildren.get(i), newChildren.get(i))) {
+                    this.compare(path.withAppendedChild(i), oldChildren.get(i), newChildren.get(i));
+                }
+            }
+            for (int i = common; i < oldChildren.size(); ++i) {
+                this.removed.add(path.withAppendedChild(i));
+            }
+            for (int i = common; i < newChildren.size(); ++i) {
+                this.added.add(path.withAppendedChild(i));
+            }
+        } else if (previous.isNull() != current.isNull()) {
+            (previous.isNull() ? this.added : this.removed).add(path);
+        } else if (previous.isMap() != current.isMap()
+            || previous.isList() != current.isList()
+            || !Objects.equals(previous.rawScalar(), current.rawScalar())) {
+            this.changed.add(path);
+        }
+    }
+
+    /**
+     * Get the paths of values present only in the new tree.
+     *
+     * @return an unmodifiable set of added paths
+     * @since 4.2.0
+     */
+    public Set<NodePath> added() {
+        return Collections.unmodifiableSet(this.added);
+    }
+
+    /**
+     * Get the paths of values present only in the old tree.
+     *
+     * @return an unmodifiable set of removed paths
+     * @since 4.2.0
+     */
+    public Set<NodePath> removed() {
+        return Collections.unmodifiableSet(this.removed);
+    }
+
+    /**
+     * Get the paths of values present in both trees with a different scalar
+     * value or a different type.
+     *
+     * @return an unmodifiable set of changed paths
+     * @since 4.2.0
+     */
+    public Set<NodePath> changed() {
+        return Collections.unmodifiableSet(this.changed);
+    }
+
+    /**
+     * Get whether the two trees had no differences.
+     *
+     * @return if nothing was added, removed, or changed
+     * @since 4.2.0
+     */
+    public boolean empty() {
+        return this.added.isEmpty() && this.removed.isEmpty() && this.changed.isEmpty();
+    }
+
+    /**
+     * Get whether the value at a path may differ between the two trees.
+     *
+     * <p>This is true when any difference is at {@code path}, at one of its
+     * ancestors, or at one of its descendants.</p>
+     *
+     * @param path the path to check, relative to the compared trees
+     * @return if the value at {@code path} is affected
+     * @since 4.2.0
+     */
+    public boolean affects(final NodePath path) {
+        return affects(this.added, path) || affects(this.removed, path) || affects(this.changed, path);
+    }
+
+    private static boolean affects(final Set<NodePath> paths, final NodePath path) {
+        for (final NodePath candidate : paths) {
+            final int shared = Math.min(candidate.size(), path.size());
+            boolean prefix = true;
+            for (int i = 0; i < shared; ++i) {
+                if (!candidate.get(i).equals(path.get(i))) {
+                    prefix = false;
+                    break;
+                }
+            }
+            if (prefix) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof ConfigurationDiff)) {
+            return false;
+        }
+        final ConfigurationDiff that = (ConfigurationDiff) other;
+        return this.added.equals(that.added)
+            && this.removed.equals(that.removed)
+            && this.changed.equals(that.changed);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.added, this.removed, this.changed);
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigurationDiff{added=" + this.added + ", removed=" + this.removed + ", changed=" + this.changed + '}';
+    }
+
+}
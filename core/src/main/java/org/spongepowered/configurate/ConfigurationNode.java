@@ -34,6 +34,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
 
@@ -277,6 +278,79 @@ public interface ConfigurationNode {
      */
     Map<Object, ? extends ConfigurationNode> childrenMap();
 
+    /**
+     * Gets a read-only view of the "list children" attached to this node.
+     *
+     * <p>Unlike {@link #childrenList()}, the returned list is not a copy. It
+     * always reflects the current children of this node, and is empty while
+     * this node does not {@link #isList() have list children}.</p>
+     *
+     * <p>The view should not be iterated while this node may be modified
+     * by another thread.</p>
+     *
+     * <p>Implementations that cannot provide a view return a copy, as
+     * {@link #childrenList()} does.</p>
+     *
+     * @return a live view of the list children of this node
+     * @since 4.2.0
+     */
+    default List<? extends ConfigurationNode> childrenListView() {
+        return this.childrenList();
+    }
+
+    /**
+     * Gets a read-only view of the "map children" attached to this node.
+     *
+     * <p>Unlike {@link #childrenMap()}, the returned map is not a copy. It
+     * always reflects the current children of this node, and is empty while
+     * this node does not {@link #isMap() have map children}.</p>
+     *
+     * <p>The view should not be iterated while this node may be modified
+     * by another thread.</p>
+     *
+     * <p>Implementations that cannot provide a view return a copy, as
+     * {@link #childrenMap()} does.</p>
+     *
+     * @return a live view of the map children of this node
+     * @since 4.2.0
+     */
+    default Map<Object, ? extends ConfigurationNode> childrenMapView() {
+        return this.childrenMap();
+    }
+
+    /**
+     * Gets the number of list or map children attached to this node.
+     *
+     * @return the number of children, or {@code 0} for scalar and null nodes
+     * @since 4.2.0
+     */
+    default int childCount() {
+        return this.isList() ? this.childrenList().size() : this.childrenMap().size();
+    }
+
+    /**
+     * Perform an action for each child attached to this node, without
+     * copying the children.
+     *
+     * <p>List children are visited in order, and map children in the
+     * iteration order of the node's map. The action must not modify
+     * this node.</p>
+     *
+     * <p>Node implementations hold the lock guarding their children while
+     * iterating, so the children are seen consistently even while other
+     * threads modify this node.</p>
+     *
+     * @param action the action to perform
+     * @since 4.2.0
+     */
+    default void forEachChild(final Consumer<? super ConfigurationNode> action) {
+        if (this.isList()) {
+            this.childrenList().forEach(action);
+        } else {
+            this.childrenMap().values().forEach(action);
+        }
+    }
+
     /**
      * Create a collector that appends values to this node as map children.
      *
@@ -1179,6 +1253,66 @@ public interface ConfigurationNode {
      */
     ConfigurationNode raw(@Nullable Object value);
 
+    /**
+     * Set the raw value of this node to {@code value}.
+     *
+     * <p>This is equivalent to {@link #raw(Object)} with a boxed
+     * {@link Integer}, but implementations may store the value without
+     * boxing it.</p>
+     *
+     * @param value the value to set on this node
+     * @return this node
+     * @since 4.2.0
+     */
+    default ConfigurationNode rawInt(final int value) {
+        return this.raw(value);
+    }
+
+    /**
+     * Set the raw value of this node to {@code value}.
+     *
+     * <p>This is equivalent to {@link #raw(Object)} with a boxed
+     * {@link Long}, but implementations may store the value without
+     * boxing it.</p>
+     *
+     * @param value the value to set on this node
+     * @return this node
+     * @since 4.2.0
+     */
+    default ConfigurationNode rawLong(final long value) {
+        return this.raw(value);
+    }
+
+    /**
+     * Set the raw value of this node to {@code value}.
+     *
+     * <p>This is equivalent to {@link #raw(Object)} with a boxed
+     * {@link Double}, but implementations may store the value without
+     * boxing it.</p>
+     *
+     * @param value the value to set on this node
+     * @return this node
+     * @since 4.2.0
+     */
+    default ConfigurationNode rawDouble(final double value) {
+        return this.raw(value);
+    }
+
+    /**
+     * Set the raw value of this node to {@code value}.
+     *
+     * <p>This is equivalent to {@link #raw(Object)} with a boxed
+     * {@link Boolean}, but implementations may store the value without
+     * boxing it.</p>
+     *
+     * @param value the value to set on this node
+     * @return this node
+     * @since 4.2.0
+     */
+    default ConfigurationNode rawBoolean(final boolean value) {
+        return this.raw(value);
+    }
+
     /**
      * Get the raw value of this node if the node is a scalar.
      *
@@ -1256,6 +1390,29 @@ public interface ConfigurationNode {
      */
     ConfigurationNode copy();
 
+    /**
+     * Capture the current state of this node and its children as an
+     * immutable snapshot.
+     *
+     * <p>Unlike {@link #copy()}, the result can be read from any thread
+     * without locking, and edited copies of it can be derived cheaply with
+     * {@link ConfigurationSnapshot#with(NodePath, ConfigurationSnapshot)}.
+     * Changes made to this node after the snapshot is taken are not
+     * reflected in it.</p>
+     *
+     * <p>Taking a snapshot visits every node in the hierarchy once, so its
+     * cost grows with the size of the tree. Children are read in place
+     * rather than copied first, but callers that need many views of the
+     * same state should share one snapshot, and derive changed versions
+     * of it, rather than capturing the node again.</p>
+     *
+     * @return a new snapshot
+     * @since 4.2.0
+     */
+    default ConfigurationSnapshot snapshot() {
+        return ConfigurationSnapshot.of(this);
+    }
+
     /**
      * Visit this node hierarchy as described in {@link ConfigurationVisitor}.
      *
@@ -1316,6 +1473,42 @@ public interface ConfigurationNode {
      */
     <S, T> T visit(ConfigurationVisitor.Safe<S, T> visitor, S state);
 
+    /**
+     * Visit this node hierarchy on the common fork-join pool, as described in
+     * {@link ConfigurationVisitor.Parallel}.
+     *
+     * @param visitor the visitor
+     * @param <S> the state type
+     * @param <T> the terminal type
+     * @param <E> exception type that may be thrown
+     * @return returned terminal from the visitor
+     * @throws E when throw by visitor implementation
+     * @since 4.2.0
+     */
+    default <S, T, E extends Exception> T visitParallel(final ConfigurationVisitor.Parallel<S, T, E> visitor) throws E {
+        return this.visitParallel(visitor, visitor.newState());
+    }
+
+    /**
+     * Visit this node hierarchy on the common fork-join pool, as described in
+     * {@link ConfigurationVisitor.Parallel}.
+     *
+     * <p>The hierarchy must not be modified until the visit completes.
+     * Implementations without parallel support visit sequentially.</p>
+     *
+     * @param visitor the visitor
+     * @param state the state to start with
+     * @param <S> the state type
+     * @param <T> the terminal type
+     * @param <E> exception type that may be thrown
+     * @return returned terminal from the visitor
+     * @throws E when throw by visitor implementation
+     * @since 4.2.0
+     */
+    default <S, T, E extends Exception> T visitParallel(final ConfigurationVisitor.Parallel<S, T, E> visitor, final S state) throws E {
+        return this.visit(visitor, state);
+    }
+
     /**
      * Set a representation hint on this node.
      *
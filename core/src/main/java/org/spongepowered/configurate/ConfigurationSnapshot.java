@@ -0,0 +1,364 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.serialize.Scalars;
+import org.spongepowered.configurate.serialize.SerializationException;
+import org.spongepowered.configurate.serialize.TypeSerializer;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable view of a node tree at one point in time.
+ *
+ * <p>Snapshots are safe to share between threads and are read without any
+ * locking. They are intended for configuration that is read frequently but
+ * replaced as a whole, for example by a background reload: take a snapshot
+ * after loading, publish it, and let readers query it freely.</p>
+ *
+ * <p>Snapshots are persistent: methods that appear to modify a snapshot,
+ * such as {@link #with(NodePath, ConfigurationSnapshot)}, return a new
+ * snapshot and leave the receiver untouched. The new snapshot shares every
+ * subtree that was not on the path of the edit with the original, so
+ * deriving an edited snapshot only copies the nodes between the root and
+ * the edited node.</p>
+ *
+ * <p>Snapshots do not know their own key or parent, since one snapshot may
+ * appear at several positions in different trees.</p>
+ *
+ * @see ConfigurationNode#snapshot()
+ * @since 4.2.0
+ */
+public interface ConfigurationSnapshot {
+
+    /**
+     * Create a snapshot of the current state of a node and its children.
+     *
+     * <p>If the node is modified concurrently while the snapshot is taken,
+     * the snapshot may contain some of the changes but not others.</p>
+     *
+     * @param node the node to capture
+     * @return a new snapshot
+     * @since 4.2.0
+     */
+    static ConfigurationSnapshot of(final ConfigurationNode node) {
+        return ConfigurationSnapshotImpl.of(node);
+    }
+
+    /**
+     * Get a snapshot with no value.
+     *
+     * @param options the options to use for deserializing values
+     * @return an empty snapshot
+     * @since 4.2.0
+     */
+    static ConfigurationSnapshot empty(final ConfigurationOptions options) {
+        return ConfigurationSnapshotImpl.empty(options);
+    }
+
+    /**
+     * Get the options of the node this snapshot was taken from.
+     *
+     * @return the options
+     * @since 4.2.0
+     */
+    ConfigurationOptions options();
+
+    /**
+     * Get whether this snapshot has no value.
+     *
+     * @return if no value is present
+     * @since 4.2.0
+     */
+    boolean isNull();
+
+    /**
+     * Get whether this snapshot has map children.
+     *
+     * @return if this snapshot is a map
+     * @since 4.2.0
+     */
+    boolean isMap();
+
+    /**
+     * Get whether this snapshot has list children.
+     *
+     * @return if this snapshot is a list
+     * @since 4.2.0
+     */
+    boolean isList();
+
+    /**
+     * Get whether this snapshot has no value, or an empty list or map value.
+     *
+     * @return if this snapshot is empty
+     * @see ConfigurationNode#empty()
+     * @since 4.2.0
+     */
+    boolean empty();
+
+    /**
+     * Get the scalar value of this snapshot.
+     *
+     * @return the scalar value, or null if this snapshot is not a scalar
+     * @see ConfigurationNode#rawScalar()
+     * @since 4.2.0
+     */
+    @Nullable Object rawScalar();
+
+    /**
+     * Get the value of this snapshot, with lists and maps unwrapped into new
+     * mutable collections.
+     *
+     * @return the raw value
+     * @see ConfigurationNode#raw()
+     * @since 4.2.0
+     */
+    @Nullable Object raw();
+
+    /**
+     * Get the comment captured with this snapshot.
+     *
+     * <p>This is only present if the snapshot was taken from a
+     * {@link CommentedConfigurationNode}.</p>
+     *
+     * @return the comment, if any
+     * @since 4.2.0
+     */
+    @Nullable String comment();
+
+    /**
+     * Get a representation hint set directly on the node this snapshot was
+     * taken from.
+     *
+     * <p>Since snapshots have no parent, inherited hints are not resolved.</p>
+     *
+     * @param hint the hint to query
+     * @param <V> the hint value type
+     * @return the hint value, if set
+     * @since 4.2.0
+     */
+    <V> @Nullable V ownHint(RepresentationHint<V> hint);
+
+    /**
+     * Get all hints set directly on the node this snapshot was taken from.
+     *
+     * @return an unmodifiable map of hints
+     * @since 4.2.0
+     */
+    Map<RepresentationHint<?>, ?> ownHints();
+
+    /**
+     * Get the snapshot at a path relative to this one.
+     *
+     * <p>If no value is present at the path, an empty snapshot is
+     * returned.</p>
+     *
+     * @param path the path to query
+     * @return the snapshot at {@code path}
+     * @since 4.2.0
+     */
+    ConfigurationSnapshot node(Object... path);
+
+    /**
+     * Get the snapshot at a path relative to this one.
+     *
+     * <p>If no value is present at the path, an empty snapshot is
+     * returned.</p>
+     *
+     * @param path the path to query
+     * @return the snapshot at {@code path}
+     * @since 4.2.0
+     */
+    ConfigurationSnapshot node(Iterable<?> path);
+
+    /**
+     * Get whether a value is present at a path relative to this one.
+     *
+     * @param path the path to query
+     * @return if a child is present
+     * @since 4.2.0
+     */
+    boolean hasChild(Object... path);
+
+    /**
+     * Get the map children of this snapshot.
+     *
+     * <p>The returned map is an unmodifiable view, and is not copied.</p>
+     *
+     * @return map children, or an empty map if this is not a map
+     * @since 4.2.0
+     */
+    Map<Object, ConfigurationSnapshot> childrenMap();
+
+    /**
+     * Get the list children of this snapshot.
+     *
+     * <p>The returned list is an unmodifiable view, and is not copied.</p>
+     *
+     * @return list children, or an empty list if this is not a list
+     * @since 4.2.0
+     */
+    List<ConfigurationSnapshot> childrenList();
+
+    /**
+     * Get the value of this snapshot as a string.
+     *
+     * @param def value to return if this snapshot has no appropriate value
+     * @return the value coerced by {@link Scalars#STRING}, or {@code def}
+     * @since 4.2.0
+     */
+    default String getString(final String def) { // @cs-: NoGetSetPrefix (not a bean method)
+        final @Nullable String value = Scalars.STRING.tryDeserialize(this.rawScalar());
+        return value == null ? def : value;
+    }
+
+    /**
+     * Get the value of this snapshot as a boolean.
+     *
+     * @param def value to return if this snapshot has no appropriate value
+     * @return the value coerced by {@link Scalars#BOOLEAN}, or {@code def}
+     * @since 4.2.0
+     */
+    default boolean getBoolean(final boolean def) { // @cs-: NoGetSetPrefix (not a bean method)
+        final @Nullable Boolean value = Scalars.BOOLEAN.tryDeserialize(this.rawScalar());
+        return value == null ? def : value;
+    }
+
+    /**
+     * Get the value of this snapshot as an integer.
+     *
+     * @param def value to return if this snapshot has no appropriate value
+     * @return the value coerced by {@link Scalars#INTEGER}, or {@code def}
+     * @since 4.2.0
+     */
+    default int getInt(final int def) { // @cs-: NoGetSetPrefix (not a bean method)
+        final @Nullable Integer value = Scalars.INTEGER.tryDeserialize(this.rawScalar());
+        return value == null ? def : value;
+    }
+
+    /**
+     * Get the value of this snapshot as a long.
+     *
+     * @param def value to return if this snapshot has no appropriate value
+     * @return the value coerced by {@link Scalars#LONG}, or {@code def}
+     * @since 4.2.0
+     */
+    default long getLong(final long def) { // @cs-: NoGetSetPrefix (not a bean method)
+        final @Nullable Long value = Scalars.LONG.tryDeserialize(this.rawScalar());
+        return value == null ? def : value;
+    }
+
+    /**
+     * Get the value of this snapshot as a double.
+     *
+     * @param def value to return if this snapshot has no appropriate value
+     * @return the value coerced by {@link Scalars#DOUBLE}, or {@code def}
+     * @since 4.2.0
+     */
+    default double getDouble(final double def) { // @cs-: NoGetSetPrefix (not a bean method)
+        final @Nullable Double value = Scalars.DOUBLE.tryDeserialize(this.rawScalar());
+        return value == null ? def : value;
+    }
+
+    /**
+     * Deserialize the value of this snapshot.
+     *
+     * <p>Type serializers operate on nodes, so this creates a temporary
+     * node with the contents of this snapshot. Prefer the scalar getters
+     * for frequently read values.</p>
+     *
+     * @param type the type to deserialize to
+     * @param <V> the value type
+     * @return the value, if present
+     * @throws SerializationException if the value could not be deserialized
+     * @see TypeSerializer#deserialize(Type, ConfigurationNode)
+     * @since 4.2.0
+     */
+    default <V> @Nullable V get(final Class<V> type) throws SerializationException {
+        return this.toNode().get(type);
+    }
+
+    /**
+     * Deserialize the value of this snapshot.
+     *
+     * <p>Type serializers operate on nodes, so this creates a temporary
+     * node with the contents of this snapshot. Prefer the scalar getters
+     * for frequently read values.</p>
+     *
+     * @param type the type to deserialize to
+     * @return the value, if present
+     * @throws SerializationException if the value could not be deserialized
+     * @see TypeSerializer#deserialize(Type, ConfigurationNode)
+     * @since 4.2.0
+     */
+    default @Nullable Object get(final Type type) throws SerializationException {
+        return this.toNode().get(type);
+    }
+
+    /**
+     * Create a new snapshot with {@code value} at {@code path}, sharing all
+     * other children with this snapshot.
+     *
+     * <p>Intermediate snapshots are created as maps, or as lists when the
+     * key is {@code 0}, following the same rules as
+     * {@link ConfigurationNode#node(Object...)}.</p>
+     *
+     * @param path the path to replace, relative to this snapshot
+     * @param value the snapshot to place at {@code path}
+     * @return a new snapshot, or this snapshot if nothing changed
+     * @since 4.2.0
+     */
+    ConfigurationSnapshot with(NodePath path, ConfigurationSnapshot value);
+
+    /**
+     * Create a new snapshot with {@code value} at {@code path}, sharing all
+     * other children with this snapshot.
+     *
+     * <p>The value is serialized as if by {@link ConfigurationNode#set(Object)}.
+     * A null value removes the child at {@code path}.</p>
+     *
+     * @param path the path to replace, relative to this snapshot
+     * @param value the value to place at {@code path}
+     * @return a new snapshot, or this snapshot if nothing changed
+     * @throws SerializationException if the value could not be serialized
+     * @since 4.2.0
+     */
+    ConfigurationSnapshot withValue(NodePath path, @Nullable Object value) throws SerializationException;
+
+    /**
+     * Create a new snapshot without the child at {@code path}, sharing all
+     * other children with this snapshot.
+     *
+     * @param path the path to remove, relative to this snapshot
+     * @return a new snapshot, or this snapshot if nothing was present
+     * @since 4.2.0
+     */
+    ConfigurationSnapshot without(NodePath path);
+
+    /**
+     * Create a new mutable node with the contents of this snapshot.
+     *
+     * @return a new root node
+     * @since 4.2.0
+     */
+    CommentedConfigurationNode toNode();
+
+}
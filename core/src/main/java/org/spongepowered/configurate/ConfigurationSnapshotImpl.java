@@ -0,0 +1,641 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate;
+
+import static java.util.Objects.requireNonNull;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.serialize.Scalars;
+import org.spongepowered.configurate.serialize.SerializationException;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Array-backed implementation of {@link ConfigurationSnapshot}.
+ *
+ * <p>Children are stored in plain arrays that are never modified after
+ * construction. An edit copies the arrays of each snapshot on the path
+ * from the root to the edited child, and shares everything else. Maps
+ * keep their iteration order, and maps with more than
+ * {@value #INDEX_THRESHOLD} children get an open-addressing hash index,
+ * built on first lookup, so lookups stay constant-time.</p>
+ */
+final class ConfigurationSnapshotImpl implements ConfigurationSnapshot {
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_SCALAR = 1;
+    private static final byte TYPE_MAP = 2;
+    private static final byte TYPE_LIST = 3;
+
+    /**
+     * Maps with more children than this are indexed by key hash.
+     */
+    static final int INDEX_THRESHOLD = 8;
+
+    private static final Object[] NO_KEYS = new Object[0];
+    private static final ConfigurationSnapshotImpl[] NO_CHILDREN = new ConfigurationSnapshotImpl[0];
+
+    private final ConfigurationOptions options;
+    private final byte type;
+    private final @Nullable Object scalar;
+    /**
+     * Map keys, in iteration order. Empty for non-map snapshots.
+     */
+    private final Object[] keys;
+    /**
+     * Map values, parallel to {@link #keys}, or list elements.
+     */
+    private final ConfigurationSnapshotImpl[] children;
+    /**
+     * Hash table of {@code index into keys + 1}, or null for small maps
+     * and maps that have not been searched yet.
+     */
+    private volatile int @Nullable [] index;
+    private final @Nullable String comment;
+    private final Map<RepresentationHint<?>, ?> hints;
+
+    /**
+     * Cached hash code, computed on first use. Racy, but the computation
+     * is deterministic.
+     */
+    private int hash;
+
+    private ConfigurationSnapshotImpl(
+        final ConfigurationOptions options,
+        final byte type,
+        final @Nullable Object scalar,
+        final Object[] keys,
+        final ConfigurationSnapshotImpl[] children,
+        final int @Nullable [] index,
+        final @Nullable String comment,
+        final Map<RepresentationHint<?>, ?> hints
+    ) {
+        this.options = options;
+        this.type = type;
+        this.scalar = scalar;
+        this.keys = keys;
+        this.children = children;
+        this.index = index;
+        this.comment = comment;
+        this.hints = hints;
+    }
+
+    static ConfigurationSnapshotImpl empty(final ConfigurationOptions options) {
+        return new ConfigurationSnapshotImpl(requireNonNull(options, "options"), TYPE_NULL, null, NO_KEYS, NO_CHILDREN, null, null,
+            Collections.emptyMap());
+    }
+
+    static ConfigurationSnapshotImpl of(final ConfigurationNode node) {
+        final @Nullable String comment = node instanceof CommentedConfigurationNodeIntermediary<?>
+            ? ((CommentedConfigurationNodeIntermediary<?>) node).comment() : null;
+        final Map<RepresentationHint<?>, ?> nodeHints = node.ownHints();
+        final Map<RepresentationHint<?>, ?> hints = nodeHints.isEmpty() ? Collections.emptyMap() : nodeHints;
+
+        if (node.isMap()) {
+            // forEachChild walks the node's own children, rather than a copy of them
+            final ChildCollector children = new ChildCollector(node.childCount(), true);
+            node.forEachChild(children);
+            return map(node.options(), children.keys(), children.values(), comment, hints);
+        } else if (node.isList()) {
+            final ChildCollector children = new ChildCollector(node.childCount(), false);
+            node.forEachChild(children);
+            return new ConfigurationSnapshotImpl(node.options(), TYPE_LIST, null, NO_KEYS, children.values(), null, comment, hints);
+        } else {
+            final @Nullable Object scalar = node.rawScalar();
+            return new ConfigurationSnapshotImpl(node.options(), scalar == null ? TYPE_NULL : TYPE_SCALAR, scalar, NO_KEYS, NO_CHILDREN,
+                null, comment, hints);
+        }
+    }
+
+    private static ConfigurationSnapshotImpl map(
+        final ConfigurationOptions options,
+        final Object[] keys,
+        final ConfigurationSnapshotImpl[] values,
+        final @Nullable String comment,
+        final Map<RepresentationHint<?>, ?> hints
+    ) {
+        return new ConfigurationSnapshotImpl(options, TYPE_MAP, null, keys, values, null, comment, hints);
+    }
+
+    private static int[] buildIndex(final Object[] keys) {
+        // at most half full
+        final int[] table = new int[Integer.highestOneBit(keys.length) << 2];
+        final int mask = table.length - 1;
+        for (int i = 0; i < keys.length; ++i) {
+            int slot = spread(keys[i].hashCode()) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = i + 1;
+        }
+        return table;
+    }
+
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private int indexOf(final Object key) {
+        int @Nullable [] index = this.index;
+        if (index == null && this.keys.length > INDEX_THRESHOLD) {
+            // racy, but every thread builds an identical table
+            this.index = index = buildIndex(this.keys);
+        }
+        if (index == null) {
+            for (int i = 0; i < this.keys.length; ++i) {
+                if (this.keys[i].equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        final int mask = index.length - 1;
+        int slot = spread(key.hashCode()) & mask;
+        int entry;
+        while ((entry = index[slot]) != 0) {
+            if (this.keys[entry - 1].equals(key)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private @Nullable ConfigurationSnapshotImpl child(final Object key) {
+        if (this.type == TYPE_MAP) {
+            final int idx = this.indexOf(key);
+            return idx < 0 ? null : this.children[idx];
+        } else if (this.type == TYPE_LIST) {
+            final @Nullable Integer idx = Scalars.INTEGER.tryDeserialize(key);
+            if (idx == null || idx < 0 || idx >= this.children.length) {
+                return null;
+            }
+            return this.children[idx];
+        } else {
+            return null;
+        }
+    }
+
+    @Override
+    public ConfigurationOptions options() {
+        return this.options;
+    }
+
+    @Override
+    public boolean isNull() {
+        return this.type == TYPE_NULL;
+    }
+
+    @Override
+    public boolean isMap() {
+        return this.type == TYPE_MAP;
+    }
+
+    @Override
+    public boolean isList() {
+        return this.type == TYPE_LIST;
+    }
+
+    @Override
+    public boolean empty() {
+        switch (this.type) {
+            case TYPE_MAP:
+            case TYPE_LIST:
+                return this.children.length == 0;
+            case TYPE_SCALAR:
+                final @Nullable Object scalar = this.scalar;
+                return (scalar instanceof String && ((String) scalar).isEmpty())
+                    || (scalar instanceof Collection<?> && ((Collection<?>) scalar).isEmpty());
+            default:
+                return true;
+        }
+    }
+
+    @Override
+    public @Nullable Object rawScalar() {
+        return this.scalar;
+    }
+
+    @Override
+    public @Nullable Object raw() {
+        if (this.type == TYPE_MAP) {
+            final Map<Object, @Nullable Object> ret = new LinkedHashMap<>();
+            for (int i = 0; i < this.keys.length; ++i) {
+                ret.put(this.keys[i], this.children[i].raw());
+            }
+            return ret;
+        } else if (this.type == TYPE_LIST) {
+            final List<@Nullable Object> ret = new ArrayList<>(this.children.length);
+            for (final ConfigurationSnapshotImpl child : this.children) {
+                ret.add(child.raw());
+            }
+            return ret;
+        } else {
+            return this.scalar;
+        }
+    }
+
+    @Override
+    public @Nullable String comment() {
+        return this.comment;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V> @Nullable V ownHint(final RepresentationHint<V> hint) {
+        return (V) this.hints.get(hint);
+    }
+
+    @Override
+    public Map<RepresentationHint<?>, ?> ownHints() {
+        return this.hints;
+    }
+
+    @Override
+    public ConfigurationSnapshot node(final Object... path) {
+        ConfigurationSnapshotImpl pointer = this;
+        for (final Object el : path) {
+            final @Nullable ConfigurationSnapshotImpl child = pointer.child(requireNonNull(el, () -> "element in path " + Arrays.toString(path)));
+            if (child == null) {
+                return empty(this.options);
+            }
+            pointer = child;
+        }
+        return pointer;
+    }
+
+    @Override
+    public ConfigurationSnapshot node(final Iterable<?> path) {
+        ConfigurationSnapshotImpl pointer = this;
+        for (final Object el : path) {
+            final @Nullable ConfigurationSnapshotImpl child = pointer.child(requireNonNull(el, () -> "element in path " + path));
+            if (child == null) {
+                return empty(this.options);
+            }
+            pointer = child;
+        }
+        return pointer;
+    }
+
+    @Override
+    public boolean hasChild(final Object... path) {
+        ConfigurationSnapshotImpl pointer = this;
+        for (final Object el : path) {
+            final @Nullable ConfigurationSnapshotImpl child = pointer.child(requireNonNull(el, () -> "element in path " + Arrays.toString(path)));
+            if (child == null) {
+                return false;
+            }
+            pointer = child;
+        }
+        return true;
+    }
+
+    @Override
+    public Map<Object, ConfigurationSnapshot> childrenMap() {
+        return this.type == TYPE_MAP ? new ChildrenMap() : Collections.emptyMap();
+    }
+
+    @Override
+    public List<ConfigurationSnapshot> childrenList() {
+        return this.type == TYPE_LIST ? Collections.unmodifiableList(Arrays.<ConfigurationSnapshot>asList(this.children))
+            : Collections.emptyList();
+    }
+
+    @Override
+    public ConfigurationSnapshot with(final NodePath path, final ConfigurationSnapshot value) {
+        requireNonNull(value, "value");
+        final ConfigurationSnapshotImpl replacement = value instanceof ConfigurationSnapshotImpl
+            ? (ConfigurationSnapshotImpl) value : of(value.toNode());
+        return this.withAtRoot(path, replacement);
+    }
+
+    @Override
+    public ConfigurationSnapshot withValue(final NodePath path, final @Nullable Object value) throws SerializationException {
+        if (value == null) {
+            return this.without(path);
+        } else if (value instanceof ConfigurationSnapshot) {
+            return this.with(path, (ConfigurationSnapshot) value);
+        }
+        return this.withAtRoot(path, of(BasicConfigurationNode.root(this.options).set(value)));
+    }
+
+    @Override
+    public ConfigurationSnapshot without(final NodePath path) {
+        return this.withAtRoot(path, null);
+    }
+
+    private ConfigurationSnapshot withAtRoot(final NodePath path, final @Nullable ConfigurationSnapshotImpl replacement) {
+        final @Nullable ConfigurationSnapshotImpl result = this.with(requireNonNull(path, "path"), 0, replacement);
+        return result == null ? empty(this.options) : result;
+    }
+
+    /**
+     * Replace the descendant at {@code path}, starting from element
+     * {@code depth} of the path.
+     *
+     * @param path the full path
+     * @param depth the path element this snapshot is at
+     * @param replacement the new value, or null to remove
+     * @return the new snapshot, {@code this} if unchanged, or null if
+     *     this snapshot itself is removed
+     */
+    private @Nullable ConfigurationSnapshotImpl with(
+        final NodePath path,
+        final int depth,
+        final @Nullable ConfigurationSnapshotImpl replacement
+    ) {
+        if (depth == path.size()) {
+            return replacement;
+        }
+
+        final Object key = requireNonNull(path.get(depth), () -> "element in path " + path);
+        final @Nullable ConfigurationSnapshotImpl child = this.child(key);
+        if (child == null && replacement == null) {
+            return this;
+        }
+
+        final @Nullable ConfigurationSnapshotImpl newChild = (child == null ? empty(this.options) : child).with(path, depth + 1, replacement);
+        if (newChild == child) {
+            return this;
+        }
+        return this.withChild(key, newChild);
+    }
+
+    private ConfigurationSnapshotImpl withChild(final Object key, final @Nullable ConfigurationSnapshotImpl newChild) {
+        if (this.type == TYPE_MAP) {
+            final int idx = this.indexOf(key);
+            if (newChild == null) {
+                if (idx < 0) {
+                    return this;
+                }
+                return map(this.options, remove(this.keys, idx, NO_KEYS), remove(this.children, idx, NO_CHILDREN), this.comment, this.hints);
+            } else if (idx >= 0) {
+                // same keys, so the key array and index can be shared
+                final ConfigurationSnapshotImpl[] children = this.children.clone();
+                children[idx] = newChild;
+                return new ConfigurationSnapshotImpl(this.options, TYPE_MAP, null, this.keys, children, this.index, this.comment, this.hints);
+            } else {
+                return map(this.options, append(this.keys, key), append(this.children, newChild), this.comment, this.hints);
+            }
+        } else if (this.type == TYPE_LIST) {
+            final @Nullable Integer idx = Scalars.INTEGER.tryDeserialize(key);
+            if (newChild == null) {
+                if (idx == null || idx < 0 || idx >= this.children.length) {
+                    return this;
+                }
+                return this.list(remove(this.children, idx, NO_CHILDREN));
+            } else if (idx != null && idx >= 0 && idx < this.children.length) {
+                final ConfigurationSnapshotImpl[] children = this.children.clone();
+                children[idx] = newChild;
+                return this.list(children);
+            } else if (idx != null && idx == this.children.length) {
+                return this.list(append(this.children, newChild));
+            }
+            // not a list index, replace with a map like a node does
+            return map(this.options, new Object[] {key}, new ConfigurationSnapshotImpl[] {newChild}, this.comment, this.hints);
+        } else {
+            if (newChild == null) {
+                return this;
+            } else if (ListConfigValue.likelyNewListKey(key)) {
+                return this.list(new ConfigurationSnapshotImpl[] {newChild});
+            }
+            return map(this.options, new Object[] {key}, new ConfigurationSnapshotImpl[] {newChild}, this.comment, this.hints);
+        }
+    }
+
+    private ConfigurationSnapshotImpl list(final ConfigurationSnapshotImpl[] children) {
+        return new ConfigurationSnapshotImpl(this.options, TYPE_LIST, null, NO_KEYS, children, null, this.comment, this.hints);
+    }
+
+    private static <T> T[] append(final T[] array, final T element) {
+        final T[] ret = Arrays.copyOf(array, array.length + 1);
+        ret[array.length] = element;
+        return ret;
+    }
+
+    private static <T> T[] remove(final T[] array, final int idx, final T[] empty) {
+        if (array.length == 1) {
+            return empty;
+        }
+        final T[] ret = Arrays.copyOf(array, array.length - 1);
+        System.arraycopy(array, idx + 1, ret, idx, array.length - idx - 1);
+        return ret;
+    }
+
+    @Override
+    public CommentedConfigurationNode toNode() {
+        final CommentedConfigurationNode node = CommentedConfigurationNode.root(this.options);
+        this.applyTo(node);
+        return node;
+    }
+
+    private void applyTo(final CommentedConfigurationNode node) {
+        for (final Map.Entry<RepresentationHint<?>, ?> hint : this.hints.entrySet()) {
+            applyHint(node, hint.getKey(), hint.getValue());
+        }
+
+        if (this.type == TYPE_MAP) {
+            if (this.children.length == 0) {
+                node.raw(Collections.emptyMap());
+            }
+            for (int i = 0; i < this.keys.length; ++i) {
+                this.children[i].applyTo(node.node(this.keys[i]));
+            }
+        } else if (this.type == TYPE_LIST) {
+            if (this.children.length == 0) {
+                node.raw(Collections.emptyList());
+            }
+            for (final ConfigurationSnapshotImpl child : this.children) {
+                child.applyTo(node.appendListNode());
+            }
+        } else if (this.scalar != null) {
+            node.raw(this.scalar);
+        }
+
+        if (this.comment != null) {
+            node.comment(this.comment);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> void applyHint(final ConfigurationNode node, final RepresentationHint<V> hint, final Object value) {
+        node.hint(hint, (V) value);
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof ConfigurationSnapshotImpl)) {
+            return false;
+        }
+
+        final ConfigurationSnapshotImpl that = (ConfigurationSnapshotImpl) other;
+        if (this.type != that.type
+            || this.children.length != that.children.length
+            || !Objects.equals(this.scalar, that.scalar)
+            || !Objects.equals(this.comment, that.comment)) {
+            return false;
+        }
+
+        if (this.type == TYPE_MAP) {
+            // maps compare independent of order
+            for (int i = 0; i < this.keys.length; ++i) {
+                if (!this.children[i].equals(that.child(this.keys[i]))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return Arrays.equals(this.children, that.children);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = this.hash;
+        if (hash == 0) {
+            if (this.type == TYPE_MAP) {
+                for (int i = 0; i < this.keys.length; ++i) {
+                    hash += this.keys[i].hashCode() ^ this.children[i].hashCode();
+                }
+            } else {
+                hash = Arrays.hashCode(this.children);
+            }
+            hash = 31 * (31 * hash + Objects.hashCode(this.scalar)) + Objects.hashCode(this.comment);
+            this.hash = hash;
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigurationSnapshot{value=" + this.raw() + ", comment=" + this.comment + '}';
+    }
+
+    /**
+     * Captures the children of a node as they are visited.
+     *
+     * <p>The expected child count is only a hint, since the node may be
+     * modified between counting and visiting its children.</p>
+     */
+    private static final class ChildCollector implements Consumer<ConfigurationNode> {
+
+        private final boolean map;
+        private Object[] keys;
+        private ConfigurationSnapshotImpl[] values;
+        private int size;
+
+        ChildCollector(final int expected, final boolean map) {
+            this.map = map;
+            this.keys = map && expected > 0 ? new Object[expected] : NO_KEYS;
+            this.values = expected > 0 ? new ConfigurationSnapshotImpl[expected] : NO_CHILDREN;
+        }
+
+        @Override
+        public void accept(final ConfigurationNode child) {
+            if (this.size == this.values.length) {
+                final int newLength = Math.max(this.size * 2, 4);
+                this.values = Arrays.copyOf(this.values, newLength);
+                if (this.map) {
+                    this.keys = Arrays.copyOf(this.keys, newLength);
+                }
+            }
+            if (this.map) {
+                this.keys[this.size] = requireNonNull(child.key(), "key");
+            }
+            this.values[this.size++] = of(child);
+        }
+
+        Object[] keys() {
+            return this.size == this.keys.length ? this.keys : Arrays.copyOf(this.keys, this.size);
+        }
+
+        ConfigurationSnapshotImpl[] values() {
+            return this.size == this.values.length ? this.values : Arrays.copyOf(this.values, this.size);
+        }
+
+    }
+
+    /**
+     * An unmodifiable view of the children of a map snapshot.
+     */
+    private final class ChildrenMap extends AbstractMap<Object, ConfigurationSnapshot> {
+
+        @Override
+        public int size() {
+            return ConfigurationSnapshotImpl.this.keys.length;
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return key != null && ConfigurationSnapshotImpl.this.indexOf(key) >= 0;
+        }
+
+        @Override
+        public @Nullable ConfigurationSnapshot get(final Object key) {
+            return key == null ? null : ConfigurationSnapshotImpl.this.child(key);
+        }
+
+        @Override
+        public Set<Entry<Object, ConfigurationSnapshot>> entrySet() {
+            return new AbstractSet<Entry<Object, ConfigurationSnapshot>>() {
+                @Override
+                public Iterator<Entry<Object, ConfigurationSnapshot>> iterator() {
+                    return new Iterator<Entry<Object, ConfigurationSnapshot>>() {
+                        private int next;
+
+                        @Override
+                        public boolean hasNext() {
+                            return this.next < ConfigurationSnapshotImpl.this.keys.length;
+                        }
+
+                        @Override
+                        public Entry<Object, ConfigurationSnapshot> next() {
+                            if (!this.hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            final int idx = this.next++;
+                            return new SimpleImmutableEntry<>(ConfigurationSnapshotImpl.this.keys[idx], ConfigurationSnapshotImpl.this.children[idx]);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return ConfigurationSnapshotImpl.this.keys.length;
+                }
+            };
+        }
+
+    }
+
+}
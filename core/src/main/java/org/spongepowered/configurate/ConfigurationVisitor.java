@@ -54,8 +54,10 @@ package org.spongepowered.configurate;
  *
  * <p>There are a few specializations of the visitor interface available:
  * {@link Stateless} carries no state and can act as a functional interface
- * type, and {@link Safe} which throws no checked exceptions and therefore can
- * be visited without having to handle any exceptions.</p>
+ * type, {@link Safe} which throws no checked exceptions and therefore can
+ * be visited without having to handle any exceptions, and {@link Parallel}
+ * whose state can be split between subtrees visited on different
+ * threads.</p>
  *
  * @param <S> a state object that will be used for one visit
  * @param <T> the terminal value, that can be returned at the end of the visit
@@ -333,4 +335,44 @@ public interface ConfigurationVisitor<S, T, E extends Exception> {
 
     }
 
+    /**
+     * A visitor whose state can be split between independent subtrees, so
+     * that a node hierarchy can be visited on several threads at once.
+     *
+     * <p>When visited with
+     * {@link ConfigurationNode#visitParallel(Parallel, Object)}, subtrees
+     * may be visited with their own state from {@link #newState()}. Within
+     * one state, events follow the usual grammar for the nodes that state
+     * covers. The states of neighbouring parts of the hierarchy are then
+     * combined with {@link #mergeState(Object, Object)} in document order,
+     * and {@code beginVisit} and {@code endVisit} are only called with the
+     * starting state.</p>
+     *
+     * <p>This suits visitors that count, hash or validate nodes. Callbacks
+     * may run concurrently on different states, and must not modify the
+     * nodes being visited.</p>
+     *
+     * @param <S> a state object that will be used for part of one visit
+     * @param <T> the terminal value, that can be returned at the end of the visit
+     * @param <E> exception type that may be thrown
+     * @since 4.2.0
+     */
+    interface Parallel<S, T, E extends Exception> extends ConfigurationVisitor<S, T, E> {
+
+        /**
+         * Combine the states of two neighbouring parts of a visit.
+         *
+         * <p>Every node covered by {@code first} comes before the nodes
+         * covered by {@code second} in document order.</p>
+         *
+         * @param first the state of the earlier part
+         * @param second the state of the later part
+         * @return a state covering both parts, which may be {@code first}
+         * @throws E when thrown by implementation
+         * @since 4.2.0
+         */
+        S mergeState(S first, S second) throws E;
+
+    }
+
 }
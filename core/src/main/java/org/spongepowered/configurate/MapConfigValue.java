@@ -32,17 +32,57 @@ final class MapConfigValue<N extends ScopedConfigurationNode<N>, A extends Abstr
     private final A holder;
     volatile Map<Object, A> values;
 
+    /**
+     * Whether {@link #values} is a map used by a {@link TreeBuilder}, which
+     * has not yet been made safe for concurrent access.
+     */
+    private boolean unpublished;
+
     MapConfigValue(final A holder) {
         this.holder = holder;
         this.values = newMap();
     }
 
+    private MapConfigValue(final A holder, final Map<Object, A> values) {
+        this.holder = holder;
+        this.values = values;
+        this.unpublished = true;
+    }
+
+    /**
+     * Create a map value for use by a {@link TreeBuilder}.
+     *
+     * <p>The backing map will not be synchronized until {@link #publish()}
+     * is called.</p>
+     *
+     * @param holder the node holding this value
+     * @param <N> the node type
+     * @param <A> the implementation type
+     * @return a new, unpublished, map value
+     */
+    static <N extends ScopedConfigurationNode<N>, A extends AbstractConfigurationNode<N, A>> MapConfigValue<N, A> unpublished(final A holder) {
+        return new MapConfigValue<>(holder, holder.options().mapFactory().create());
+    }
+
     private Map<Object, A> newMap() {
-        final Map<Object, A> ret = this.holder.options().mapFactory().create();
-        if (!(ret instanceof ConcurrentMap)) {
-            return Collections.synchronizedMap(ret);
+        return synchronizedIfNecessary(this.holder.options().mapFactory().create());
+    }
+
+    private static <K, V> Map<K, V> synchronizedIfNecessary(final Map<K, V> map) {
+        if (!(map instanceof ConcurrentMap)) {
+            return Collections.synchronizedMap(map);
         } else {
-            return ret;
+            return map;
+        }
+    }
+
+    /**
+     * Make a map populated by a {@link TreeBuilder} safe for concurrent use.
+     */
+    void publish() {
+        if (this.unpublished) {
+            this.unpublished = false;
+            this.values = synchronizedIfNecessary(this.values);
         }
     }
 
@@ -77,6 +117,7 @@ final class MapConfigValue<N extends ScopedConfigurationNode<N>, A extends Abstr
             synchronized (this) {
                 final Map<Object, A> oldMap = this.values;
                 this.values = newValue;
+                this.unpublished = false;
                 detachChildren(oldMap);
             }
         } else {
@@ -140,6 +181,7 @@ final class MapConfigValue<N extends ScopedConfigurationNode<N>, A extends Abstr
         synchronized (this) {
             final Map<Object, A> oldMap = this.values;
             this.values = newMap();
+            this.unpublished = false;
             detachChildren(oldMap);
         }
     }
@@ -0,0 +1,186 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * A fork-join task visiting a range of sibling nodes with a
+ * {@link ConfigurationVisitor.Parallel}.
+ *
+ * <p>Ranges are split in half until the pool has enough queued work, after
+ * which each range is walked sequentially with a {@link VisitorStack}.</p>
+ */
+final class ParallelVisitorTask<N extends ScopedConfigurationNode<N>, A extends AbstractConfigurationNode<N, A>, S, E extends Exception>
+    extends RecursiveTask<S> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The number of queued tasks beyond which a worker stops splitting work.
+     */
+    private static final int SURPLUS_THRESHOLD = 3;
+
+    private final ConfigurationVisitor.Parallel<S, ?, E> visitor;
+    private final List<A> nodes;
+    private final int from;
+    private final int to;
+    private final boolean hasInitialState;
+    private final @Nullable S initialState;
+
+    /**
+     * Visit a node and all of its children on the common pool.
+     *
+     * @param root the node to start from
+     * @param visitor the visitor
+     * @param state the starting state
+     * @param <N> the node type
+     * @param <A> the implementation type
+     * @param <S> the state type
+     * @param <E> the exception type
+     * @return the state after visiting every node
+     * @throws E when thrown by the visitor
+     */
+    @SuppressWarnings("unchecked")
+    static <N extends ScopedConfigurationNode<N>, A extends AbstractConfigurationNode<N, A>, S, E extends Exception> S visit(
+        final A root,
+        final ConfigurationVisitor.Parallel<S, ?, E> visitor,
+        final S state
+    ) throws E {
+        try {
+            return ForkJoinPool.commonPool().invoke(new ParallelVisitorTask<N, A, S, E>(visitor, Collections.singletonList(root), 0, 1, true, state));
+        } catch (final RuntimeException ex) {
+            // failures may be wrapped again when rethrown on another thread
+            for (@Nullable Throwable cause = ex; cause != null; cause = cause.getCause()) {
+                if (cause instanceof VisitFailure && !(cause.getCause() instanceof VisitFailure)) {
+                    throw (E) cause.getCause();
+                }
+            }
+            throw ex;
+        }
+    }
+
+    private ParallelVisitorTask(
+        final ConfigurationVisitor.Parallel<S, ?, E> visitor,
+        final List<A> nodes,
+        final int from,
+        final int to,
+        final boolean hasInitialState,
+        final @Nullable S initialState
+    ) {
+        this.visitor = visitor;
+        this.nodes = nodes;
+        this.from = from;
+        this.to = to;
+        this.hasInitialState = hasInitialState;
+        this.initialState = initialState;
+    }
+
+    private ParallelVisitorTask(final ConfigurationVisitor.Parallel<S, ?, E> visitor, final List<A> nodes, final int from, final int to) {
+        this(visitor, nodes, from, to, false, null);
+    }
+
+    @Override
+    protected S compute() {
+        try {
+            return this.visitRange();
+        } catch (final RuntimeException ex) {
+            throw ex;
+        } catch (final Exception ex) {
+            throw new VisitFailure(ex);
+        }
+    }
+
+    private S visitRange() throws E {
+        if (this.to - this.from == 1) {
+            return this.visitNode(this.nodes.get(this.from), this.hasInitialState ? this.initialState : this.visitor.newState());
+        }
+
+        final S state;
+        if (getSurplusQueuedTaskCount() > SURPLUS_THRESHOLD) {
+            state = this.visitor.newState();
+            final VisitorStack<N, A> stack = new VisitorStack<>();
+            for (int i = this.from; i < this.to; i++) {
+                stack.walk(this.nodes.get(i), this.visitor, state);
+            }
+            return state;
+        }
+
+        final int middle = (this.from + this.to) >>> 1;
+        final ParallelVisitorTask<N, A, S, E> first = new ParallelVisitorTask<>(this.visitor, this.nodes, this.from, middle);
+        first.fork();
+        final S second = new ParallelVisitorTask<>(this.visitor, this.nodes, middle, this.to).visitRange();
+        return this.visitor.mergeState(first.join(), second);
+    }
+
+    @SuppressWarnings("unchecked")
+    private S visitNode(final A node, final S start) throws E {
+        if (getSurplusQueuedTaskCount() > SURPLUS_THRESHOLD) {
+            new VisitorStack<N, A>().walk(node, this.visitor, start);
+            return start;
+        }
+
+        S state = start;
+        final ConfigValue<N, A> value = VisitorStack.enter(node, this.visitor, state);
+        final List<A> children;
+        if (value instanceof MapConfigValue) {
+            final Map<Object, A> values = ((MapConfigValue<N, A>) value).values;
+            synchronized (values) {
+                children = new ArrayList<>(values.values());
+            }
+        } else if (value instanceof ListConfigValue) {
+            final List<A> values = ((ListConfigValue<N, A>) value).values;
+            synchronized (values) {
+                children = new ArrayList<>(values);
+            }
+        } else {
+            return state;
+        }
+
+        if (!children.isEmpty()) {
+            state = this.visitor.mergeState(state, new ParallelVisitorTask<>(this.visitor, children, 0, children.size()).visitRange());
+        }
+
+        if (value instanceof MapConfigValue) {
+            this.visitor.exitMappingNode(node.self(), state);
+        } else {
+            this.visitor.exitListNode(node.self(), state);
+        }
+        return state;
+    }
+
+    /**
+     * Carries a checked exception thrown by a visitor out of a task.
+     */
+    static final class VisitFailure extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        VisitFailure(final Throwable cause) {
+            super(cause);
+        }
+
+    }
+
+}
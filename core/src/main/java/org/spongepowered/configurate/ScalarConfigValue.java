@@ -24,29 +24,70 @@ import java.util.Objects;
 
 /**
  * A {@link ConfigValue} which holds a single ("scalar") value.
+ *
+ * <p>Integers, longs, doubles and booleans are held by the specialised
+ * subclasses in primitive form, so they can be read back without
+ * unboxing and stored without an extra object per node. Any other value is
+ * held by {@link OfObject}.</p>
  */
-final class ScalarConfigValue<N extends ScopedConfigurationNode<N>, A extends AbstractConfigurationNode<N, A>> implements ConfigValue<N, A> {
+abstract class ScalarConfigValue<N extends ScopedConfigurationNode<N>, A extends AbstractConfigurationNode<N, A>> implements ConfigValue<N, A> {
 
     private final A holder;
-    private volatile @Nullable Object value;
 
     ScalarConfigValue(final A holder) {
         this.holder = holder;
     }
 
-    @Override
-    public @Nullable Object get() {
-        return this.value;
+    /**
+     * Create an empty scalar able to hold {@code value}, specialised to
+     * its type where possible.
+     *
+     * @param holder the node holding the new value
+     * @param value the value that will be set
+     * @param <N> the node type
+     * @param <A> the node implementation type
+     * @return a new scalar value
+     */
+    static <N extends ScopedConfigurationNode<N>, A extends AbstractConfigurationNode<N, A>> ScalarConfigValue<N, A> holding(
+        final A holder,
+        final @Nullable Object value
+    ) {
+        if (value instanceof Integer) {
+            return new OfInt<>(holder);
+        } else if (value instanceof Long) {
+            return new OfLong<>(holder);
+        } else if (value instanceof Double) {
+            return new OfDouble<>(holder);
+        } else if (value instanceof Boolean) {
+            return new OfBoolean<>(holder);
+        } else {
+            return new OfObject<>(holder);
+        }
     }
 
-    @Override
-    public void set(final @Nullable Object value) {
-        if (value != null && !this.holder.options().acceptsType(value.getClass())) {
-            throw new IllegalArgumentException("Configuration does not accept objects of type " + value.getClass());
+    /**
+     * Get whether {@code value} can be stored in this scalar without
+     * changing its representation.
+     *
+     * @param value the candidate value
+     * @return whether this scalar can hold the value
+     */
+    abstract boolean holds(@Nullable Object value);
+
+    final void checkAccepts(final Class<?> type) {
+        if (!this.holder.options().acceptsType(type)) {
+            throw new IllegalArgumentException("Configuration does not accept objects of type " + type);
         }
-        this.value = value;
+    }
+
+    static IllegalArgumentException cannotHold(final String type, final @Nullable Object value) {
+        return new IllegalArgumentException("A scalar holding " + type + " values cannot hold "
+            + (value == null ? "null" : "a " + value.getClass().getName()));
     }
 
+    @Override
+    public abstract ScalarConfigValue<N, A> copy(A holder);
+
     @Override
     public @Nullable A putChild(final Object key, final @Nullable A value) {
         return null;
@@ -67,26 +108,6 @@ final class ScalarConfigValue<N extends ScopedConfigurationNode<N>, A extends Ab
         return Collections.emptySet();
     }
 
-    @Override
-    public ScalarConfigValue<N, A> copy(final A holder) {
-        final ScalarConfigValue<N, A> copy = new ScalarConfigValue<>(holder);
-        copy.value = this.value;
-        return copy;
-    }
-
-    @Override
-    @SuppressWarnings("checkstyle:UnnecessaryParentheses")
-    public boolean isEmpty() {
-        final @Nullable Object value = this.value;
-        return (value instanceof String && ((String) value).isEmpty())
-                || (value instanceof Collection<?> && ((Collection<?>) value).isEmpty());
-    }
-
-    @Override
-    public void clear() {
-        this.value = null;
-    }
-
     @Override
     public boolean equals(final Object other) {
         if (this == other) {
@@ -96,17 +117,280 @@ final class ScalarConfigValue<N extends ScopedConfigurationNode<N>, A extends Ab
             return false;
         }
         final ScalarConfigValue<?, ?> that = (ScalarConfigValue<?, ?>) other;
-        return Objects.equals(this.value, that.value);
+        return Objects.equals(this.get(), that.get());
     }
 
     @Override
     public int hashCode() {
-        return 7 + Objects.hashCode(this.value);
+        return 7 + Objects.hashCode(this.get());
     }
 
     @Override
     public String toString() {
-        return "ScalarConfigValue{value=" + this.value + '}';
+        return "ScalarConfigValue{value=" + this.get() + '}';
+    }
+
+    /**
+     * A scalar holding any value without a specialised representation.
+     */
+    static final class OfObject<N extends ScopedConfigurationNode<N>, A extends AbstractConfigurationNode<N, A>> extends ScalarConfigValue<N, A> {
+
+        private volatile @Nullable Object value;
+
+        OfObject(final A holder) {
+            super(holder);
+        }
+
+        @Override
+        public @Nullable Object get() {
+            return this.value;
+        }
+
+        @Override
+        public void set(final @Nullable Object value) {
+            if (value != null) {
+                this.checkAccepts(value.getClass());
+            }
+            this.value = value;
+        }
+
+        @Override
+        boolean holds(final @Nullable Object value) {
+            return !(value instanceof Integer || value instanceof Long || value instanceof Double || value instanceof Boolean);
+        }
+
+        @Override
+        public OfObject<N, A> copy(final A holder) {
+            final OfObject<N, A> copy = new OfObject<>(holder);
+            copy.value = this.value;
+            return copy;
+        }
+
+        @Override
+        @SuppressWarnings("checkstyle:UnnecessaryParentheses")
+        public boolean isEmpty() {
+            final @Nullable Object value = this.value;
+            return (value instanceof String && ((String) value).isEmpty())
+                    || (value instanceof Collection<?> && ((Collection<?>) value).isEmpty());
+        }
+
+        @Override
+        public void clear() {
+            this.value = null;
+        }
+
+    }
+
+    /**
+     * A scalar holding an {@code int}.
+     */
+    static final class OfInt<N extends ScopedConfigurationNode<N>, A extends AbstractConfigurationNode<N, A>> extends ScalarConfigValue<N, A> {
+
+        volatile int value;
+
+        OfInt(final A holder) {
+            super(holder);
+        }
+
+        void setInt(final int value) {
+            this.checkAccepts(Integer.class);
+            this.value = value;
+        }
+
+        @Override
+        public Object get() {
+            return this.value;
+        }
+
+        @Override
+        public void set(final @Nullable Object value) {
+            if (!(value instanceof Integer)) {
+                throw cannotHold("int", value);
+            }
+            this.setInt((Integer) value);
+        }
+
+        @Override
+        boolean holds(final @Nullable Object value) {
+            return value instanceof Integer;
+        }
+
+        @Override
+        public OfInt<N, A> copy(final A holder) {
+            final OfInt<N, A> copy = new OfInt<>(holder);
+            copy.value = this.value;
+            return copy;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+
+        @Override
+        public void clear() {
+            // nothing is retained
+        }
+
+    }
+
+    /**
+     * A scalar holding a {@code long}.
+     */
+    static final class OfLong<N extends ScopedConfigurationNode<N>, A extends AbstractConfigurationNode<N, A>> extends ScalarConfigValue<N, A> {
+
+        volatile long value;
+
+        OfLong(final A holder) {
+            super(holder);
+        }
+
+        void setLong(final long value) {
+            this.checkAccepts(Long.class);
+            this.value = value;
+        }
+
+        @Override
+        public Object get() {
+            return this.value;
+        }
+
+        @Override
+        public void set(final @Nullable Object value) {
+            if (!(value instanceof Long)) {
+                throw cannotHold("long", value);
+            }
+            this.setLong((Long) value);
+        }
+
+        @Override
+        boolean holds(final @Nullable Object value) {
+            return value instanceof Long;
+        }
+
+        @Override
+        public OfLong<N, A> copy(final A holder) {
+            final OfLong<N, A> copy = new OfLong<>(holder);
+            copy.value = this.value;
+            return copy;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+
+        @Override
+        public void clear() {
+            // nothing is retained
+        }
+
+    }
+
+    /**
+     * A scalar holding a {@code double}.
+     */
+    static final class OfDouble<N extends ScopedConfigurationNode<N>, A extends AbstractConfigurationNode<N, A>> extends ScalarConfigValue<N, A> {
+
+        volatile double value;
+
+        OfDouble(final A holder) {
+            super(holder);
+        }
+
+        void setDouble(final double value) {
+            this.checkAccepts(Double.class);
+            this.value = value;
+        }
+
+        @Override
+        public Object get() {
+            return this.value;
+        }
+
+        @Override
+        public void set(final @Nullable Object value) {
+            if (!(value instanceof Double)) {
+                throw cannotHold("double", value);
+            }
+            this.setDouble((Double) value);
+        }
+
+        @Override
+        boolean holds(final @Nullable Object value) {
+            return value instanceof Double;
+        }
+
+        @Override
+        public OfDouble<N, A> copy(final A holder) {
+            final OfDouble<N, A> copy = new OfDouble<>(holder);
+            copy.value = this.value;
+            return copy;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+
+        @Override
+        public void clear() {
+            // nothing is retained
+        }
+
+    }
+
+    /**
+     * A scalar holding a {@code boolean}.
+     */
+    static final class OfBoolean<N extends ScopedConfigurationNode<N>, A extends AbstractConfigurationNode<N, A>> extends ScalarConfigValue<N, A> {
+
+        volatile boolean value;
+
+        OfBoolean(final A holder) {
+            super(holder);
+        }
+
+        void setBoolean(final boolean value) {
+            this.checkAccepts(Boolean.class);
+            this.value = value;
+        }
+
+        @Override
+        public Object get() {
+            return this.value;
+        }
+
+        @Override
+        public void set(final @Nullable Object value) {
+            if (!(value instanceof Boolean)) {
+                throw cannotHold("boolean", value);
+            }
+            this.setBoolean((Boolean) value);
+        }
+
+        @Override
+        boolean holds(final @Nullable Object value) {
+            return value instanceof Boolean;
+        }
+
+        @Override
+        public OfBoolean<N, A> copy(final A holder) {
+            final OfBoolean<N, A> copy = new OfBoolean<>(holder);
+            copy.value = this.value;
+            return copy;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+
+        @Override
+        public void clear() {
+            // nothing is retained
+        }
+
     }
 
 }
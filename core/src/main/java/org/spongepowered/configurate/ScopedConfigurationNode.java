@@ -191,6 +191,26 @@ public interface ScopedConfigurationNode<N extends ScopedConfigurationNode<N>> e
     @Override
     N raw(@Nullable Object value);
 
+    @Override
+    default N rawInt(final int value) {
+        return this.raw(value);
+    }
+
+    @Override
+    default N rawLong(final long value) {
+        return this.raw(value);
+    }
+
+    @Override
+    default N rawDouble(final double value) {
+        return this.raw(value);
+    }
+
+    @Override
+    default N rawBoolean(final boolean value) {
+        return this.raw(value);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -203,6 +223,22 @@ public interface ScopedConfigurationNode<N extends ScopedConfigurationNode<N>> e
     @Override
     Map<Object, N> childrenMap();
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default List<N> childrenListView() {
+        return this.childrenList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    default Map<Object, N> childrenMapView() {
+        return this.childrenMap();
+    }
+
     /**
      * {@inheritDoc}
      */
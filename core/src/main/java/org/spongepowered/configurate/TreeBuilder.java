@@ -0,0 +1,355 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate;
+
+import static java.util.Objects.requireNonNull;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A single-threaded builder for populating a node tree.
+ *
+ * <p>Loaders build a complete tree before it is visible to any other thread,
+ * so the locking normally performed by node operations is unnecessary while
+ * parsing. Nodes created through this builder are attached and populated
+ * without taking locks, in maps that are not synchronized. The tree is made
+ * safe for concurrent use when {@link #build()} is called.</p>
+ *
+ * <p>Nodes returned by the builder are ordinary nodes, so comments, hints and
+ * other node operations can be applied to them directly. As with
+ * {@link ConfigurationNode#node(Object...)}, a node is only attached to its
+ * parent once it receives a value. Until the tree is built, neither the root
+ * nor any node in it may be shared with other threads.</p>
+ *
+ * @param <N> the node type
+ * @since 4.2.0
+ */
+public final class TreeBuilder<N extends ConfigurationNode> {
+
+    private final N root;
+    private final List<MapConfigValue<?, ?>> unpublished = new ArrayList<>();
+    private boolean built;
+
+    /**
+     * Create a builder populating the provided root node.
+     *
+     * @param root the root node, which should not yet be shared
+     * @param <N> the node type
+     * @return a new builder
+     * @since 4.2.0
+     */
+    public static <N extends ConfigurationNode> TreeBuilder<N> of(final N root) {
+        return new TreeBuilder<>(requireNonNull(root, "root"));
+    }
+
+    private TreeBuilder(final N root) {
+        this.root = root;
+    }
+
+    /**
+     * Get the root node being populated.
+     *
+     * @return the root node
+     * @since 4.2.0
+     */
+    public N root() {
+        return this.root;
+    }
+
+    /**
+     * Get a child of {@code parent}, which will be attached once it
+     * receives a value.
+     *
+     * @param parent the parent node, from this builder
+     * @param key the key of the child
+     * @return the child node
+     * @since 4.2.0
+     * @see ConfigurationNode#node(Object...)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public N child(final N parent, final Object key) {
+        requireNonNull(key, "key");
+        this.checkBuilding();
+        if (!(parent instanceof AbstractConfigurationNode<?, ?>)) {
+            return (N) parent.node(key);
+        }
+        final AbstractConfigurationNode impl = (AbstractConfigurationNode) parent;
+        final @Nullable AbstractConfigurationNode existing = impl.value.child(key);
+        return (N) (existing != null ? existing : impl.createNode(key)).self();
+    }
+
+    /**
+     * Get a new element to be appended to the list {@code parent} once it
+     * receives a value.
+     *
+     * @param parent the parent node, from this builder
+     * @return the new element
+     * @since 4.2.0
+     * @see ConfigurationNode#appendListNode()
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public N appendListNode(final N parent) {
+        this.checkBuilding();
+        if (!(parent instanceof AbstractConfigurationNode<?, ?>)) {
+            return (N) parent.appendListNode();
+        }
+        return (N) ((AbstractConfigurationNode) parent).createNode(ListConfigValue.UNALLOCATED_IDX).self();
+    }
+
+    /**
+     * Set the raw value of a node, attaching it to the tree.
+     *
+     * <p>Empty maps and collections will set the node's type without any
+     * children, the same as {@link ConfigurationNode#raw(Object)}. Setting a
+     * {@code null} value will remove the node from its parent.</p>
+     *
+     * @param node the node to set, from this builder
+     * @param value the raw value
+     * @return the node
+     * @since 4.2.0
+     * @see ConfigurationNode#raw(Object)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public N value(final N node, final @Nullable Object value) {
+        this.checkBuilding();
+        if (!(node instanceof AbstractConfigurationNode<?, ?>)) {
+            node.raw(value);
+            return node;
+        }
+
+        final AbstractConfigurationNode impl = (AbstractConfigurationNode) node;
+        if (value == null) {
+            if (impl.attached) {
+                node.raw(null);
+            }
+        } else if (value instanceof Map<?, ?> && ((Map<?, ?>) value).isEmpty()) {
+            this.attach(impl);
+            this.mapValue(impl);
+        } else if (value instanceof Collection<?> && ((Collection<?>) value).isEmpty()) {
+            this.attach(impl);
+            this.listValue(impl);
+        } else if (value instanceof Map<?, ?> || value instanceof Collection<?>) {
+            this.attach(impl);
+            node.raw(value);
+        } else {
+            this.attach(impl);
+            final ScalarConfigValue scalar = ScalarConfigValue.holding(impl, value);
+            scalar.set(value);
+            replaceValue(impl, scalar);
+        }
+        return node;
+    }
+
+    /**
+     * Set the value of {@code node} to a {@code int}, without boxing it.
+     *
+     * @param node the node to set, from this builder
+     * @param value the value
+     * @return the node
+     * @since 4.2.0
+     * @see ConfigurationNode#rawInt(int)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public N intValue(final N node, final int value) {
+        this.checkBuilding();
+        if (!(node instanceof AbstractConfigurationNode<?, ?>)) {
+            node.rawInt(value);
+            return node;
+        }
+
+        final AbstractConfigurationNode impl = (AbstractConfigurationNode) node;
+        this.attach(impl);
+        final ScalarConfigValue.OfInt scalar = new ScalarConfigValue.OfInt(impl);
+        scalar.setInt(value);
+        replaceValue(impl, scalar);
+        return node;
+    }
+
+    /**
+     * Set the value of {@code node} to a {@code long}, without boxing it.
+     *
+     * @param node the node to set, from this builder
+     * @param value the value
+     * @return the node
+     * @since 4.2.0
+     * @see ConfigurationNode#rawLong(long)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public N longValue(final N node, final long value) {
+        this.checkBuilding();
+        if (!(node instanceof AbstractConfigurationNode<?, ?>)) {
+            node.rawLong(value);
+            return node;
+        }
+
+        final AbstractConfigurationNode impl = (AbstractConfigurationNode) node;
+        this.attach(impl);
+        final ScalarConfigValue.OfLong scalar = new ScalarConfigValue.OfLong(impl);
+        scalar.setLong(value);
+        replaceValue(impl, scalar);
+        return node;
+    }
+
+    /**
+     * Set the value of {@code node} to a {@code double}, without boxing it.
+     *
+     * @param node the node to set, from this builder
+     * @param value the value
+     * @return the node
+     * @since 4.2.0
+     * @see ConfigurationNode#rawDouble(double)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public N doubleValue(final N node, final double value) {
+        this.checkBuilding();
+        if (!(node instanceof AbstractConfigurationNode<?, ?>)) {
+            node.rawDouble(value);
+            return node;
+        }
+
+        final AbstractConfigurationNode impl = (AbstractConfigurationNode) node;
+        this.attach(impl);
+        final ScalarConfigValue.OfDouble scalar = new ScalarConfigValue.OfDouble(impl);
+        scalar.setDouble(value);
+        replaceValue(impl, scalar);
+        return node;
+    }
+
+    /**
+     * Set the value of {@code node} to a {@code boolean}, without boxing it.
+     *
+     * @param node the node to set, from this builder
+     * @param value the value
+     * @return the node
+     * @since 4.2.0
+     * @see ConfigurationNode#rawBoolean(boolean)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public N booleanValue(final N node, final boolean value) {
+        this.checkBuilding();
+        if (!(node instanceof AbstractConfigurationNode<?, ?>)) {
+            node.rawBoolean(value);
+            return node;
+        }
+
+        final AbstractConfigurationNode impl = (AbstractConfigurationNode) node;
+        this.attach(impl);
+        final ScalarConfigValue.OfBoolean scalar = new ScalarConfigValue.OfBoolean(impl);
+        scalar.setBoolean(value);
+        replaceValue(impl, scalar);
+        return node;
+    }
+
+    /**
+     * Make the tree safe for concurrent use, and return its root.
+     *
+     * <p>No further changes can be made through this builder once the tree
+     * has been built.</p>
+     *
+     * @return the root node
+     * @since 4.2.0
+     */
+    public N build() {
+        if (!this.built) {
+            this.built = true;
+            for (final MapConfigValue<?, ?> map : this.unpublished) {
+                map.publish();
+            }
+            this.unpublished.clear();
+        }
+        return this.root;
+    }
+
+    private void checkBuilding() {
+        if (this.built) {
+            throw new IllegalStateException("This tree has already been built");
+        }
+    }
+
+    private <M extends ScopedConfigurationNode<M>, A extends AbstractConfigurationNode<M, A>> void attach(final A node) {
+        if (node.attached) {
+            return;
+        }
+
+        final A parent = node.implParent();
+        if (parent == null) {
+            throw new IllegalStateException("Cannot attach a root node");
+        }
+        this.attach(parent);
+
+        final @Nullable Object key = node.key;
+        final ConfigValue<M, A> parentValue = parent.value;
+        final @Nullable A previous;
+        if (!(parentValue instanceof MapConfigValue<?, ?>)
+            && (ListConfigValue.likelyNewListKey(key) || ListConfigValue.likelyListKey(parentValue, key))) {
+            final List<A> elements = this.listValue(parent).values;
+            final int index = key == ListConfigValue.UNALLOCATED_IDX ? elements.size() : (Integer) requireNonNull(key);
+            if (index < elements.size()) {
+                previous = elements.set(index, node);
+            } else {
+                previous = null;
+                elements.add(node);
+            }
+            node.key = index;
+        } else {
+            previous = this.mapValue(parent).values.put(requireNonNull(key, "key"), node);
+        }
+
+        if (previous != null) {
+            previous.attached = false;
+            previous.clear();
+        }
+        node.attached = true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <M extends ScopedConfigurationNode<M>, A extends AbstractConfigurationNode<M, A>> MapConfigValue<M, A> mapValue(final A node) {
+        final ConfigValue<M, A> existing = node.value;
+        if (existing instanceof MapConfigValue<?, ?>) {
+            return (MapConfigValue<M, A>) existing;
+        }
+        final MapConfigValue<M, A> map = MapConfigValue.unpublished(node);
+        this.unpublished.add(map);
+        replaceValue(node, map);
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <M extends ScopedConfigurationNode<M>, A extends AbstractConfigurationNode<M, A>> ListConfigValue<M, A> listValue(final A node) {
+        final ConfigValue<M, A> existing = node.value;
+        if (existing instanceof ListConfigValue<?, ?>) {
+            return (ListConfigValue<M, A>) existing;
+        }
+        final ListConfigValue<M, A> list = new ListConfigValue<>(node);
+        replaceValue(node, list);
+        return list;
+    }
+
+    private static <M extends ScopedConfigurationNode<M>, A extends AbstractConfigurationNode<M, A>> void replaceValue(
+        final A node,
+        final ConfigValue<M, A> value
+    ) {
+        // as with ConfigurationNode#raw, the previous value is replaced without being cleared
+        node.value = value;
+    }
+
+}
@@ -0,0 +1,166 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An array-backed stack of nodes waiting to be visited by a
+ * {@link ConfigurationVisitor}.
+ *
+ * <p>Exits from mapping and list nodes are recorded in the stack next to the
+ * nodes still to be entered, so a traversal allocates nothing per node. A
+ * stack is emptied by each traversal and can be reused for the next.</p>
+ */
+final class VisitorStack<N extends ScopedConfigurationNode<N>, A extends AbstractConfigurationNode<N, A>> {
+
+    private static final byte ENTER = 0;
+    private static final byte EXIT_MAPPING = 1;
+    private static final byte EXIT_LIST = 2;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private @Nullable Object[] nodes = new Object[INITIAL_CAPACITY];
+    private byte[] actions = new byte[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Send the events for entering a node to a visitor.
+     *
+     * @param node the node being entered
+     * @param visitor the visitor
+     * @param state the visitor's state
+     * @param <N> the node type
+     * @param <A> the implementation type
+     * @param <S> the state type
+     * @param <E> the exception type
+     * @return the value the node was visited with
+     * @throws E when thrown by the visitor
+     */
+    @SuppressWarnings("unchecked")
+    static <N extends ScopedConfigurationNode<N>, A extends AbstractConfigurationNode<N, A>, S, E extends Exception> ConfigValue<N, A> enter(
+        final A node,
+        final ConfigurationVisitor<S, ?, E> visitor,
+        final S state
+    ) throws E {
+        try {
+            visitor.enterNode(node.self(), state);
+            final ConfigValue<N, A> value = node.value;
+            if (value instanceof MapConfigValue) {
+                visitor.enterMappingNode(node.self(), state);
+            } else if (value instanceof ListConfigValue) {
+                visitor.enterListNode(node.self(), state);
+            } else if (value instanceof ScalarConfigValue) {
+                visitor.enterScalarNode(node.self(), state);
+            } else if (!(value instanceof NullConfigValue)) { // temporary workaround, no null values should appear in attached nodes
+                throw new IllegalStateException("Unknown value type " + value.getClass() + " at " + node.path());
+            }
+            return value;
+        } catch (final Exception ex) {
+            // Assign an appropriate path to ConfigurateExceptions
+            if (ex instanceof ConfigurateException) {
+                ((ConfigurateException) ex).initPath(node::path);
+            }
+            throw (E) ex;
+        }
+    }
+
+    /**
+     * Visit a node and all of its children, without the events for beginning
+     * and ending a visit.
+     *
+     * @param root the node to start from
+     * @param visitor the visitor
+     * @param state the visitor's state
+     * @param <S> the state type
+     * @param <E> the exception type
+     * @throws E when thrown by the visitor
+     */
+    @SuppressWarnings("unchecked")
+    <S, E extends Exception> void walk(final A root, final ConfigurationVisitor<S, ?, E> visitor, final S state) throws E {
+        this.clear();
+        this.push(root, ENTER);
+        while (this.size > 0) {
+            final int index = --this.size;
+            final A current = (A) this.nodes[index];
+            this.nodes[index] = null;
+
+            switch (this.actions[index]) {
+                case EXIT_MAPPING:
+                    visitor.exitMappingNode(current.self(), state);
+                    break;
+                case EXIT_LIST:
+                    visitor.exitListNode(current.self(), state);
+                    break;
+                default:
+                    final ConfigValue<N, A> value = enter(current, visitor, state);
+                    if (value instanceof MapConfigValue) {
+                        this.push(current, EXIT_MAPPING);
+                        final Map<Object, A> children = ((MapConfigValue<N, A>) value).values;
+                        synchronized (children) {
+                            this.pushChildren(children.values());
+                        }
+                    } else if (value instanceof ListConfigValue) {
+                        this.push(current, EXIT_LIST);
+                        final List<A> children = ((ListConfigValue<N, A>) value).values;
+                        synchronized (children) {
+                            this.pushChildren(children);
+                        }
+                    }
+            }
+        }
+    }
+
+    /**
+     * Push children so that they are popped in their original order.
+     *
+     * @param children the children to push
+     */
+    private void pushChildren(final Iterable<A> children) {
+        final int start = this.size;
+        for (final A child : children) {
+            this.push(child, ENTER);
+        }
+
+        // reverse the pushed range, so the first child is on top
+        for (int low = start, high = this.size - 1; low < high; low++, high--) {
+            final @Nullable Object node = this.nodes[low];
+            this.nodes[low] = this.nodes[high];
+            this.nodes[high] = node;
+        }
+    }
+
+    private void push(final A node, final byte action) {
+        if (this.size == this.nodes.length) {
+            final int capacity = this.nodes.length << 1;
+            this.nodes = Arrays.copyOf(this.nodes, capacity);
+            this.actions = Arrays.copyOf(this.actions, capacity);
+        }
+        this.nodes[this.size] = node;
+        this.actions[this.size++] = action;
+    }
+
+    private void clear() {
+        Arrays.fill(this.nodes, 0, this.size, null);
+        this.size = 0;
+    }
+
+}
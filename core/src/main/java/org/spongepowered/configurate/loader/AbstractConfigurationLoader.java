@@ -26,6 +26,8 @@ import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.ConfigurationOptions;
 import org.spongepowered.configurate.ScopedConfigurationNode;
 import org.spongepowered.configurate.reference.ConfigurationReference;
+import org.spongepowered.configurate.util.CheckedFunction;
+import org.spongepowered.configurate.util.FileFingerprint;
 import org.spongepowered.configurate.util.UnmodifiableCollections;
 
 import java.io.BufferedReader;
@@ -108,6 +110,16 @@ public abstract class AbstractConfigurationLoader<N extends ScopedConfigurationN
      */
     private final ConfigurationOptions defaultOptions;
 
+    /**
+     * The cache for parsed trees, used when loading from a path.
+     */
+    private final @Nullable LoaderCache cache;
+
+    /**
+     * The path the source reads from, if known.
+     */
+    private final @Nullable Path sourcePath;
+
     /**
      * Create a loader instance from a builder.
      *
@@ -122,6 +134,8 @@ public abstract class AbstractConfigurationLoader<N extends ScopedConfigurationN
         this.headerMode = builder.headerMode();
         this.commentHandlers = UnmodifiableCollections.toList(commentHandlers);
         this.defaultOptions = builder.defaultOptions();
+        this.cache = builder.cache();
+        this.sourcePath = builder.sourcePath;
     }
 
     /**
@@ -140,11 +154,77 @@ public abstract class AbstractConfigurationLoader<N extends ScopedConfigurationN
     }
 
     @Override
-    public N load(ConfigurationOptions options) throws ParsingException {
-        if (this.source == null) {
+    public N load(final ConfigurationOptions options) throws ParsingException {
+        final @Nullable Callable<BufferedReader> source = this.source;
+        if (source == null) {
             throw new ParsingException(UNKNOWN_POS, UNKNOWN_POS, "", "No source present to read from!", null);
         }
-        try (BufferedReader reader = this.source.call()) {
+        return this.loadCached(options, opts -> this.loadFromSource(source, opts));
+    }
+
+    /**
+     * Load a node, reusing the tree held by this loader's cache if the
+     * source file is unchanged.
+     *
+     * <p>Loaders that override {@link #load(ConfigurationOptions)} should
+     * perform their own parsing through this method, so that any
+     * {@link Builder#cache(LoaderCache) configured cache} is still used.</p>
+     *
+     * @param options the options to load with
+     * @param parser a function parsing the source into a new node
+     * @return the loaded node
+     * @throws ParsingException if the source could not be parsed
+     * @since 4.2.0
+     */
+    protected final N loadCached(
+        final ConfigurationOptions options,
+        final CheckedFunction<ConfigurationOptions, N, ParsingException> parser
+    ) throws ParsingException {
+        if (this.cache == null || this.sourcePath == null) {
+            return parser.apply(options);
+        }
+
+        final LoaderCache cache = this.cache;
+        final Path path = this.sourcePath;
+        @Nullable FileFingerprint fingerprint = null;
+        try {
+            final @Nullable FileFingerprint stored = cache.fingerprint(path);
+            fingerprint = FileFingerprint.of(path, stored);
+            if (fingerprint != null && fingerprint.sameContents(stored)) {
+                final @Nullable ConfigurationNode cached = cache.get(path);
+                if (cached != null) {
+                    return this.restoreCached(cached, options);
+                }
+            }
+        } catch (final IOException | RuntimeException ex) {
+            // unreadable cache, fall back to the source
+        }
+
+        final N node = parser.apply(options);
+        if (fingerprint != null) {
+            try {
+                cache.put(path, fingerprint, node);
+            } catch (final IOException | RuntimeException ex) {
+                // the cache is best-effort, the tree has still been loaded
+            }
+        }
+        return node;
+    }
+
+    private N restoreCached(final ConfigurationNode cached, ConfigurationOptions options) {
+        if (this.headerMode == HeaderMode.PRESERVE || this.headerMode == HeaderMode.NONE) {
+            final @Nullable String header = cached.options().header();
+            if (header != null && header.length() > 0) {
+                options = options.header(header);
+            }
+        }
+        final N node = this.createNode(options);
+        node.from(cached);
+        return node;
+    }
+
+    private N loadFromSource(final Callable<BufferedReader> source, ConfigurationOptions options) throws ParsingException {
+        try (BufferedReader reader = source.call()) {
             if (this.headerMode == HeaderMode.PRESERVE || this.headerMode == HeaderMode.NONE) {
                 final @Nullable String comment = CommentHandlers.extractComment(reader, this.commentHandlers);
                 if (comment != null && comment.length() > 0) {
@@ -179,6 +259,71 @@ public abstract class AbstractConfigurationLoader<N extends ScopedConfigurationN
     @ForOverride
     protected abstract void loadInternal(N node, BufferedReader reader) throws ParsingException;
 
+    @Override
+    public ConfigurationEventReader stream() throws ParsingException {
+        if (this.source == null) {
+            throw new ParsingException(UNKNOWN_POS, UNKNOWN_POS, "", "No source present to read from!", null);
+        }
+        final BufferedReader reader;
+        try {
+            reader = this.source.call();
+        } catch (final FileNotFoundException | NoSuchFileException e) {
+            // Squash -- there's nothing to read
+            return ConfigurationEventReader.empty();
+        } catch (final Exception e) {
+            throw new ParsingException(UNKNOWN_POS, UNKNOWN_POS, null, "Unable to open source", e);
+        }
+
+        try {
+            if (this.headerMode == HeaderMode.PRESERVE || this.headerMode == HeaderMode.NONE) {
+                CommentHandlers.extractComment(reader, this.commentHandlers);
+            }
+            return this.streamInternal(reader);
+        } catch (final ParsingException | RuntimeException ex) {
+            closeQuietly(reader, ex);
+            throw ex;
+        } catch (final IOException ex) {
+            closeQuietly(reader, ex);
+            throw new ParsingException(UNKNOWN_POS, UNKNOWN_POS, null, null, ex);
+        }
+    }
+
+    private static void closeQuietly(final BufferedReader reader, final Exception source) {
+        try {
+            reader.close();
+        } catch (final IOException ex) {
+            source.addSuppressed(ex);
+        }
+    }
+
+    /**
+     * Open an event reader over the contents of {@code reader}.
+     *
+     * <p>The header will already have been read if applicable. The returned
+     * event reader takes ownership of {@code reader}, and must close it
+     * when closed.</p>
+     *
+     * <p>By default, this loads a full node tree using
+     * {@link #loadInternal(ScopedConfigurationNode, BufferedReader)} and reads
+     * events from that. Loaders able to parse incrementally should override
+     * this to read events directly from their source.</p>
+     *
+     * @param reader reader to load from
+     * @return a new event reader
+     * @throws ParsingException if an error occurs opening the reader
+     * @since 4.2.0
+     */
+    @ForOverride
+    protected ConfigurationEventReader streamInternal(final BufferedReader reader) throws ParsingException {
+        try (BufferedReader source = reader) {
+            final N node = this.createNode(this.defaultOptions);
+            this.loadInternal(node, source);
+            return ConfigurationEventReader.of(node);
+        } catch (final IOException ex) {
+            throw new ParsingException(UNKNOWN_POS, UNKNOWN_POS, null, null, ex);
+        }
+    }
+
     @Override
     public void save(final ConfigurationNode node) throws ConfigurateException {
         if (this.sink == null) {
@@ -273,6 +418,8 @@ public abstract class AbstractConfigurationLoader<N extends ScopedConfigurationN
         protected @Nullable Callable<BufferedReader> source;
         protected @Nullable Callable<BufferedWriter> sink;
         protected ConfigurationOptions defaultOptions = ConfigurationOptions.defaults();
+        private @Nullable LoaderCache cache;
+        private @Nullable Path sourcePath;
 
         /**
          * Create a new builder.
@@ -362,6 +509,7 @@ public abstract class AbstractConfigurationLoader<N extends ScopedConfigurationN
             final Path absPath = requireNonNull(path, "path").toAbsolutePath();
             this.source = () -> Files.newBufferedReader(absPath, StandardCharsets.UTF_8);
             this.sink = AtomicFiles.atomicWriterFactory(absPath, StandardCharsets.UTF_8);
+            this.sourcePath = absPath;
             return self();
         }
 
@@ -375,6 +523,7 @@ public abstract class AbstractConfigurationLoader<N extends ScopedConfigurationN
         public T url(final URL url) {
             requireNonNull(url, "url");
             this.source = () -> new BufferedReader(new InputStreamReader(url.openConnection().getInputStream(), StandardCharsets.UTF_8));
+            this.sourcePath = null;
             return self();
         }
 
@@ -389,6 +538,7 @@ public abstract class AbstractConfigurationLoader<N extends ScopedConfigurationN
          */
         public T source(final @Nullable Callable<BufferedReader> source) {
             this.source = source;
+            this.sourcePath = null;
             return self();
         }
 
@@ -486,6 +636,32 @@ public abstract class AbstractConfigurationLoader<N extends ScopedConfigurationN
             return this.defaultOptions;
         }
 
+        /**
+         * Sets the cache used to skip parsing unchanged files.
+         *
+         * <p>The cache is only consulted when the source of the resultant
+         * loader has been set with {@link #path(Path)} or
+         * {@link #file(File)}.</p>
+         *
+         * @param cache the cache, or {@code null} to disable caching
+         * @return this builder (for chaining)
+         * @since 4.2.0
+         */
+        public T cache(final @Nullable LoaderCache cache) {
+            this.cache = cache;
+            return self();
+        }
+
+        /**
+         * Gets the cache to be used by the resultant loader.
+         *
+         * @return the cache, if any
+         * @since 4.2.0
+         */
+        public @Nullable LoaderCache cache() {
+            return this.cache;
+        }
+
         /**
          * Builds the loader.
          *
@@ -18,9 +18,12 @@ package org.spongepowered.configurate.loader;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
 import java.io.FilterWriter;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.file.AccessDeniedException;
@@ -67,7 +70,45 @@ public final class AtomicFiles {
      * @throws IOException for any underlying filesystem errors
      * @since 4.0.0
      */
-    public static BufferedWriter atomicBufferedWriter(Path path, final Charset charset) throws IOException {
+    public static BufferedWriter atomicBufferedWriter(final Path path, final Charset charset) throws IOException {
+        final Path targetPath = resolveTarget(path);
+        final Path writePath = prepareTemporary(targetPath);
+        final BufferedWriter output = Files.newBufferedWriter(writePath, charset);
+        return new BufferedWriter(new AtomicFileWriter(writePath, targetPath, output));
+    }
+
+    /**
+     * Creates and returns an "atomic" output stream factory for the given path.
+     *
+     * <p>This is the binary equivalent of
+     * {@link #atomicWriterFactory(Path, Charset)}.</p>
+     *
+     * @param path path the complete file should be written to
+     * @return a new output stream factory
+     * @since 4.2.0
+     */
+    public static Callable<OutputStream> atomicOutputStreamFactory(final Path path) {
+        requireNonNull(path, "path");
+        return () -> atomicOutputStream(path);
+    }
+
+    /**
+     * Creates and returns an "atomic" buffered output stream for the
+     * given path.
+     *
+     * @param path the path
+     * @return a new output stream
+     * @throws IOException for any underlying filesystem errors
+     * @since 4.2.0
+     */
+    public static OutputStream atomicOutputStream(final Path path) throws IOException {
+        final Path targetPath = resolveTarget(path);
+        final Path writePath = prepareTemporary(targetPath);
+        final OutputStream output = Files.newOutputStream(writePath);
+        return new BufferedOutputStream(new AtomicFileOutputStream(writePath, targetPath, output));
+    }
+
+    private static Path resolveTarget(Path path) {
         // absolute
         path = path.toAbsolutePath();
 
@@ -79,15 +120,17 @@ public final class AtomicFiles {
         } catch (final UnsupportedOperationException | IOException ex) {
             // ignore
         }
+        return path;
+    }
 
+    private static Path prepareTemporary(final Path path) throws IOException {
         final Path writePath = temporaryPath(path.getParent(), path.getFileName().toString());
         if (Files.exists(path)) {
             Files.copy(path, writePath, StandardCopyOption.COPY_ATTRIBUTES, StandardCopyOption.REPLACE_EXISTING);
         }
 
         createDirectoriesIfNecessary(writePath.getParent());
-        final BufferedWriter output = Files.newBufferedWriter(writePath, charset);
-        return new BufferedWriter(new AtomicFileWriter(writePath, path, output));
+        return writePath;
     }
 
     // symlink-aware directory creation
@@ -103,6 +146,30 @@ public final class AtomicFiles {
         return parent.resolve(fileName);
     }
 
+    private static void moveIntoPlace(final Path writePath, final Path targetPath) throws IOException {
+        try {
+            Files.move(writePath, targetPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final AccessDeniedException ex) {
+            // Sometimes because of file locking this will fail... Let's just try again and hope for the best
+            // Thanks Windows!
+            for (int tries = 0; tries < MAX_TRIES; ++tries) {
+                // Pause for a bit
+                try {
+                    Thread.sleep(5L * (tries + 1));
+                    Files.move(writePath, targetPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                    return;
+                } catch (final AccessDeniedException ex2) {
+                    if (tries == MAX_TRIES - 1) {
+                        throw ex;
+                    }
+                } catch (final InterruptedException exInterrupt) {
+                    Thread.currentThread().interrupt();
+                    throw ex;
+                }
+            }
+        }
+    }
+
     private static class AtomicFileWriter extends FilterWriter {
 
         private final Path targetPath;
@@ -117,27 +184,36 @@ public final class AtomicFiles {
         @Override
         public void close() throws IOException {
             super.close();
-            try {
-                Files.move(this.writePath, this.targetPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
-            } catch (final AccessDeniedException ex) {
-                // Sometimes because of file locking this will fail... Let's just try again and hope for the best
-                // Thanks Windows!
-                for (int tries = 0; tries < MAX_TRIES; ++tries) {
-                    // Pause for a bit
-                    try {
-                        Thread.sleep(5L * (tries + 1));
-                        Files.move(this.writePath, this.targetPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
-                        return;
-                    } catch (final AccessDeniedException ex2) {
-                        if (tries == MAX_TRIES - 1) {
-                            throw ex;
-                        }
-                    } catch (final InterruptedException exInterrupt) {
-                        Thread.currentThread().interrupt();
-                        throw ex;
-                    }
-                }
+            moveIntoPlace(this.writePath, this.targetPath);
+        }
+
+    }
+
+    private static class AtomicFileOutputStream extends FilterOutputStream {
+
+        private final Path targetPath;
+        private final Path writePath;
+        private boolean closed;
+
+        AtomicFileOutputStream(final Path writePath, final Path targetPath, final OutputStream wrapping) {
+            super(wrapping);
+            this.writePath = writePath;
+            this.targetPath = targetPath;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            this.out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (this.closed) {
+                return;
             }
+            this.closed = true;
+            super.close();
+            moveIntoPlace(this.writePath, this.targetPath);
         }
 
     }
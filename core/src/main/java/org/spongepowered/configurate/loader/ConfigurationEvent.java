@@ -0,0 +1,85 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.loader;
+
+/**
+ * The kinds of event produced by a {@link ConfigurationEventReader}.
+ *
+ * <p>A document is described by at most one value, followed by
+ * {@link #END_DOCUMENT}. A value is either a single {@link #SCALAR}, a
+ * {@link #START_MAP} followed by any number of {@link #KEY}-value pairs and
+ * an {@link #END_MAP}, or a {@link #START_LIST} followed by any number of
+ * values and an {@link #END_LIST}.</p>
+ *
+ * @since 4.2.0
+ */
+public enum ConfigurationEvent {
+
+    /**
+     * The start of a mapping node.
+     *
+     * @since 4.2.0
+     */
+    START_MAP,
+
+    /**
+     * The key of the next entry in a mapping node.
+     *
+     * <p>The key is available from {@link ConfigurationEventReader#key()},
+     * and is followed by the entry's value.</p>
+     *
+     * @since 4.2.0
+     */
+    KEY,
+
+    /**
+     * The end of a mapping node.
+     *
+     * @since 4.2.0
+     */
+    END_MAP,
+
+    /**
+     * The start of a list node.
+     *
+     * @since 4.2.0
+     */
+    START_LIST,
+
+    /**
+     * The end of a list node.
+     *
+     * @since 4.2.0
+     */
+    END_LIST,
+
+    /**
+     * A scalar value, available from
+     * {@link ConfigurationEventReader#scalar()}.
+     *
+     * @since 4.2.0
+     */
+    SCALAR,
+
+    /**
+     * The end of the document. No further events will be produced.
+     *
+     * @since 4.2.0
+     */
+    END_DOCUMENT
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.loader;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.ConfigurationNode;
+
+import java.io.IOException;
+
+/**
+ * A pull-style reader over the structure of a configuration document.
+ *
+ * <p>Event readers allow documents to be filtered, validated, or converted
+ * without building a full node tree in memory. Loaders that can parse
+ * incrementally produce events directly from their source, so memory use
+ * is bounded by the nesting depth of the document rather than its size.</p>
+ *
+ * <p>Readers are not thread-safe, and must be closed once no longer needed to
+ * release their underlying source.</p>
+ *
+ * @see ConfigurationLoader#stream()
+ * @since 4.2.0
+ */
+public interface ConfigurationEventReader extends AutoCloseable {
+
+    /**
+     * Create a reader producing events for an existing node.
+     *
+     * <p>A node with no value produces an empty document.</p>
+     *
+     * @param node the node to read
+     * @return a new reader
+     * @since 4.2.0
+     */
+    static ConfigurationEventReader of(final ConfigurationNode node) {
+        return new NodeEventReader(node);
+    }
+
+    /**
+     * Create a reader for a document with no value.
+     *
+     * @return a reader that will only produce
+     *     {@link ConfigurationEvent#END_DOCUMENT}
+     * @since 4.2.0
+     */
+    static ConfigurationEventReader empty() {
+        return new NodeEventReader(null);
+    }
+
+    /**
+     * Advance to the next event in the document.
+     *
+     * <p>Once {@link ConfigurationEvent#END_DOCUMENT} has been reached, every
+     * further call will return it again.</p>
+     *
+     * @return the next event
+     * @throws ParsingException if the underlying source is malformed
+     * @since 4.2.0
+     */
+    ConfigurationEvent next() throws ParsingException;
+
+    /**
+     * Get the key of the current entry.
+     *
+     * @return the key
+     * @throws IllegalStateException if the current event is not
+     *     {@link ConfigurationEvent#KEY}
+     * @since 4.2.0
+     */
+    Object key();
+
+    /**
+     * Get the value of the current scalar.
+     *
+     * <p>Values are of the same types a loaded node would contain.</p>
+     *
+     * @return the scalar value
+     * @throws IllegalStateException if the current event is not
+     *     {@link ConfigurationEvent#SCALAR}
+     * @since 4.2.0
+     */
+    @Nullable Object scalar();
+
+    /**
+     * Skip over the next value in the document.
+     *
+     * <p>This is most useful after a {@link ConfigurationEvent#KEY} event,
+     * to ignore an entry's value without reading each of its events.</p>
+     *
+     * @throws ParsingException if the underlying source is malformed
+     * @since 4.2.0
+     */
+    default void skipValue() throws ParsingException {
+        int depth = 0;
+        do {
+            switch (this.next()) {
+                case START_MAP:
+                case START_LIST:
+                    depth++;
+                    break;
+                case END_MAP:
+                case END_LIST:
+                    depth--;
+                    break;
+                case END_DOCUMENT:
+                    return;
+                default:
+                    break;
+            }
+        } while (depth > 0);
+    }
+
+    /**
+     * Read the next value in the document into a node.
+     *
+     * <p>Only the value is read, so this can be used to materialize
+     * individual entries of a larger document.</p>
+     *
+     * @param node the node to populate
+     * @throws ParsingException if the underlying source is malformed, or
+     *     the document has no further value
+     * @since 4.2.0
+     */
+    default void readValue(final ConfigurationNode node) throws ParsingException {
+        EventReaders.readValue(this, this.next(), node);
+    }
+
+    /**
+     * Release the source backing this reader.
+     *
+     * @throws IOException if the source could not be closed
+     * @since 4.2.0
+     */
+    @Override
+    void close() throws IOException;
+
+}
@@ -70,6 +70,24 @@ public interface ConfigurationLoader<N extends ConfigurationNode> extends Config
      */
     N load(ConfigurationOptions options) throws ConfigurateException;
 
+    /**
+     * Open a reader producing the structure of the defined source as a
+     * sequence of events, without building a node tree.
+     *
+     * <p>Loaders able to parse incrementally read events directly from their
+     * source. Others fall back to loading a full node tree and walking it.
+     * Any header is skipped. The returned reader must be closed by
+     * the caller.</p>
+     *
+     * @return a new event reader
+     * @throws ConfigurateException if the source could not be opened, or
+     *     could not be loaded by a loader without native event support
+     * @since 4.2.0
+     */
+    default ConfigurationEventReader stream() throws ConfigurateException {
+        return ConfigurationEventReader.of(this.load());
+    }
+
     /**
      * Attempts to load data from the defined source into a {@link ConfigurationReference}.
      * The returned reference will not reload automatically.
@@ -0,0 +1,75 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.loader;
+
+import static org.spongepowered.configurate.loader.ParsingException.UNKNOWN_POS;
+
+import org.spongepowered.configurate.ConfigurationNode;
+
+import java.util.Collections;
+
+/**
+ * Helpers for consuming {@link ConfigurationEventReader}s.
+ */
+final class EventReaders {
+
+    private EventReaders() {
+    }
+
+    /**
+     * Populate a node with the value starting at {@code event}.
+     *
+     * @param reader the reader, positioned at {@code event}
+     * @param event the first event of the value
+     * @param node the node to populate
+     * @throws ParsingException if the events do not describe a valid value
+     */
+    static void readValue(final ConfigurationEventReader reader, final ConfigurationEvent event,
+            final ConfigurationNode node) throws ParsingException {
+        switch (event) {
+            case SCALAR:
+                node.raw(reader.scalar());
+                break;
+            case START_MAP:
+                // ensure the type is preserved
+                node.raw(Collections.emptyMap());
+                ConfigurationEvent next;
+                while ((next = reader.next()) == ConfigurationEvent.KEY) {
+                    final ConfigurationNode child = node.node(reader.key());
+                    readValue(reader, reader.next(), child);
+                }
+                if (next != ConfigurationEvent.END_MAP) {
+                    throw unexpected(node, next);
+                }
+                break;
+            case START_LIST:
+                node.raw(Collections.emptyList());
+                ConfigurationEvent element;
+                while ((element = reader.next()) != ConfigurationEvent.END_LIST) {
+                    readValue(reader, element, node.appendListNode());
+                }
+                break;
+            default:
+                throw unexpected(node, event);
+        }
+    }
+
+    private static ParsingException unexpected(final ConfigurationNode node, final ConfigurationEvent event) {
+        return new ParsingException(node, UNKNOWN_POS, UNKNOWN_POS, null, "Expected a value but got " + event, null);
+    }
+
+}
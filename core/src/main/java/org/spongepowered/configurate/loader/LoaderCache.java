@@ -0,0 +1,117 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.loader;
+
+import static java.util.Objects.requireNonNull;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.util.FileFingerprint;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.function.Function;
+
+/**
+ * A cache of parsed node trees, keyed by the file they were parsed from.
+ *
+ * <p>A cache is attached to a loader with
+ * {@link AbstractConfigurationLoader.Builder#cache(LoaderCache)}. When loading
+ * from a {@link AbstractConfigurationLoader.Builder#path(Path) path}, the loader
+ * will compare the {@link FileFingerprint} of the file with the fingerprint
+ * stored in the cache, and only parse the file if its contents have changed.
+ * Errors reading from or writing to the cache are never fatal: the loader
+ * will instead fall back to parsing its source.</p>
+ *
+ * <p>Only the source file itself is fingerprinted. Changes to any other files
+ * a format may include while parsing will not invalidate a cached tree.</p>
+ *
+ * @since 4.2.0
+ */
+public interface LoaderCache {
+
+    /**
+     * Create a cache that holds trees in memory for the lifetime of the cache.
+     *
+     * @return a new in-memory cache
+     * @since 4.2.0
+     */
+    static LoaderCache memory() {
+        return new LoaderCaches.Memory();
+    }
+
+    /**
+     * Create a cache that stores trees in files in a directory, so they can
+     * be reused across restarts.
+     *
+     * <p>Each cached tree is written to a file in {@code directory} using a
+     * loader produced by {@code storage}. A format that can be read without
+     * text parsing, such as the binary format, will get the most benefit
+     * from caching.</p>
+     *
+     * @param directory the directory to store cached trees in
+     * @param storage a function creating a loader for a cache file
+     * @return a new persistent cache
+     * @since 4.2.0
+     */
+    static LoaderCache directory(final Path directory, final Function<Path, ? extends ConfigurationLoader<?>> storage) {
+        return new LoaderCaches.Directory(requireNonNull(directory, "directory"), requireNonNull(storage, "storage"));
+    }
+
+    /**
+     * Get the fingerprint the cached tree for a source was parsed with.
+     *
+     * @param source the absolute path of the source file
+     * @return the fingerprint, or {@code null} if nothing is cached
+     * @throws IOException if the cache could not be read
+     * @since 4.2.0
+     */
+    @Nullable FileFingerprint fingerprint(Path source) throws IOException;
+
+    /**
+     * Get the cached tree for a source.
+     *
+     * <p>The returned node may be shared, so it must not be modified.</p>
+     *
+     * @param source the absolute path of the source file
+     * @return the cached tree, or {@code null} if nothing is cached
+     * @throws IOException if the cache could not be read
+     * @since 4.2.0
+     */
+    @Nullable ConfigurationNode get(Path source) throws IOException;
+
+    /**
+     * Store a freshly parsed tree for a source.
+     *
+     * @param source the absolute path of the source file
+     * @param fingerprint the fingerprint of the source, taken before parsing
+     * @param node the parsed tree
+     * @throws IOException if the cache could not be written
+     * @since 4.2.0
+     */
+    void put(Path source, FileFingerprint fingerprint, ConfigurationNode node) throws IOException;
+
+    /**
+     * Remove any cached tree for a source.
+     *
+     * @param source the absolute path of the source file
+     * @throws IOException if the cache could not be written
+     * @since 4.2.0
+     */
+    void invalidate(Path source) throws IOException;
+
+}
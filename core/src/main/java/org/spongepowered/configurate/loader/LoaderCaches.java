@@ -0,0 +1,149 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.loader;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.util.FileFingerprint;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+final class LoaderCaches {
+
+    private LoaderCaches() {
+    }
+
+    static final class Memory implements LoaderCache {
+
+        private final ConcurrentHashMap<Path, Entry> entries = new ConcurrentHashMap<>();
+
+        @Override
+        public @Nullable FileFingerprint fingerprint(final Path source) {
+            final @Nullable Entry entry = this.entries.get(source);
+            return entry == null ? null : entry.fingerprint;
+        }
+
+        @Override
+        public @Nullable ConfigurationNode get(final Path source) {
+            final @Nullable Entry entry = this.entries.get(source);
+            return entry == null ? null : entry.node;
+        }
+
+        @Override
+        public void put(final Path source, final FileFingerprint fingerprint, final ConfigurationNode node) {
+            this.entries.put(source, new Entry(fingerprint, node.copy()));
+        }
+
+        @Override
+        public void invalidate(final Path source) {
+            this.entries.remove(source);
+        }
+
+        static final class Entry {
+            final FileFingerprint fingerprint;
+            final ConfigurationNode node;
+
+            Entry(final FileFingerprint fingerprint, final ConfigurationNode node) {
+                this.fingerprint = fingerprint;
+                this.node = node;
+            }
+        }
+
+    }
+
+    static final class Directory implements LoaderCache {
+
+        private static final int KEY_VERSION = 1;
+        private static final String KEY_EXTENSION = ".key";
+        private static final String TREE_EXTENSION = ".tree";
+
+        private final Path directory;
+        private final Function<Path, ? extends ConfigurationLoader<?>> storage;
+
+        Directory(final Path directory, final Function<Path, ? extends ConfigurationLoader<?>> storage) {
+            this.directory = directory;
+            this.storage = storage;
+        }
+
+        private String baseName(final Path source) {
+            return UUID.nameUUIDFromBytes(source.toString().getBytes(StandardCharsets.UTF_8)).toString();
+        }
+
+        private Path keyFile(final Path source) {
+            return this.directory.resolve(this.baseName(source) + KEY_EXTENSION);
+        }
+
+        private Path treeFile(final Path source) {
+            return this.directory.resolve(this.baseName(source) + TREE_EXTENSION);
+        }
+
+        @Override
+        public @Nullable FileFingerprint fingerprint(final Path source) throws IOException {
+            try (DataInputStream in = new DataInputStream(Files.newInputStream(this.keyFile(source)))) {
+                if (in.readInt() != KEY_VERSION || !source.toString().equals(in.readUTF())) {
+                    return null;
+                }
+                return FileFingerprint.of(in.readLong(), in.readLong(), in.readLong(), in.readLong());
+            } catch (final NoSuchFileException ex) {
+                return null;
+            }
+        }
+
+        @Override
+        public @Nullable ConfigurationNode get(final Path source) throws IOException {
+            final Path tree = this.treeFile(source);
+            if (!Files.isRegularFile(tree)) {
+                return null;
+            }
+            return this.storage.apply(tree).load();
+        }
+
+        @Override
+        public void put(final Path source, final FileFingerprint fingerprint, final ConfigurationNode node) throws IOException {
+            // remove the key first, so an interrupted write can never pair an old key with a new tree
+            final Path key = this.keyFile(source);
+            Files.deleteIfExists(key);
+            this.storage.apply(this.treeFile(source)).save(node);
+
+            try (DataOutputStream out = new DataOutputStream(AtomicFiles.atomicOutputStream(key))) {
+                out.writeInt(KEY_VERSION);
+                out.writeUTF(source.toString());
+                out.writeLong(fingerprint.size());
+                out.writeLong(fingerprint.modified());
+                out.writeLong(fingerprint.taken());
+                out.writeLong(fingerprint.checksum());
+            }
+        }
+
+        @Override
+        public void invalidate(final Path source) throws IOException {
+            Files.deleteIfExists(this.keyFile(source));
+            Files.deleteIfExists(this.treeFile(source));
+        }
+
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.loader;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.ConfigurationNode;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * An event reader walking an existing node tree.
+ */
+final class NodeEventReader implements ConfigurationEventReader {
+
+    private final Deque<Frame> stack = new ArrayDeque<>();
+    private @Nullable ConfigurationNode pending;
+    private @Nullable ConfigurationEvent current;
+    private @Nullable Object key;
+    private @Nullable Object scalar;
+
+    NodeEventReader(final @Nullable ConfigurationNode root) {
+        if (root != null && (root.isMap() || root.isList() || root.rawScalar() != null)) {
+            this.pending = root;
+        }
+    }
+
+    @Override
+    public ConfigurationEvent next() {
+        this.key = null;
+        this.scalar = null;
+        return this.current = this.advance();
+    }
+
+    private ConfigurationEvent advance() {
+        final @Nullable ConfigurationNode node = this.pending;
+        if (node != null) {
+            this.pending = null;
+            if (node.isMap()) {
+                this.stack.push(new Frame(node.childrenMap().entrySet().iterator(), true));
+                return ConfigurationEvent.START_MAP;
+            } else if (node.isList()) {
+                this.stack.push(new Frame(node.childrenList().iterator(), false));
+                return ConfigurationEvent.START_LIST;
+            } else {
+                this.scalar = node.rawScalar();
+                return ConfigurationEvent.SCALAR;
+            }
+        }
+
+        final @Nullable Frame frame = this.stack.peek();
+        if (frame == null) {
+            return ConfigurationEvent.END_DOCUMENT;
+        } else if (frame.children.hasNext()) {
+            final Object child = frame.children.next();
+            if (frame.map) {
+                final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) child;
+                this.key = entry.getKey();
+                this.pending = (ConfigurationNode) entry.getValue();
+                return ConfigurationEvent.KEY;
+            } else {
+                this.pending = (ConfigurationNode) child;
+                return this.advance();
+            }
+        } else {
+            this.stack.pop();
+            return frame.map ? ConfigurationEvent.END_MAP : ConfigurationEvent.END_LIST;
+        }
+    }
+
+    @Override
+    public Object key() {
+        if (this.current != ConfigurationEvent.KEY || this.key == null) {
+            throw new IllegalStateException("Current event is " + this.current + ", not KEY");
+        }
+        return this.key;
+    }
+
+    @Override
+    public @Nullable Object scalar() {
+        if (this.current != ConfigurationEvent.SCALAR) {
+            throw new IllegalStateException("Current event is " + this.current + ", not SCALAR");
+        }
+        return this.scalar;
+    }
+
+    @Override
+    public void close() {
+        this.stack.clear();
+        this.pending = null;
+    }
+
+    static final class Frame {
+
+        final Iterator<?> children;
+        final boolean map;
+
+        Frame(final Iterator<?> children, final boolean map) {
+            this.children = children;
+            this.map = map;
+        }
+
+    }
+
+}
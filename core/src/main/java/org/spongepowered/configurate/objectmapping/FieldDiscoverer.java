@@ -127,6 +127,21 @@ public interface FieldDiscoverer<I> {
         return ObjectFieldDiscoverer.EMPTY_CONSTRUCTOR_INSTANCE;
     }
 
+    /**
+     * Create a new discoverer for types processed at compile time.
+     *
+     * <p>This discoverer handles {@link ConfigSerializable} classes for
+     * which the {@code configurate-extra-processor} annotation processor
+     * has generated {@link GeneratedFields}, and declines all other types,
+     * leaving them to the reflective discoverers.</p>
+     *
+     * @return the generated field discoverer
+     * @since 4.2.0
+     */
+    static FieldDiscoverer<?> generated() {
+        return GeneratedFieldDiscoverer.INSTANCE;
+    }
+
     /**
      * Inspect the {@code target} type for fields to be supplied to
      * the {@code collector}.
@@ -0,0 +1,167 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.objectmapping;
+
+import io.leangen.geantyref.GenericTypeReflector;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.serialize.SerializationException;
+import org.spongepowered.configurate.util.Types;
+
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Discovers fields using classes generated at compile time.
+ *
+ * @see GeneratedFields
+ */
+final class GeneratedFieldDiscoverer implements FieldDiscoverer<@Nullable Object[]> {
+
+    static final GeneratedFieldDiscoverer INSTANCE = new GeneratedFieldDiscoverer();
+
+    private static final ClassValue<Optional<GeneratedFields<?>>> GENERATED = new ClassValue<Optional<GeneratedFields<?>>>() {
+        @Override
+        protected Optional<GeneratedFields<?>> computeValue(final Class<?> type) {
+            if (!type.isAnnotationPresent(ConfigSerializable.class)) {
+                return Optional.empty();
+            }
+
+            final Class<?> generated;
+            try {
+                generated = Class.forName(GeneratedFields.generatedClassName(type), true, type.getClassLoader());
+            } catch (final ClassNotFoundException ex) {
+                return Optional.empty(); // not processed, fall back to reflection
+            }
+
+            if (!GeneratedFields.class.isAssignableFrom(generated)) {
+                return Optional.empty();
+            }
+
+            try {
+                final GeneratedFields<?> fields = (GeneratedFields<?>) generated.getConstructor().newInstance();
+                return fields.type() == type ? Optional.of(fields) : Optional.empty();
+            } catch (final ReflectiveOperationException ex) {
+                throw new IllegalStateException("Unable to create generated fields for " + type, ex);
+            }
+        }
+    };
+
+    private GeneratedFieldDiscoverer() {
+    }
+
+    @Override
+    public <V> @Nullable InstanceFactory<@Nullable Object[]> discover(
+        final AnnotatedType target,
+        final FieldCollector<@Nullable Object[], V> collector
+    ) throws SerializationException {
+        // generated fields are only available for non-generic classes
+        if (!(target.getType() instanceof Class<?>)) {
+            return null;
+        }
+
+        final @Nullable GeneratedFields<?> generated = GENERATED.get((Class<?>) target.getType()).orElse(null);
+        // without a generated constructor reference, reflective discovery may still be able to create instances
+        if (generated == null || generated.instanceFactory() == null) {
+            return null;
+        }
+
+        return this.discover(target, generated, collector);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T, V> InstanceFactory<@Nullable Object[]> discover(
+        final AnnotatedType target,
+        final GeneratedFields<T> generated,
+        final FieldCollector<@Nullable Object[], V> collector
+    ) throws SerializationException {
+        final List<ObjectFieldDiscoverer.FieldAccessor> accessors = new ArrayList<>();
+        generated.describe(new GeneratedFields.FieldSink<T>() {
+            @Override
+            public void field(
+                final Class<?> declaringClass,
+                final String name,
+                final Type type,
+                final Function<T, @Nullable Object> getter,
+                final BiConsumer<T, Object> setter
+            ) throws SerializationException {
+                this.add(lookup(declaringClass, name), type, new ObjectFieldDiscoverer.FieldAccessor() {
+                    @Override
+                    public @Nullable Object get(final Object instance) {
+                        return getter.apply((T) instance);
+                    }
+
+                    @Override
+                    public void set(final Object instance, final Object value) {
+                        setter.accept((T) instance, value);
+                    }
+                });
+            }
+
+            @Override
+            public void reflectiveField(final Class<?> declaringClass, final String name, final Type type) throws SerializationException {
+                final Field field = lookup(declaringClass, name);
+                try {
+                    field.setAccessible(true);
+                    this.add(field, type, new ObjectFieldDiscoverer.HandleFieldAccessor(field));
+                } catch (final IllegalAccessException | SecurityException ex) {
+                    throw new SerializationException(declaringClass, "Unable to access field " + name, ex);
+                }
+            }
+
+            private void add(final Field field, final Type type, final ObjectFieldDiscoverer.FieldAccessor accessor) {
+                final int index = accessors.size();
+                accessors.add(accessor);
+
+                // type-use annotations are only preserved when the declared type needs no resolution
+                final AnnotatedType fieldType = field.getGenericType().equals(type)
+                    ? field.getAnnotatedType()
+                    : GenericTypeReflector.annotate(type, field.getAnnotatedType().getAnnotations());
+                collector.accept(field.getName(), fieldType, Types.combinedAnnotations(fieldType, field),
+                    (intermediate, val, implicitProvider) -> {
+                        if (val != null) {
+                            intermediate[index] = val;
+                        } else {
+                            intermediate[index] = new ObjectFieldDiscoverer.ImplicitProvider(implicitProvider);
+                        }
+                    }, instance -> accessor.get(instance));
+            }
+        });
+
+        return ObjectFieldDiscoverer.instanceFactory(
+            target,
+            accessors.toArray(new ObjectFieldDiscoverer.FieldAccessor[0]),
+            generated.instanceFactory(),
+            "Objects must have a zero-argument constructor to be able to create new instances"
+        );
+    }
+
+    static Field lookup(final Class<?> declaringClass, final String name) throws SerializationException {
+        try {
+            return declaringClass.getDeclaredField(name);
+        } catch (final NoSuchFieldException ex) {
+            throw new SerializationException(declaringClass, "Generated fields refer to missing field " + name
+                + ", the generated class may be out of date", ex);
+        }
+    }
+
+}
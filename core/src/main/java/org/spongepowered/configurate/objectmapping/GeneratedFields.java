@@ -0,0 +1,163 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.objectmapping;
+
+import static java.util.Objects.requireNonNull;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.serialize.SerializationException;
+
+import java.lang.reflect.Type;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Field metadata and accessors for one {@link ConfigSerializable} type,
+ * generated at compile time.
+ *
+ * <p>Subclasses are written by the {@code configurate-extra-processor}
+ * annotation processor, and should not be implemented by hand. The
+ * generated class for a type is named as described in
+ * {@link #generatedClassName(Class)}, and is located by the
+ * {@link FieldDiscoverer#generated() generated field discoverer}, which is
+ * part of the default object mapper factory.</p>
+ *
+ * <p>Using generated fields avoids scanning the type's class hierarchy and
+ * resolving generic field types at runtime, and lets most fields be read
+ * and written without reflection. Described fields are still passed
+ * through the factory's usual field handling, so constraints, processors
+ * and node resolvers apply to them exactly as they do to discovered
+ * fields. Private and final fields cannot be reached from generated code,
+ * and are described by name to be accessed reflectively.</p>
+ *
+ * @param <V> the mapped type
+ * @since 4.2.0
+ */
+public abstract class GeneratedFields<V> {
+
+    /**
+     * Suffix appended to the name of a type to get the name of its
+     * generated fields class.
+     *
+     * @since 4.2.0
+     */
+    public static final String CLASS_SUFFIX = "_ConfigurateFields";
+
+    private final Class<V> type;
+
+    /**
+     * Create a new instance for generated fields of {@code type}.
+     *
+     * @param type the mapped type
+     * @since 4.2.0
+     */
+    protected GeneratedFields(final Class<V> type) {
+        this.type = requireNonNull(type, "type");
+    }
+
+    /**
+     * Get the name of the class holding generated fields for a type.
+     *
+     * <p>This is the type's binary name followed by {@link #CLASS_SUFFIX}.
+     * The generated fields for {@code com.example.Outer.Inner} are in
+     * {@code com.example.Outer$Inner_ConfigurateFields}, so they do not
+     * collide with the fields of a top-level {@code Outer_Inner}.</p>
+     *
+     * @param type the mapped type
+     * @return the fully qualified name of the generated class
+     * @since 4.2.0
+     */
+    public static String generatedClassName(final Class<?> type) {
+        return type.getName() + CLASS_SUFFIX;
+    }
+
+    /**
+     * Get the type that this class holds fields for.
+     *
+     * @return the mapped type
+     * @since 4.2.0
+     */
+    public final Class<V> type() {
+        return this.type;
+    }
+
+    /**
+     * Get a supplier for new instances of the mapped type.
+     *
+     * <p>When this returns {@code null}, the generated fields are not used,
+     * and the type is discovered reflectively instead.</p>
+     *
+     * @return an instance supplier, or {@code null} if generated code
+     *     cannot create new instances
+     * @since 4.2.0
+     */
+    protected abstract @Nullable Supplier<V> instanceFactory();
+
+    /**
+     * Describe every field of the mapped type to {@code sink}, including
+     * fields declared in superclasses.
+     *
+     * @param sink the receiver for field information
+     * @throws SerializationException if a field could not be described
+     * @since 4.2.0
+     */
+    protected abstract void describe(FieldSink<V> sink) throws SerializationException;
+
+    /**
+     * A receiver for generated field information.
+     *
+     * @param <V> the mapped type
+     * @since 4.2.0
+     */
+    public interface FieldSink<V> {
+
+        /**
+         * Describe a field that the generated code can access directly.
+         *
+         * @param declaringClass the class declaring the field
+         * @param name the field name
+         * @param type the field type, resolved against the mapped type
+         * @param getter a function reading the field
+         * @param setter a function writing the field
+         * @throws SerializationException if the field is not present
+         * @since 4.2.0
+         */
+        void field(
+            Class<?> declaringClass,
+            String name,
+            Type type,
+            Function<V, @Nullable Object> getter,
+            BiConsumer<V, Object> setter
+        ) throws SerializationException;
+
+        /**
+         * Describe a field that must be accessed reflectively, because it
+         * is private, final, or otherwise inaccessible to generated code.
+         *
+         * @param declaringClass the class declaring the field
+         * @param name the field name
+         * @param type the field type, resolved against the mapped type
+         * @throws SerializationException if the field is not present or
+         *     cannot be made accessible
+         * @since 4.2.0
+         */
+        void reflectiveField(Class<?> declaringClass, String name, Type type) throws SerializationException;
+
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.objectmapping;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of object mappers.
+ *
+ * <p>Lookups never block. Insertions, which only happen when a new mapper has
+ * been created, are serialized so the cache can track insertion order and
+ * evict entries once it grows past its maximum size.</p>
+ */
+final class MapperCache {
+
+    private final ConcurrentHashMap<Type, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Type> order = new ArrayDeque<>(); // guarded by this.order
+    private final int maximumSize;
+    private final MapperCacheEviction eviction;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    MapperCache(final int maximumSize, final MapperCacheEviction eviction) {
+        this.maximumSize = maximumSize;
+        this.eviction = eviction;
+    }
+
+    /**
+     * Get a cached mapper, recording a hit or miss.
+     *
+     * @param type mapped type
+     * @return the cached mapper, if any
+     */
+    @Nullable ObjectMapper<?> get(final Type type) {
+        final @Nullable Entry entry = this.entries.get(type);
+        if (entry == null) {
+            this.misses.increment();
+            return null;
+        }
+        this.hits.increment();
+        // only write when necessary, to avoid contending on the entry's cache line
+        if (this.eviction == MapperCacheEviction.LEAST_RECENTLY_USED && !entry.referenced) {
+            entry.referenced = true;
+        }
+        return entry.mapper;
+    }
+
+    /**
+     * Add a newly created mapper to the cache.
+     *
+     * <p>If another thread has cached a mapper for the same type in the
+     * meantime, that mapper is returned instead so all callers observe
+     * the same instance.</p>
+     *
+     * @param type mapped type
+     * @param mapper created mapper
+     * @return the mapper now cached for the type
+     */
+    ObjectMapper<?> put(final Type type, final ObjectMapper<?> mapper) {
+        synchronized (this.order) {
+            final @Nullable Entry existing = this.entries.putIfAbsent(type, new Entry(mapper));
+            if (existing != null) {
+                return existing.mapper;
+            }
+            this.order.add(type);
+            this.evict();
+            return mapper;
+        }
+    }
+
+    /**
+     * Remove entries until the cache is within its maximum size.
+     *
+     * <p>For LRU eviction this is the CLOCK algorithm: recently used entries
+     * have their reference bit cleared and are given another pass, so an
+     * entry is only discarded once it has gone a full cycle unused.</p>
+     */
+    private void evict() {
+        // hits may set reference bits again while we scan, so give up on them after two full passes
+        int secondChances = 2 * this.order.size();
+        while (this.entries.size() > this.maximumSize) {
+            final @Nullable Type candidate = this.order.poll();
+            if (candidate == null) {
+                return;
+            }
+            final @Nullable Entry entry = this.entries.get(candidate);
+            if (entry == null) {
+                continue;
+            }
+            if (entry.referenced && secondChances-- > 0) {
+                entry.referenced = false;
+                this.order.add(candidate);
+                continue;
+            }
+            this.entries.remove(candidate);
+            this.evictions.increment();
+        }
+    }
+
+    MapperCacheStatistics statistics() {
+        return MapperCacheStatistics.of(this.hits.sum(), this.misses.sum(), this.evictions.sum(), this.entries.size());
+    }
+
+    static final class Entry {
+
+        final ObjectMapper<?> mapper;
+        volatile boolean referenced;
+
+        Entry(final ObjectMapper<?> mapper) {
+            this.mapper = mapper;
+        }
+
+    }
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.objectmapping;
+
+/**
+ * Policies for choosing which mappers to discard when the cache of an
+ * {@link ObjectMapper.Factory} is full.
+ *
+ * @since 4.2.0
+ */
+public enum MapperCacheEviction {
+
+    /**
+     * Discard the mapper that has gone unused for the longest time.
+     *
+     * <p>Recency is approximated with a single reference bit per mapper, so
+     * cache hits never need to take a lock.</p>
+     *
+     * @since 4.2.0
+     */
+    LEAST_RECENTLY_USED,
+
+    /**
+     * Discard the mapper that was created first, regardless of use.
+     *
+     * <p>This performs no bookkeeping on cache hits at all.</p>
+     *
+     * @since 4.2.0
+     */
+    FIRST_IN_FIRST_OUT
+
+}
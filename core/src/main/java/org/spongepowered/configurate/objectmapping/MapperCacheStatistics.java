@@ -0,0 +1,104 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.objectmapping;
+
+import com.google.auto.value.AutoValue;
+
+/**
+ * A snapshot of the activity of an object mapper factory's mapper cache.
+ *
+ * @since 4.2.0
+ */
+@AutoValue
+public abstract class MapperCacheStatistics {
+
+    private static final MapperCacheStatistics EMPTY = of(0, 0, 0, 0);
+
+    /**
+     * Get statistics for a factory that has performed no lookups.
+     *
+     * @return empty statistics
+     * @since 4.2.0
+     */
+    public static MapperCacheStatistics empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Create a new statistics snapshot.
+     *
+     * @param hits number of lookups served from the cache
+     * @param misses number of lookups that had to create a mapper
+     * @param evictions number of mappers discarded to stay within size
+     * @param size number of mappers currently cached
+     * @return a new snapshot
+     * @since 4.2.0
+     */
+    public static MapperCacheStatistics of(final long hits, final long misses, final long evictions, final int size) {
+        return new AutoValue_MapperCacheStatistics(hits, misses, evictions, size);
+    }
+
+    MapperCacheStatistics() {
+        // for auto-value use
+    }
+
+    /**
+     * The number of lookups that were served by an already cached mapper.
+     *
+     * @return hit count
+     * @since 4.2.0
+     */
+    public abstract long hits();
+
+    /**
+     * The number of lookups that had to create a new mapper.
+     *
+     * @return miss count
+     * @since 4.2.0
+     */
+    public abstract long misses();
+
+    /**
+     * The number of mappers discarded to keep the cache within
+     * its maximum size.
+     *
+     * @return eviction count
+     * @since 4.2.0
+     */
+    public abstract long evictions();
+
+    /**
+     * The number of mappers in the cache when this snapshot was taken.
+     *
+     * @return cache size
+     * @since 4.2.0
+     */
+    public abstract int size();
+
+    /**
+     * The fraction of lookups served from the cache.
+     *
+     * @return hit rate between {@code 0} and {@code 1}, or {@code 1} if
+     *     no lookups have been performed
+     * @since 4.2.0
+     */
+    public final double hitRate() {
+        final long total = this.hits() + this.misses();
+        return total == 0 ? 1d : (double) this.hits() / total;
+    }
+
+}
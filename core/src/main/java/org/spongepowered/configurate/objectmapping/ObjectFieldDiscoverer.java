@@ -25,29 +25,47 @@ import org.spongepowered.configurate.serialize.SerializationException;
 import org.spongepowered.configurate.util.CheckedFunction;
 import org.spongepowered.configurate.util.Types;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Modifier;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Supplier;
 
-class ObjectFieldDiscoverer implements FieldDiscoverer<Map<Field, Object>> {
+/**
+ * Discovers the instance fields of an object.
+ *
+ * <p>Field access goes through method handles resolved once, at discovery
+ * time. Loaded values are collected in an array indexed by field position,
+ * so loading an object allocates no per-field bookkeeping.</p>
+ */
+class ObjectFieldDiscoverer implements FieldDiscoverer<@Nullable Object[]> {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+    private static final MethodHandle FIELD_SET;
+
+    static {
+        try {
+            FIELD_SET = LOOKUP.findVirtual(Field.class, "set", SETTER_TYPE);
+        } catch (final NoSuchMethodException | IllegalAccessException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
 
     static final ObjectFieldDiscoverer EMPTY_CONSTRUCTOR_INSTANCE = new ObjectFieldDiscoverer(type -> {
         try {
             final Constructor<?> constructor;
             constructor = erase(type.getType()).getDeclaredConstructor();
             constructor.setAccessible(true);
-            return () -> {
-                try {
-                    return constructor.newInstance();
-                } catch (final InstantiationException | IllegalAccessException | InvocationTargetException e) {
-                    throw new RuntimeException(e);
-                }
-            };
+            return constructorSupplier(constructor);
         } catch (final NoSuchMethodException e) {
             return null;
         }
@@ -71,9 +89,35 @@ class ObjectFieldDiscoverer implements FieldDiscoverer<Map<Field, Object>> {
         this.requiresInstanceCreation = requiresInstanceCreation;
     }
 
+    private static Supplier<Object> constructorSupplier(final Constructor<?> constructor) {
+        final MethodHandle handle;
+        try {
+            handle = LOOKUP.unreflectConstructor(constructor).asType(CONSTRUCTOR_TYPE);
+        } catch (final IllegalAccessException ex) {
+            // fall back to reflection, which reports errors at construction time
+            return () -> {
+                try {
+                    return constructor.newInstance();
+                } catch (final InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                    throw new RuntimeException(e);
+                }
+            };
+        }
+
+        return () -> {
+            try {
+                return (Object) handle.invokeExact();
+            } catch (final RuntimeException | Error ex) {
+                throw ex;
+            } catch (final Throwable ex) {
+                throw new RuntimeException(ex);
+            }
+        };
+    }
+
     @Override
-    public <V> @Nullable InstanceFactory<Map<Field, Object>> discover(final AnnotatedType target,
-            final FieldCollector<Map<Field, Object>, V> collector) throws SerializationException {
+    public <V> @Nullable InstanceFactory<@Nullable Object[]> discover(final AnnotatedType target,
+            final FieldCollector<@Nullable Object[], V> collector) throws SerializationException {
         final Class<?> clazz = erase(target.getType());
         if (clazz.isInterface()) {
             throw new SerializationException(target.getType(), "ObjectMapper can only work with concrete types");
@@ -84,38 +128,67 @@ class ObjectFieldDiscoverer implements FieldDiscoverer<Map<Field, Object>> {
             return null;
         }
 
+        final List<FieldAccessor> accessorList = new ArrayList<>();
         AnnotatedType collectType = target;
         Class<?> collectClass = clazz;
         while (true) {
-            collectFields(collectType, collector);
+            try {
+                collectFields(collectType, collector, accessorList);
+            } catch (final IllegalAccessException ex) {
+                throw new SerializationException(collectType.getType(), "Unable to access field in type", ex);
+            }
             collectClass = collectClass.getSuperclass();
             if (collectClass.equals(Object.class)) {
                 break;
             }
             collectType = getExactSuperType(collectType, collectClass);
         }
+        return instanceFactory(target, accessorList.toArray(new FieldAccessor[0]), maker, this.instanceUnavailableErrorMessage);
+    }
 
-        return new MutableInstanceFactory<Map<Field, Object>>() {
+    /**
+     * Create an instance factory that applies values collected in an array
+     * intermediate, indexed by position in {@code accessors}.
+     *
+     * @param target the type being created
+     * @param accessors accessors for every discovered field
+     * @param maker instance supplier, if instances can be created
+     * @param instanceUnavailableErrorMessage message for when {@code maker}
+     *     is absent or produces no instance
+     * @return a new instance factory
+     */
+    static MutableInstanceFactory<@Nullable Object[]> instanceFactory(
+        final AnnotatedType target,
+        final FieldAccessor[] accessors,
+        final @Nullable Supplier<?> maker,
+        final String instanceUnavailableErrorMessage
+    ) {
+        return new MutableInstanceFactory<@Nullable Object[]>() {
 
             @Override
-            public Map<Field, Object> begin() {
-                return new HashMap<>();
+            public @Nullable Object[] begin() {
+                return new Object[accessors.length];
             }
 
             @Override
-            public void complete(final Object instance, final Map<Field, Object> intermediate) throws SerializationException {
-                for (final Map.Entry<Field, Object> entry : intermediate.entrySet()) {
+            public void complete(final Object instance, final @Nullable Object[] intermediate) throws SerializationException {
+                for (int i = 0; i < accessors.length; ++i) {
+                    final @Nullable Object value = intermediate[i];
+                    if (value == null) { // not present in the source
+                        continue;
+                    }
+
                     try {
                         // Handle implicit field initialization by detecting any existing information in the object
-                        if (entry.getValue() instanceof ImplicitProvider) {
-                            final @Nullable Object implicit = ((ImplicitProvider) entry.getValue()).provider.get();
+                        if (value instanceof ImplicitProvider) {
+                            final @Nullable Object implicit = ((ImplicitProvider) value).provider.get();
                             if (implicit != null) {
-                                if (entry.getKey().get(instance) == null) {
-                                    entry.getKey().set(instance, implicit);
+                                if (accessors[i].get(instance) == null) {
+                                    accessors[i].set(instance, implicit);
                                 }
                             }
                         } else {
-                            entry.getKey().set(instance, entry.getValue());
+                            accessors[i].set(instance, value);
                         }
                     } catch (final IllegalAccessException e) {
                         throw new SerializationException(target.getType(), e);
@@ -124,10 +197,10 @@ class ObjectFieldDiscoverer implements FieldDiscoverer<Map<Field, Object>> {
             }
 
             @Override
-            public Object complete(final Map<Field, Object> intermediate) throws SerializationException {
+            public Object complete(final @Nullable Object[] intermediate) throws SerializationException {
                 final Object instance = maker == null ? null : maker.get();
                 if (instance == null) {
-                    throw new SerializationException(target.getType(), ObjectFieldDiscoverer.this.instanceUnavailableErrorMessage);
+                    throw new SerializationException(target.getType(), instanceUnavailableErrorMessage);
                 }
                 complete(instance, intermediate);
                 return instance;
@@ -141,23 +214,86 @@ class ObjectFieldDiscoverer implements FieldDiscoverer<Map<Field, Object>> {
         };
     }
 
-    private void collectFields(final AnnotatedType clazz, final FieldCollector<Map<Field, Object>, ?> fieldMaker) {
+    private void collectFields(
+        final AnnotatedType clazz,
+        final FieldCollector<@Nullable Object[], ?> fieldMaker,
+        final List<FieldAccessor> accessors
+    ) throws IllegalAccessException {
         for (final Field field : erase(clazz.getType()).getDeclaredFields()) {
             if ((field.getModifiers() & (Modifier.STATIC | Modifier.TRANSIENT)) != 0) {
                 continue;
             }
 
             field.setAccessible(true);
+            final FieldAccessor accessor = new HandleFieldAccessor(field);
+            final int index = accessors.size();
+            accessors.add(accessor);
+
             final AnnotatedType fieldType = getFieldType(field, clazz);
             fieldMaker.accept(field.getName(), fieldType, Types.combinedAnnotations(fieldType, field),
                               (intermediate, val, implicitProvider) -> {
                     if (val != null) {
-                        intermediate.put(field, val);
+                        intermediate[index] = val;
                     } else {
-                        intermediate.put(field, new ImplicitProvider(implicitProvider));
+                        intermediate[index] = new ImplicitProvider(implicitProvider);
                     }
-                }, field::get);
+                }, accessor::get);
+        }
+    }
+
+    /**
+     * Read and write access to one field of an object.
+     */
+    interface FieldAccessor {
+
+        @Nullable Object get(Object instance) throws IllegalAccessException;
+
+        void set(Object instance, Object value) throws IllegalAccessException;
+
+    }
+
+    /**
+     * Method handles to read and write one field.
+     */
+    static final class HandleFieldAccessor implements FieldAccessor {
+
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        HandleFieldAccessor(final Field field) throws IllegalAccessException {
+            this.getter = LOOKUP.unreflectGetter(field).asType(GETTER_TYPE);
+            MethodHandle setter;
+            try {
+                setter = LOOKUP.unreflectSetter(field);
+            } catch (final IllegalAccessException ex) {
+                // final fields can not be set through method handles on older Java versions
+                setter = FIELD_SET.bindTo(field);
+            }
+            this.setter = setter.asType(SETTER_TYPE);
         }
+
+        @Override
+        public @Nullable Object get(final Object instance) throws IllegalAccessException {
+            try {
+                return (Object) this.getter.invokeExact(instance);
+            } catch (final IllegalAccessException | RuntimeException | Error ex) {
+                throw ex;
+            } catch (final Throwable ex) {
+                throw new RuntimeException(ex);
+            }
+        }
+
+        @Override
+        public void set(final Object instance, final Object value) throws IllegalAccessException {
+            try {
+                this.setter.invokeExact(instance, value);
+            } catch (final IllegalAccessException | RuntimeException | Error ex) {
+                throw ex;
+            } catch (final Throwable ex) {
+                throw new RuntimeException(ex);
+            }
+        }
+
     }
 
     static class ImplicitProvider {
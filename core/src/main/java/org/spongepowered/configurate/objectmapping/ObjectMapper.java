@@ -241,6 +241,19 @@ public interface ObjectMapper<V> {
          */
         TypeSerializer<Object> asTypeSerializer();
 
+        /**
+         * Get a snapshot of the activity of this factory's mapper cache.
+         *
+         * <p>Factories that do not cache mappers report
+         * {@link MapperCacheStatistics#empty() empty statistics}.</p>
+         *
+         * @return cache statistics
+         * @since 4.2.0
+         */
+        default MapperCacheStatistics cacheStatistics() {
+            return MapperCacheStatistics.empty();
+        }
+
         /**
          * A builder for a configured factory producing object mappers.
          *
@@ -361,6 +374,34 @@ public interface ObjectMapper<V> {
              */
             Builder addPostProcessor(PostProcessor.Factory factory);
 
+            /**
+             * Set the maximum number of mappers the factory will cache.
+             *
+             * <p>Once more types than this have been mapped, mappers are
+             * discarded according to the
+             * {@link #mapperCacheEviction(MapperCacheEviction) eviction policy}
+             * and must be recreated when next requested. By default, up to 256
+             * mappers are cached.</p>
+             *
+             * @param maximumSize the maximum cache size, at least 1
+             * @return this builder
+             * @since 4.2.0
+             */
+            Builder mapperCacheSize(int maximumSize);
+
+            /**
+             * Set the policy choosing which mappers to discard once the
+             * mapper cache is full.
+             *
+             * <p>By default, the {@link MapperCacheEviction#LEAST_RECENTLY_USED
+             * least recently used} mapper is discarded.</p>
+             *
+             * @param eviction the eviction policy
+             * @return this builder
+             * @since 4.2.0
+             */
+            Builder mapperCacheEviction(MapperCacheEviction eviction);
+
             /**
              * Create a new factory using the current configuration.
              *
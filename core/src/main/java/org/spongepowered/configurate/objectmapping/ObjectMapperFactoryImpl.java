@@ -50,7 +50,6 @@ import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -59,16 +58,9 @@ import java.util.Map;
  */
 final class ObjectMapperFactoryImpl implements ObjectMapper.Factory, TypeSerializer<Object> {
 
-    private static final int MAXIMUM_MAPPERS_SIZE = 64;
+    static final int DEFAULT_MAPPER_CACHE_SIZE = 256;
 
-    private final Map<Type, ObjectMapper<?>> mappers = new LinkedHashMap<Type, ObjectMapper<?>>() {
-        private static final long serialVersionUID = 1838651306004330732L;
-
-        @Override
-        protected boolean removeEldestEntry(final Map.Entry<Type, ObjectMapper<?>> eldest) {
-            return size() > MAXIMUM_MAPPERS_SIZE;
-        }
-    };
+    private final MapperCache mappers;
     private final List<NodeResolver.Factory> resolverFactories;
     private final List<FieldDiscoverer<?>> fieldDiscoverers;
     private final Map<Class<? extends Annotation>, List<Definition<?, ?, ? extends Constraint.Factory<?, ?>>>> constraints;
@@ -76,6 +68,7 @@ final class ObjectMapperFactoryImpl implements ObjectMapper.Factory, TypeSeriali
     private final List<PostProcessor.Factory> postProcessors;
 
     ObjectMapperFactoryImpl(final Builder builder) {
+        this.mappers = new MapperCache(builder.mapperCacheSize, builder.mapperCacheEviction);
         this.resolverFactories = new ArrayList<>(builder.resolvers);
         Collections.reverse(this.resolverFactories);
 
@@ -113,9 +106,17 @@ final class ObjectMapperFactoryImpl implements ObjectMapper.Factory, TypeSeriali
             throw new SerializationException(type, "Raw types are not supported!");
         }
 
-        synchronized (this.mappers) {
-            return computeFromMap(this.mappers, type, this::computeMapper);
+        final @Nullable ObjectMapper<?> cached = this.mappers.get(type);
+        if (cached != null) {
+            return cached;
         }
+        // computed outside of any lock, so concurrent misses for one type may each create a mapper
+        return this.mappers.put(type, this.computeMapper(type));
+    }
+
+    @Override
+    public MapperCacheStatistics cacheStatistics() {
+        return this.mappers.statistics();
     }
 
     @Override
@@ -287,46 +288,6 @@ final class ObjectMapperFactoryImpl implements ObjectMapper.Factory, TypeSeriali
         }
     }
 
-    // Helpers to get value from map
-
-    /**
-     * Lightweight wrapper exception that doesn't need to track its
-     * own stacktrace.
-     */
-    private static class StacklessWrapper extends RuntimeException {
-
-        private static final long serialVersionUID = 1759625646560465255L;
-
-        StacklessWrapper(final Throwable cause) {
-            super(cause);
-        }
-
-        @Override
-        public Throwable fillInStackTrace() {
-            // no-op
-            return this;
-        }
-    }
-
-    @SuppressWarnings("unchecked") // for E cast
-    private static <K, V, E extends Exception> V computeFromMap(final Map<K, V> map, final K key, final CheckedFunction<K, V, E> creator) throws E {
-        try {
-            return map.computeIfAbsent(key, k -> {
-                try {
-                    return creator.apply(k);
-                } catch (final Exception e) {
-                    if (e instanceof RuntimeException) {
-                        throw (RuntimeException) e;
-                    } else {
-                        throw new StacklessWrapper(e);
-                    }
-                }
-            });
-        } catch (final StacklessWrapper ex) {
-            throw (E) ex.getCause();
-        }
-    }
-
     static ObjectMapper.Factory.Builder defaultBuilder() {
         return new Builder()
                 .defaultNamingScheme(NamingSchemes.LOWER_CASE_DASHED)
@@ -342,7 +303,8 @@ final class ObjectMapperFactoryImpl implements ObjectMapper.Factory, TypeSeriali
                 .addPostProcessor(PostProcessor.methodsAnnotatedPostProcess())
                 // Field discovers //
                 .addDiscoverer(FieldDiscoverer.emptyConstructorObject())
-                .addDiscoverer(FieldDiscoverer.record());
+                .addDiscoverer(FieldDiscoverer.record())
+                .addDiscoverer(FieldDiscoverer.generated());
     }
 
     /**
@@ -358,6 +320,8 @@ final class ObjectMapperFactoryImpl implements ObjectMapper.Factory, TypeSeriali
         private final List<Definition<?, ?, ? extends Constraint.Factory<?, ?>>> constraints = new ArrayList<>();
         private final List<Definition<?, ?, ? extends Processor.Factory<?, ?>>> processors = new ArrayList<>();
         private final List<PostProcessor.Factory> postProcessors = new ArrayList<>();
+        private int mapperCacheSize = DEFAULT_MAPPER_CACHE_SIZE;
+        private MapperCacheEviction mapperCacheEviction = MapperCacheEviction.LEAST_RECENTLY_USED;
 
         @Override
         public ObjectMapper.Factory.Builder defaultNamingScheme(final NamingScheme scheme) {
@@ -397,6 +361,21 @@ final class ObjectMapperFactoryImpl implements ObjectMapper.Factory, TypeSeriali
             return this;
         }
 
+        @Override
+        public Builder mapperCacheSize(final int maximumSize) {
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("Mapper cache size must be at least 1, but was " + maximumSize);
+            }
+            this.mapperCacheSize = maximumSize;
+            return this;
+        }
+
+        @Override
+        public Builder mapperCacheEviction(final MapperCacheEviction eviction) {
+            this.mapperCacheEviction = requireNonNull(eviction, "eviction");
+            return this;
+        }
+
         @Override
         public ObjectMapper.Factory build() {
             return new ObjectMapperFactoryImpl(this);
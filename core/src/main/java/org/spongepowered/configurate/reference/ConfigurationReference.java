@@ -73,7 +73,8 @@ public interface ConfigurationReference<N extends ConfigurationNode> extends Aut
     static <T extends ScopedConfigurationNode<T>> ConfigurationReference<T>
             watching(final Function<Path, ConfigurationLoader<? extends T>> loaderCreator, final Path file, final WatchServiceListener listener)
             throws ConfigurateException {
-        final WatchingConfigurationReference<T> ret = new WatchingConfigurationReference<>(loaderCreator.apply(file), listener.taskExecutor);
+        final WatchingConfigurationReference<T> ret = new WatchingConfigurationReference<>(loaderCreator.apply(file), file,
+            listener.taskExecutor);
         ret.load();
         ret.disposable(listener.listenToFile(file, ret));
 
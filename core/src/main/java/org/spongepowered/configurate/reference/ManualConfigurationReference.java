@@ -23,6 +23,7 @@ import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.ConfigurateException;
 import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.ConfigurationSnapshot;
 import org.spongepowered.configurate.NodePath;
 import org.spongepowered.configurate.ScopedConfigurationNode;
 import org.spongepowered.configurate.loader.ConfigurationLoader;
@@ -43,6 +44,10 @@ class ManualConfigurationReference<N extends ScopedConfigurationNode<N>> impleme
     private final ConfigurationLoader<? extends N> loader;
     protected final Processor.TransactionalIso<N> updateListener;
     protected final Processor.Iso<Map.Entry<ErrorPhase, Throwable>> errorListener;
+    // A snapshot of the last published node, shared by all value references
+    private final Object snapshotLock = new Object();
+    private @Nullable N snapshotSource;
+    private @Nullable ConfigurationSnapshot snapshot;
 
     ManualConfigurationReference(final ConfigurationLoader<? extends N> loader, final Executor taskExecutor) {
         this.loader = loader;
@@ -58,7 +63,7 @@ class ManualConfigurationReference<N extends ScopedConfigurationNode<N>> impleme
     @Override
     public final void load() throws ConfigurateException {
         synchronized (this.loader) {
-            this.updateListener.submit(this.node = this.loader.load());
+            this.publish(this.node = this.loader.load());
         }
     }
 
@@ -78,15 +83,56 @@ class ManualConfigurationReference<N extends ScopedConfigurationNode<N>> impleme
                 this.node = (N) newNode;
                 this.loader.save(this.node);
                 if (newNode != existing) {
-                    this.updateListener.submit(this.node);
+                    this.publish(this.node);
                 }
             } else {
                 this.loader.save(this.node.from(newNode));
-                this.updateListener.submit(this.node);
+                this.publish(this.node);
             }
         }
     }
 
+    private void publish(final N node) {
+        synchronized (this.snapshotLock) {
+            this.snapshotSource = node;
+            this.snapshot = null;
+        }
+        this.updateListener.submit(node);
+    }
+
+    /**
+     * Get a snapshot of {@code node}, as published to update subscribers.
+     *
+     * <p>The snapshot of the most recently published node is only taken
+     * once, no matter how many value references compare against it.</p>
+     *
+     * @param node a published node
+     * @return a snapshot of the node
+     */
+    final ConfigurationSnapshot snapshot(final N node) {
+        synchronized (this.snapshotLock) {
+            if (node != this.snapshotSource) {
+                // superseded by a later update, or never published
+                return node.snapshot();
+            }
+            @Nullable ConfigurationSnapshot snapshot = this.snapshot;
+            if (snapshot == null) {
+                snapshot = this.snapshot = node.snapshot();
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * Discard the shared snapshot after the published node has been
+     * modified in place.
+     */
+    final void invalidateSnapshot() {
+        synchronized (this.snapshotLock) {
+            this.snapshot = null;
+        }
+    }
+
     @Override
     public final Publisher<N> saveAsync() {
         return Publisher.execute(() -> {
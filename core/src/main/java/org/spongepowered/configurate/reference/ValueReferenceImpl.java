@@ -19,12 +19,16 @@ package org.spongepowered.configurate.reference;
 import io.leangen.geantyref.TypeToken;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationDiff;
+import org.spongepowered.configurate.ConfigurationSnapshot;
 import org.spongepowered.configurate.NodePath;
 import org.spongepowered.configurate.ScopedConfigurationNode;
 import org.spongepowered.configurate.reactive.Disposable;
+import org.spongepowered.configurate.reactive.Processor;
 import org.spongepowered.configurate.reactive.Publisher;
 import org.spongepowered.configurate.reactive.Subscriber;
 import org.spongepowered.configurate.reactive.TransactionFailedException;
+import org.spongepowered.configurate.reactive.TransactionalSubscriber;
 import org.spongepowered.configurate.reference.ConfigurationReference.ErrorPhase;
 import org.spongepowered.configurate.serialize.SerializationException;
 import org.spongepowered.configurate.serialize.TypeSerializer;
@@ -41,6 +45,8 @@ class ValueReferenceImpl<T extends @Nullable Object, N extends ScopedConfigurati
     private final TypeToken<T> type;
     private final TypeSerializer<T> serializer;
     private final Publisher.Cached<@Nullable T> deserialized;
+    // The subtree the current value was read from, or null if it must be re-read
+    private volatile @Nullable ConfigurationSnapshot lastSeen;
 
     ValueReferenceImpl(final ManualConfigurationReference<N> root, final NodePath path, final TypeToken<T> type,
                        final @Nullable T def) throws SerializationException {
@@ -53,14 +59,10 @@ class ValueReferenceImpl<T extends @Nullable Object, N extends ScopedConfigurati
         }
         this.serializer = serializer;
 
-        this.deserialized = root.updateListener.map(n -> {
-            try {
-                return deserializedValueFrom(n, def);
-            } catch (final SerializationException e) {
-                root.errorListener.submit(UnmodifiableCollections.immutableMapEntry(ErrorPhase.VALUE, e));
-                throw new TransactionFailedException(e);
-            }
-        }).cache(deserializedValueFrom(root.node(), def));
+        final Processor.TransactionalIso<@Nullable T> values = Processor.createTransactional(root.updateListener.executor());
+        root.updateListener.subscribe(new ChangeFilter(values, def));
+        this.lastSeen = snapshotOf(root.node());
+        this.deserialized = values.cache(deserializedValueFrom(root.node(), def));
     }
 
     ValueReferenceImpl(final ManualConfigurationReference<N> root, final NodePath path, final Class<T> type,
@@ -68,6 +70,34 @@ class ValueReferenceImpl<T extends @Nullable Object, N extends ScopedConfigurati
         this(root, path, TypeToken.get(type), def);
     }
 
+    /**
+     * Capture the referenced subtree of {@code parent}, to compare against
+     * later updates.
+     *
+     * <p>The subtree is taken from the root reference's shared snapshot of
+     * {@code parent}, so a reload is only captured once. Missing subtrees are
+     * never captured, so that defaults are re-applied to every newly loaded
+     * node.</p>
+     *
+     * @param parent the root node
+     * @return a snapshot of the referenced subtree, if it is present
+     */
+    private @Nullable ConfigurationSnapshot snapshotOf(final N parent) {
+        final ConfigurationSnapshot subtree = this.root.snapshot(parent).node(this.path);
+        return subtree.isNull() ? null : subtree;
+    }
+
+    /**
+     * Capture the referenced subtree after this reference has written to it.
+     *
+     * @return a snapshot of the referenced subtree, if it is present
+     */
+    private @Nullable ConfigurationSnapshot snapshotAfterWrite() {
+        this.root.invalidateSnapshot();
+        final N node = this.node();
+        return node.virtual() ? null : node.snapshot();
+    }
+
     private @Nullable T deserializedValueFrom(final N parent, final @Nullable T defaultVal) throws SerializationException {
         final N node = parent.node(this.path);
         if (!node.virtual()) {
@@ -89,6 +119,7 @@ class ValueReferenceImpl<T extends @Nullable Object, N extends ScopedConfigurati
     public boolean set(final @Nullable T value) {
         try {
             this.serializer.serialize(this.type.getType(), value, node());
+            this.lastSeen = this.snapshotAfterWrite();
             this.deserialized.submit(value);
             return true;
         } catch (final SerializationException e) {
@@ -114,6 +145,7 @@ class ValueReferenceImpl<T extends @Nullable Object, N extends ScopedConfigurati
     public Publisher<Boolean> setAndSaveAsync(final @Nullable T value) {
         return Publisher.execute(() -> {
             this.serializer.serialize(this.type.getType(), value, node());
+            this.lastSeen = this.snapshotAfterWrite();
             this.deserialized.submit(value);
             this.root.save();
             return true;
@@ -136,6 +168,7 @@ class ValueReferenceImpl<T extends @Nullable Object, N extends ScopedConfigurati
             final @Nullable T orig = get();
             final T updated = action.apply(orig);
             this.serializer.serialize(this.type.getType(), updated, node());
+            this.lastSeen = this.snapshotAfterWrite();
             this.deserialized.submit(updated);
             this.root.save();
             return true;
@@ -162,4 +195,73 @@ class ValueReferenceImpl<T extends @Nullable Object, N extends ScopedConfigurati
         return this.deserialized.executor();
     }
 
+    /**
+     * Receives updates from the root reference, only deserializing and
+     * passing on a value when the referenced subtree has changed since the
+     * value was last read.
+     */
+    private final class ChangeFilter implements TransactionalSubscriber<N> {
+
+        private final Processor.TransactionalIso<@Nullable T> values;
+        private final @Nullable T def;
+        private boolean pending;
+        private @Nullable ConfigurationSnapshot pendingSnapshot;
+
+        ChangeFilter(final Processor.TransactionalIso<@Nullable T> values, final @Nullable T def) {
+            this.values = values;
+            this.def = def;
+        }
+
+        @Override
+        public void beginTransaction(final N newValue) throws TransactionFailedException {
+            final @Nullable ConfigurationSnapshot previous = ValueReferenceImpl.this.lastSeen;
+            final @Nullable ConfigurationSnapshot current = snapshotOf(newValue);
+            if (previous != null && current != null && ConfigurationDiff.between(previous, current).empty()) {
+                this.pending = false;
+                return;
+            }
+
+            final @Nullable T value;
+            try {
+                value = deserializedValueFrom(newValue, this.def);
+            } catch (final SerializationException e) {
+                ValueReferenceImpl.this.root.errorListener.submit(UnmodifiableCollections.immutableMapEntry(ErrorPhase.VALUE, e));
+                throw new TransactionFailedException(e);
+            }
+            this.values.beginTransaction(value);
+            this.pendingSnapshot = current;
+            this.pending = true;
+        }
+
+        @Override
+        public void commit() {
+            if (this.pending) {
+                this.pending = false;
+                ValueReferenceImpl.this.lastSeen = this.pendingSnapshot;
+                this.pendingSnapshot = null;
+                this.values.commit();
+            }
+        }
+
+        @Override
+        public void rollback() {
+            if (this.pending) {
+                this.pending = false;
+                this.pendingSnapshot = null;
+                this.values.rollback();
+            }
+        }
+
+        @Override
+        public void onError(final Throwable thrown) {
+            this.values.onError(thrown);
+        }
+
+        @Override
+        public void onClose() {
+            this.values.onClose();
+        }
+
+    }
+
 }
@@ -24,6 +24,7 @@ import org.spongepowered.configurate.ScopedConfigurationNode;
 import org.spongepowered.configurate.loader.ConfigurationLoader;
 import org.spongepowered.configurate.reactive.Disposable;
 import org.spongepowered.configurate.reactive.Subscriber;
+import org.spongepowered.configurate.util.VirtualThreads;
 
 import java.io.IOException;
 import java.nio.file.ClosedWatchServiceException;
@@ -35,12 +36,17 @@ import java.nio.file.StandardWatchEventKinds;
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
+import java.time.Duration;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 /**
@@ -56,6 +62,12 @@ import java.util.function.Function;
  * <p>Listening to a directory provides updates on the directory's immediate
  * children, but does not listen recursively.</p>
  *
+ * <p>When a {@link Builder#debounce(Duration) debounce window} is set, events
+ * for each watched path are held back until no further events have arrived
+ * for that path for the length of the window, and only the most recent event
+ * is delivered. This coalesces a file written in several steps into one
+ * event.</p>
+ *
  * @since 4.0.0
  */
 public final class WatchServiceListener implements AutoCloseable {
@@ -65,12 +77,17 @@ public final class WatchServiceListener implements AutoCloseable {
         StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY};
     private static final int PARALLEL_THRESHOLD = 100;
     private static final ThreadFactory DEFAULT_THREAD_FACTORY = new PrefixedNameThreadFactory("Configurate-WatchService", true);
+    private static final Duration DEFAULT_POLL_INTERVAL = Duration.ofMillis(20);
 
     private final WatchService watchService;
     private volatile boolean open = true;
     private final Thread executor;
     final Executor taskExecutor;
     private final ConcurrentHashMap<Path, DirectoryListenerRegistration> activeListeners = new ConcurrentHashMap<>();
+    // only accessed from the watch thread
+    private final Map<Path, PendingEvent> pendingEvents = new LinkedHashMap<>();
+    private final long pollIntervalMillis;
+    private final long debounceNanos;
     private static final ThreadLocal<IOException> exceptionHolder = new ThreadLocal<>();
 
     /**
@@ -94,16 +111,24 @@ public final class WatchServiceListener implements AutoCloseable {
      * @since 4.0.0
      */
     public static WatchServiceListener create() throws IOException {
-        return new WatchServiceListener(DEFAULT_THREAD_FACTORY, FileSystems.getDefault(), ForkJoinPool.commonPool());
+        return new WatchServiceListener(DEFAULT_THREAD_FACTORY, FileSystems.getDefault(), ForkJoinPool.commonPool(),
+            DEFAULT_POLL_INTERVAL, Duration.ZERO);
     }
 
-    private WatchServiceListener(final ThreadFactory factory, final FileSystem fileSystem, final Executor taskExecutor) throws IOException {
+    private WatchServiceListener(final ThreadFactory factory, final FileSystem fileSystem, final Executor taskExecutor,
+            final Duration pollInterval, final Duration debounce) throws IOException {
         this.watchService = fileSystem.newWatchService();
+        this.pollIntervalMillis = pollInterval.toMillis();
+        this.debounceNanos = debounce.toNanos();
         this.executor = factory.newThread(() -> {
             while (this.open) {
-                final WatchKey key;
+                final @Nullable WatchKey key;
                 try {
-                    key = this.watchService.take();
+                    if (this.pendingEvents.isEmpty()) {
+                        key = this.watchService.take();
+                    } else {
+                        key = this.watchService.poll(this.nextFlushDelay(), TimeUnit.NANOSECONDS);
+                    }
                 } catch (final InterruptedException e) {
                     this.open = false;
                     Thread.currentThread().interrupt();
@@ -111,38 +136,17 @@ public final class WatchServiceListener implements AutoCloseable {
                 } catch (final ClosedWatchServiceException e) {
                     break;
                 }
-                final Path watched = (Path) key.watchable();
-                final DirectoryListenerRegistration registration = this.activeListeners.get(watched);
-                if (registration != null) {
-                    final Set<Object> seenContexts = new HashSet<>();
-                    for (WatchEvent<?> event : key.pollEvents()) {
-                        if (!key.isValid()) {
-                            break;
-                        }
-
-                        if (!seenContexts.add(event.context())) {
-                            continue;
-                        }
-
-                        // Process listeners
-                        registration.submit(event);
-                        if (registration.closeIfEmpty()) {
-                            key.cancel();
-                            break;
-                        }
-                    }
-
-                    // If the watch key is no longer valid, send all listeners a close event
-                    if (!key.reset()) {
-                        final DirectoryListenerRegistration oldListeners = this.activeListeners.remove(watched);
-                        oldListeners.onClose();
-                    }
+                if (key != null) {
+                    this.processKey(key);
                 }
-                try {
-                    Thread.sleep(20);
-                } catch (final InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    break;
+                this.flushPendingEvents();
+                if (this.pollIntervalMillis > 0) {
+                    try {
+                        Thread.sleep(this.pollIntervalMillis);
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
                 }
             }
         });
@@ -150,6 +154,84 @@ public final class WatchServiceListener implements AutoCloseable {
         this.executor.start();
     }
 
+    private void processKey(final WatchKey key) {
+        final Path watched = (Path) key.watchable();
+        final DirectoryListenerRegistration registration = this.activeListeners.get(watched);
+        if (registration != null) {
+            final Set<Object> seenContexts = new HashSet<>();
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (!key.isValid()) {
+                    break;
+                }
+
+                if (this.debounceNanos > 0) {
+                    // Restart the quiet period, keeping only the latest event
+                    final Path target = event.context() instanceof Path ? watched.resolve((Path) event.context()) : watched;
+                    this.pendingEvents.remove(target);
+                    this.pendingEvents.put(target, new PendingEvent(watched, event, System.nanoTime() + this.debounceNanos));
+                    continue;
+                }
+
+                if (!seenContexts.add(event.context())) {
+                    continue;
+                }
+
+                // Process listeners
+                registration.submit(event);
+                if (registration.closeIfEmpty()) {
+                    key.cancel();
+                    break;
+                }
+            }
+
+            // If the watch key is no longer valid, send all listeners a close event
+            if (!key.reset()) {
+                final DirectoryListenerRegistration oldListeners = this.activeListeners.remove(watched);
+                oldListeners.onClose();
+            }
+        }
+    }
+
+    /**
+     * Get the time until the earliest pending event is due.
+     *
+     * @return the delay, in nanoseconds
+     */
+    private long nextFlushDelay() {
+        long earliest = Long.MAX_VALUE;
+        for (final PendingEvent pending : this.pendingEvents.values()) {
+            earliest = Math.min(earliest, pending.deadline);
+        }
+        return Math.max(0, earliest - System.nanoTime());
+    }
+
+    /**
+     * Deliver every pending event whose quiet period has elapsed.
+     */
+    private void flushPendingEvents() {
+        if (this.pendingEvents.isEmpty()) {
+            return;
+        }
+
+        final long now = System.nanoTime();
+        final Iterator<PendingEvent> it = this.pendingEvents.values().iterator();
+        while (it.hasNext()) {
+            final PendingEvent pending = it.next();
+            if (pending.deadline - now > 0) {
+                continue;
+            }
+            it.remove();
+
+            final @Nullable DirectoryListenerRegistration registration = this.activeListeners.get(pending.directory);
+            if (registration != null) {
+                registration.submit(pending.event);
+                if (registration.closeIfEmpty()) {
+                    this.activeListeners.remove(pending.directory, registration);
+                }
+            }
+        }
+    }
+
     /**
      * Gets or creates a registration holder for a specific directory. This
      * handles registering with the watch service if necessary.
@@ -258,6 +340,8 @@ public final class WatchServiceListener implements AutoCloseable {
         private @Nullable ThreadFactory threadFactory;
         private @Nullable FileSystem fileSystem;
         private @Nullable Executor taskExecutor;
+        private Duration pollInterval = DEFAULT_POLL_INTERVAL;
+        private Duration debounce = Duration.ZERO;
 
         private Builder() { }
 
@@ -288,6 +372,26 @@ public final class WatchServiceListener implements AutoCloseable {
             return this;
         }
 
+        /**
+         * Run the polling loop and all event tasks on virtual threads.
+         *
+         * <p>This replaces any {@link #threadFactory(ThreadFactory) thread
+         * factory} and {@link #taskExecutor(Executor) task executor} set
+         * earlier. Subscribers that block, for example on I/O while
+         * reloading, then no longer occupy threads of the
+         * {@link ForkJoinPool#commonPool() common pool}.</p>
+         *
+         * @return this builder
+         * @throws UnsupportedOperationException if the running JVM does not
+         *     {@link VirtualThreads#available() support virtual threads}
+         * @since 4.2.0
+         */
+        public Builder virtualThreads() {
+            this.threadFactory = VirtualThreads.factory("Configurate-WatchService");
+            this.taskExecutor = VirtualThreads.executor();
+            return this;
+        }
+
         /**
          * Set the filesystem expected to be used for paths. A separate
          * {@link WatchServiceListener} should be created to listen to events on
@@ -302,6 +406,49 @@ public final class WatchServiceListener implements AutoCloseable {
             return this;
         }
 
+        /**
+         * Set how long the polling thread waits after handling each batch of
+         * events before checking for more.
+         *
+         * <p>By default, the thread waits 20 milliseconds.</p>
+         *
+         * @param interval the interval, which may be zero
+         * @return this builder
+         * @throws IllegalArgumentException if the interval is negative
+         * @since 4.2.0
+         */
+        public Builder pollInterval(final Duration interval) {
+            requireNonNull(interval, "interval");
+            if (interval.isNegative()) {
+                throw new IllegalArgumentException("Poll interval must not be negative, but was " + interval);
+            }
+            this.pollInterval = interval;
+            return this;
+        }
+
+        /**
+         * Set the quiet period each watched path must see before its events
+         * are delivered.
+         *
+         * <p>Events arriving for a path within this window of each other are
+         * coalesced, and only the latest is passed to listeners. By default,
+         * the window is zero and events are delivered as soon as they are
+         * received.</p>
+         *
+         * @param window the debounce window, which may be zero
+         * @return this builder
+         * @throws IllegalArgumentException if the window is negative
+         * @since 4.2.0
+         */
+        public Builder debounce(final Duration window) {
+            requireNonNull(window, "window");
+            if (window.isNegative()) {
+                throw new IllegalArgumentException("Debounce window must not be negative, but was " + window);
+            }
+            this.debounce = window;
+            return this;
+        }
+
         /**
          * Create a new listener, using default values for any unset parameters.
          *
@@ -322,7 +469,25 @@ public final class WatchServiceListener implements AutoCloseable {
                 this.taskExecutor = ForkJoinPool.commonPool();
             }
 
-            return new WatchServiceListener(this.threadFactory, this.fileSystem, this.taskExecutor);
+            return new WatchServiceListener(this.threadFactory, this.fileSystem, this.taskExecutor, this.pollInterval, this.debounce);
+        }
+
+    }
+
+    /**
+     * An event held back until its path has been quiet for the debounce
+     * window.
+     */
+    private static final class PendingEvent {
+
+        final Path directory;
+        final WatchEvent<?> event;
+        final long deadline;
+
+        PendingEvent(final Path directory, final WatchEvent<?> event, final long deadline) {
+            this.directory = directory;
+            this.event = event;
+            this.deadline = deadline;
         }
 
     }
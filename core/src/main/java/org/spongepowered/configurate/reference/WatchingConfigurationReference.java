@@ -23,8 +23,10 @@ import org.spongepowered.configurate.ScopedConfigurationNode;
 import org.spongepowered.configurate.loader.ConfigurationLoader;
 import org.spongepowered.configurate.reactive.Disposable;
 import org.spongepowered.configurate.reactive.Subscriber;
+import org.spongepowered.configurate.util.FileFingerprint;
 import org.spongepowered.configurate.util.UnmodifiableCollections;
 
+import java.nio.file.Path;
 import java.nio.file.StandardWatchEventKinds;
 import java.nio.file.WatchEvent;
 import java.util.concurrent.Executor;
@@ -35,11 +37,15 @@ import java.util.concurrent.Executor;
 class WatchingConfigurationReference<N extends ScopedConfigurationNode<N>>
         extends ManualConfigurationReference<N> implements Subscriber<WatchEvent<?>> {
 
+    private final Path file;
     private volatile boolean saveSuppressed;
+    private volatile @Nullable FileFingerprint fingerprint;
     private @Nullable Disposable disposable;
 
-    WatchingConfigurationReference(final ConfigurationLoader<? extends N> loader, final Executor taskExecutor) {
+    WatchingConfigurationReference(final ConfigurationLoader<? extends N> loader, final Path file, final Executor taskExecutor) {
         super(loader, taskExecutor);
+        this.file = file;
+        this.fingerprint = FileFingerprint.of(file, null);
     }
 
     @Override
@@ -48,6 +54,7 @@ class WatchingConfigurationReference<N extends ScopedConfigurationNode<N>>
             try {
                 this.saveSuppressed = true;
                 super.save(newNode);
+                this.fingerprint = FileFingerprint.of(this.file, null);
             } finally {
                 this.saveSuppressed = false;
             }
@@ -66,8 +73,16 @@ class WatchingConfigurationReference<N extends ScopedConfigurationNode<N>>
     @Override
     public void submit(final WatchEvent<?> item) {
         if (!this.saveSuppressed || item.kind() == StandardWatchEventKinds.ENTRY_MODIFY) {
+            // Skip touches, identical rewrites, and echoes of our own saves
+            final @Nullable FileFingerprint current = FileFingerprint.of(this.file, this.fingerprint);
+            if (current != null && current.sameContents(this.fingerprint)) {
+                this.fingerprint = current;
+                return;
+            }
+
             try {
                 load();
+                this.fingerprint = current;
             } catch (final Exception e) {
                 this.errorListener.submit(UnmodifiableCollections.immutableMapEntry(ErrorPhase.LOADING, e));
             }
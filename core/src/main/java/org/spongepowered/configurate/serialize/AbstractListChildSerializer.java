@@ -54,17 +54,26 @@ public abstract class AbstractListChildSerializer<T> implements TypeSerializer.A
         }
 
         if (node.isList()) {
+            final int size = node.childCount();
+            final T ret = this.createNew(size, entryType);
+            final int[] index = {0};
+            NodeChildren.forEach(node, child -> {
+                final int i = index[0]++;
+                if (i < size) {
+                    this.deserializeChild(i, ret, entryType, entrySerial, child);
+                }
+            });
+            if (index[0] == size) {
+                return ret;
+            }
+
+            // the list changed between counting and visiting its children, so read from a copy instead
             final List<? extends ConfigurationNode> values = node.childrenList();
-            final T ret = this.createNew(values.size(), entryType);
+            final T copied = this.createNew(values.size(), entryType);
             for (int i = 0; i < values.size(); ++i) {
-                try {
-                    this.deserializeSingle(i, ret, entrySerial.deserialize(entryType, values.get(i)));
-                } catch (final SerializationException ex) {
-                    ex.initPath(values.get(i)::path);
-                    throw ex;
-                }
+                this.deserializeChild(i, copied, entryType, entrySerial, values.get(i));
             }
-            return ret;
+            return copied;
         } else {
             final @Nullable Object unwrappedVal = node.raw();
             if (unwrappedVal != null) {
@@ -76,6 +85,21 @@ public abstract class AbstractListChildSerializer<T> implements TypeSerializer.A
         return this.createNew(0, entryType);
     }
 
+    private void deserializeChild(
+        final int index,
+        final T collection,
+        final AnnotatedType entryType,
+        final TypeSerializer<?> entrySerial,
+        final ConfigurationNode child
+    ) throws SerializationException {
+        try {
+            this.deserializeSingle(index, collection, entrySerial.deserialize(entryType, child));
+        } catch (final SerializationException ex) {
+            ex.initPath(child::path);
+            throw ex;
+        }
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public final void serialize(final AnnotatedType type, final @Nullable T obj, final ConfigurationNode node) throws SerializationException {
@@ -66,10 +66,8 @@ final class MapSerializer implements TypeSerializer.Annotated<Map<?, ?>> {
 
             final BasicConfigurationNode keyNode = BasicConfigurationNode.root(node.options());
 
-            for (final Map.Entry<Object, ? extends ConfigurationNode> ent : node.childrenMap().entrySet()) {
-                ret.put(requireNonNull(keySerial.deserialize(key, keyNode.set(ent.getKey())), "key"),
-                    requireNonNull(valueSerial.deserialize(value, ent.getValue()), "value"));
-            }
+            NodeChildren.forEach(node, child -> ret.put(requireNonNull(keySerial.deserialize(key, keyNode.set(child.key())), "key"),
+                requireNonNull(valueSerial.deserialize(value, child), "value")));
         }
         return ret;
     }
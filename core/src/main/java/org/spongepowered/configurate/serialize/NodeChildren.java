@@ -0,0 +1,64 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.serialize;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.util.CheckedConsumer;
+
+import java.util.function.Consumer;
+
+/**
+ * Visits the children of nodes being deserialized, without copying them.
+ */
+final class NodeChildren {
+
+    private NodeChildren() {
+    }
+
+    /**
+     * Perform an action for each child of {@code node}, as
+     * {@link ConfigurationNode#forEachChild(Consumer)} does, while allowing
+     * the action to fail.
+     *
+     * <p>Once the action has thrown, the remaining children are skipped.</p>
+     *
+     * @param node the node whose children to visit
+     * @param action the action to perform
+     * @throws SerializationException the first exception thrown by
+     *     {@code action}
+     */
+    static void forEach(
+        final ConfigurationNode node,
+        final CheckedConsumer<ConfigurationNode, SerializationException> action
+    ) throws SerializationException {
+        final @Nullable SerializationException[] failure = new SerializationException[1];
+        node.forEachChild(child -> {
+            if (failure[0] == null) {
+                try {
+                    action.accept(child);
+                } catch (final SerializationException ex) {
+                    failure[0] = ex;
+                }
+            }
+        });
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+    }
+
+}
@@ -23,7 +23,6 @@ import org.spongepowered.configurate.ConfigurationNode;
 
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Type;
-import java.util.List;
 import java.util.function.Predicate;
 
 /**
@@ -96,11 +95,8 @@ public abstract class ScalarSerializer<T> implements TypeSerializer.Annotated<T>
     @Override
     public final T deserialize(AnnotatedType type, final ConfigurationNode node) throws SerializationException {
         ConfigurationNode deserializeFrom = node;
-        if (node.isList()) {
-            final List<? extends ConfigurationNode> children = node.childrenList();
-            if (children.size() == 1) {
-                deserializeFrom = children.get(0);
-            }
+        if (node.isList() && node.childCount() == 1) {
+            deserializeFrom = node.node(0);
         }
 
         if (deserializeFrom.isList() || deserializeFrom.isMap()) {
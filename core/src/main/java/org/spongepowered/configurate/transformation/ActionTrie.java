@@ -0,0 +1,194 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.transformation;
+
+import static org.spongepowered.configurate.transformation.ConfigurationTransformation.WILDCARD_OBJECT;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.NodePath;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * A set of transform actions compiled into a tree keyed by path element, so
+ * that every action can be applied during a single traversal of a node.
+ *
+ * <p>Children of each trie node are visited in {@link NodePathComparator}
+ * order, with literal keys before the wildcard, and a node's own actions run
+ * after all of its children. This post-order traversal applies actions in the
+ * same deepest-first order as iterating over the sorted action map.</p>
+ */
+final class ActionTrie {
+
+    private final Node root;
+    private final int depth;
+
+    private ActionTrie(final Node root, final int depth) {
+        this.root = root;
+        this.depth = depth;
+    }
+
+    /**
+     * Compile the actions of one or more transformation steps.
+     *
+     * <p>Where several steps have an action at the same path, those actions
+     * are applied in step order.</p>
+     *
+     * @param steps the steps to compile, in application order
+     * @return a new trie
+     */
+    static ActionTrie compile(final List<SingleConfigurationTransformation> steps) {
+        final NavigableMap<NodePath, List<Action>> sorted = new TreeMap<>(NodePathComparator.INSTANCE);
+        for (final SingleConfigurationTransformation step : steps) {
+            for (final Map.Entry<NodePath, TransformAction> entry : step.actions().entrySet()) {
+                sorted.computeIfAbsent(entry.getKey(), k -> new ArrayList<>()).add(new Action(entry.getValue(), step.strategy()));
+            }
+        }
+
+        final Node root = new Node();
+        int depth = 0;
+        for (final Map.Entry<NodePath, List<Action>> entry : sorted.entrySet()) {
+            Node target = root;
+            for (final Object key : entry.getKey()) {
+                target = target.child(key);
+            }
+            target.actions.addAll(entry.getValue());
+            depth = Math.max(depth, entry.getKey().size());
+        }
+        return new ActionTrie(root, depth);
+    }
+
+    /**
+     * Apply every action to matching descendants of {@code start}.
+     *
+     * @param start the root node
+     * @throws ConfigurateException if any action fails, with failures after
+     *     the first added as suppressed exceptions
+     */
+    void apply(final ConfigurationNode start) throws ConfigurateException {
+        final Visit visit = new Visit(start, new Object[this.depth]);
+        visit.visit(this.root, start, 0);
+        if (visit.thrown != null) {
+            throw visit.thrown;
+        }
+    }
+
+    static final class Node {
+
+        final Map<Object, Node> literals = new LinkedHashMap<>();
+        @Nullable Node wildcard;
+        final List<Action> actions = new ArrayList<>(1);
+
+        Node child(final Object key) {
+            if (key == WILDCARD_OBJECT) {
+                if (this.wildcard == null) {
+                    this.wildcard = new Node();
+                }
+                return this.wildcard;
+            }
+            return this.literals.computeIfAbsent(key, k -> new Node());
+        }
+
+    }
+
+    static final class Action {
+
+        final TransformAction action;
+        final MoveStrategy strategy;
+
+        Action(final TransformAction action, final MoveStrategy strategy) {
+            this.action = action;
+            this.strategy = strategy;
+        }
+
+    }
+
+    /**
+     * State for one traversal.
+     */
+    private static final class Visit {
+
+        private final ConfigurationNode start;
+        private final Object[] keys;
+        private final MutableNodePath path = new MutableNodePath();
+        @Nullable ConfigurateException thrown;
+
+        Visit(final ConfigurationNode start, final Object[] keys) {
+            this.start = start;
+            this.keys = keys;
+        }
+
+        void visit(final Node trie, final ConfigurationNode node, final int depth) {
+            for (final Map.Entry<Object, Node> literal : trie.literals.entrySet()) {
+                final ConfigurationNode child = node.node(literal.getKey());
+                if (!child.virtual()) {
+                    this.keys[depth] = literal.getKey();
+                    this.visit(literal.getValue(), child, depth + 1);
+                }
+            }
+
+            final @Nullable Node wildcard = trie.wildcard;
+            if (wildcard != null) {
+                if (node.isList()) {
+                    final List<? extends ConfigurationNode> children = node.childrenList();
+                    for (int i = 0; i < children.size(); ++i) {
+                        this.keys[depth] = i;
+                        this.visit(wildcard, children.get(i), depth + 1);
+                    }
+                } else if (node.isMap()) {
+                    for (final Map.Entry<Object, ? extends ConfigurationNode> child : node.childrenMap().entrySet()) {
+                        this.keys[depth] = child.getKey();
+                        this.visit(wildcard, child.getValue(), depth + 1);
+                    }
+                }
+            }
+
+            for (final Action action : trie.actions) {
+                try {
+                    this.applyAction(action, node, depth);
+                } catch (final ConfigurateException ex) {
+                    if (this.thrown == null) {
+                        this.thrown = ex;
+                    } else {
+                        this.thrown.addSuppressed(ex);
+                    }
+                }
+            }
+        }
+
+        private void applyAction(final Action action, final ConfigurationNode node, final int depth) throws ConfigurateException {
+            final Object[] path = Arrays.copyOf(this.keys, depth);
+            this.path.arr = path;
+
+            final Object @Nullable [] transformedPath = action.action.visitPath(this.path, node);
+            if (transformedPath != null && !Arrays.equals(path, transformedPath)) {
+                action.strategy.move(node, this.start.node(transformedPath));
+                node.raw(null);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,442 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.transformation;
+
+import static java.util.Objects.requireNonNull;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.loader.AbstractConfigurationLoader;
+import org.spongepowered.configurate.loader.AtomicFiles;
+import org.spongepowered.configurate.loader.ConfigurationLoader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Applies a {@link ConfigurationTransformation.Versioned versioned
+ * transformation} to many configuration files in parallel.
+ *
+ * <p>Each file is loaded, transformed and saved independently, using a loader
+ * created for that file. Loaders configured with a
+ * {@link AbstractConfigurationLoader.Builder#path(Path) path} save through
+ * {@link AtomicFiles}, so an interrupted migration never leaves a partially
+ * written file behind. Files that are already at the latest version are not
+ * saved again.</p>
+ *
+ * <p>At most {@link Builder#parallelism(int) parallelism} files are processed
+ * at once. Unless an {@link Builder#executor(Executor) executor} is provided,
+ * each run uses its own {@link ForkJoinPool} of that size.</p>
+ *
+ * @since 4.2.0
+ */
+public final class BatchMigration {
+
+    private final ConfigurationTransformation.Versioned transformation;
+    private final Function<Path, ? extends ConfigurationLoader<?>> loaderFactory;
+    private final Predicate<Path> filter;
+    private final int parallelism;
+    private final @Nullable Executor executor;
+    private final Listener listener;
+
+    /**
+     * Create a new builder for a batch migration.
+     *
+     * @return a new builder
+     * @since 4.2.0
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    BatchMigration(final Builder builder) {
+        this.transformation = requireNonNull(builder.transformation, "transformation");
+        this.loaderFactory = requireNonNull(builder.loaderFactory, "loaderFactory");
+        this.filter = builder.filter;
+        this.parallelism = builder.parallelism;
+        this.executor = builder.executor;
+        this.listener = builder.listener;
+    }
+
+    /**
+     * Migrate every regular file in a directory tree that matches
+     * this migration's {@link Builder#filter(Predicate) filter}.
+     *
+     * @param directory the directory to search
+     * @return the outcome of the migration
+     * @throws IOException if the directory tree cannot be listed
+     * @since 4.2.0
+     */
+    public Result migrateDirectory(final Path directory) throws IOException {
+        final List<Path> files;
+        try (Stream<Path> contents = Files.walk(directory)) {
+            files = contents.filter(Files::isRegularFile)
+                .filter(this.filter)
+                .collect(Collectors.toList());
+        }
+        return this.migrate(files);
+    }
+
+    /**
+     * Migrate the provided files.
+     *
+     * <p>The filter is not applied to files passed directly.</p>
+     *
+     * @param files the files to migrate
+     * @return the outcome of the migration
+     * @since 4.2.0
+     */
+    public Result migrate(final Collection<Path> files) {
+        final Map<Path, Exception> failures = new ConcurrentHashMap<>();
+        final AtomicInteger migrated = new AtomicInteger();
+        final AtomicInteger upToDate = new AtomicInteger();
+        final CountDownLatch remaining = new CountDownLatch(files.size());
+        final Semaphore permits = new Semaphore(this.parallelism);
+
+        final @Nullable ForkJoinPool ownPool;
+        final Executor executor;
+        if (this.executor == null) {
+            ownPool = new ForkJoinPool(this.parallelism);
+            executor = ownPool;
+        } else {
+            ownPool = null;
+            executor = this.executor;
+        }
+        this.listener.started(files.size());
+        try {
+            for (final Path file : files) {
+                permits.acquireUninterruptibly();
+                try {
+                    executor.execute(() -> {
+                        try {
+                            if (this.migrateFile(file)) {
+                                migrated.incrementAndGet();
+                            } else {
+                                upToDate.incrementAndGet();
+                            }
+                        } catch (final Exception ex) {
+                            failures.put(file, ex);
+                            this.listener.failed(file, ex);
+                        } finally {
+                            permits.release();
+                            remaining.countDown();
+                        }
+                    });
+                } catch (final RuntimeException ex) { // rejected by the executor
+                    failures.put(file, ex);
+                    this.listener.failed(file, ex);
+                    permits.release();
+                    remaining.countDown();
+                }
+            }
+
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    remaining.await();
+                    break;
+                } catch (final InterruptedException ex) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        } finally {
+            if (ownPool != null) {
+                ownPool.shutdown();
+            }
+        }
+
+        return new Result(migrated.get(), upToDate.get(), failures);
+    }
+
+    private boolean migrateFile(final Path file) throws Exception {
+        final ConfigurationLoader<?> loader = this.loaderFactory.apply(file);
+        final ConfigurationNode node = loader.load();
+        final int from = this.transformation.version(node);
+        if (from >= this.transformation.latestVersion()) {
+            this.listener.upToDate(file, from);
+            return false;
+        }
+
+        this.transformation.apply(node);
+        loader.save(node);
+        this.listener.migrated(file, from, this.transformation.version(node));
+        return true;
+    }
+
+    /**
+     * Receives progress events from a migration.
+     *
+     * <p>Apart from {@link #started(int)}, events are delivered on the threads
+     * that process each file, and may arrive concurrently.</p>
+     *
+     * @since 4.2.0
+     */
+    public interface Listener {
+
+        /**
+         * Called once before any file is processed.
+         *
+         * @param files the number of files that will be processed
+         * @since 4.2.0
+         */
+        default void started(final int files) {
+        }
+
+        /**
+         * Called when a file has been transformed and saved.
+         *
+         * @param file the file
+         * @param from the version the file was at before migration
+         * @param to the version the file is at now
+         * @since 4.2.0
+         */
+        default void migrated(final Path file, final int from, final int to) {
+        }
+
+        /**
+         * Called when a file was already at the latest version.
+         *
+         * @param file the file
+         * @param version the file's current version
+         * @since 4.2.0
+         */
+        default void upToDate(final Path file, final int version) {
+        }
+
+        /**
+         * Called when a file could not be loaded, transformed or saved.
+         *
+         * <p>The file is left unchanged.</p>
+         *
+         * @param file the file
+         * @param error the cause of the failure
+         * @since 4.2.0
+         */
+        default void failed(final Path file, final Exception error) {
+        }
+
+    }
+
+    /**
+     * The outcome of a migration run.
+     *
+     * @since 4.2.0
+     */
+    public static final class Result {
+
+        private final int migrated;
+        private final int upToDate;
+        private final Map<Path, Exception> failures;
+
+        Result(final int migrated, final int upToDate, final Map<Path, Exception> failures) {
+            this.migrated = migrated;
+            this.upToDate = upToDate;
+            this.failures = Collections.unmodifiableMap(failures);
+        }
+
+        /**
+         * Get the number of files that were transformed and saved.
+         *
+         * @return the number of migrated files
+         * @since 4.2.0
+         */
+        public int migrated() {
+            return this.migrated;
+        }
+
+        /**
+         * Get the number of files that were already at the latest version.
+         *
+         * @return the number of unchanged files
+         * @since 4.2.0
+         */
+        public int upToDate() {
+            return this.upToDate;
+        }
+
+        /**
+         * Get the files that failed to migrate, with the cause of each failure.
+         *
+         * @return an unmodifiable map of failures
+         * @since 4.2.0
+         */
+        public Map<Path, Exception> failures() {
+            return this.failures;
+        }
+
+        /**
+         * Get whether every file was migrated or already up to date.
+         *
+         * @return whether no failures occurred
+         * @since 4.2.0
+         */
+        public boolean successful() {
+            return this.failures.isEmpty();
+        }
+
+        @Override
+        public String toString() {
+            return "Result{"
+                + "migrated=" + this.migrated
+                + ", upToDate=" + this.upToDate
+                + ", failures=" + this.failures.keySet()
+                + '}';
+        }
+
+    }
+
+    /**
+     * A builder for batch migrations.
+     *
+     * @since 4.2.0
+     */
+    public static final class Builder {
+
+        private ConfigurationTransformation.@Nullable Versioned transformation;
+        private @Nullable Function<Path, ? extends ConfigurationLoader<?>> loaderFactory;
+        private Predicate<Path> filter = path -> true;
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private @Nullable Executor executor;
+        private Listener listener = new Listener() {};
+
+        Builder() {
+        }
+
+        /**
+         * Set the transformation to apply to each file.
+         *
+         * @param transformation the transformation
+         * @return this builder
+         * @since 4.2.0
+         */
+        public Builder transformation(final ConfigurationTransformation.Versioned transformation) {
+            this.transformation = requireNonNull(transformation, "transformation");
+            return this;
+        }
+
+        /**
+         * Set the function creating a loader for each file.
+         *
+         * <p>Loaders should be built with a
+         * {@link AbstractConfigurationLoader.Builder#path(Path) path} so that
+         * files are saved atomically.</p>
+         *
+         * @param loaderFactory the loader factory
+         * @return this builder
+         * @since 4.2.0
+         */
+        public Builder loaderFactory(final Function<Path, ? extends ConfigurationLoader<?>> loaderFactory) {
+            this.loaderFactory = requireNonNull(loaderFactory, "loaderFactory");
+            return this;
+        }
+
+        /**
+         * Set which files found when migrating a directory will be migrated.
+         *
+         * <p>By default, every regular file is migrated.</p>
+         *
+         * @param filter the file filter
+         * @return this builder
+         * @since 4.2.0
+         */
+        public Builder filter(final Predicate<Path> filter) {
+            this.filter = requireNonNull(filter, "filter");
+            return this;
+        }
+
+        /**
+         * Set the maximum number of files processed at once.
+         *
+         * <p>By default, this is the number of available processors.</p>
+         *
+         * @param parallelism the number of files to process concurrently
+         * @return this builder
+         * @throws IllegalArgumentException if parallelism is not positive
+         * @since 4.2.0
+         */
+        public Builder parallelism(final int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("Parallelism must be at least 1, but was " + parallelism);
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Set the executor files will be processed on.
+         *
+         * <p>The number of files in progress is still limited to the
+         * {@link #parallelism(int) parallelism}, which makes an unbounded
+         * executor such as
+         * {@link org.spongepowered.configurate.util.VirtualThreads#executor()}
+         * suitable here. By default, a {@link ForkJoinPool} is created for
+         * each run.</p>
+         *
+         * @param executor the executor
+         * @return this builder
+         * @since 4.2.0
+         */
+        public Builder executor(final Executor executor) {
+            this.executor = requireNonNull(executor, "executor");
+            return this;
+        }
+
+        /**
+         * Set the listener to receive progress events.
+         *
+         * @param listener the listener
+         * @return this builder
+         * @since 4.2.0
+         */
+        public Builder listener(final Listener listener) {
+            this.listener = requireNonNull(listener, "listener");
+            return this;
+        }
+
+        /**
+         * Create a new migration from the current settings.
+         *
+         * @return the new migration
+         * @throws NullPointerException if no transformation or loader factory
+         *     has been set
+         * @since 4.2.0
+         */
+        public BatchMigration build() {
+            return new BatchMigration(this);
+        }
+
+    }
+
+}
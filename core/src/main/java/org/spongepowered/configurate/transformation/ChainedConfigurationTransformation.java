@@ -16,11 +16,15 @@
  */
 package org.spongepowered.configurate.transformation;
 
+import static java.util.Objects.requireNonNull;
+
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.ConfigurateException;
 import org.spongepowered.configurate.ConfigurationNode;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 /**
  * Implements a chain of {@link ConfigurationTransformation}s.
@@ -33,6 +37,55 @@ class ChainedConfigurationTransformation implements ConfigurationTransformation
         this.transformations = Arrays.copyOf(transformations, transformations.length);
     }
 
+    /**
+     * Create a chain where each run of consecutive action-based steps is
+     * compiled into one {@link ActionTrie}.
+     *
+     * <p>Nested chains are flattened first, so their steps can be fused with
+     * their neighbours.</p>
+     *
+     * @param transformations the steps to fuse
+     * @return a fused transformation
+     */
+    static ConfigurationTransformation fuse(final ConfigurationTransformation[] transformations) {
+        final List<ConfigurationTransformation> flattened = new ArrayList<>(transformations.length);
+        flatten(transformations, flattened);
+
+        final List<ConfigurationTransformation> steps = new ArrayList<>();
+        final List<SingleConfigurationTransformation> run = new ArrayList<>();
+        for (final ConfigurationTransformation transformation : flattened) {
+            if (transformation instanceof SingleConfigurationTransformation) {
+                run.add((SingleConfigurationTransformation) transformation);
+            } else {
+                endRun(run, steps);
+                steps.add(transformation);
+            }
+        }
+        endRun(run, steps);
+
+        if (steps.size() == 1) {
+            return steps.get(0);
+        }
+        return new ChainedConfigurationTransformation(steps.toArray(new ConfigurationTransformation[0]));
+    }
+
+    private static void flatten(final ConfigurationTransformation[] transformations, final List<ConfigurationTransformation> target) {
+        for (final ConfigurationTransformation transformation : transformations) {
+            if (transformation instanceof ChainedConfigurationTransformation) {
+                flatten(((ChainedConfigurationTransformation) transformation).transformations, target);
+            } else {
+                target.add(requireNonNull(transformation, "transformation"));
+            }
+        }
+    }
+
+    private static void endRun(final List<SingleConfigurationTransformation> run, final List<ConfigurationTransformation> steps) {
+        if (!run.isEmpty()) {
+            steps.add(ActionTrie.compile(new ArrayList<>(run))::apply);
+        }
+        run.clear();
+    }
+
     @Override
     public void apply(final ConfigurationNode node) throws ConfigurateException {
         @Nullable ConfigurateException thrown = null;
@@ -94,6 +94,45 @@ public interface ConfigurationTransformation {
         }
     }
 
+    /**
+     * Creates a chain of {@link ConfigurationTransformation}s, merging
+     * consecutive steps made with {@link #builder()} into a single pass over
+     * the node.
+     *
+     * <p>A fused chain walks the node tree once per run of builder-made
+     * steps, rather than once per step. Fusing is opt-in because it changes
+     * the order actions see the tree in:</p>
+     *
+     * <ul>
+     *     <li>An unfused chain finishes each step before starting the next,
+     *     so a step sees every node that earlier steps moved, renamed or
+     *     removed. In a fused chain, actions at the same path still run in
+     *     step order, but an action from a later step at a deeper path runs
+     *     before an action from an earlier step at a shallower path.</li>
+     *     <li>An unfused step runs each action over every node it matches
+     *     before running the next action. A fused chain expands a wildcard
+     *     once for every action beneath it, so each matched child receives
+     *     all of its actions before the next child is visited.</li>
+     *     <li>Children that a fused action creates under a wildcard are not
+     *     visited by any later step, where an unfused later step would
+     *     match them.</li>
+     * </ul>
+     *
+     * <p>Only fuse steps that act on independent parts of the tree: no step
+     * may rely on nodes that another step moves, renames or removes.</p>
+     *
+     * @param transformations the transformations
+     * @return a new fused transformation chain
+     * @since 4.2.0
+     */
+    static ConfigurationTransformation fused(final ConfigurationTransformation... transformations) {
+        if (requireNonNull(transformations, "transformations").length == 0) {
+            throw new IllegalArgumentException("Cannot chain an empty array of transformations!");
+        }
+
+        return ChainedConfigurationTransformation.fuse(transformations);
+    }
+
     /**
      * Apply this transformation to a given node.
      *
@@ -172,6 +211,7 @@ public interface ConfigurationTransformation {
     final class VersionedBuilder {
         private NodePath versionKey = NodePath.path("version");
         private final NavigableMap<Integer, ConfigurationTransformation> versions = new TreeMap<>();
+        private boolean fused;
 
         VersionedBuilder() {}
 
@@ -187,6 +227,24 @@ public interface ConfigurationTransformation {
             return this;
         }
 
+        /**
+         * Sets whether the steps needed to bring a node up to date should be
+         * {@link ConfigurationTransformation#fused(ConfigurationTransformation...) fused}
+         * into as few passes over the node as possible.
+         *
+         * <p>This is only safe when no version's actions rely on nodes that
+         * an earlier version moves, renames or removes. By default, each
+         * version is applied separately.</p>
+         *
+         * @param fused whether to fuse version steps
+         * @return this builder (for chaining)
+         * @since 4.2.0
+         */
+        public VersionedBuilder fused(final boolean fused) {
+            this.fused = fused;
+            return this;
+        }
+
         /**
          * Adds a transformation to this builder for the given version.
          *
@@ -252,7 +310,7 @@ public interface ConfigurationTransformation {
             if (this.versions.isEmpty()) {
                 throw new IllegalArgumentException("At least one version must be specified to build a transformation");
             }
-            return new VersionedTransformation(this.versionKey, this.versions);
+            return new VersionedTransformation(this.versionKey, this.versions, this.fused);
         }
     }
 
@@ -21,6 +21,7 @@ import org.spongepowered.configurate.ConfigurateException;
 import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.NodePath;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -50,17 +51,31 @@ final class SingleConfigurationTransformation implements ConfigurationTransforma
         this.strategy = strategy;
     }
 
+    Map<NodePath, TransformAction> actions() {
+        return this.actions;
+    }
+
+    MoveStrategy strategy() {
+        return this.strategy;
+    }
+
     @Override
     public void apply(final ConfigurationNode node) throws ConfigurateException {
         @Nullable ConfigurateException thrown = null;
+        final List<Match> matches = new ArrayList<>();
         for (Map.Entry<NodePath, TransformAction> ent : this.actions.entrySet()) {
-            try {
-                applySingleAction(node, ent.getKey().array(), 0, node, ent.getValue());
-            } catch (final ConfigurateException ex) {
-                if (thrown == null) {
-                    thrown = ex;
-                } else {
-                    thrown.addSuppressed(ex);
+            // matches are collected before the action runs, so the walk can read children without copying them
+            matches.clear();
+            collectMatches(ent.getKey().array(), 0, node, matches);
+            for (final Match match : matches) {
+                try {
+                    this.applyAction(node, match, ent.getValue());
+                } catch (final ConfigurateException ex) {
+                    if (thrown == null) {
+                        thrown = ex;
+                    } else {
+                        thrown.addSuppressed(ex);
+                    }
                 }
             }
         }
@@ -70,44 +85,22 @@ final class SingleConfigurationTransformation implements ConfigurationTransforma
         }
     }
 
-    private void applySingleAction(final ConfigurationNode start, final Object[] path, final int startIdx, ConfigurationNode node,
-            final TransformAction action) throws ConfigurateException {
-        @Nullable ConfigurateException thrown = null;
+    private static void collectMatches(final Object[] path, final int startIdx, ConfigurationNode node, final List<Match> matches) {
         for (int i = startIdx; i < path.length; ++i) {
             if (path[i] == WILDCARD_OBJECT) {
                 if (node.isList()) {
-                    final List<? extends ConfigurationNode> children = node.childrenList();
+                    final List<? extends ConfigurationNode> children = node.childrenListView();
                     for (int di = 0; di < children.size(); ++di) {
                         path[i] = di;
-                        try {
-                            applySingleAction(start, path, i + 1, children.get(di), action);
-                        } catch (final ConfigurateException ex) {
-                            if (thrown == null) {
-                                thrown = ex;
-                            } else {
-                                thrown.addSuppressed(ex);
-                            }
-                        }
+                        collectMatches(path, i + 1, children.get(di), matches);
                     }
-                    path[i] = WILDCARD_OBJECT;
                 } else if (node.isMap()) {
-                    for (Map.Entry<Object, ? extends ConfigurationNode> ent : node.childrenMap().entrySet()) {
+                    for (Map.Entry<Object, ? extends ConfigurationNode> ent : node.childrenMapView().entrySet()) {
                         path[i] = ent.getKey();
-                        try {
-                            applySingleAction(start, path, i + 1, ent.getValue(), action);
-                        } catch (final ConfigurateException ex) {
-                            if (thrown == null) {
-                                thrown = ex;
-                            } else {
-                                thrown.addSuppressed(ex);
-                            }
-                        }
+                        collectMatches(path, i + 1, ent.getValue(), matches);
                     }
-                    path[i] = WILDCARD_OBJECT;
-                } else {
-                    // No children
-                    return;
                 }
+                path[i] = WILDCARD_OBJECT;
                 return;
             } else {
                 node = node.node(path[i]);
@@ -116,16 +109,33 @@ final class SingleConfigurationTransformation implements ConfigurationTransforma
                 }
             }
         }
+        matches.add(new Match(path.clone(), node));
+    }
 
-        // apply action
+    private void applyAction(final ConfigurationNode start, final Match match, final TransformAction action) throws ConfigurateException {
         final MutableNodePath nodePath = this.sharedPath.get();
-        nodePath.arr = path;
+        nodePath.arr = match.path;
 
-        final Object @Nullable [] transformedPath = action.visitPath(nodePath, node);
-        if (transformedPath != null && !Arrays.equals(path, transformedPath)) {
-            this.strategy.move(node, start.node(transformedPath));
-            node.raw(null);
+        final Object @Nullable [] transformedPath = action.visitPath(nodePath, match.node);
+        if (transformedPath != null && !Arrays.equals(match.path, transformedPath)) {
+            this.strategy.move(match.node, start.node(transformedPath));
+            match.node.raw(null);
         }
     }
 
+    /**
+     * A node matched by an action's path, with the path it was found at.
+     */
+    private static final class Match {
+
+        final Object[] path;
+        final ConfigurationNode node;
+
+        Match(final Object[] path, final ConfigurationNode node) {
+            this.path = path;
+            this.node = node;
+        }
+
+    }
+
 }
@@ -23,6 +23,7 @@ import org.spongepowered.configurate.NodePath;
 
 import java.util.Map;
 import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Implements a number of child {@link ConfigurationTransformation}s which are only applied if required,
@@ -32,10 +33,14 @@ class VersionedTransformation implements ConfigurationTransformation.Versioned {
 
     private final NodePath versionPath;
     private final NavigableMap<Integer, ConfigurationTransformation> versionTransformations;
+    // When fusing, the fused steps from each version to the latest, keyed by the first version applied
+    private final @Nullable Map<Integer, ConfigurationTransformation> fusedSteps;
 
-    VersionedTransformation(final NodePath versionPath, final NavigableMap<Integer, ConfigurationTransformation> versionTransformations) {
+    VersionedTransformation(final NodePath versionPath, final NavigableMap<Integer, ConfigurationTransformation> versionTransformations,
+            final boolean fused) {
         this.versionPath = versionPath;
         this.versionTransformations = versionTransformations;
+        this.fusedSteps = fused ? new ConcurrentHashMap<>() : null;
     }
 
     @Override
@@ -43,6 +48,17 @@ class VersionedTransformation implements ConfigurationTransformation.Versioned {
         @Nullable ConfigurateException thrown = null;
         final ConfigurationNode versionNode = node.node(this.versionPath);
         int currentVersion = versionNode.getInt(VERSION_UNKNOWN);
+        if (this.fusedSteps != null) {
+            final @Nullable Integer first = this.versionTransformations.higherKey(currentVersion);
+            if (first != null) {
+                this.fusedSteps.computeIfAbsent(first, version -> ConfigurationTransformation.fused(this.versionTransformations.tailMap(version, true)
+                    .values().toArray(new ConfigurationTransformation[0]))).apply(node);
+                currentVersion = this.versionTransformations.lastKey();
+            }
+            versionNode.set(currentVersion);
+            return;
+        }
+
         for (Map.Entry<Integer, ConfigurationTransformation> entry : this.versionTransformations.entrySet()) {
             if (entry.getKey() <= currentVersion) {
                 continue;
@@ -0,0 +1,166 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.util;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.zip.CRC32;
+
+/**
+ * A cheap summary of a file's contents, used to tell whether a file has
+ * actually changed since it was last read.
+ *
+ * <p>The fingerprint is made up of the file's size, its modification time and
+ * a checksum of its contents. The checksum is only recomputed when the size
+ * and modification time cannot prove the file is unchanged: file systems with
+ * coarse timestamps can record the same modification time for two writes made
+ * close together, so a modification time that was recent when the previous
+ * fingerprint was taken is not trusted.</p>
+ *
+ * @since 4.2.0
+ */
+public final class FileFingerprint {
+
+    // The coarsest timestamp resolution of common file systems (FAT)
+    private static final long RACY_WINDOW_MILLIS = 2000;
+    private static final int BUFFER_SIZE = 8192;
+
+    private final long size;
+    private final long modified;
+    private final long taken;
+    private final long checksum;
+
+    private FileFingerprint(final long size, final long modified, final long taken, final long checksum) {
+        this.size = size;
+        this.modified = modified;
+        this.taken = taken;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Fingerprint a file, reusing the checksum of a previous fingerprint when
+     * the file provably has not changed since.
+     *
+     * @param file the file to read
+     * @param previous an earlier fingerprint of the same file, if any
+     * @return a fingerprint, or null if the file could not be read
+     * @since 4.2.0
+     */
+    public static @Nullable FileFingerprint of(final Path file, final @Nullable FileFingerprint previous) {
+        try {
+            final long taken = System.currentTimeMillis();
+            final BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            final long size = attributes.size();
+            final long modified = attributes.lastModifiedTime().toMillis();
+            if (previous != null
+                && previous.size == size
+                && previous.modified == modified
+                && previous.taken - modified > RACY_WINDOW_MILLIS) {
+                return new FileFingerprint(size, modified, taken, previous.checksum);
+            }
+            return new FileFingerprint(size, modified, taken, checksum(file));
+        } catch (final IOException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Restore a fingerprint from its components, such as a fingerprint
+     * previously persisted to disk.
+     *
+     * @param size the file size, in bytes
+     * @param modified the file's modification time, in epoch milliseconds
+     * @param taken when the fingerprint was taken, in epoch milliseconds
+     * @param checksum the checksum of the file's contents
+     * @return a fingerprint
+     * @since 4.2.0
+     */
+    public static FileFingerprint of(final long size, final long modified, final long taken, final long checksum) {
+        return new FileFingerprint(size, modified, taken, checksum);
+    }
+
+    private static long checksum(final Path file) throws IOException {
+        final CRC32 crc = new CRC32();
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream is = Files.newInputStream(file)) {
+            int read;
+            while ((read = is.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Get whether this fingerprint describes the same contents as another.
+     *
+     * @param other the other fingerprint
+     * @return whether the contents are the same
+     * @since 4.2.0
+     */
+    public boolean sameContents(final @Nullable FileFingerprint other) {
+        return other != null
+            && this.size == other.size
+            && this.checksum == other.checksum;
+    }
+
+    /**
+     * Get the size of the file, in bytes.
+     *
+     * @return the file size
+     * @since 4.2.0
+     */
+    public long size() {
+        return this.size;
+    }
+
+    /**
+     * Get the modification time of the file, in epoch milliseconds.
+     *
+     * @return the modification time
+     * @since 4.2.0
+     */
+    public long modified() {
+        return this.modified;
+    }
+
+    /**
+     * Get when this fingerprint was taken, in epoch milliseconds.
+     *
+     * @return the time this fingerprint was taken
+     * @since 4.2.0
+     */
+    public long taken() {
+        return this.taken;
+    }
+
+    /**
+     * Get the checksum of the file's contents.
+     *
+     * @return the checksum
+     * @since 4.2.0
+     */
+    public long checksum() {
+        return this.checksum;
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to virtual threads, where supported by the running JVM.
+ *
+ * <p>Virtual threads are available as of Java 21. On earlier releases,
+ * {@link #available()} returns {@code false} and the other methods throw
+ * an {@link UnsupportedOperationException}.</p>
+ *
+ * @since 4.2.0
+ */
+public final class VirtualThreads {
+
+    private static final Executor EXECUTOR = Executors.newThreadPerTaskExecutor(factory("Configurate-Task-"));
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Get whether virtual threads can be created on this JVM.
+     *
+     * @return whether virtual threads are available
+     * @since 4.2.0
+     */
+    public static boolean available() {
+        return true;
+    }
+
+    /**
+     * Create a factory for virtual threads whose names are the provided
+     * prefix followed by an incrementing number.
+     *
+     * @param prefix the thread name prefix
+     * @return a new thread factory
+     * @throws UnsupportedOperationException if virtual threads
+     *     are not {@link #available()}
+     * @since 4.2.0
+     */
+    public static ThreadFactory factory(final String prefix) {
+        requireNonNull(prefix, "prefix");
+        return Thread.ofVirtual()
+            .name(prefix.endsWith("-") ? prefix : (prefix + "-"), 0)
+            .factory();
+    }
+
+    /**
+     * Get an executor that runs every task on a new virtual thread.
+     *
+     * <p>Tasks that block on I/O park only their own virtual thread, so they
+     * do not hold up other tasks or a shared platform thread pool.</p>
+     *
+     * @return the shared virtual thread executor
+     * @throws UnsupportedOperationException if virtual threads
+     *     are not {@link #available()}
+     * @since 4.2.0
+     */
+    public static Executor executor() {
+        return EXECUTOR;
+    }
+
+}
@@ -114,6 +114,50 @@ class AbstractConfigurationNodeTest {
         assertEquals(Arrays.asList(a, b), root.childrenList());
     }
 
+    @Test
+    void testChildrenViewsAreLive() {
+        final ConfigurationNode root = BasicConfigurationNode.root();
+        final Map<Object, ? extends ConfigurationNode> mapView = root.childrenMapView();
+        final List<? extends ConfigurationNode> listView = root.childrenListView();
+        assertTrue(mapView.isEmpty());
+
+        final ConfigurationNode a = root.node("a").raw("one");
+        assertEquals(Collections.singletonMap("a", a), mapView);
+        assertSame(a, mapView.get("a"));
+        assertTrue(listView.isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> mapView.entrySet().clear());
+
+        root.raw(null);
+        final ConfigurationNode first = root.appendListNode().raw("one");
+        final ConfigurationNode second = root.appendListNode().raw("two");
+        assertTrue(mapView.isEmpty());
+        assertEquals(Arrays.asList(first, second), listView);
+        assertThrows(UnsupportedOperationException.class, listView::clear);
+    }
+
+    @Test
+    void testChildCountAndForEachChild() {
+        final ConfigurationNode root = BasicConfigurationNode.root();
+        assertEquals(0, root.childCount());
+        root.raw("scalar");
+        assertEquals(0, root.childCount());
+
+        root.raw(null);
+        final ConfigurationNode a = root.node("a").raw("one");
+        final ConfigurationNode b = root.node("b").raw("two");
+        assertEquals(2, root.childCount());
+
+        final List<ConfigurationNode> visited = new ArrayList<>();
+        root.forEachChild(visited::add);
+        assertEquals(Arrays.asList(a, b), visited);
+
+        final ConfigurationNode list = root.node("list").raw(Arrays.asList(1, 2, 3));
+        assertEquals(3, list.childCount());
+        visited.clear();
+        list.forEachChild(visited::add);
+        assertEquals(list.childrenList(), visited);
+    }
+
     private static final Map<Object, Object> TEST_MAP = new HashMap<>();
     private static final List<Object> TEST_LIST = new ArrayList<>();
 
@@ -547,6 +591,83 @@ class AbstractConfigurationNodeTest {
         assertThat(node.get(double.class)).isEqualTo(42.2d);
     }
 
+    @Test
+    void testUnboxedScalars() {
+        final BasicConfigurationNode node = BasicConfigurationNode.root();
+
+        node.node("int").rawInt(5);
+        node.node("long").rawLong(1L << 40);
+        node.node("double").rawDouble(0.5);
+        node.node("boolean").rawBoolean(true);
+
+        assertEquals(5, node.node("int").raw());
+        assertEquals(1L << 40, node.node("long").raw());
+        assertEquals(0.5, node.node("double").raw());
+        assertEquals(true, node.node("boolean").raw());
+
+        assertEquals(5, node.node("int").getInt());
+        assertEquals(5L, node.node("int").getLong());
+        assertEquals(5d, node.node("int").getDouble());
+        assertEquals(0, node.node("long").getInt());
+        assertEquals(1L << 40, node.node("long").getLong());
+        assertEquals(0.5, node.node("double").getDouble());
+        assertEquals(0L, node.node("double").getLong());
+        assertTrue(node.node("boolean").getBoolean());
+    }
+
+    @Test
+    void testUnboxedScalarsReplaceValues() {
+        final BasicConfigurationNode node = BasicConfigurationNode.root();
+        node.raw(5);
+        node.rawDouble(1.5);
+        assertEquals(1.5, node.raw());
+
+        node.raw("hello");
+        assertEquals("hello", node.raw());
+        assertEquals(0, node.getInt());
+
+        node.rawInt(3);
+        node.raw(2L);
+        assertEquals(2L, node.raw());
+        assertEquals(2, node.getInt());
+
+        node.appendListNode().rawBoolean(false);
+        assertTrue(node.isList());
+        node.rawBoolean(true);
+        assertEquals(true, node.raw());
+    }
+
+    @Test
+    void testUnboxedScalarsEqualBoxed() {
+        final BasicConfigurationNode boxed = BasicConfigurationNode.root().raw(12);
+        final BasicConfigurationNode unboxed = BasicConfigurationNode.root().rawInt(12);
+
+        assertEquals(boxed, unboxed);
+        assertEquals(boxed.hashCode(), unboxed.hashCode());
+        assertEquals(unboxed, unboxed.copy());
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void testUnboxedScalarsRejectOtherValues() {
+        final BasicConfigurationNode node = BasicConfigurationNode.root().rawInt(1);
+        final ConfigValue value = ((AbstractConfigurationNode) node).value;
+
+        assertThrows(IllegalArgumentException.class, () -> value.set("text"));
+        assertThrows(IllegalArgumentException.class, () -> value.set(null));
+        assertThrows(IllegalArgumentException.class, () -> value.copy((AbstractConfigurationNode) node).set(2L));
+        assertEquals(1, node.raw());
+    }
+
+    @Test
+    void testUnboxedScalarsRespectAcceptedTypes() {
+        final BasicConfigurationNode node = BasicConfigurationNode.root(ConfigurationOptions.defaults()
+            .nativeTypes(Collections.singleton(String.class)));
+
+        assertThrows(IllegalArgumentException.class, () -> node.rawInt(1));
+        assertThrows(IllegalArgumentException.class, () -> node.rawBoolean(true));
+    }
+
     // https://github.com/SpongePowered/Configurate/issues/300
     @Test
     void testIntKeysInVirtualMaps() {
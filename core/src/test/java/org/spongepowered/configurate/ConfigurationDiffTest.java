@@ -0,0 +1,108 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.spongepowered.configurate.NodePath.path;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.configurate.serialize.SerializationException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+class ConfigurationDiffTest {
+
+    private static CommentedConfigurationNode sample() throws SerializationException {
+        final CommentedConfigurationNode node = CommentedConfigurationNode.root();
+        node.node("name").set("test");
+        node.node("section", "enabled").set(true);
+        node.node("section", "count").set(5);
+        node.node("list").appendListNode().set("a");
+        node.node("list").appendListNode().set("b");
+        return node;
+    }
+
+    @Test
+    void testIdenticalTreesHaveNoDifferences() throws SerializationException {
+        final ConfigurationDiff diff = ConfigurationDiff.between(sample(), sample());
+        assertTrue(diff.empty());
+
+        final ConfigurationSnapshot snapshot = sample().snapshot();
+        assertTrue(ConfigurationDiff.between(snapshot, snapshot).empty());
+    }
+
+    @Test
+    void testCommentsAreIgnored() throws SerializationException {
+        final CommentedConfigurationNode commented = sample();
+        commented.node("section", "count").comment("how many");
+        assertTrue(ConfigurationDiff.between(sample(), commented).empty());
+    }
+
+    @Test
+    void testReportsPathLevelChanges() throws SerializationException {
+        final CommentedConfigurationNode updated = sample();
+        updated.node("name").set("other");
+        updated.node("section").removeChild("enabled");
+        updated.node("section", "nested", "deep").set(1);
+        updated.node("list").appendListNode().set("c");
+
+        final ConfigurationDiff diff = ConfigurationDiff.between(sample(), updated);
+        assertEquals(Collections.singleton(path("name")), diff.changed());
+        assertEquals(Collections.singleton(path("section", "enabled")), diff.removed());
+        // only the root of an added subtree is reported
+        assertEquals(new HashSet<>(Arrays.asList(path("section", "nested"), path("list", 2))), diff.added());
+    }
+
+    @Test
+    void testTypeChangeIsReportedOnce() throws SerializationException {
+        final CommentedConfigurationNode updated = sample();
+        updated.node("section").set("disabled");
+
+        final ConfigurationDiff diff = ConfigurationDiff.between(sample(), updated);
+        assertEquals(Collections.singleton(path("section")), diff.changed());
+        assertTrue(diff.added().isEmpty());
+        assertTrue(diff.removed().isEmpty());
+    }
+
+    @Test
+    void testSharedSubtreesAreSkipped() throws SerializationException {
+        final ConfigurationSnapshot original = sample().snapshot();
+        final ConfigurationSnapshot edited = original.withValue(path("section", "count"), 6);
+
+        final ConfigurationDiff diff = ConfigurationDiff.between(original, edited);
+        assertEquals(Collections.singleton(path("section", "count")), diff.changed());
+    }
+
+    @Test
+    void testAffects() throws SerializationException {
+        final CommentedConfigurationNode updated = sample();
+        updated.node("section", "count").set(6);
+
+        final ConfigurationDiff diff = ConfigurationDiff.between(sample(), updated);
+        assertTrue(diff.affects(path("section", "count")));
+        assertTrue(diff.affects(path("section")));
+        assertTrue(diff.affects(path()));
+        assertTrue(diff.affects(path("section", "count", "below")));
+        assertFalse(diff.affects(path("section", "enabled")));
+        assertFalse(diff.affects(path("name")));
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.configurate.serialize.SerializationException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+class ConfigurationSnapshotTest {
+
+    private static CommentedConfigurationNode sample() throws SerializationException {
+        final CommentedConfigurationNode node = CommentedConfigurationNode.root();
+        node.node("name").set("test").comment("the name");
+        node.node("section", "enabled").set(true);
+        node.node("section", "count").set(5);
+        node.node("list").appendListNode().set("a");
+        node.node("list").appendListNode().set("b");
+        return node;
+    }
+
+    @Test
+    void testSnapshotReflectsNode() throws SerializationException {
+        final ConfigurationSnapshot snapshot = sample().snapshot();
+
+        assertTrue(snapshot.isMap());
+        assertEquals("test", snapshot.node("name").getString(""));
+        assertEquals("the name", snapshot.node("name").comment());
+        assertTrue(snapshot.node("section", "enabled").getBoolean(false));
+        assertEquals(5, snapshot.node("section", "count").getInt(0));
+        assertEquals(Arrays.asList("a", "b"), snapshot.node("list").raw());
+        assertEquals("b", snapshot.node("list", 1).rawScalar());
+    }
+
+    @Test
+    void testMissingPathIsEmpty() throws SerializationException {
+        final ConfigurationSnapshot snapshot = sample().snapshot();
+
+        assertFalse(snapshot.hasChild("section", "missing"));
+        assertTrue(snapshot.node("section", "missing", "deeper").isNull());
+        assertTrue(snapshot.node("list", 5).isNull());
+        assertEquals(3, snapshot.node("missing").getInt(3));
+    }
+
+    @Test
+    void testSnapshotUnaffectedByNodeChanges() throws SerializationException {
+        final CommentedConfigurationNode node = sample();
+        final ConfigurationSnapshot snapshot = node.snapshot();
+
+        node.node("name").set("changed");
+        node.node("section").set(null);
+
+        assertEquals("test", snapshot.node("name").rawScalar());
+        assertEquals(5, snapshot.node("section", "count").getInt(0));
+        assertEquals(snapshot, sample().snapshot());
+    }
+
+    @Test
+    void testMapKeepsOrder() throws SerializationException {
+        final ConfigurationNode node = BasicConfigurationNode.root();
+        final List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 32; ++i) {
+            node.node("key-" + i).set(i);
+            keys.add("key-" + i);
+        }
+
+        final ConfigurationSnapshot snapshot = node.snapshot();
+        assertEquals(keys, new ArrayList<>(snapshot.childrenMap().keySet()));
+        assertEquals(17, snapshot.node("key-17").getInt(0));
+
+        final ConfigurationSnapshot edited = snapshot.without(NodePath.path("key-3")).withValue(NodePath.path("key-32"), 32);
+        for (int i = 0; i <= 32; ++i) {
+            assertEquals(i != 3, edited.hasChild("key-" + i), "key-" + i);
+            assertEquals(i == 32 ? -1 : i, snapshot.node("key-" + i).getInt(-1));
+        }
+    }
+
+    @Test
+    void testWithSharesUnchangedChildren() throws SerializationException {
+        final ConfigurationSnapshot original = sample().snapshot();
+        final ConfigurationSnapshot edited = original.withValue(NodePath.path("section", "count"), 6);
+
+        assertEquals(5, original.node("section", "count").getInt(0));
+        assertEquals(6, edited.node("section", "count").getInt(0));
+        assertSame(original.node("list"), edited.node("list"));
+        assertSame(original.node("section", "enabled"), edited.node("section", "enabled"));
+        assertEquals("the name", edited.node("name").comment());
+    }
+
+    @Test
+    void testWithCreatesIntermediates() throws SerializationException {
+        final ConfigurationSnapshot edited = ConfigurationSnapshot.empty(ConfigurationOptions.defaults())
+            .withValue(NodePath.path("a", 0, "b"), "value");
+
+        assertTrue(edited.node("a").isList());
+        assertTrue(edited.node("a", 0).isMap());
+        assertEquals("value", edited.node("a", 0, "b").rawScalar());
+    }
+
+    @Test
+    void testWithoutRemovesChild() throws SerializationException {
+        final ConfigurationSnapshot original = sample().snapshot();
+
+        final ConfigurationSnapshot removed = original.without(NodePath.path("list", 0));
+        assertEquals(Collections.singletonList("b"), removed.node("list").raw());
+        assertSame(original, original.without(NodePath.path("section", "missing")));
+        assertSame(original, original.withValue(NodePath.path("missing"), null));
+    }
+
+    @Test
+    void testToNodeRoundTrip() throws SerializationException {
+        final CommentedConfigurationNode node = sample();
+        final CommentedConfigurationNode restored = node.snapshot().toNode();
+
+        assertEquals(node, restored);
+        assertEquals("the name", restored.node("name").comment());
+    }
+
+    @Test
+    void testDeserializeFromSnapshot() throws SerializationException {
+        final ConfigurationSnapshot snapshot = sample().snapshot();
+
+        assertEquals(Integer.valueOf(5), snapshot.node("section", "count").get(Integer.class));
+        assertNull(snapshot.node("missing").get(String.class));
+    }
+
+    @Test
+    void testChildViewsAreUnmodifiable() throws SerializationException {
+        final ConfigurationSnapshot snapshot = sample().snapshot();
+
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.childrenMap().clear());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.node("list").childrenList().clear());
+    }
+
+}
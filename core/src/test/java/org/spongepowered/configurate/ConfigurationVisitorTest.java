@@ -17,9 +17,11 @@
 package org.spongepowered.configurate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 class ConfigurationVisitorTest {
@@ -80,6 +82,38 @@ class ConfigurationVisitorTest {
         assertEquals("b(l)t", result);
     }
 
+    @Test
+    void testParallelMatchesSequential() throws VisitorSafeNoopException {
+        final BasicConfigurationNode base = BasicConfigurationNode.root();
+        for (int i = 0; i < 200; i++) {
+            final BasicConfigurationNode section = base.node("section" + i);
+            for (int j = 0; j < 20; j++) {
+                section.node("entry" + j).raw(j);
+            }
+            section.node("list").raw(Arrays.asList("a", "b", "c"));
+        }
+
+        assertEquals(base.visit(VISITOR), base.visitParallel(new ParallelTestVisitor()));
+    }
+
+    @Test
+    void testParallelEmptyRoot() throws VisitorSafeNoopException {
+        final BasicConfigurationNode base = BasicConfigurationNode.root();
+        assertEquals("bt", base.visitParallel(new ParallelTestVisitor()));
+    }
+
+    @Test
+    void testParallelRethrowsCheckedExceptions() {
+        final BasicConfigurationNode base = BasicConfigurationNode.root();
+        for (int i = 0; i < 100; i++) {
+            base.node("section" + i, "value").raw(i);
+        }
+
+        final ConfigurationVisitor.Parallel<Void, Void, ConfigurateException> visitor = new FailingVisitor();
+        final ConfigurateException ex = assertThrows(ConfigurateException.class, () -> base.visitParallel(visitor));
+        assertEquals(NodePath.path("section42", "value"), ex.path());
+    }
+
     /**
      * A visitor that tracks events and outputs a string with the
      * following tokens.
@@ -148,4 +182,63 @@ class ConfigurationVisitorTest {
         }
     }
 
+    static class ParallelTestVisitor extends TestVisitor implements ConfigurationVisitor.Parallel<StringBuilder, String, VisitorSafeNoopException> {
+
+        @Override
+        public StringBuilder mergeState(final StringBuilder first, final StringBuilder second) {
+            return first.append(second);
+        }
+
+    }
+
+    static class FailingVisitor implements ConfigurationVisitor.Parallel<Void, Void, ConfigurateException> {
+
+        @Override
+        public Void newState() {
+            return null;
+        }
+
+        @Override
+        public void beginVisit(final ConfigurationNode node, final Void state) {
+        }
+
+        @Override
+        public void enterNode(final ConfigurationNode node, final Void state) {
+        }
+
+        @Override
+        public void enterMappingNode(final ConfigurationNode node, final Void state) {
+        }
+
+        @Override
+        public void enterListNode(final ConfigurationNode node, final Void state) {
+        }
+
+        @Override
+        public void enterScalarNode(final ConfigurationNode node, final Void state) throws ConfigurateException {
+            if (Integer.valueOf(42).equals(node.raw())) {
+                throw new ConfigurateException("The answer");
+            }
+        }
+
+        @Override
+        public void exitMappingNode(final ConfigurationNode node, final Void state) {
+        }
+
+        @Override
+        public void exitListNode(final ConfigurationNode node, final Void state) {
+        }
+
+        @Override
+        public Void mergeState(final Void first, final Void second) {
+            return null;
+        }
+
+        @Override
+        public Void endVisit(final Void state) {
+            return null;
+        }
+
+    }
+
 }
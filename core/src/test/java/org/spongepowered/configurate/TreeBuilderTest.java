@@ -0,0 +1,118 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.configurate.serialize.SerializationException;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+class TreeBuilderTest {
+
+    @Test
+    void testBuildsSameTreeAsNodeOperations() throws SerializationException {
+        final CommentedConfigurationNode expected = CommentedConfigurationNode.root();
+        expected.node("name").set("test").comment("the name");
+        expected.node("section", "enabled").set(true);
+        expected.node("section", "count").set(5);
+        expected.node("list").appendListNode().set("a");
+        expected.node("list").appendListNode().node("nested").set(1);
+        expected.node("empty-map").set(Collections.emptyMap());
+        expected.node("empty-list").set(Collections.emptyList());
+
+        final TreeBuilder<CommentedConfigurationNode> builder = TreeBuilder.of(CommentedConfigurationNode.root());
+        final CommentedConfigurationNode root = builder.root();
+        builder.value(builder.child(root, "name"), "test").comment("the name");
+        final CommentedConfigurationNode section = builder.child(root, "section");
+        builder.value(builder.child(section, "enabled"), true);
+        builder.value(builder.child(section, "count"), 5);
+        final CommentedConfigurationNode list = builder.child(root, "list");
+        builder.value(builder.appendListNode(list), "a");
+        builder.value(builder.child(builder.appendListNode(list), "nested"), 1);
+        builder.value(builder.child(root, "empty-map"), Collections.emptyMap());
+        builder.value(builder.child(root, "empty-list"), Collections.emptyList());
+        final CommentedConfigurationNode built = builder.build();
+
+        assertEquals(expected, built);
+        assertEquals("the name", built.node("name").comment());
+        assertEquals(Arrays.asList(0, 1), Arrays.asList(built.node("list", 0).key(), built.node("list", 1).key()));
+        assertEquals(Arrays.asList("list", 1, "nested"), Arrays.asList(built.node("list", 1, "nested").path().array()));
+        assertTrue(built.node("empty-map").isMap());
+        assertTrue(built.node("empty-list").isList());
+    }
+
+    @Test
+    void testNodesWithoutValuesAreNotAttached() {
+        final TreeBuilder<BasicConfigurationNode> builder = TreeBuilder.of(BasicConfigurationNode.root());
+        final BasicConfigurationNode root = builder.root();
+        final BasicConfigurationNode unset = builder.child(root, "unset");
+        builder.child(unset, "deeper");
+        builder.value(builder.child(root, "removed"), "value");
+        builder.value(builder.child(root, "removed"), null);
+        builder.value(builder.child(root, "kept"), "value");
+
+        final BasicConfigurationNode built = builder.build();
+        assertEquals(Collections.singleton("kept"), built.childrenMap().keySet());
+        assertTrue(unset.virtual());
+    }
+
+    @Test
+    void testPrimitiveValues() {
+        final BasicConfigurationNode expected = BasicConfigurationNode.root();
+        expected.node("int").raw(3);
+        expected.node("long").raw(Long.MAX_VALUE);
+        expected.node("double").raw(2.5);
+        expected.node("boolean").raw(false);
+        expected.node("list").appendListNode().raw(7);
+
+        final TreeBuilder<BasicConfigurationNode> builder = TreeBuilder.of(BasicConfigurationNode.root());
+        final BasicConfigurationNode root = builder.root();
+        builder.intValue(builder.child(root, "int"), 3);
+        builder.longValue(builder.child(root, "long"), Long.MAX_VALUE);
+        builder.doubleValue(builder.child(root, "double"), 2.5);
+        builder.booleanValue(builder.child(root, "boolean"), false);
+        builder.intValue(builder.appendListNode(builder.child(root, "list")), 7);
+        final BasicConfigurationNode built = builder.build();
+
+        assertEquals(expected, built);
+        assertEquals(3, built.node("int").getInt());
+        assertEquals(Long.MAX_VALUE, built.node("long").getLong());
+        assertEquals(2.5, built.node("double").getDouble());
+        assertFalse(built.node("boolean").getBoolean(true));
+        assertEquals(7, built.node("list", 0).raw());
+    }
+
+    @Test
+    void testBuiltTreeIsModifiable() {
+        final TreeBuilder<BasicConfigurationNode> builder = TreeBuilder.of(BasicConfigurationNode.root());
+        builder.value(builder.child(builder.root(), "a"), 1);
+        final BasicConfigurationNode built = builder.build();
+
+        built.node("b").raw(2);
+        built.node("a").raw(null);
+        assertEquals(Collections.singletonMap("b", 2), built.raw());
+        assertFalse(built.node("a").isMap());
+        assertThrows(IllegalStateException.class, () -> builder.child(built, "c"));
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.loader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.ConfigurationNode;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class ConfigurationEventReaderTest {
+
+    private static ConfigurationNode sample() {
+        return BasicConfigurationNode.root(n -> {
+            n.node("name").raw("test");
+            n.node("values").act(v -> {
+                v.appendListNode().raw(1);
+                v.appendListNode().raw(2);
+            });
+            n.node("nested", "flag").raw(true);
+        });
+    }
+
+    @Test
+    void testNodeEvents() throws IOException {
+        final List<ConfigurationEvent> events = new ArrayList<>();
+        try (ConfigurationEventReader reader = ConfigurationEventReader.of(sample())) {
+            ConfigurationEvent event;
+            do {
+                event = reader.next();
+                events.add(event);
+            } while (event != ConfigurationEvent.END_DOCUMENT);
+        }
+
+        assertEquals(Arrays.asList(
+            ConfigurationEvent.START_MAP,
+            ConfigurationEvent.KEY, ConfigurationEvent.SCALAR,
+            ConfigurationEvent.KEY, ConfigurationEvent.START_LIST, ConfigurationEvent.SCALAR, ConfigurationEvent.SCALAR,
+            ConfigurationEvent.END_LIST,
+            ConfigurationEvent.KEY, ConfigurationEvent.START_MAP, ConfigurationEvent.KEY, ConfigurationEvent.SCALAR,
+            ConfigurationEvent.END_MAP,
+            ConfigurationEvent.END_MAP,
+            ConfigurationEvent.END_DOCUMENT
+        ), events);
+    }
+
+    @Test
+    void testReadValueRoundTrip() throws IOException {
+        final ConfigurationNode source = sample();
+        final ConfigurationNode target = BasicConfigurationNode.root();
+        try (ConfigurationEventReader reader = ConfigurationEventReader.of(source)) {
+            reader.readValue(target);
+            assertEquals(ConfigurationEvent.END_DOCUMENT, reader.next());
+        }
+        assertEquals(source, target);
+    }
+
+    @Test
+    void testSkipValue() throws IOException {
+        try (ConfigurationEventReader reader = ConfigurationEventReader.of(sample())) {
+            assertEquals(ConfigurationEvent.START_MAP, reader.next());
+            assertEquals(ConfigurationEvent.KEY, reader.next());
+            reader.skipValue();
+            assertEquals(ConfigurationEvent.KEY, reader.next());
+            assertEquals("values", reader.key());
+            reader.skipValue();
+            assertEquals(ConfigurationEvent.KEY, reader.next());
+            assertEquals("nested", reader.key());
+        }
+    }
+
+    @Test
+    void testEmptyDocument() throws IOException {
+        try (ConfigurationEventReader reader = ConfigurationEventReader.of(BasicConfigurationNode.root())) {
+            assertEquals(ConfigurationEvent.END_DOCUMENT, reader.next());
+            assertEquals(ConfigurationEvent.END_DOCUMENT, reader.next());
+            assertThrows(IllegalStateException.class, reader::key);
+        }
+    }
+
+    @Test
+    void testLoaderFallback() throws IOException {
+        final TestConfigurationLoader loader = TestConfigurationLoader.builder()
+            .source(() -> new BufferedReader(new StringReader("hello")))
+            .build();
+        try (ConfigurationEventReader reader = loader.stream()) {
+            assertEquals(ConfigurationEvent.SCALAR, reader.next());
+            assertEquals("hello", reader.scalar());
+            assertEquals(ConfigurationEvent.END_DOCUMENT, reader.next());
+        }
+    }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.loader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.ConfigurationOptions;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+class LoaderCacheTest {
+
+    @Test
+    void testMemoryCacheSkipsUnchangedFiles(final @TempDir Path tempDir) throws IOException {
+        final Path file = tempDir.resolve("config.txt");
+        Files.write(file, "# A header\n\nfirst".getBytes(StandardCharsets.UTF_8));
+        final AtomicInteger parses = new AtomicInteger();
+        final CountingLoader loader = CountingLoader.builder(parses)
+            .path(file)
+            .cache(LoaderCache.memory())
+            .build();
+
+        final BasicConfigurationNode first = loader.load();
+        assertEquals("first", first.raw());
+        assertEquals("A header", first.options().header());
+        first.raw("modified in memory");
+
+        final BasicConfigurationNode second = loader.load();
+        assertEquals("first", second.raw());
+        assertEquals("A header", second.options().header());
+        assertEquals(1, parses.get());
+
+        Files.write(file, "second".getBytes(StandardCharsets.UTF_8));
+        assertEquals("second", loader.load().raw());
+        assertEquals(2, parses.get());
+    }
+
+    @Test
+    void testDirectoryCacheSurvivesRestart(final @TempDir Path tempDir) throws IOException {
+        final Path file = tempDir.resolve("config.txt");
+        final Path cacheDir = tempDir.resolve("cache");
+        Files.write(file, "persisted".getBytes(StandardCharsets.UTF_8));
+        final AtomicInteger parses = new AtomicInteger();
+
+        final CountingLoader loader = CountingLoader.builder(parses)
+            .path(file)
+            .cache(LoaderCache.directory(cacheDir, path -> TestConfigurationLoader.builder().path(path).build()))
+            .build();
+        assertEquals("persisted", loader.load().raw());
+        assertEquals(1, parses.get());
+
+        // a new loader and cache instance, as after a restart
+        final CountingLoader restarted = CountingLoader.builder(parses)
+            .path(file)
+            .cache(LoaderCache.directory(cacheDir, path -> TestConfigurationLoader.builder().path(path).build()))
+            .build();
+        assertEquals("persisted", restarted.load().raw());
+        assertEquals(1, parses.get());
+
+        Files.write(file, "changed!".getBytes(StandardCharsets.UTF_8));
+        assertEquals("changed!", restarted.load().raw());
+        assertEquals(2, parses.get());
+    }
+
+    @Test
+    void testCacheIgnoredWithoutPath() throws ConfigurateException {
+        final AtomicInteger parses = new AtomicInteger();
+        final CountingLoader loader = CountingLoader.builder(parses)
+            .source(() -> new BufferedReader(new StringReader("value")))
+            .cache(LoaderCache.memory())
+            .build();
+
+        loader.load();
+        loader.load();
+        assertEquals(2, parses.get());
+    }
+
+    static final class CountingLoader extends AbstractConfigurationLoader<BasicConfigurationNode> {
+
+        static final class Builder extends AbstractConfigurationLoader.Builder<Builder, CountingLoader> {
+
+            private final AtomicInteger parses;
+
+            Builder(final AtomicInteger parses) {
+                this.parses = parses;
+            }
+
+            @Override
+            public CountingLoader build() {
+                return new CountingLoader(this);
+            }
+
+        }
+
+        static Builder builder(final AtomicInteger parses) {
+            return new Builder(parses);
+        }
+
+        private final AtomicInteger parses;
+
+        CountingLoader(final Builder builder) {
+            super(builder, new CommentHandler[] {CommentHandlers.HASH});
+            this.parses = builder.parses;
+        }
+
+        @Override
+        protected void loadInternal(final BasicConfigurationNode node, final BufferedReader reader) {
+            this.parses.incrementAndGet();
+            node.raw(reader.lines().collect(Collectors.joining("\n")));
+        }
+
+        @Override
+        protected void saveInternal(final ConfigurationNode node, final Writer writer) throws ConfigurateException {
+            try {
+                writer.write(String.valueOf(node.raw()));
+            } catch (final IOException ex) {
+                throw new ConfigurateException(node, ex);
+            }
+        }
+
+        @Override
+        public BasicConfigurationNode createNode(final ConfigurationOptions options) {
+            return BasicConfigurationNode.root(options);
+        }
+
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.objectmapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.spongepowered.configurate.serialize.SerializationException;
+
+class MapperCacheTest {
+
+    @ConfigSerializable
+    static class First {
+        String value = "first";
+    }
+
+    @ConfigSerializable
+    static class Second {
+        String value = "second";
+    }
+
+    @ConfigSerializable
+    static class Third {
+        String value = "third";
+    }
+
+    @Test
+    void testCachedMapperReused() throws SerializationException {
+        final ObjectMapper.Factory factory = ObjectMapper.factoryBuilder().build();
+        final ObjectMapper<First> mapper = factory.get(First.class);
+        assertSame(mapper, factory.get(First.class));
+
+        final MapperCacheStatistics stats = factory.cacheStatistics();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(0, stats.evictions());
+        assertEquals(1, stats.size());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEviction() throws SerializationException {
+        final ObjectMapper.Factory factory = ObjectMapper.factoryBuilder()
+            .mapperCacheSize(2)
+            .build();
+        final ObjectMapper<First> first = factory.get(First.class);
+        final ObjectMapper<Second> second = factory.get(Second.class);
+        factory.get(First.class); // mark as recently used
+        factory.get(Third.class);
+
+        assertSame(first, factory.get(First.class));
+        assertNotSame(second, factory.get(Second.class));
+        assertEquals(2, factory.cacheStatistics().size());
+        assertEquals(2, factory.cacheStatistics().evictions());
+    }
+
+    @Test
+    void testFirstInFirstOutEviction() throws SerializationException {
+        final ObjectMapper.Factory factory = ObjectMapper.factoryBuilder()
+            .mapperCacheSize(2)
+            .mapperCacheEviction(MapperCacheEviction.FIRST_IN_FIRST_OUT)
+            .build();
+        final ObjectMapper<First> first = factory.get(First.class);
+        final ObjectMapper<Second> second = factory.get(Second.class);
+        factory.get(First.class);
+        factory.get(Third.class);
+
+        assertSame(second, factory.get(Second.class));
+        assertNotSame(first, factory.get(First.class));
+    }
+
+    @Test
+    void testInvalidCacheSize() {
+        assertThrows(IllegalArgumentException.class, () -> ObjectMapper.factoryBuilder().mapperCacheSize(0));
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.reference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.ConfigurationOptions;
+import org.spongepowered.configurate.NodePath;
+import org.spongepowered.configurate.loader.ConfigurationLoader;
+import org.spongepowered.configurate.serialize.ScalarSerializer;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+class ValueReferenceTest {
+
+    @Test
+    void testReloadSkipsUnchangedValues() throws ConfigurateException {
+        final AtomicInteger reads = new AtomicInteger();
+        final MemoryLoader loader = new MemoryLoader(reads);
+        loader.source.node("a").raw("one");
+        loader.source.node("b", "c").raw("two");
+
+        final ManualConfigurationReference<BasicConfigurationNode> ref = new ManualConfigurationReference<>(loader, Runnable::run);
+        ref.load();
+        final ValueReference<Counted, BasicConfigurationNode> a = ref.referenceTo(Counted.class, NodePath.path("a"));
+        final ValueReference<Counted, BasicConfigurationNode> c = ref.referenceTo(Counted.class, NodePath.path("b", "c"));
+        final List<String> seen = new ArrayList<>();
+        a.subscribe(v -> seen.add("a=" + v.value));
+        c.subscribe(v -> seen.add("c=" + v.value));
+        assertEquals(2, reads.get());
+        seen.clear(); // drop the values replayed on subscription
+
+        ref.load();
+        assertEquals(2, reads.get());
+        assertEquals(0, seen.size());
+
+        loader.source.node("b", "c").raw("three");
+        ref.load();
+        assertEquals(3, reads.get());
+        assertEquals("one", a.get().value);
+        assertEquals("three", c.get().value);
+        assertEquals(1, seen.size());
+        assertEquals("c=three", seen.get(0));
+    }
+
+    @Test
+    void testReloadAfterSetRestoresLoadedValue() throws ConfigurateException {
+        final MemoryLoader loader = new MemoryLoader(new AtomicInteger());
+        loader.source.node("a").raw("one");
+
+        final ManualConfigurationReference<BasicConfigurationNode> ref = new ManualConfigurationReference<>(loader, Runnable::run);
+        ref.load();
+        final ValueReference<Counted, BasicConfigurationNode> a = ref.referenceTo(Counted.class, NodePath.path("a"));
+        a.set(new Counted("changed"));
+        assertEquals("changed", a.get().value);
+
+        ref.load();
+        assertEquals("one", a.get().value);
+    }
+
+    static final class Counted {
+
+        final String value;
+
+        Counted(final String value) {
+            this.value = value;
+        }
+
+    }
+
+    static final class MemoryLoader implements ConfigurationLoader<BasicConfigurationNode> {
+
+        final BasicConfigurationNode source;
+        private final ConfigurationOptions options;
+
+        MemoryLoader(final AtomicInteger reads) {
+            this.options = ConfigurationOptions.defaults()
+                .serializers(s -> s.register(Counted.class, new CountedSerializer(reads)));
+            this.source = BasicConfigurationNode.root(this.options);
+        }
+
+        @Override
+        public ConfigurationOptions defaultOptions() {
+            return this.options;
+        }
+
+        @Override
+        public BasicConfigurationNode load(final ConfigurationOptions options) {
+            return BasicConfigurationNode.root(options).from(this.source);
+        }
+
+        @Override
+        public ConfigurationReference<BasicConfigurationNode> loadToReference() throws ConfigurateException {
+            return ConfigurationReference.fixed(this);
+        }
+
+        @Override
+        public void save(final ConfigurationNode node) {
+            this.source.from(node);
+        }
+
+        @Override
+        public BasicConfigurationNode createNode(final ConfigurationOptions options) {
+            return BasicConfigurationNode.root(options);
+        }
+
+    }
+
+    static final class CountedSerializer extends ScalarSerializer<Counted> {
+
+        private final AtomicInteger reads;
+
+        CountedSerializer(final AtomicInteger reads) {
+            super(Counted.class);
+            this.reads = reads;
+        }
+
+        @Override
+        public Counted deserialize(final Type type, final Object obj) {
+            this.reads.incrementAndGet();
+            return new Counted(obj.toString());
+        }
+
+        @Override
+        protected Object serialize(final Counted item, final Predicate<Class<?>> typeSupported) {
+            return item.value;
+        }
+
+        @Override
+        public @Nullable Counted emptyValue(final Type specificType, final ConfigurationOptions options) {
+            return null;
+        }
+
+    }
+
+}
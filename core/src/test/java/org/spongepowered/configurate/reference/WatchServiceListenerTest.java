@@ -111,6 +111,31 @@ class WatchServiceListenerTest {
         });
     }
 
+    @Test
+    void testDebounceCoalescesBursts() throws IOException, InterruptedException {
+        final Path tempFolder = Files.createTempDirectory("configurate-test");
+        final Path testFile = tempFolder.resolve("debounce.txt");
+        Files.write(testFile, Collections.singleton("version one"), StandardOpenOption.SYNC,
+            StandardOpenOption.CREATE);
+
+        try (WatchServiceListener debounced = WatchServiceListener.builder()
+            .debounce(Duration.ofMillis(500))
+            .pollInterval(Duration.ZERO)
+            .build()) {
+            final AtomicInteger callCount = new AtomicInteger(0);
+            debounced.listenToFile(testFile, event -> callCount.incrementAndGet());
+
+            for (int i = 0; i < 5; i++) {
+                Files.write(testFile, Collections.singleton("version " + i), StandardOpenOption.SYNC);
+                Thread.sleep(50);
+            }
+            assertEquals(0, callCount.get());
+
+            Thread.sleep(2000);
+            assertEquals(1, callCount.get());
+        }
+    }
+
     @Test
     @Disabled
     void testListenToDirectory() throws IOException, ConfigurateException {
@@ -36,6 +36,7 @@ import org.spongepowered.configurate.BasicConfigurationNode;
 import org.spongepowered.configurate.CommentedConfigurationNode;
 import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.ConfigurationOptions;
+import org.spongepowered.configurate.NodePath;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 import org.spongepowered.configurate.objectmapping.meta.Setting;
 import org.spongepowered.configurate.util.UnmodifiableCollections;
@@ -241,6 +242,30 @@ class TypeSerializersTest {
         assertEquals(-1, value.node("time").getInt());
     }
 
+    @Test
+    void testNestedCollectionsDeserializeFromNodeChildren() throws SerializationException {
+        final TypeToken<Map<String, List<int[]>>> nestedType = new TypeToken<Map<String, List<int[]>>>() {};
+        final TypeSerializer<Map<String, List<int[]>>> nestedSerializer = this.serializer(nestedType);
+
+        final BasicConfigurationNode value = BasicConfigurationNode.root();
+        for (int i = 0; i < 100; ++i) {
+            final BasicConfigurationNode list = value.node("key-" + i);
+            list.appendListNode().set(new int[] {i, i + 1});
+            list.appendListNode().set(new int[] {i * 2});
+        }
+
+        final Map<String, List<int[]>> deserialized = nestedSerializer.deserialize(nestedType.getType(), value);
+        assertEquals(100, deserialized.size());
+        assertArrayEquals(new int[] {42, 43}, deserialized.get("key-42").get(0));
+        assertArrayEquals(new int[] {84}, deserialized.get("key-42").get(1));
+        assertEquals("key-99", deserialized.keySet().stream().reduce((a, b) -> b).orElse(null));
+
+        value.node("key-7", 1).appendListNode().set("not a number");
+        final SerializationException ex = Assertions.assertThrows(SerializationException.class,
+            () -> nestedSerializer.deserialize(nestedType.getType(), value));
+        assertEquals(NodePath.path("key-7", 1, 1), ex.path());
+    }
+
     @Test
     void testInvalidMapValueTypes() throws SerializationException {
         final TypeToken<Map<TestEnum, Integer>> mapTestEnumIntType = new TypeToken<Map<TestEnum, Integer>>() {};
@@ -0,0 +1,159 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.transformation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.spongepowered.configurate.NodePath.path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.ConfigurationOptions;
+import org.spongepowered.configurate.loader.AbstractConfigurationLoader;
+import org.spongepowered.configurate.loader.CommentHandlers;
+import org.spongepowered.configurate.loader.ParsingException;
+import org.spongepowered.configurate.util.MapFactories;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+class BatchMigrationTest {
+
+    private static final ConfigurationTransformation.Versioned TRANSFORMATION = ConfigurationTransformation.versionedBuilder()
+        .makeVersion(1, v -> v.addAction(path("old"), (path, value) -> new Object[] {"new"}))
+        .build();
+
+    @Test
+    void testMigrateDirectory(final @TempDir Path tempDir) throws IOException {
+        for (int i = 0; i < 20; i++) {
+            final Path dir = Files.createDirectories(tempDir.resolve("dir" + (i % 3)));
+            Files.write(dir.resolve("config" + i + ".properties"), Collections.singletonList("old=" + i));
+        }
+        Files.write(tempDir.resolve("current.properties"), Arrays.asList("new=current", "version=1"));
+        Files.write(tempDir.resolve("ignored.txt"), Collections.singletonList("old=ignored"));
+        Files.write(tempDir.resolve("broken.properties"), Collections.singletonList("not a property"));
+
+        final AtomicInteger started = new AtomicInteger();
+        final BatchMigration.Result result = BatchMigration.builder()
+            .transformation(TRANSFORMATION)
+            .loaderFactory(file -> PropertiesLoader.builder().path(file).build())
+            .filter(file -> file.getFileName().toString().endsWith(".properties"))
+            .parallelism(4)
+            .listener(new BatchMigration.Listener() {
+                @Override
+                public void started(final int files) {
+                    started.set(files);
+                }
+            })
+            .build()
+            .migrateDirectory(tempDir);
+
+        assertEquals(22, started.get());
+        assertEquals(20, result.migrated());
+        assertEquals(1, result.upToDate());
+        assertFalse(result.successful());
+        assertEquals(Collections.singleton(tempDir.resolve("broken.properties")), result.failures().keySet());
+
+        assertEquals(Arrays.asList("new=7", "version=1"), Files.readAllLines(tempDir.resolve("dir1").resolve("config7.properties")));
+        assertEquals(Collections.singletonList("old=ignored"), Files.readAllLines(tempDir.resolve("ignored.txt")));
+        assertEquals(Collections.singletonList("not a property"), Files.readAllLines(tempDir.resolve("broken.properties")));
+    }
+
+    @Test
+    void testMigrateFilesOnExecutor(final @TempDir Path tempDir) throws IOException {
+        final Path file = tempDir.resolve("one.properties");
+        Files.write(file, Collections.singletonList("old=1"));
+
+        final BatchMigration.Result result = BatchMigration.builder()
+            .transformation(TRANSFORMATION)
+            .loaderFactory(path -> PropertiesLoader.builder().path(path).build())
+            .executor(Runnable::run)
+            .build()
+            .migrate(Collections.singletonList(file));
+
+        assertTrue(result.successful());
+        assertEquals(1, result.migrated());
+        assertEquals(Arrays.asList("new=1", "version=1"), Files.readAllLines(file));
+    }
+
+    /**
+     * A loader for flat files of {@code key=value} lines.
+     */
+    static final class PropertiesLoader extends AbstractConfigurationLoader<BasicConfigurationNode> {
+
+        static final class Builder extends AbstractConfigurationLoader.Builder<Builder, PropertiesLoader> {
+
+            @Override
+            public PropertiesLoader build() {
+                return new PropertiesLoader(this);
+            }
+
+        }
+
+        static Builder builder() {
+            return new Builder();
+        }
+
+        PropertiesLoader(final Builder builder) {
+            super(builder, new CommentHandlers[] {CommentHandlers.HASH});
+        }
+
+        @Override
+        protected void loadInternal(final BasicConfigurationNode node, final BufferedReader reader) throws ParsingException {
+            final List<String> lines = reader.lines().collect(Collectors.toList());
+            for (int i = 0; i < lines.size(); i++) {
+                final String line = lines.get(i);
+                final int split = line.indexOf('=');
+                if (split == -1) {
+                    throw new ParsingException(node, i + 1, 0, line, "Expected a key=value pair");
+                }
+                node.node(line.substring(0, split)).raw(line.substring(split + 1));
+            }
+        }
+
+        @Override
+        protected void saveInternal(final ConfigurationNode node, final Writer writer) throws ConfigurateException {
+            try {
+                for (final Map.Entry<Object, ? extends ConfigurationNode> entry : node.childrenMap().entrySet()) {
+                    writer.write(entry.getKey() + "=" + entry.getValue().getString() + System.lineSeparator());
+                }
+            } catch (final IOException ex) {
+                throw new ConfigurateException(node, ex);
+            }
+        }
+
+        @Override
+        public BasicConfigurationNode createNode(final ConfigurationOptions options) {
+            return BasicConfigurationNode.root(options.mapFactory(MapFactories.sortedNatural()));
+        }
+
+    }
+
+}
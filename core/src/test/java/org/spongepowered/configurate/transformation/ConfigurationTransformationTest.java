@@ -156,6 +156,111 @@ class ConfigurationTransformationTest {
         }).build()).apply(node);
     }
 
+    @Test
+    void testWildcardSeesNodesMovedByEarlierActions() throws ConfigurateException {
+        final BasicConfigurationNode node = BasicConfigurationNode.root();
+        node.node("a", "b", "c").raw("moved");
+        final List<NodePath> visited = new ArrayList<>();
+
+        ConfigurationTransformation.builder()
+            .addAction(path("a", ConfigurationTransformation.WILDCARD_OBJECT, "c"), (inputPath, valueAtPath) -> arr("a", "x", "d"))
+            .addAction(path("a", ConfigurationTransformation.WILDCARD_OBJECT, "d"), (inputPath, valueAtPath) -> {
+                visited.add(inputPath.copy());
+                return null;
+            })
+            .build()
+            .apply(node);
+
+        assertEquals(Arrays.asList(path("a", "x", "d")), visited);
+        assertEquals("moved", node.node("a", "x", "d").raw());
+    }
+
+    @Test
+    void testWildcardActionsModifyMatchedParent() throws ConfigurateException {
+        final BasicConfigurationNode node = BasicConfigurationNode.root();
+        for (int i = 0; i < 8; ++i) {
+            node.node("map", "key-" + i).raw(i);
+            node.node("list").appendListNode().raw(i);
+        }
+
+        ConfigurationTransformation.builder()
+            .addAction(path("map", ConfigurationTransformation.WILDCARD_OBJECT),
+                (inputPath, valueAtPath) -> arr("map", "renamed-" + inputPath.get(1)))
+            .addAction(path("list", ConfigurationTransformation.WILDCARD_OBJECT), (inputPath, valueAtPath) -> {
+                valueAtPath.raw(null);
+                return null;
+            })
+            .build()
+            .apply(node);
+
+        assertEquals(8, node.node("map").childrenMap().size());
+        for (int i = 0; i < 8; ++i) {
+            assertEquals(i, node.node("map", "renamed-key-" + i).raw());
+        }
+        assertTrue(node.node("list").empty());
+    }
+
+    @Test
+    void testFusedTransformations() throws ConfigurateException {
+        final BasicConfigurationNode node = BasicConfigurationNode.root();
+        node.node("a", "b").raw("something?");
+        final List<String> actualOutput = new ArrayList<>();
+        ConfigurationTransformation.fused(
+            ConfigurationTransformation.builder()
+                .addAction(path("a"), (inputPath, valueAtPath) -> {
+                    actualOutput.add("one a");
+                    return null;
+                }).build(),
+            ConfigurationTransformation.chain(
+                ConfigurationTransformation.builder()
+                    .addAction(path("a"), (inputPath, valueAtPath) -> {
+                        actualOutput.add("two a");
+                        return null;
+                    }).build(),
+                ConfigurationTransformation.builder()
+                    .addAction(path("a", ConfigurationTransformation.WILDCARD_OBJECT), (inputPath, valueAtPath) -> {
+                        actualOutput.add("three " + inputPath.copy());
+                        return arr("c");
+                    }).build())
+        ).apply(node);
+
+        assertEquals(Arrays.asList("three [a, b]", "one a", "two a"), actualOutput);
+        assertEquals("something?", node.node("c").raw());
+        assertTrue(node.node("a", "b").virtual());
+    }
+
+    @Test
+    void testFusedVersionedTransformation() throws ConfigurateException {
+        final List<Integer> updatedVersions = new ArrayList<>();
+        final ConfigurationTransformation.Versioned xform = ConfigurationTransformation.versionedBuilder()
+            .fused(true)
+            .makeVersion(1, version -> version.addAction(path("one"), (inputPath, valueAtPath) -> {
+                updatedVersions.add(1);
+                return null;
+            }))
+            .makeVersion(2, version -> version.addAction(path("two"), (inputPath, valueAtPath) -> {
+                updatedVersions.add(2);
+                return null;
+            }))
+            .build();
+
+        final BasicConfigurationNode fresh = BasicConfigurationNode.root();
+        fresh.node("one").raw("yes");
+        fresh.node("two").raw("yes");
+        xform.apply(fresh);
+        assertEquals(Arrays.asList(1, 2), updatedVersions);
+        assertEquals(2, fresh.node("version").getInt());
+
+        updatedVersions.clear();
+        final BasicConfigurationNode partial = BasicConfigurationNode.root();
+        partial.node("one").raw("yes");
+        partial.node("two").raw("yes");
+        partial.node("version").raw(1);
+        xform.apply(partial);
+        assertEquals(Arrays.asList(2), updatedVersions);
+        assertEquals(2, partial.node("version").getInt());
+    }
+
     @Test
     void testMoveToBase() throws ConfigurateException {
         final BasicConfigurationNode node = BasicConfigurationNode.root();
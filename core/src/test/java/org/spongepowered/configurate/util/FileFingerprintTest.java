@@ -0,0 +1,66 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+class FileFingerprintTest {
+
+    @Test
+    void testTouchKeepsFingerprint() throws IOException {
+        final Path file = Files.createTempFile("configurate-test", ".txt");
+        Files.write(file, "version one".getBytes(StandardCharsets.UTF_8));
+        final FileFingerprint original = FileFingerprint.of(file, null);
+        assertNotNull(original);
+
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+        assertTrue(original.sameContents(FileFingerprint.of(file, original)));
+
+        Files.write(file, "version one".getBytes(StandardCharsets.UTF_8));
+        assertTrue(original.sameContents(FileFingerprint.of(file, original)));
+    }
+
+    @Test
+    void testSameSizeRewriteChangesFingerprint() throws IOException {
+        final Path file = Files.createTempFile("configurate-test", ".txt");
+        Files.write(file, "version one".getBytes(StandardCharsets.UTF_8));
+        final FileFingerprint original = FileFingerprint.of(file, null);
+        assertNotNull(original);
+
+        Files.write(file, "version two".getBytes(StandardCharsets.UTF_8));
+        assertFalse(original.sameContents(FileFingerprint.of(file, original)));
+    }
+
+    @Test
+    void testMissingFile() throws IOException {
+        final Path file = Files.createTempFile("configurate-test", ".txt");
+        Files.delete(file);
+        assertNull(FileFingerprint.of(file, null));
+    }
+
+}
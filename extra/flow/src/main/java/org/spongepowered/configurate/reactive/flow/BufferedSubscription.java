@@ -0,0 +1,202 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.reactive.flow;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.reactive.Disposable;
+import org.spongepowered.configurate.reactive.Subscriber;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A subscription to a Configurate publisher on behalf of one
+ * {@link Flow.Subscriber}.
+ *
+ * <p>Values are pushed into a bounded buffer by the source, and drained to the
+ * subscriber as demand allows. Draining is serialized with a work-in-progress
+ * counter, so the subscriber is never called concurrently, whichever thread
+ * submits or requests.</p>
+ *
+ * @param <V> the value type
+ */
+final class BufferedSubscription<V> implements Flow.Subscription, Subscriber<V> {
+
+    private final Flow.Subscriber<? super V> downstream;
+    private final int capacity;
+    private final ArrayDeque<V> buffer;
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private volatile @Nullable Disposable upstream;
+    private volatile boolean cancelled;
+    private volatile boolean done;
+    private volatile @Nullable Throwable error;
+
+    BufferedSubscription(final Flow.Subscriber<? super V> downstream, final int capacity) {
+        this.downstream = downstream;
+        this.capacity = capacity;
+        this.buffer = new ArrayDeque<>(Math.min(capacity, 16));
+    }
+
+    void attach(final Disposable upstream) {
+        this.upstream = upstream;
+        if (this.cancelled) {
+            upstream.dispose();
+        }
+    }
+
+    // Configurate side
+
+    @Override
+    public void submit(final @Nullable V item) {
+        if (this.cancelled || this.done) {
+            return;
+        }
+        if (item == null) {
+            this.cancelUpstream();
+            this.onError(new NullPointerException("Flow subscribers cannot receive null values"));
+            return;
+        }
+
+        synchronized (this.buffer) {
+            if (this.buffer.size() == this.capacity) {
+                this.buffer.pollFirst();
+            }
+            this.buffer.addLast(item);
+        }
+        this.drain();
+    }
+
+    @Override
+    public void onError(final Throwable thrown) {
+        if (this.done) {
+            return;
+        }
+        this.error = thrown;
+        this.done = true;
+        this.drain();
+    }
+
+    @Override
+    public void onClose() {
+        this.done = true;
+        this.drain();
+    }
+
+    // Flow side
+
+    @Override
+    public void request(final long n) {
+        if (n <= 0) {
+            this.cancelUpstream();
+            this.onError(new IllegalArgumentException("Requested " + n + " elements, but must request a positive number"));
+            return;
+        }
+
+        long current;
+        long next;
+        do {
+            current = this.demand.get();
+            if (current == Long.MAX_VALUE) {
+                return;
+            }
+            next = current + n;
+            if (next < 0) {
+                next = Long.MAX_VALUE;
+            }
+        } while (!this.demand.compareAndSet(current, next));
+        this.drain();
+    }
+
+    @Override
+    public void cancel() {
+        this.cancelled = true;
+        this.cancelUpstream();
+        if (this.wip.getAndIncrement() == 0) {
+            this.clear();
+        }
+    }
+
+    private void cancelUpstream() {
+        final @Nullable Disposable upstream = this.upstream;
+        if (upstream != null) {
+            upstream.dispose();
+        }
+    }
+
+    private void clear() {
+        synchronized (this.buffer) {
+            this.buffer.clear();
+        }
+    }
+
+    private void drain() {
+        if (this.wip.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+        do {
+            final long requested = this.demand.get();
+            long emitted = 0;
+            while (true) {
+                if (this.cancelled) {
+                    this.clear();
+                    return;
+                }
+
+                final @Nullable Throwable error = this.error;
+                if (error != null) {
+                    this.cancelled = true;
+                    this.clear();
+                    this.downstream.onError(error);
+                    return;
+                }
+
+                final @Nullable V next;
+                synchronized (this.buffer) {
+                    next = emitted == requested ? null : this.buffer.pollFirst();
+                }
+                if (next == null) {
+                    break;
+                }
+                this.downstream.onNext(next);
+                emitted++;
+            }
+
+            if (this.done && this.error == null && this.empty()) {
+                this.cancelled = true;
+                this.downstream.onComplete();
+                return;
+            }
+
+            if (emitted != 0 && requested != Long.MAX_VALUE) {
+                this.demand.addAndGet(-emitted);
+            }
+            missed = this.wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private boolean empty() {
+        synchronized (this.buffer) {
+            return this.buffer.isEmpty();
+        }
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.reactive.flow;
+
+import static java.util.Objects.requireNonNull;
+
+import org.spongepowered.configurate.reactive.Publisher;
+
+import java.util.concurrent.Flow;
+
+/**
+ * A {@link Flow.Publisher} view of a Configurate {@link Publisher}.
+ *
+ * <p>Configurate publishers push every value to their subscribers as soon as
+ * it is available. This adapter holds values for each Flow subscriber in a
+ * bounded buffer and only delivers as many as the subscriber has
+ * {@link Flow.Subscription#request(long) requested}. When a buffer is full,
+ * the oldest value is discarded to make room, so a slow subscriber never
+ * accumulates more than {@code capacity} pending values.</p>
+ *
+ * <p>With a capacity of one, the adapter {@link #latest(Publisher) conflates}
+ * values: a subscriber only ever sees the most recent value published since
+ * its last request, which suits reload events where intermediate states do
+ * not matter.</p>
+ *
+ * <p>Flow does not permit {@code null} elements, so a {@code null} value from
+ * the source cancels the subscription and is reported as a
+ * {@link NullPointerException}. Closing the source completes every
+ * subscriber once its buffered values have been delivered.</p>
+ *
+ * @param <V> the value type
+ * @since 4.2.0
+ */
+public final class FlowPublisher<V> implements Flow.Publisher<V> {
+
+    private final Publisher<V> source;
+    private final int capacity;
+
+    /**
+     * Create a publisher that buffers up to {@code capacity} undelivered
+     * values per subscriber, discarding the oldest on overflow.
+     *
+     * @param source the publisher to adapt
+     * @param capacity the maximum number of values held per subscriber
+     * @param <V> the value type
+     * @return a new flow publisher
+     * @throws IllegalArgumentException if the capacity is not positive
+     * @since 4.2.0
+     */
+    public static <V> FlowPublisher<V> buffering(final Publisher<V> source, final int capacity) {
+        return new FlowPublisher<>(source, capacity);
+    }
+
+    /**
+     * Create a publisher that only holds the latest undelivered value
+     * per subscriber.
+     *
+     * @param source the publisher to adapt
+     * @param <V> the value type
+     * @return a new flow publisher
+     * @since 4.2.0
+     */
+    public static <V> FlowPublisher<V> latest(final Publisher<V> source) {
+        return new FlowPublisher<>(source, 1);
+    }
+
+    private FlowPublisher(final Publisher<V> source, final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1, but was " + capacity);
+        }
+        this.source = requireNonNull(source, "source");
+        this.capacity = capacity;
+    }
+
+    /**
+     * Get the maximum number of undelivered values held per subscriber.
+     *
+     * @return the buffer capacity
+     * @since 4.2.0
+     */
+    public int capacity() {
+        return this.capacity;
+    }
+
+    @Override
+    public void subscribe(final Flow.Subscriber<? super V> subscriber) {
+        requireNonNull(subscriber, "subscriber");
+        final BufferedSubscription<V> subscription = new BufferedSubscription<>(subscriber, this.capacity);
+        subscriber.onSubscribe(subscription);
+        subscription.attach(this.source.subscribe(subscription));
+    }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.reactive.flow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.jupiter.api.Test;
+import org.spongepowered.configurate.reactive.Processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+class FlowPublisherTest {
+
+    @Test
+    void testDeliversOnlyRequestedValues() {
+        final Processor.Iso<String> source = Processor.create(Runnable::run);
+        final Recorder<String> recorder = new Recorder<>();
+        FlowPublisher.buffering(source, 8).subscribe(recorder);
+
+        source.submit("one");
+        source.submit("two");
+        source.submit("three");
+        assertEquals(0, recorder.values.size());
+
+        recorder.subscription.request(2);
+        assertEquals(List.of("one", "two"), recorder.values);
+
+        recorder.subscription.request(5);
+        source.submit("four");
+        assertEquals(List.of("one", "two", "three", "four"), recorder.values);
+    }
+
+    @Test
+    void testOverflowDropsOldest() {
+        final Processor.Iso<Integer> source = Processor.create(Runnable::run);
+        final Recorder<Integer> recorder = new Recorder<>();
+        FlowPublisher.buffering(source, 2).subscribe(recorder);
+
+        for (int i = 0; i < 5; i++) {
+            source.submit(i);
+        }
+        recorder.subscription.request(Long.MAX_VALUE);
+        assertEquals(List.of(3, 4), recorder.values);
+    }
+
+    @Test
+    void testLatestConflates() {
+        final Processor.Iso<Integer> source = Processor.create(Runnable::run);
+        final Recorder<Integer> recorder = new Recorder<>();
+        FlowPublisher.latest(source).subscribe(recorder);
+
+        source.submit(1);
+        source.submit(2);
+        recorder.subscription.request(1);
+        source.submit(3);
+        source.submit(4);
+        recorder.subscription.request(1);
+        assertEquals(List.of(2, 4), recorder.values);
+    }
+
+    @Test
+    void testCloseCompletesAfterBuffer() {
+        final Processor.Iso<String> source = Processor.create(Runnable::run);
+        final Recorder<String> recorder = new Recorder<>();
+        FlowPublisher.buffering(source, 4).subscribe(recorder);
+
+        source.submit("one");
+        source.onClose();
+        assertFalse(recorder.completed);
+
+        recorder.subscription.request(1);
+        assertEquals(List.of("one"), recorder.values);
+        assertTrue(recorder.completed);
+    }
+
+    @Test
+    void testCancelStopsDelivery() {
+        final Processor.Iso<String> source = Processor.create(Runnable::run);
+        final Recorder<String> recorder = new Recorder<>();
+        FlowPublisher.buffering(source, 4).subscribe(recorder);
+
+        recorder.subscription.request(10);
+        source.submit("one");
+        recorder.subscription.cancel();
+        source.submit("two");
+        assertEquals(List.of("one"), recorder.values);
+        assertFalse(source.hasSubscribers());
+    }
+
+    @Test
+    void testInvalidRequestSignalsError() {
+        final Processor.Iso<String> source = Processor.create(Runnable::run);
+        final Recorder<String> recorder = new Recorder<>();
+        FlowPublisher.buffering(source, 4).subscribe(recorder);
+
+        recorder.subscription.request(0);
+        assertInstanceOf(IllegalArgumentException.class, recorder.error);
+    }
+
+    @Test
+    void testRejectsInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> FlowPublisher.buffering(Processor.create(), 0));
+    }
+
+    static final class Recorder<V> implements Flow.Subscriber<V> {
+
+        final List<V> values = new ArrayList<>();
+        Flow.@MonotonicNonNull Subscription subscription;
+        @Nullable Throwable error;
+        boolean completed;
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(final V item) {
+            this.values.add(item);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+
+    }
+
+}
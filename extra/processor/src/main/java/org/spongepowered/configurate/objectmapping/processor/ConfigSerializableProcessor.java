@@ -0,0 +1,374 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.objectmapping.processor;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates a {@code GeneratedFields} implementation for every
+ * {@code @ConfigSerializable} class in a compilation.
+ *
+ * <p>Generated classes are discovered by the object mapper at runtime by
+ * name, and describe the fields of their target without any reflective
+ * scanning. Fields that can be accessed from the target's package are read
+ * and written directly, while any others are described by name and resolved
+ * reflectively.</p>
+ *
+ * <p>Types this processor cannot describe (generic types, inner classes,
+ * inaccessible types, and any type with fields whose types cannot be
+ * expressed in source) are skipped with a note, and will continue to be
+ * handled by reflective discovery.</p>
+ *
+ * @since 4.2.0
+ */
+@SupportedAnnotationTypes(ConfigSerializableProcessor.CONFIG_SERIALIZABLE)
+public final class ConfigSerializableProcessor extends AbstractProcessor {
+
+    static final String CONFIG_SERIALIZABLE = "org.spongepowered.configurate.objectmapping.ConfigSerializable";
+    static final String CLASS_SUFFIX = "_ConfigurateFields";
+
+    private static final String GENERATED_FIELDS = "org.spongepowered.configurate.objectmapping.GeneratedFields";
+    private static final String SERIALIZATION_EXCEPTION = "org.spongepowered.configurate.serialize.SerializationException";
+    private static final String TYPE_FACTORY = "io.leangen.geantyref.TypeFactory";
+    private static final String INDENT = "    ";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        final @Nullable TypeElement annotation = this.processingEnv.getElementUtils().getTypeElement(CONFIG_SERIALIZABLE);
+        if (annotation == null) {
+            return false;
+        }
+
+        for (final Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+            // records, enums and interfaces are left to their own discoverers
+            if (element.getKind() != ElementKind.CLASS) {
+                continue;
+            }
+            final TypeElement type = (TypeElement) element;
+            try {
+                final @Nullable String source = this.generate(type);
+                if (source != null) {
+                    final JavaFileObject file = this.processingEnv.getFiler().createSourceFile(generatedName(type), type);
+                    try (Writer writer = file.openWriter()) {
+                        writer.write(source);
+                    }
+                }
+            } catch (final UnsupportedTypeException ex) {
+                this.processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.NOTE,
+                    "Not generating fields for " + type.getQualifiedName() + " (" + ex.getMessage() + "), it will be mapped reflectively",
+                    type
+                );
+            } catch (final IOException ex) {
+                this.processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "Unable to write generated fields for " + type.getQualifiedName() + ": " + ex.getMessage(),
+                    type
+                );
+            }
+        }
+        // other processors may be interested in the same annotation
+        return false;
+    }
+
+    /**
+     * Get the qualified name of the class generated for {@code type}.
+     *
+     * <p>This must agree with the name the object mapper looks up at
+     * runtime: the binary name of the type followed by a suffix. Keeping
+     * the {@code $} nested class separator means nested and top-level
+     * types never share a generated name.</p>
+     *
+     * @param type the target type
+     * @return the generated class name
+     */
+    private String generatedName(final TypeElement type) {
+        final String binaryName = this.processingEnv.getElementUtils().getBinaryName(type).toString();
+        return binaryName + CLASS_SUFFIX;
+    }
+
+    private @Nullable String generate(final TypeElement type) throws UnsupportedTypeException {
+        final PackageElement pkg = this.processingEnv.getElementUtils().getPackageOf(type);
+        this.checkSupported(type, pkg);
+
+        final String generatedName = this.generatedName(type);
+        final String simpleName = generatedName.substring(generatedName.lastIndexOf('.') + 1);
+        final String targetName = type.getQualifiedName().toString();
+        final List<String> fields = this.describeFields(type, pkg);
+
+        final StringBuilder source = new StringBuilder();
+        if (!pkg.isUnnamed()) {
+            source.append("package ").append(pkg.getQualifiedName()).append(";\n\n");
+        }
+        source.append("/**\n")
+            .append(" * Object mapper fields for {@link ").append(targetName).append("}.\n")
+            .append(" *\n")
+            .append(" * <p>Generated by ").append(ConfigSerializableProcessor.class.getName()).append(", do not edit.</p>\n")
+            .append(" */\n")
+            .append("public final class ").append(simpleName)
+            .append(" extends ").append(GENERATED_FIELDS).append('<').append(targetName).append("> {\n\n");
+
+        source.append(INDENT).append("public ").append(simpleName).append("() {\n")
+            .append(INDENT).append(INDENT).append("super(").append(targetName).append(".class);\n")
+            .append(INDENT).append("}\n\n");
+
+        source.append(INDENT).append("@Override\n")
+            .append(INDENT).append("protected java.util.function.Supplier<").append(targetName).append("> instanceFactory() {\n")
+            .append(INDENT).append(INDENT).append("return ")
+            .append(this.canConstruct(type) ? targetName + "::new" : "null").append(";\n")
+            .append(INDENT).append("}\n\n");
+
+        source.append(INDENT).append("@Override\n")
+            .append(INDENT).append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+            .append(INDENT).append("protected void describe(final ").append(GENERATED_FIELDS).append(".FieldSink<").append(targetName)
+            .append("> sink) throws ").append(SERIALIZATION_EXCEPTION).append(" {\n");
+        for (final String field : fields) {
+            source.append(INDENT).append(INDENT).append(field).append('\n');
+        }
+        source.append(INDENT).append("}\n\n")
+            .append("}\n");
+        return source.toString();
+    }
+
+    private void checkSupported(final TypeElement type, final PackageElement pkg) throws UnsupportedTypeException {
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new UnsupportedTypeException("generic types are resolved at runtime");
+        }
+        if (type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS) {
+            throw new UnsupportedTypeException("local classes cannot be referenced");
+        }
+        if (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)) {
+            throw new UnsupportedTypeException("inner classes require an enclosing instance");
+        }
+        if (!this.isAccessible(type, pkg)) {
+            throw new UnsupportedTypeException("the type is not accessible from its package");
+        }
+    }
+
+    private boolean canConstruct(final TypeElement type) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        for (final ExecutableElement ctor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (ctor.getParameters().isEmpty()) {
+                return !ctor.getModifiers().contains(Modifier.PRIVATE);
+            }
+        }
+        return false;
+    }
+
+    private List<String> describeFields(final TypeElement type, final PackageElement pkg) throws UnsupportedTypeException {
+        final List<String> fields = new ArrayList<>();
+        final Set<String> seenNames = new HashSet<>();
+        final DeclaredType target = (DeclaredType) type.asType();
+        // walk the hierarchy in the same order as the reflective discoverer: subclass fields first
+        String declaringExpr = type.getQualifiedName() + ".class";
+        TypeMirror current = target;
+        while (current.getKind() == TypeKind.DECLARED) {
+            final TypeElement declaring = (TypeElement) ((DeclaredType) current).asElement();
+            if (declaring.getQualifiedName().contentEquals("java.lang.Object")) {
+                break;
+            }
+
+            for (final VariableElement field : ElementFilter.fieldsIn(declaring.getEnclosedElements())) {
+                final Set<Modifier> modifiers = field.getModifiers();
+                if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)) {
+                    continue;
+                }
+                final String name = field.getSimpleName().toString();
+                final TypeMirror fieldType = this.processingEnv.getTypeUtils().asMemberOf(target, field);
+                final String typeExpr = this.typeExpression(fieldType, pkg, name);
+                // a hidden field can only be reached directly through a cast, so leave that to reflection
+                final boolean shadowed = !seenNames.add(name);
+                if (!shadowed && this.isDirectlyAccessible(field, declaring, pkg)) {
+                    final String erased = this.erasedName(fieldType);
+                    fields.add("sink.field(" + declaringExpr + ", \"" + name + "\", " + typeExpr + ", "
+                        + "instance -> instance." + name + ", "
+                        + "(instance, value) -> instance." + name + " = (" + erased + ") value);");
+                } else {
+                    fields.add("sink.reflectiveField(" + declaringExpr + ", \"" + name + "\", " + typeExpr + ");");
+                }
+            }
+
+            declaringExpr += ".getSuperclass()";
+            current = declaring.getSuperclass();
+        }
+        return fields;
+    }
+
+    private boolean isDirectlyAccessible(final VariableElement field, final TypeElement declaring, final PackageElement pkg) {
+        final Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.FINAL)) {
+            return false;
+        }
+        if (!this.isAccessible(declaring, pkg)) {
+            return false;
+        }
+        return modifiers.contains(Modifier.PUBLIC) || this.samePackage(declaring, pkg);
+    }
+
+    /**
+     * Get whether a type can be named from source in {@code pkg}.
+     *
+     * @param type the type to test
+     * @param pkg the package generated code is placed in
+     * @return whether the type is accessible
+     */
+    private boolean isAccessible(final TypeElement type, final PackageElement pkg) {
+        final boolean samePackage = this.samePackage(type, pkg);
+        Element element = type;
+        while (element.getKind().isClass() || element.getKind().isInterface()) {
+            final Set<Modifier> modifiers = element.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (!samePackage && !modifiers.contains(Modifier.PUBLIC)) {
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private boolean samePackage(final Element element, final PackageElement pkg) {
+        return this.processingEnv.getElementUtils().getPackageOf(element).equals(pkg);
+    }
+
+    /**
+     * Create a source expression producing a {@link java.lang.reflect.Type}
+     * equivalent to {@code type}.
+     *
+     * @param type the type to express
+     * @param pkg the package generated code is placed in
+     * @param fieldName the field being described, for error messages
+     * @return a source expression
+     * @throws UnsupportedTypeException if the type cannot be expressed
+     */
+    private String typeExpression(final TypeMirror type, final PackageElement pkg, final String fieldName) throws UnsupportedTypeException {
+        switch (type.getKind()) {
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case CHAR:
+            case FLOAT:
+            case DOUBLE:
+                return type.getKind().name().toLowerCase(java.util.Locale.ROOT) + ".class";
+            case ARRAY:
+                final TypeMirror component = ((ArrayType) type).getComponentType();
+                if (this.isReifiable(component)) {
+                    this.typeExpression(component, pkg, fieldName); // check accessibility
+                    return this.erasedName(type) + ".class";
+                }
+                return TYPE_FACTORY + ".arrayOf(" + this.typeExpression(component, pkg, fieldName) + ")";
+            case DECLARED:
+                final DeclaredType declared = (DeclaredType) type;
+                final TypeElement element = (TypeElement) declared.asElement();
+                if (!this.isAccessible(element, pkg)) {
+                    throw new UnsupportedTypeException("the type of field " + fieldName + " is not accessible");
+                }
+                final String literal = element.getQualifiedName() + ".class";
+                if (declared.getTypeArguments().isEmpty()) {
+                    return literal;
+                }
+                final StringBuilder expr = new StringBuilder(TYPE_FACTORY).append(".parameterizedClass(").append(literal);
+                for (final TypeMirror argument : declared.getTypeArguments()) {
+                    expr.append(", ").append(this.typeExpression(argument, pkg, fieldName));
+                }
+                return expr.append(')').toString();
+            case WILDCARD:
+                final WildcardType wildcard = (WildcardType) type;
+                if (wildcard.getExtendsBound() != null) {
+                    return TYPE_FACTORY + ".wildcardExtends(" + this.typeExpression(wildcard.getExtendsBound(), pkg, fieldName) + ")";
+                } else if (wildcard.getSuperBound() != null) {
+                    return TYPE_FACTORY + ".wildcardSuper(" + this.typeExpression(wildcard.getSuperBound(), pkg, fieldName) + ")";
+                }
+                return TYPE_FACTORY + ".unboundWildcard()";
+            default:
+                throw new UnsupportedTypeException("the type of field " + fieldName + " (" + type + ") cannot be expressed in source");
+        }
+    }
+
+    private boolean isReifiable(final TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return true;
+        } else if (type.getKind() == TypeKind.ARRAY) {
+            return this.isReifiable(((ArrayType) type).getComponentType());
+        } else if (type.getKind() == TypeKind.DECLARED) {
+            return ((DeclaredType) type).getTypeArguments().isEmpty();
+        }
+        return false;
+    }
+
+    private String erasedName(final TypeMirror type) {
+        final TypeMirror erased = this.processingEnv.getTypeUtils().erasure(type);
+        if (erased.getKind() == TypeKind.ARRAY) {
+            return this.erasedName(((ArrayType) erased).getComponentType()) + "[]";
+        } else if (erased.getKind() == TypeKind.DECLARED) {
+            return ((TypeElement) ((DeclaredType) erased).asElement()).getQualifiedName().toString();
+        }
+        return erased.toString();
+    }
+
+    /**
+     * Thrown when a type cannot be described by generated code.
+     */
+    static final class UnsupportedTypeException extends Exception {
+
+        private static final long serialVersionUID = -2815436148023117452L;
+
+        UnsupportedTypeException(final String message) {
+            super(message);
+        }
+
+    }
+
+}
@@ -0,0 +1,183 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.objectmapping.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spongepowered.configurate.BasicConfigurationNode;
+import org.spongepowered.configurate.objectmapping.GeneratedFields;
+import org.spongepowered.configurate.objectmapping.ObjectMapper;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+class ConfigSerializableProcessorTest {
+
+    private static final String SAMPLE = "package test;\n"
+        + "import org.spongepowered.configurate.objectmapping.ConfigSerializable;\n"
+        + "import java.util.List;\n"
+        + "@ConfigSerializable\n"
+        + "public class Sample {\n"
+        + "    String name = \"default\";\n"
+        + "    private int count = 3;\n"
+        + "    List<String> entries;\n"
+        + "    transient int ignored;\n"
+        + "    @ConfigSerializable static class Nested { String value; }\n"
+        + "    @ConfigSerializable static class Holder<T> { T value; }\n"
+        + "    @ConfigSerializable static class Hidden { String value = \"default\"; private Hidden() {} }\n"
+        + "}\n";
+
+    @Test
+    void testGeneratesFields(final @TempDir Path tempDir) throws IOException {
+        final DiagnosticCollector<JavaFileObject> diagnostics = this.compile(tempDir);
+
+        final Path generated = tempDir.resolve("generated/test/Sample" + ConfigSerializableProcessor.CLASS_SUFFIX + ".java");
+        assertTrue(Files.exists(generated));
+        final String source = new String(Files.readAllBytes(generated), StandardCharsets.UTF_8);
+        assertTrue(source.contains("sink.field(test.Sample.class, \"name\", java.lang.String.class"));
+        assertTrue(source.contains("sink.reflectiveField(test.Sample.class, \"count\", int.class);"));
+        assertTrue(source.contains("io.leangen.geantyref.TypeFactory.parameterizedClass(java.util.List.class, java.lang.String.class)"));
+        assertFalse(source.contains("\"ignored\""));
+
+        assertTrue(Files.exists(tempDir.resolve("classes/test/Sample$Nested" + ConfigSerializableProcessor.CLASS_SUFFIX + ".class")));
+        assertFalse(Files.exists(tempDir.resolve("generated/test/Sample$Holder" + ConfigSerializableProcessor.CLASS_SUFFIX + ".java")));
+        assertTrue(diagnostics.getDiagnostics().stream()
+            .anyMatch(it -> it.getKind() == Diagnostic.Kind.NOTE && it.getMessage(null).contains("test.Sample.Holder")));
+    }
+
+    @Test
+    void testObjectMapperUsesGeneratedFields(final @TempDir Path tempDir) throws Exception {
+        this.compile(tempDir);
+
+        try (RecordingClassLoader loader = new RecordingClassLoader(tempDir.resolve("classes").toUri().toURL())) {
+            final Class<?> sample = Class.forName("test.Sample", true, loader);
+            final BasicConfigurationNode source = BasicConfigurationNode.root(n -> {
+                n.node("name").raw("loaded");
+                n.node("count").raw(7);
+                n.node("entries").appendListNode().raw("a");
+                n.node("entries").appendListNode().raw("b");
+            });
+
+            final Object loaded = ObjectMapper.factory().get(sample).load(source);
+            assertTrue(loader.found.contains(GeneratedFields.generatedClassName(sample)),
+                () -> "Generated fields were not used, loaded " + loader.found);
+            assertEquals("loaded", this.fieldValue(sample, "name", loaded));
+            assertEquals(7, this.fieldValue(sample, "count", loaded));
+            assertEquals(Arrays.asList("a", "b"), this.fieldValue(sample, "entries", loaded));
+
+            final BasicConfigurationNode saved = BasicConfigurationNode.root();
+            this.saveUnchecked(ObjectMapper.factory().get(sample), loaded, saved);
+            assertEquals(source, saved);
+        }
+    }
+
+    @Test
+    void testPrivateConstructorFallsBackToReflection(final @TempDir Path tempDir) throws Exception {
+        this.compile(tempDir);
+
+        try (RecordingClassLoader loader = new RecordingClassLoader(tempDir.resolve("classes").toUri().toURL())) {
+            final Class<?> hidden = Class.forName("test.Sample$Hidden", true, loader);
+            final String generatedSource = new String(Files.readAllBytes(
+                tempDir.resolve("generated/test/Sample$Hidden" + ConfigSerializableProcessor.CLASS_SUFFIX + ".java")), StandardCharsets.UTF_8);
+            assertTrue(generatedSource.contains("return null;"));
+
+            final Object loaded = ObjectMapper.factory().get(hidden).load(BasicConfigurationNode.root(n -> n.node("value").raw("loaded")));
+            assertEquals("loaded", this.fieldValue(hidden, "value", loaded));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> void saveUnchecked(final ObjectMapper<V> mapper, final Object value, final BasicConfigurationNode target) throws Exception {
+        mapper.save((V) value, target);
+    }
+
+    private Object fieldValue(final Class<?> type, final String name, final Object instance) throws ReflectiveOperationException {
+        final Field field = type.getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(instance);
+    }
+
+    private DiagnosticCollector<JavaFileObject> compile(final Path tempDir) throws IOException {
+        final Path sourceFile = tempDir.resolve("src/test/Sample.java");
+        Files.createDirectories(sourceFile.getParent());
+        Files.write(sourceFile, SAMPLE.getBytes(StandardCharsets.UTF_8));
+        final Path classes = Files.createDirectories(tempDir.resolve("classes"));
+        final Path generated = Files.createDirectories(tempDir.resolve("generated"));
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertNotNull(compiler, "tests must be run on a JDK");
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            files.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singleton(classes.toFile()));
+            files.setLocation(StandardLocation.SOURCE_OUTPUT, Collections.singleton(generated.toFile()));
+            final JavaCompiler.CompilationTask task = compiler.getTask(
+                null,
+                files,
+                diagnostics,
+                Arrays.asList("-classpath", System.getProperty("java.class.path")),
+                null,
+                files.getJavaFileObjects(sourceFile.toFile())
+            );
+            task.setProcessors(Collections.singleton(new ConfigSerializableProcessor()));
+            assertEquals(true, task.call(), () -> "Compilation failed: " + diagnostics.getDiagnostics());
+        }
+        return diagnostics;
+    }
+
+    /**
+     * Loads compiled test sources, remembering which classes were found.
+     */
+    static final class RecordingClassLoader extends URLClassLoader {
+
+        final Set<String> found = Collections.synchronizedSet(new HashSet<>());
+
+        RecordingClassLoader(final URL classes) {
+            super(new URL[] {classes}, RecordingClassLoader.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> findClass(final String name) throws ClassNotFoundException {
+            final Class<?> found = super.findClass(name);
+            this.found.add(name);
+            return found;
+        }
+
+    }
+
+}
@@ -0,0 +1,363 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.binary;
+
+import static java.util.Objects.requireNonNull;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.CommentedConfigurationNode;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.ConfigurationOptions;
+import org.spongepowered.configurate.RepresentationHint;
+import org.spongepowered.configurate.loader.AbstractConfigurationLoader;
+import org.spongepowered.configurate.loader.AtomicFiles;
+import org.spongepowered.configurate.loader.ConfigurationLoader;
+import org.spongepowered.configurate.loader.LoaderCache;
+import org.spongepowered.configurate.loader.ParsingException;
+import org.spongepowered.configurate.reference.ConfigurationReference;
+import org.spongepowered.configurate.util.UnmodifiableCollections;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.UnaryOperator;
+
+/**
+ * A loader for a compact binary representation of a node tree.
+ *
+ * <p>Values are stored with their type, so numbers and booleans are restored
+ * without any string conversion. Comments and the document header are
+ * preserved. Representation hints are preserved when their value is a string,
+ * number, boolean, or enum constant, and the hint has been registered with
+ * {@link Builder#knownHints(RepresentationHint[])} for loading.</p>
+ *
+ * <p>This format is primarily intended as a cache for trees parsed from slower
+ * text formats, since the file can be read without any text parsing.</p>
+ *
+ * @since 4.2.0
+ */
+public final class BinaryConfigurationLoader implements ConfigurationLoader<CommentedConfigurationNode> {
+
+    /**
+     * Create a new builder for a binary loader.
+     *
+     * @return a new builder
+     * @since 4.2.0
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a persistent cache for parsed trees that stores each tree in the
+     * binary format.
+     *
+     * <p>This can be attached to loaders for slower text formats with
+     * {@link AbstractConfigurationLoader.Builder#cache(LoaderCache)}.</p>
+     *
+     * @param directory the directory to store cached trees in
+     * @param knownHints hints to restore when reading cached trees
+     * @return a new cache
+     * @since 4.2.0
+     */
+    public static LoaderCache cache(final Path directory, final RepresentationHint<?>... knownHints) {
+        return LoaderCache.directory(directory, file -> builder().knownHints(knownHints).path(file).build());
+    }
+
+    private final @Nullable Callable<InputStream> source;
+    private final @Nullable Callable<OutputStream> sink;
+    private final ConfigurationOptions defaultOptions;
+    private final Map<String, RepresentationHint<?>> knownHints;
+
+    BinaryConfigurationLoader(final Builder builder) {
+        this.source = builder.source();
+        this.sink = builder.sink();
+        this.defaultOptions = builder.defaultOptions();
+        this.knownHints = UnmodifiableCollections.copyOf(builder.knownHints);
+    }
+
+    @Override
+    public CommentedConfigurationNode load(ConfigurationOptions options) throws ParsingException {
+        if (this.source == null) {
+            throw new ParsingException(-1, -1, "", "No source present to read from!", null);
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(this.source.call()))) {
+            final BinaryNodeReader reader = new BinaryNodeReader(in, this.knownHints);
+            final @Nullable String header = reader.readPreamble();
+            if (header != null) {
+                options = options.header(header);
+            }
+            final CommentedConfigurationNode node = this.createNode(options);
+            reader.readNode(node);
+            return node;
+        } catch (final ParsingException ex) {
+            throw ex;
+        } catch (final FileNotFoundException | NoSuchFileException e) {
+            // Squash -- there's nothing to read
+            return this.createNode(options);
+        } catch (final IOException e) {
+            throw new ParsingException(-1, -1, options.header(), null, e);
+        } catch (final Exception e) {
+            throw new ParsingException(-1, -1, options.header(), "Unknown error occurred while loading", e);
+        }
+    }
+
+    @Override
+    public ConfigurationReference<CommentedConfigurationNode> loadToReference() throws ConfigurateException {
+        return ConfigurationReference.fixed(this);
+    }
+
+    @Override
+    public void save(final ConfigurationNode node) throws ConfigurateException {
+        if (this.sink == null) {
+            throw new ConfigurateException(node, "No sink present to write to!");
+        }
+        try (DataOutputStream out = new DataOutputStream(this.sink.call())) {
+            new BinaryNodeWriter(out).writeDocument(node);
+        } catch (final ConfigurateException ex) {
+            throw ex;
+        } catch (final Exception ex) {
+            throw new ConfigurateException(node, ex);
+        }
+    }
+
+    @Override
+    public ConfigurationOptions defaultOptions() {
+        return this.defaultOptions;
+    }
+
+    @Override
+    public CommentedConfigurationNode createNode(final ConfigurationOptions options) {
+        return CommentedConfigurationNode.root(options);
+    }
+
+    @Override
+    public boolean canLoad() {
+        return this.source != null;
+    }
+
+    @Override
+    public boolean canSave() {
+        return this.sink != null;
+    }
+
+    /**
+     * Builds a {@link BinaryConfigurationLoader}.
+     *
+     * @since 4.2.0
+     */
+    public static final class Builder {
+
+        private @Nullable Callable<InputStream> source;
+        private @Nullable Callable<OutputStream> sink;
+        private ConfigurationOptions defaultOptions = ConfigurationOptions.defaults();
+        private final Map<String, RepresentationHint<?>> knownHints = new HashMap<>();
+
+        Builder() {
+        }
+
+        /**
+         * Sets the sink and source of the resultant loader to the given path.
+         *
+         * <p>The sink is defined using {@link AtomicFiles}.</p>
+         *
+         * @param path the path of the configuration file
+         * @return this builder (for chaining)
+         * @since 4.2.0
+         */
+        public Builder path(final Path path) {
+            final Path absPath = requireNonNull(path, "path").toAbsolutePath();
+            this.source = () -> Files.newInputStream(absPath);
+            this.sink = AtomicFiles.atomicOutputStreamFactory(absPath);
+            return this;
+        }
+
+        /**
+         * Sets the source of the resultant loader to the given URL.
+         *
+         * @param url the URL of the source
+         * @return this builder (for chaining)
+         * @since 4.2.0
+         */
+        public Builder url(final URL url) {
+            requireNonNull(url, "url");
+            this.source = () -> url.openConnection().getInputStream();
+            return this;
+        }
+
+        /**
+         * Sets the source of the resultant loader.
+         *
+         * @param source the source
+         * @return this builder (for chaining)
+         * @since 4.2.0
+         */
+        public Builder source(final @Nullable Callable<InputStream> source) {
+            this.source = source;
+            return this;
+        }
+
+        /**
+         * Gets the source to be used by the resultant loader.
+         *
+         * @return the source
+         * @since 4.2.0
+         */
+        public @Nullable Callable<InputStream> source() {
+            return this.source;
+        }
+
+        /**
+         * Sets the sink of the resultant loader.
+         *
+         * <p>Streams provided by the sink are written to directly, so should
+         * perform their own buffering where appropriate.</p>
+         *
+         * @param sink the sink
+         * @return this builder (for chaining)
+         * @since 4.2.0
+         */
+        public Builder sink(final @Nullable Callable<OutputStream> sink) {
+            this.sink = sink;
+            return this;
+        }
+
+        /**
+         * Gets the sink to be used by the resultant loader.
+         *
+         * @return the sink
+         * @since 4.2.0
+         */
+        public @Nullable Callable<OutputStream> sink() {
+            return this.sink;
+        }
+
+        /**
+         * Sets the default configuration options to be used by the
+         * resultant loader.
+         *
+         * @param defaultOptions the options
+         * @return this builder (for chaining)
+         * @since 4.2.0
+         */
+        public Builder defaultOptions(final ConfigurationOptions defaultOptions) {
+            this.defaultOptions = requireNonNull(defaultOptions, "defaultOptions");
+            return this;
+        }
+
+        /**
+         * Sets the default configuration options to be used by the resultant
+         * loader by providing a function which takes the current default
+         * options and applies any desired changes.
+         *
+         * @param defaultOptions to transform the existing default options
+         * @return this builder (for chaining)
+         * @since 4.2.0
+         */
+        public Builder defaultOptions(final UnaryOperator<ConfigurationOptions> defaultOptions) {
+            this.defaultOptions = requireNonNull(defaultOptions.apply(this.defaultOptions), "defaultOptions (updated)");
+            return this;
+        }
+
+        /**
+         * Gets the default configuration options to be used by the resultant
+         * loader.
+         *
+         * @return the options
+         * @since 4.2.0
+         */
+        public ConfigurationOptions defaultOptions() {
+            return this.defaultOptions;
+        }
+
+        /**
+         * Register hints that should be restored when loading.
+         *
+         * <p>Hints are stored by identifier, so only hints registered here can
+         * be matched back up with their values. Stored hints with unknown
+         * identifiers are skipped.</p>
+         *
+         * @param hints the hints to recognize
+         * @return this builder (for chaining)
+         * @since 4.2.0
+         */
+        public Builder knownHints(final RepresentationHint<?>... hints) {
+            for (final RepresentationHint<?> hint : hints) {
+                this.knownHints.put(hint.identifier(), hint);
+            }
+            return this;
+        }
+
+        /**
+         * Builds the loader.
+         *
+         * @return a new loader
+         * @since 4.2.0
+         */
+        public BinaryConfigurationLoader build() {
+            return new BinaryConfigurationLoader(this);
+        }
+
+        /**
+         * Configure to read from a byte array, build, and load in one step.
+         *
+         * @param input the input to load
+         * @return a deserialized node
+         * @throws ConfigurateException if the input is not valid
+         * @since 4.2.0
+         */
+        public CommentedConfigurationNode buildAndLoadBytes(final byte[] input) throws ConfigurateException {
+            requireNonNull(input, "input");
+            return this.source(() -> new ByteArrayInputStream(input))
+                .build()
+                .load();
+        }
+
+        /**
+         * Configure to write to a byte array, build, and save in one step.
+         *
+         * @param output the node to write
+         * @return the encoded node
+         * @throws ConfigurateException if the node could not be written
+         * @since 4.2.0
+         */
+        public byte[] buildAndSaveBytes(final ConfigurationNode output) throws ConfigurateException {
+            requireNonNull(output, "output");
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            this.sink(() -> bytes)
+                .build()
+                .save(output);
+            return bytes.toByteArray();
+        }
+
+    }
+
+}
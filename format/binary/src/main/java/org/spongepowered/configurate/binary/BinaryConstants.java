@@ -0,0 +1,62 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.binary;
+
+/**
+ * Constants shared between the binary reader and writer.
+ *
+ * <p>A document is the {@link #MAGIC} number, a {@link #VERSION} byte, the
+ * (nullable) header string, then the root node. Each node is a single tag byte,
+ * followed by the node's comment if {@link #FLAG_COMMENT} is set, the node's
+ * hints if {@link #FLAG_HINTS} is set, and finally the payload for the type in
+ * the lower bits of the tag.</p>
+ *
+ * <p>All lengths and counts are unsigned variable-length integers, and
+ * integral values other than bytes are zig-zag encoded variable-length
+ * integers. Each boxed number type has its own tag, so values are read back
+ * as the type they were written as. Strings are stored as a byte length
+ * followed by their UTF-8 encoding.</p>
+ */
+final class BinaryConstants {
+
+    static final int MAGIC = 0x43464742; // CFGB
+    static final int VERSION = 1;
+
+    static final int TYPE_MASK = 0x0F;
+    static final int FLAG_COMMENT = 0x10;
+    static final int FLAG_HINTS = 0x20;
+
+    static final int TYPE_NULL = 0;
+    static final int TYPE_FALSE = 1;
+    static final int TYPE_TRUE = 2;
+    static final int TYPE_INT = 3;
+    static final int TYPE_LONG = 4;
+    static final int TYPE_FLOAT = 5;
+    static final int TYPE_DOUBLE = 6;
+    static final int TYPE_STRING = 7;
+    static final int TYPE_BIG_INTEGER = 8;
+    static final int TYPE_BIG_DECIMAL = 9;
+    static final int TYPE_BYTES = 10;
+    static final int TYPE_MAP = 11;
+    static final int TYPE_LIST = 12;
+    static final int TYPE_SHORT = 13;
+    static final int TYPE_BYTE = 14;
+
+    private BinaryConstants() {
+    }
+
+}
@@ -0,0 +1,262 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.binary;
+
+import static org.spongepowered.configurate.binary.BinaryConstants.FLAG_COMMENT;
+import static org.spongepowered.configurate.binary.BinaryConstants.FLAG_HINTS;
+import static org.spongepowered.configurate.binary.BinaryConstants.MAGIC;
+import static org.spongepowered.configurate.binary.BinaryConstants.TYPE_BIG_DECIMAL;
+import static org.spongepowered.configurate.binary.BinaryConstants.TYPE_BIG_INTEGER;
+import static org.spongepowered.configurate.binary.BinaryConstants.TYPE_BYTE;
+import static org.spongepowered.configurate.binary.BinaryConstants.TYPE_BYTES;
+import static org.spongepowered.configurate.binary.BinaryConstants.TYPE_DOUBLE;
+import static org.spongepowered.configurate.binary.BinaryConstants.TYPE_FALSE;
+import static org.spongepowered.configurate.binary.BinaryConstants.TYPE_FLOAT;
+import static org.spongepowered.configurate.binary.BinaryConstants.TYPE_INT;
+import static org.spongepowered.configurate.binary.BinaryConstants.TYPE_LIST;
+import static org.spongepowered.configurate.binary.BinaryConstants.TYPE_LONG;
+import static org.spongepowered.configurate.binary.BinaryConstants.TYPE_MAP;
+import static org.spongepowered.configurate.binary.BinaryConstants.TYPE_MASK;
+import static org.spongepowered.configurate.binary.BinaryConstants.TYPE_NULL;
+import static org.spongepowered.configurate.binary.BinaryConstants.TYPE_SHORT;
+import static org.spongepowered.configurate.binary.BinaryConstants.TYPE_STRING;
+import static org.spongepowered.configurate.binary.BinaryConstants.TYPE_TRUE;
+import static org.spongepowered.configurate.binary.BinaryConstants.VERSION;
+
+import io.leangen.geantyref.GenericTypeReflector;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.CommentedConfigurationNodeIntermediary;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.RepresentationHint;
+import org.spongepowered.configurate.loader.ParsingException;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Reads a node tree in the binary format.
+ *
+ * @see BinaryConstants for a description of the format
+ */
+final class BinaryNodeReader {
+
+    private static final int READ_CHUNK_SIZE = 8192;
+    // nodes are read recursively, so a corrupt document could otherwise exhaust the stack
+    private static final int MAX_NESTING_DEPTH = 512;
+
+    private final DataInputStream in;
+    private final Map<String, RepresentationHint<?>> knownHints;
+
+    BinaryNodeReader(final DataInputStream in, final Map<String, RepresentationHint<?>> knownHints) {
+        this.in = in;
+        this.knownHints = knownHints;
+    }
+
+    /**
+     * Read and validate the document preamble.
+     *
+     * @return the document header, if any
+     * @throws IOException if the input is not a binary configuration document
+     */
+    @Nullable String readPreamble() throws IOException {
+        final int magic = this.in.readInt();
+        if (magic != MAGIC) {
+            throw new ParsingException(-1, -1, null, "Input is not a binary configuration document", null);
+        }
+        final int version = this.in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new ParsingException(-1, -1, null, "Unsupported binary format version " + version + " (expected " + VERSION + ")", null);
+        }
+        return this.in.readUnsignedByte() == 0 ? null : this.readString();
+    }
+
+    void readNode(final ConfigurationNode node) throws IOException {
+        this.readNode(node, 0);
+    }
+
+    private void readNode(final ConfigurationNode node, final int depth) throws IOException {
+        final int tag = this.in.readUnsignedByte();
+        if ((tag & FLAG_COMMENT) != 0) {
+            final String comment = this.readString();
+            if (node instanceof CommentedConfigurationNodeIntermediary<?>) {
+                ((CommentedConfigurationNodeIntermediary<?>) node).comment(comment);
+            }
+        }
+        if ((tag & FLAG_HINTS) != 0) {
+            final int count = this.readLength();
+            for (int i = 0; i < count; ++i) {
+                final String identifier = this.readString();
+                final @Nullable Object value = this.readValue();
+                final @Nullable RepresentationHint<?> hint = this.knownHints.get(identifier);
+                if (hint != null) {
+                    applyHint(node, hint, value);
+                }
+            }
+        }
+
+        final int type = tag & TYPE_MASK;
+        if ((type == TYPE_MAP || type == TYPE_LIST) && depth >= MAX_NESTING_DEPTH) {
+            throw new ParsingException(node, -1, -1, null, "Nesting Depth exceeded max " + MAX_NESTING_DEPTH, null);
+        }
+        switch (type) {
+            case TYPE_MAP: {
+                final int count = this.readLength();
+                if (count == 0) {
+                    node.raw(Collections.emptyMap());
+                }
+                for (int i = 0; i < count; ++i) {
+                    final @Nullable Object key = this.readValue();
+                    if (key == null) {
+                        throw new ParsingException(node, -1, -1, null, "Map keys may not be null", null);
+                    }
+                    this.readNode(node.node(key), depth + 1);
+                }
+                break;
+            }
+            case TYPE_LIST: {
+                final int count = this.readLength();
+                if (count == 0) {
+                    node.raw(Collections.emptyList());
+                }
+                for (int i = 0; i < count; ++i) {
+                    this.readNode(node.appendListNode(), depth + 1);
+                }
+                break;
+            }
+            default:
+                node.raw(this.readPayload(node, type));
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void applyHint(final ConfigurationNode node, final RepresentationHint<?> hint, final @Nullable Object value) {
+        final Class<?> type = GenericTypeReflector.erase(hint.valueType().getType());
+        if (type.isInstance(value)) {
+            node.hint((RepresentationHint) hint, value);
+        } else if (type.isEnum() && value instanceof String) {
+            try {
+                node.hint((RepresentationHint) hint, Enum.valueOf((Class) type, (String) value));
+            } catch (final IllegalArgumentException ex) {
+                // constant no longer exists, so the hint is dropped
+            }
+        }
+    }
+
+    private @Nullable Object readValue() throws IOException {
+        final int type = this.in.readUnsignedByte();
+        return this.readPayload(null, type);
+    }
+
+    private @Nullable Object readPayload(final @Nullable ConfigurationNode node, final int type) throws IOException {
+        switch (type) {
+            case TYPE_NULL:
+                return null;
+            case TYPE_FALSE:
+                return Boolean.FALSE;
+            case TYPE_TRUE:
+                return Boolean.TRUE;
+            case TYPE_INT:
+                return unZigZag(this.readVarInt());
+            case TYPE_SHORT:
+                return (short) unZigZag(this.readVarInt());
+            case TYPE_BYTE:
+                return this.in.readByte();
+            case TYPE_LONG:
+                return unZigZag(this.readVarLong());
+            case TYPE_FLOAT:
+                return this.in.readFloat();
+            case TYPE_DOUBLE:
+                return this.in.readDouble();
+            case TYPE_STRING:
+                return this.readString();
+            case TYPE_BIG_INTEGER:
+                return new BigInteger(this.readBytes());
+            case TYPE_BIG_DECIMAL:
+                final int scale = unZigZag(this.readVarInt());
+                return new BigDecimal(new BigInteger(this.readBytes()), scale);
+            case TYPE_BYTES:
+                return this.readBytes();
+            default:
+                final String message = "Unknown value type " + type;
+                throw node == null ? new ParsingException(-1, -1, null, message, null) : new ParsingException(node, -1, -1, null, message, null);
+        }
+    }
+
+    private String readString() throws IOException {
+        return new String(this.readBytes(), StandardCharsets.UTF_8);
+    }
+
+    private byte[] readBytes() throws IOException {
+        // the length has not been checked against the input yet, so only grow the buffer as data actually arrives
+        final int length = this.readLength();
+        byte[] data = new byte[Math.min(length, READ_CHUNK_SIZE)];
+        this.in.readFully(data);
+        while (data.length < length) {
+            final int filled = data.length;
+            data = Arrays.copyOf(data, (int) Math.min(length, filled * 2L));
+            this.in.readFully(data, filled, data.length - filled);
+        }
+        return data;
+    }
+
+    private int readLength() throws IOException {
+        final int length = this.readVarInt();
+        if (length < 0) {
+            throw new ParsingException(-1, -1, null, "Invalid length " + (length & 0xFFFFFFFFL), null);
+        }
+        return length;
+    }
+
+    private static int unZigZag(final int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long unZigZag(final long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private int readVarInt() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            final int read = this.in.readUnsignedByte();
+            value |= (read & 0x7F) << shift;
+            if ((read & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new ParsingException(-1, -1, null, "Variable-length integer is too long", null);
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            final int read = this.in.readUnsignedByte();
+            value |= (long) (read & 0x7F) << shift;
+            if ((read & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new ParsingException(-1, -1, null, "Variable-length integer is too long", null);
+    }
+
+}
@@ -0,0 +1,276 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.binary;
+
+import static org.spongepowered.configurate.binary.BinaryConstants.FLAG_COMMENT;
+import static org.spongepowered.configurate.binary.BinaryConstants.FLAG_HINTS;
+import static org.spongepowered.configurate.binary.BinaryConstants.MAGIC;
+import static org.spongepowered.configurate.binary.BinaryConstants.TYPE_BIG_DECIMAL;
+import static org.spongepowered.configurate.binary.BinaryConstants.TYPE_BIG_INTEGER;
+import static org.spongepowered.configurate.binary.BinaryConstants.TYPE_BYTE;
+import static org.spongepowered.configurate.binary.BinaryConstants.TYPE_BYTES;
+import static org.spongepowered.configurate.binary.BinaryConstants.TYPE_DOUBLE;
+import static org.spongepowered.configurate.binary.BinaryConstants.TYPE_FALSE;
+import static org.spongepowered.configurate.binary.BinaryConstants.TYPE_FLOAT;
+import static org.spongepowered.configurate.binary.BinaryConstants.TYPE_INT;
+import static org.spongepowered.configurate.binary.BinaryConstants.TYPE_LIST;
+import static org.spongepowered.configurate.binary.BinaryConstants.TYPE_LONG;
+import static org.spongepowered.configurate.binary.BinaryConstants.TYPE_MAP;
+import static org.spongepowered.configurate.binary.BinaryConstants.TYPE_NULL;
+import static org.spongepowered.configurate.binary.BinaryConstants.TYPE_SHORT;
+import static org.spongepowered.configurate.binary.BinaryConstants.TYPE_STRING;
+import static org.spongepowered.configurate.binary.BinaryConstants.TYPE_TRUE;
+import static org.spongepowered.configurate.binary.BinaryConstants.VERSION;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.CommentedConfigurationNodeIntermediary;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.RepresentationHint;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes a node tree in the binary format.
+ *
+ * @see BinaryConstants for a description of the format
+ */
+final class BinaryNodeWriter {
+
+    private final DataOutputStream out;
+
+    BinaryNodeWriter(final DataOutputStream out) {
+        this.out = out;
+    }
+
+    void writeDocument(final ConfigurationNode node) throws IOException {
+        this.out.writeInt(MAGIC);
+        this.out.writeByte(VERSION);
+        this.writeNullableString(node.options().header());
+        this.writeNode(node);
+    }
+
+    private void writeNode(final ConfigurationNode node) throws IOException {
+        final @Nullable String comment = node instanceof CommentedConfigurationNodeIntermediary<?>
+            ? ((CommentedConfigurationNodeIntermediary<?>) node).comment() : null;
+        final @Nullable List<Map.Entry<RepresentationHint<?>, Object>> hints = encodableHints(node.ownHints());
+
+        final int type;
+        final @Nullable Object scalar;
+        if (node.isMap()) {
+            type = TYPE_MAP;
+            scalar = null;
+        } else if (node.isList()) {
+            type = TYPE_LIST;
+            scalar = null;
+        } else {
+            scalar = node.rawScalar();
+            type = typeOf(scalar);
+        }
+
+        int tag = type;
+        if (comment != null) {
+            tag |= FLAG_COMMENT;
+        }
+        if (hints != null) {
+            tag |= FLAG_HINTS;
+        }
+        this.out.writeByte(tag);
+
+        if (comment != null) {
+            this.writeString(comment);
+        }
+        if (hints != null) {
+            this.writeVarInt(hints.size());
+            for (final Map.Entry<RepresentationHint<?>, Object> hint : hints) {
+                this.writeString(hint.getKey().identifier());
+                this.writeValue(hint.getValue());
+            }
+        }
+
+        if (type == TYPE_MAP) {
+            final Map<Object, ? extends ConfigurationNode> children = node.childrenMap();
+            this.writeVarInt(children.size());
+            for (final Map.Entry<Object, ? extends ConfigurationNode> child : children.entrySet()) {
+                this.writeValue(child.getKey());
+                this.writeNode(child.getValue());
+            }
+        } else if (type == TYPE_LIST) {
+            final List<? extends ConfigurationNode> children = node.childrenList();
+            this.writeVarInt(children.size());
+            for (final ConfigurationNode child : children) {
+                this.writeNode(child);
+            }
+        } else {
+            this.writePayload(type, scalar);
+        }
+    }
+
+    private static @Nullable List<Map.Entry<RepresentationHint<?>, Object>> encodableHints(final Map<RepresentationHint<?>, ?> hints) {
+        if (hints.isEmpty()) {
+            return null;
+        }
+
+        @Nullable List<Map.Entry<RepresentationHint<?>, Object>> result = null;
+        for (final Map.Entry<RepresentationHint<?>, ?> hint : hints.entrySet()) {
+            final @Nullable Object value = hint.getValue();
+            final @Nullable Object encoded;
+            if (value instanceof Enum<?>) {
+                encoded = ((Enum<?>) value).name();
+            } else if (value instanceof String || value instanceof Boolean || value instanceof Number) {
+                encoded = value;
+            } else {
+                // not representable, so not persisted
+                continue;
+            }
+
+            if (result == null) {
+                result = new ArrayList<>(hints.size());
+            }
+            result.add(new AbstractMap.SimpleImmutableEntry<>(hint.getKey(), encoded));
+        }
+        return result;
+    }
+
+    private static int typeOf(final @Nullable Object value) {
+        if (value == null) {
+            return TYPE_NULL;
+        } else if (value instanceof Boolean) {
+            return (Boolean) value ? TYPE_TRUE : TYPE_FALSE;
+        } else if (value instanceof Integer) {
+            return TYPE_INT;
+        } else if (value instanceof Short) {
+            return TYPE_SHORT;
+        } else if (value instanceof Byte) {
+            return TYPE_BYTE;
+        } else if (value instanceof Long) {
+            return TYPE_LONG;
+        } else if (value instanceof Float) {
+            return TYPE_FLOAT;
+        } else if (value instanceof Double) {
+            return TYPE_DOUBLE;
+        } else if (value instanceof BigInteger) {
+            return TYPE_BIG_INTEGER;
+        } else if (value instanceof BigDecimal) {
+            return TYPE_BIG_DECIMAL;
+        } else if (value instanceof byte[]) {
+            return TYPE_BYTES;
+        } else {
+            // everything else is written in its string form, as text formats would
+            return TYPE_STRING;
+        }
+    }
+
+    private void writeValue(final @Nullable Object value) throws IOException {
+        final int type = typeOf(value);
+        this.out.writeByte(type);
+        this.writePayload(type, value);
+    }
+
+    private void writePayload(final int type, final @Nullable Object value) throws IOException {
+        switch (type) {
+            case TYPE_NULL:
+            case TYPE_FALSE:
+            case TYPE_TRUE:
+                break;
+            case TYPE_INT:
+            case TYPE_SHORT:
+                this.writeVarInt(zigZag(((Number) value).intValue()));
+                break;
+            case TYPE_BYTE:
+                this.out.writeByte((Byte) value);
+                break;
+            case TYPE_LONG:
+                this.writeVarLong(zigZag(((Number) value).longValue()));
+                break;
+            case TYPE_FLOAT:
+                this.out.writeFloat((Float) value);
+                break;
+            case TYPE_DOUBLE:
+                this.out.writeDouble((Double) value);
+                break;
+            case TYPE_BIG_INTEGER:
+                this.writeBytes(((BigInteger) value).toByteArray());
+                break;
+            case TYPE_BIG_DECIMAL:
+                final BigDecimal decimal = (BigDecimal) value;
+                this.writeVarInt(zigZag(decimal.scale()));
+                this.writeBytes(decimal.unscaledValue().toByteArray());
+                break;
+            case TYPE_BYTES:
+                this.writeBytes((byte[]) value);
+                break;
+            case TYPE_STRING:
+                this.writeString(String.valueOf(value));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown scalar type " + type);
+        }
+    }
+
+    private void writeNullableString(final @Nullable String value) throws IOException {
+        if (value == null) {
+            this.out.writeByte(0);
+        } else {
+            this.out.writeByte(1);
+            this.writeString(value);
+        }
+    }
+
+    private void writeString(final String value) throws IOException {
+        this.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void writeBytes(final byte[] value) throws IOException {
+        this.writeVarInt(value.length);
+        this.out.write(value);
+    }
+
+    private static int zigZag(final int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static long zigZag(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private void writeVarInt(final int value) throws IOException {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            this.out.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        this.out.writeByte(remaining);
+    }
+
+    private void writeVarLong(final long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            this.out.writeByte((int) (remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        this.out.writeByte((int) remaining);
+    }
+
+}
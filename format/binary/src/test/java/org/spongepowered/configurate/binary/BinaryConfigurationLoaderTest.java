@@ -0,0 +1,173 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.binary;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.spongepowered.configurate.CommentedConfigurationNode;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationOptions;
+import org.spongepowered.configurate.RepresentationHint;
+import org.spongepowered.configurate.loader.ConfigurationFormat;
+import org.spongepowered.configurate.loader.ParsingException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+class BinaryConfigurationLoaderTest {
+
+    enum Style {
+        FLOW,
+        BLOCK
+    }
+
+    private static final RepresentationHint<Style> STYLE = RepresentationHint.of("style", Style.class);
+    private static final RepresentationHint<String> TAG = RepresentationHint.of("tag", String.class);
+    private static final RepresentationHint<Short> WIDTH = RepresentationHint.of("width", Short.class);
+
+    @Test
+    void testRoundTripPreservesTypes() throws ConfigurateException {
+        final CommentedConfigurationNode source = CommentedConfigurationNode.root(ConfigurationOptions.defaults().header("File header"));
+        source.node("int").raw(-42);
+        source.node("long").raw(Long.MAX_VALUE);
+        source.node("short").raw((short) -300);
+        source.node("byte").raw((byte) 0x7F);
+        source.node("float").raw(1.5f);
+        source.node("double").raw(-2.25d);
+        source.node("bool").raw(true);
+        source.node("string").raw("hello ☃");
+        source.node("big-int").raw(new BigInteger("123456789012345678901234567890"));
+        source.node("big-decimal").raw(new BigDecimal("-1234.5678"));
+        source.node("bytes").raw(new byte[] {1, 2, 3});
+        source.node("list").appendListNode().raw("a");
+        source.node("list").appendListNode().raw(2);
+        source.node("empty-map").raw(Collections.emptyMap());
+        source.node("empty-list").raw(Collections.emptyList());
+        source.node(7, "numeric key").raw("value");
+
+        final byte[] encoded = BinaryConfigurationLoader.builder().buildAndSaveBytes(source);
+        final CommentedConfigurationNode result = BinaryConfigurationLoader.builder().buildAndLoadBytes(encoded);
+
+        assertEquals("File header", result.options().header());
+        assertEquals(-42, result.node("int").raw());
+        assertEquals(Long.MAX_VALUE, result.node("long").raw());
+        assertEquals((short) -300, result.node("short").raw());
+        assertEquals((byte) 0x7F, result.node("byte").raw());
+        assertEquals(1.5f, result.node("float").raw());
+        assertEquals(-2.25d, result.node("double").raw());
+        assertEquals(true, result.node("bool").raw());
+        assertEquals("hello ☃", result.node("string").raw());
+        assertEquals(new BigInteger("123456789012345678901234567890"), result.node("big-int").raw());
+        assertEquals(new BigDecimal("-1234.5678"), result.node("big-decimal").raw());
+        assertArrayEquals(new byte[] {1, 2, 3}, (byte[]) result.node("bytes").raw());
+        assertEquals(Arrays.asList("a", 2), result.node("list").raw());
+        assertTrue(result.node("empty-map").isMap());
+        assertTrue(result.node("empty-list").isList());
+        assertEquals("value", result.node(7, "numeric key").raw());
+        assertEquals(source.childrenMap().keySet(), result.childrenMap().keySet());
+    }
+
+    @Test
+    void testCommentsAndHints() throws ConfigurateException {
+        final CommentedConfigurationNode source = CommentedConfigurationNode.root();
+        source.node("a").comment("A comment\nover two lines").raw("value");
+        source.node("b").hint(STYLE, Style.FLOW).hint(TAG, "!custom").hint(WIDTH, (short) 4).raw(1);
+        source.node("c").hint(RepresentationHint.of("unknown", String.class), "dropped").raw(2);
+
+        final byte[] encoded = BinaryConfigurationLoader.builder().buildAndSaveBytes(source);
+        final CommentedConfigurationNode result = BinaryConfigurationLoader.builder()
+            .knownHints(STYLE, TAG, WIDTH)
+            .buildAndLoadBytes(encoded);
+
+        assertEquals("A comment\nover two lines", result.node("a").comment());
+        assertEquals(Style.FLOW, result.node("b").ownHints().get(STYLE));
+        assertEquals("!custom", result.node("b").ownHints().get(TAG));
+        assertEquals((short) 4, result.node("b").ownHints().get(WIDTH));
+        assertTrue(result.node("c").ownHints().isEmpty());
+        assertNull(result.node("b").comment());
+    }
+
+    @Test
+    void testSaveAndLoadPath(final @TempDir Path tempDir) throws IOException {
+        final Path file = tempDir.resolve("config.cfgb");
+        final BinaryConfigurationLoader loader = BinaryConfigurationLoader.builder().path(file).build();
+
+        assertTrue(loader.load().empty());
+
+        final CommentedConfigurationNode node = loader.createNode();
+        node.node("server", "port").raw(25565);
+        loader.save(node);
+
+        assertEquals(25565, loader.load().node("server", "port").raw());
+        assertTrue(ConfigurationFormat.forExtension("cfgb") instanceof BinaryConfigurationFormat);
+    }
+
+    @Test
+    void testRejectsTextInput(final @TempDir Path tempDir) throws IOException {
+        final Path file = tempDir.resolve("config.cfgb");
+        Files.write(file, "test = 1".getBytes(StandardCharsets.UTF_8));
+        final BinaryConfigurationLoader loader = BinaryConfigurationLoader.builder().path(file).build();
+
+        assertThrows(ParsingException.class, loader::load);
+    }
+
+    @Test
+    void testTruncatedLengthDoesNotAllocate() {
+        final byte[] encoded = {
+            0x43, 0x46, 0x47, 0x42, // magic
+            1, // version
+            0, // no header
+            7, // string node
+            (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, // Integer.MAX_VALUE bytes long
+            'a', 'b', 'c'
+        };
+
+        assertThrows(ConfigurateException.class, () -> BinaryConfigurationLoader.builder().buildAndLoadBytes(encoded));
+    }
+
+    @Test
+    void testDeeplyNestedInputIsRejected() {
+        final int depth = 100_000;
+        final byte[] encoded = new byte[6 + depth * 2 + 1];
+        encoded[0] = 0x43; // magic
+        encoded[1] = 0x46;
+        encoded[2] = 0x47;
+        encoded[3] = 0x42;
+        encoded[4] = 1; // version
+        encoded[5] = 0; // no header
+        for (int i = 0; i < depth; ++i) {
+            encoded[6 + i * 2] = 12; // list node
+            encoded[7 + i * 2] = 1; // with one element
+        }
+        encoded[encoded.length - 1] = 0; // null node
+
+        assertThrows(ParsingException.class, () -> BinaryConfigurationLoader.builder().buildAndLoadBytes(encoded));
+    }
+
+}
@@ -32,9 +32,11 @@ import org.spongepowered.configurate.BasicConfigurationNode;
 import org.spongepowered.configurate.ConfigurateException;
 import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.ConfigurationOptions;
+import org.spongepowered.configurate.TreeBuilder;
 import org.spongepowered.configurate.loader.AbstractConfigurationLoader;
 import org.spongepowered.configurate.loader.CommentHandler;
 import org.spongepowered.configurate.loader.CommentHandlers;
+import org.spongepowered.configurate.loader.ConfigurationEventReader;
 import org.spongepowered.configurate.loader.LoaderOptionSource;
 import org.spongepowered.configurate.loader.ParsingException;
 import org.spongepowered.configurate.serialize.TypeSerializerCollection;
@@ -202,13 +204,34 @@ public final class GsonConfigurationLoader extends AbstractConfigurationLoader<B
 
         try (JsonReader parser = new JsonReader(reader)) {
             parser.setLenient(this.lenient);
-            this.parseValue(parser, node);
+            final TreeBuilder<BasicConfigurationNode> tree = TreeBuilder.of(node);
+            this.parseValue(parser, tree, node);
+            tree.build();
         } catch (final IOException ex) {
             throw ParsingException.wrap(node, ex);
         }
     }
 
-    private void parseValue(final JsonReader parser, final BasicConfigurationNode node) throws ParsingException {
+    @Override
+    protected ConfigurationEventReader streamInternal(final BufferedReader reader) throws ParsingException {
+        try {
+            reader.mark(1);
+            if (reader.read() == -1) {
+                reader.close();
+                return ConfigurationEventReader.empty();
+            }
+            reader.reset();
+        } catch (final IOException ex) {
+            throw new ParsingException(0, 0, null, "peeking file size", ex);
+        }
+
+        final JsonReader parser = new JsonReader(reader);
+        parser.setLenient(this.lenient);
+        return new GsonEventReader(parser);
+    }
+
+    private void parseValue(final JsonReader parser, final TreeBuilder<BasicConfigurationNode> tree,
+            final BasicConfigurationNode node) throws ParsingException {
         final JsonToken token;
         try {
             token = parser.peek();
@@ -219,23 +242,23 @@ public final class GsonConfigurationLoader extends AbstractConfigurationLoader<B
         try {
             switch (token) {
                 case BEGIN_OBJECT:
-                    this.parseObject(parser, node);
+                    this.parseObject(parser, tree, node);
                     break;
                 case BEGIN_ARRAY:
-                    this.parseArray(parser, node);
+                    this.parseArray(parser, tree, node);
                     break;
                 case NUMBER:
-                    node.raw(this.readNumber(parser));
+                    readNumber(parser, tree, node);
                     break;
                 case STRING:
-                    node.raw(parser.nextString());
+                    tree.value(node, parser.nextString());
                     break;
                 case BOOLEAN:
-                    node.raw(parser.nextBoolean());
+                    tree.booleanValue(node, parser.nextBoolean());
                     break;
                 case NULL: // Ignored values
                     parser.nextNull();
-                    node.raw(null);
+                    tree.value(node, null);
                     break;
                 case NAME:
                     break;
@@ -257,7 +280,7 @@ public final class GsonConfigurationLoader extends AbstractConfigurationLoader<B
         return new ParsingException(node, JsonReaderAccess.lineNumber(reader), JsonReaderAccess.column(reader), null, message, cause);
     }
 
-    private Number readNumber(final JsonReader reader) throws IOException {
+    static Number readNumber(final JsonReader reader) throws IOException {
         final String number = reader.nextString();
         if (number.contains(".")) {
             return Double.parseDouble(number);
@@ -270,7 +293,24 @@ public final class GsonConfigurationLoader extends AbstractConfigurationLoader<B
         return nextLong;
     }
 
-    private void parseArray(final JsonReader parser, final BasicConfigurationNode node) throws IOException {
+    private static void readNumber(final JsonReader reader, final TreeBuilder<BasicConfigurationNode> tree,
+            final BasicConfigurationNode node) throws IOException {
+        final String number = reader.nextString();
+        if (number.contains(".")) {
+            tree.doubleValue(node, Double.parseDouble(number));
+            return;
+        }
+        final long nextLong = Long.parseLong(number);
+        final int nextInt = (int) nextLong;
+        if (nextInt == nextLong) {
+            tree.intValue(node, nextInt);
+        } else {
+            tree.longValue(node, nextLong);
+        }
+    }
+
+    private void parseArray(final JsonReader parser, final TreeBuilder<BasicConfigurationNode> tree,
+            final BasicConfigurationNode node) throws IOException {
         parser.beginArray();
 
         boolean written = false;
@@ -280,18 +320,19 @@ public final class GsonConfigurationLoader extends AbstractConfigurationLoader<B
                 parser.endArray();
                 // ensure the type is preserved
                 if (!written) {
-                    node.raw(Collections.emptyList());
+                    tree.value(node, Collections.emptyList());
                 }
                 return;
             } else {
-                this.parseValue(parser, node.appendListNode());
+                this.parseValue(parser, tree, tree.appendListNode(node));
                 written = true;
             }
         }
         throw this.newException(parser, node, "Reached end of stream with unclosed array!", null);
     }
 
-    private void parseObject(final JsonReader parser, final BasicConfigurationNode node) throws ParsingException, IOException {
+    private void parseObject(final JsonReader parser, final TreeBuilder<BasicConfigurationNode> tree,
+            final BasicConfigurationNode node) throws ParsingException, IOException {
         parser.beginObject();
 
         boolean written = false;
@@ -303,11 +344,11 @@ public final class GsonConfigurationLoader extends AbstractConfigurationLoader<B
                     parser.endObject();
                     // ensure the type is preserved
                     if (!written) {
-                        node.raw(Collections.emptyMap());
+                        tree.value(node, Collections.emptyMap());
                     }
                     return;
                 case NAME:
-                    this.parseValue(parser, node.node(parser.nextName()));
+                    this.parseValue(parser, tree, tree.child(node, parser.nextName()));
                     written = true;
                     break;
                 default:
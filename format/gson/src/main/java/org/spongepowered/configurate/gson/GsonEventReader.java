@@ -0,0 +1,145 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.gson;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.loader.ConfigurationEvent;
+import org.spongepowered.configurate.loader.ConfigurationEventReader;
+import org.spongepowered.configurate.loader.ParsingException;
+
+import java.io.IOException;
+
+/**
+ * An event reader pulling tokens directly from a {@link JsonReader}.
+ */
+final class GsonEventReader implements ConfigurationEventReader {
+
+    private final JsonReader parser;
+    private @Nullable ConfigurationEvent current;
+    private @Nullable Object key;
+    private @Nullable Object scalar;
+
+    GsonEventReader(final JsonReader parser) {
+        this.parser = parser;
+    }
+
+    @Override
+    public ConfigurationEvent next() throws ParsingException {
+        this.key = null;
+        this.scalar = null;
+        try {
+            return this.current = this.advance();
+        } catch (final JsonParseException | IOException ex) {
+            throw new ParsingException(
+                JsonReaderAccess.lineNumber(this.parser),
+                JsonReaderAccess.column(this.parser),
+                null,
+                ex.getMessage(),
+                ex.getCause() == null ? ex : ex.getCause()
+            );
+        }
+    }
+
+    private ConfigurationEvent advance() throws IOException {
+        if (this.current == ConfigurationEvent.END_DOCUMENT) {
+            return ConfigurationEvent.END_DOCUMENT;
+        }
+
+        final JsonToken token = this.parser.peek();
+        switch (token) {
+            case BEGIN_OBJECT:
+                this.parser.beginObject();
+                return ConfigurationEvent.START_MAP;
+            case END_OBJECT:
+                this.parser.endObject();
+                return ConfigurationEvent.END_MAP;
+            case BEGIN_ARRAY:
+                this.parser.beginArray();
+                return ConfigurationEvent.START_LIST;
+            case END_ARRAY:
+                this.parser.endArray();
+                return ConfigurationEvent.END_LIST;
+            case NAME:
+                this.key = this.parser.nextName();
+                return ConfigurationEvent.KEY;
+            case NUMBER:
+                this.scalar = GsonConfigurationLoader.readNumber(this.parser);
+                return ConfigurationEvent.SCALAR;
+            case STRING:
+                this.scalar = this.parser.nextString();
+                return ConfigurationEvent.SCALAR;
+            case BOOLEAN:
+                this.scalar = this.parser.nextBoolean();
+                return ConfigurationEvent.SCALAR;
+            case NULL:
+                this.parser.nextNull();
+                return ConfigurationEvent.SCALAR;
+            case END_DOCUMENT:
+                return ConfigurationEvent.END_DOCUMENT;
+            default:
+                throw new JsonParseException("Unsupported token type: " + token);
+        }
+    }
+
+    @Override
+    public Object key() {
+        if (this.current != ConfigurationEvent.KEY || this.key == null) {
+            throw new IllegalStateException("Current event is " + this.current + ", not KEY");
+        }
+        return this.key;
+    }
+
+    @Override
+    public @Nullable Object scalar() {
+        if (this.current != ConfigurationEvent.SCALAR) {
+            throw new IllegalStateException("Current event is " + this.current + ", not SCALAR");
+        }
+        return this.scalar;
+    }
+
+    @Override
+    public void skipValue() throws ParsingException {
+        try {
+            this.key = null;
+            this.scalar = null;
+            // gson can skip without decoding strings or numbers
+            if (this.parser.peek() == JsonToken.END_DOCUMENT) {
+                this.current = ConfigurationEvent.END_DOCUMENT;
+                return;
+            }
+            this.parser.skipValue();
+            this.current = null;
+        } catch (final IOException ex) {
+            throw new ParsingException(
+                JsonReaderAccess.lineNumber(this.parser),
+                JsonReaderAccess.column(this.parser),
+                null,
+                ex.getMessage(),
+                ex
+            );
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.parser.close();
+    }
+
+}
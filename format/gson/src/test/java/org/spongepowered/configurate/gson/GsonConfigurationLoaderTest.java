@@ -29,6 +29,8 @@ import org.spongepowered.configurate.ConfigurateException;
 import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.NodePath;
 import org.spongepowered.configurate.loader.AtomicFiles;
+import org.spongepowered.configurate.loader.ConfigurationEvent;
+import org.spongepowered.configurate.loader.ConfigurationEventReader;
 import org.spongepowered.configurate.loader.ConfigurationLoader;
 import org.spongepowered.configurate.loader.HeaderMode;
 import org.spongepowered.configurate.loader.ParsingException;
@@ -187,4 +189,38 @@ class GsonConfigurationLoaderTest {
         assertTrue(ex.rawMessage().contains("Unterminated string"));
     }
 
+    @Test
+    void testStreamMatchesLoad() throws IOException {
+        final URL url = this.getClass().getResource("/example.json");
+        final ConfigurationLoader<BasicConfigurationNode> loader = GsonConfigurationLoader.builder()
+                .url(url)
+                .build();
+
+        final BasicConfigurationNode streamed = loader.createNode();
+        try (ConfigurationEventReader reader = loader.stream()) {
+            reader.readValue(streamed);
+            assertEquals(ConfigurationEvent.END_DOCUMENT, reader.next());
+        }
+        assertEquals(loader.load(), streamed);
+    }
+
+    @Test
+    void testStreamSkipsEntries() throws IOException {
+        final ConfigurationLoader<BasicConfigurationNode> loader = GsonConfigurationLoader.builder()
+                .source(() -> new BufferedReader(new StringReader("{\"skipped\": {\"a\": [1, 2, 3]}, \"kept\": 2.5}")))
+                .build();
+
+        try (ConfigurationEventReader reader = loader.stream()) {
+            assertEquals(ConfigurationEvent.START_MAP, reader.next());
+            assertEquals(ConfigurationEvent.KEY, reader.next());
+            assertEquals("skipped", reader.key());
+            reader.skipValue();
+            assertEquals(ConfigurationEvent.KEY, reader.next());
+            assertEquals("kept", reader.key());
+            assertEquals(ConfigurationEvent.SCALAR, reader.next());
+            assertEquals(2.5d, reader.scalar());
+            assertEquals(ConfigurationEvent.END_MAP, reader.next());
+            assertEquals(ConfigurationEvent.END_DOCUMENT, reader.next());
+        }
+    }
 }
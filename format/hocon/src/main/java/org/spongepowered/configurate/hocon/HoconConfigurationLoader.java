@@ -33,6 +33,7 @@ import org.spongepowered.configurate.CommentedConfigurationNodeIntermediary;
 import org.spongepowered.configurate.ConfigurateException;
 import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.ConfigurationOptions;
+import org.spongepowered.configurate.TreeBuilder;
 import org.spongepowered.configurate.loader.AbstractConfigurationLoader;
 import org.spongepowered.configurate.loader.CommentHandler;
 import org.spongepowered.configurate.loader.CommentHandlers;
@@ -209,12 +210,15 @@ public final class HoconConfigurationLoader extends AbstractConfigurationLoader<
             throw new ParsingException(node, ex.origin().lineNumber(), 0, ex.origin().description(), null, ex);
         }
 
+        final TreeBuilder<CommentedConfigurationNode> tree = TreeBuilder.of(node);
         for (Map.Entry<String, ConfigValue> ent : hoconConfig.root().entrySet()) {
-            readConfigValue(ent.getValue(), node.node(ent.getKey()));
+            readConfigValue(ent.getValue(), tree, tree.child(node, ent.getKey()));
         }
+        tree.build();
     }
 
-    private static void readConfigValue(final ConfigValue value, final CommentedConfigurationNode node) {
+    private static void readConfigValue(final ConfigValue value, final TreeBuilder<CommentedConfigurationNode> tree,
+            final CommentedConfigurationNode node) {
         if (!value.origin().comments().isEmpty()) {
             node.comment(value.origin().comments().stream()
                 .map(input -> {
@@ -232,27 +236,27 @@ public final class HoconConfigurationLoader extends AbstractConfigurationLoader<
             case OBJECT:
                 final ConfigObject object = (ConfigObject) value;
                 if (object.isEmpty()) {
-                    node.raw(Collections.emptyMap());
+                    tree.value(node, Collections.emptyMap());
                 } else {
                     for (Map.Entry<String, ConfigValue> ent : object.entrySet()) {
-                        readConfigValue(ent.getValue(), node.node(ent.getKey()));
+                        readConfigValue(ent.getValue(), tree, tree.child(node, ent.getKey()));
                     }
                 }
                 break;
             case LIST:
                 final ConfigList list = (ConfigList) value;
                 if (list.isEmpty()) {
-                    node.raw(Collections.emptyList());
+                    tree.value(node, Collections.emptyList());
                 } else {
-                    for (int i = 0; i < list.size(); ++i) {
-                        readConfigValue(list.get(i), node.node(i));
+                    for (final ConfigValue element : list) {
+                        readConfigValue(element, tree, tree.appendListNode(node));
                     }
                 }
                 break;
             case NULL:
                 return;
             default:
-                node.raw(value.unwrapped());
+                tree.value(node, value.unwrapped());
                 break;
         }
     }
@@ -264,12 +268,24 @@ public final class HoconConfigurationLoader extends AbstractConfigurationLoader<
                 writer.write(SYSTEM_LINE_SEPARATOR);
                 return;
             }
-            final ConfigValue value = fromValue(node);
-            final String renderedValue = value.render(this.render);
-            writer.write(renderedValue);
         } catch (final IOException io) {
             throw new ConfigurateException(node, io);
         }
+        node.visit(new HoconVisitor(this.render), writer);
+    }
+
+    /**
+     * Render a node by converting it to a typesafe-config value tree.
+     *
+     * <p>Saving writes directly through a {@link HoconVisitor}, which must
+     * produce identical output to this method.</p>
+     *
+     * @param node the node to render
+     * @param options the options to render with
+     * @return the rendered node
+     */
+    static String renderTree(final ConfigurationNode node, final ConfigRenderOptions options) {
+        return fromValue(node).render(options);
     }
 
     private static ConfigValue fromValue(final ConfigurationNode node) {
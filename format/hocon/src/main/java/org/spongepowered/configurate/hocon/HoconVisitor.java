@@ -0,0 +1,284 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.hocon;
+
+import static java.util.Objects.requireNonNull;
+
+import com.typesafe.config.ConfigRenderOptions;
+import com.typesafe.config.ConfigUtil;
+import com.typesafe.config.ConfigValueFactory;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.CommentedConfigurationNodeIntermediary;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.ConfigurationVisitor;
+import org.spongepowered.configurate.loader.AbstractConfigurationLoader;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A visitor writing a node tree as HOCON directly to a {@link Writer}.
+ *
+ * <p>The output matches what typesafe-config's renderer produces for the
+ * equivalent {@link com.typesafe.config.ConfigValue} tree, but no value tree or
+ * intermediate string is built. Where the renderer appends a separator after
+ * every entry and then removes the last one, this writes separators before
+ * every entry but the first.</p>
+ */
+final class HoconVisitor implements ConfigurationVisitor<Writer, Void, ConfigurateException> {
+
+    private final ConfigRenderOptions options;
+    private final Deque<Frame> frames = new ArrayDeque<>();
+
+    HoconVisitor(final ConfigRenderOptions options) {
+        this.options = options;
+    }
+
+    @Override
+    public Writer newState() {
+        throw new UnsupportedOperationException("Writer must be provided");
+    }
+
+    @Override
+    public void beginVisit(final ConfigurationNode node, final Writer state) {
+        this.frames.clear();
+    }
+
+    @Override
+    public void enterNode(final ConfigurationNode node, final Writer state) throws ConfigurateException {
+        final @Nullable Frame parent = this.frames.peek();
+        if (parent == null) { // the root value has no key or comments
+            return;
+        }
+
+        try {
+            if (parent.first) {
+                parent.first = false;
+            } else if (this.options.getFormatted()) {
+                state.write(parent.list || this.options.getJson() ? ",\n" : "\n");
+            } else {
+                state.write(',');
+            }
+
+            if (this.options.getComments() && node instanceof CommentedConfigurationNodeIntermediary<?>) {
+                final @Nullable String comment = ((CommentedConfigurationNodeIntermediary<?>) node).comment();
+                if (comment != null) {
+                    for (final String line : AbstractConfigurationLoader.CONFIGURATE_LINE_PATTERN.split(comment, -1)) {
+                        this.indent(state, parent.childIndent);
+                        state.write('#');
+                        if (line.isEmpty() || line.charAt(0) != '#') {
+                            // allow lines that are only the comment character, for box drawing
+                            state.write(' ');
+                        }
+                        state.write(line);
+                        state.write('\n');
+                    }
+                }
+            }
+
+            this.indent(state, parent.childIndent);
+            if (!parent.list) {
+                final String key = String.valueOf(requireNonNull(node.key(), "key"));
+                if (this.options.getJson()) {
+                    state.write(ConfigUtil.quoteString(key));
+                    state.write(this.options.getFormatted() ? " : " : ":");
+                } else {
+                    state.write(renderStringUnquotedIfPossible(key));
+                    // the separator before an object can be omitted
+                    if (!node.isMap()) {
+                        state.write('=');
+                    } else if (this.options.getFormatted()) {
+                        state.write(' ');
+                    }
+                }
+            }
+
+            if (!node.isMap() && !node.isList() && node.rawScalar() == null) {
+                state.write("null");
+            }
+        } catch (final IOException ex) {
+            throw new ConfigurateException(node, ex);
+        }
+    }
+
+    @Override
+    public void enterMappingNode(final ConfigurationNode node, final Writer state) throws ConfigurateException {
+        final @Nullable Frame parent = this.frames.peek();
+        final int indent = parent == null ? 0 : parent.childIndent;
+        final boolean braces = this.options.getJson() || parent != null;
+        final Frame frame = new Frame(false, parent == null, node.empty(), braces, indent, braces ? indent + 1 : indent);
+        try {
+            if (frame.empty) {
+                state.write("{}");
+            } else if (braces) {
+                state.write('{');
+                if (this.options.getFormatted()) {
+                    state.write('\n');
+                }
+            }
+        } catch (final IOException ex) {
+            throw new ConfigurateException(node, ex);
+        }
+        this.frames.push(frame);
+    }
+
+    @Override
+    public void enterListNode(final ConfigurationNode node, final Writer state) throws ConfigurateException {
+        final @Nullable Frame parent = this.frames.peek();
+        final int indent = parent == null ? 0 : parent.childIndent;
+        final Frame frame = new Frame(true, false, node.empty(), true, indent, indent + 1);
+        try {
+            if (frame.empty) {
+                state.write("[]");
+            } else {
+                state.write('[');
+                if (this.options.getFormatted()) {
+                    state.write('\n');
+                }
+            }
+        } catch (final IOException ex) {
+            throw new ConfigurateException(node, ex);
+        }
+        this.frames.push(frame);
+    }
+
+    @Override
+    public void enterScalarNode(final ConfigurationNode node, final Writer state) throws ConfigurateException {
+        final @Nullable Object value = node.rawScalar();
+        try {
+            if (value instanceof String) {
+                final String string = (String) value;
+                state.write(this.options.getJson() ? ConfigUtil.quoteString(string) : renderStringUnquotedIfPossible(string));
+            } else if (value instanceof Boolean || value instanceof Integer || value instanceof Long || value instanceof Double) {
+                state.write(value.toString());
+            } else {
+                // less common types are converted the same way the renderer would see them
+                state.write(ConfigValueFactory.fromAnyRef(value).render(this.options));
+            }
+        } catch (final IOException ex) {
+            throw new ConfigurateException(node, ex);
+        }
+    }
+
+    @Override
+    public void exitMappingNode(final ConfigurationNode node, final Writer state) throws ConfigurateException {
+        final Frame frame = this.frames.pop();
+        try {
+            if (!frame.empty && frame.braces) {
+                if (this.options.getFormatted()) {
+                    state.write('\n');
+                    this.indent(state, frame.indent);
+                }
+                state.write('}');
+            }
+            if (frame.root && this.options.getFormatted()) {
+                state.write('\n');
+            }
+        } catch (final IOException ex) {
+            throw new ConfigurateException(node, ex);
+        }
+    }
+
+    @Override
+    public void exitListNode(final ConfigurationNode node, final Writer state) throws ConfigurateException {
+        final Frame frame = this.frames.pop();
+        try {
+            if (!frame.empty) {
+                if (this.options.getFormatted()) {
+                    state.write('\n');
+                    this.indent(state, frame.indent);
+                }
+                state.write(']');
+            }
+        } catch (final IOException ex) {
+            throw new ConfigurateException(node, ex);
+        }
+    }
+
+    @Override
+    public Void endVisit(final Writer state) {
+        return null;
+    }
+
+    private void indent(final Writer writer, final int level) throws IOException {
+        if (this.options.getFormatted()) {
+            for (int i = level * this.options.getIndent(); i > 0; i--) {
+                writer.write(' ');
+            }
+        }
+    }
+
+    /**
+     * Quote a string only when it could not be read back as the same
+     * unquoted string.
+     *
+     * <p>This follows typesafe-config's own rules, and may quote
+     * unnecessarily.</p>
+     *
+     * @param value the string to render
+     * @return the rendered string
+     */
+    static String renderStringUnquotedIfPossible(final String value) {
+        if (value.isEmpty()) {
+            return ConfigUtil.quoteString(value);
+        }
+
+        // a leading hyphen or digit would be read as a number
+        final int first = value.codePointAt(0);
+        if (Character.isDigit(first) || first == '-') {
+            return ConfigUtil.quoteString(value);
+        }
+
+        if (value.startsWith("include") || value.startsWith("true") || value.startsWith("false")
+                || value.startsWith("null") || value.contains("//")) {
+            return ConfigUtil.quoteString(value);
+        }
+
+        // only unquote if it's pure alphanumeric
+        for (int i = 0; i < value.length(); ++i) {
+            final char c = value.charAt(i);
+            if (!(Character.isLetter(c) || Character.isDigit(c) || c == '-')) {
+                return ConfigUtil.quoteString(value);
+            }
+        }
+
+        return value;
+    }
+
+    static final class Frame {
+        final boolean list;
+        final boolean root;
+        final boolean empty;
+        final boolean braces;
+        final int indent;
+        final int childIndent;
+        boolean first = true;
+
+        Frame(final boolean list, final boolean root, final boolean empty, final boolean braces, final int indent, final int childIndent) {
+            this.list = list;
+            this.root = root;
+            this.empty = empty;
+            this.braces = braces;
+            this.indent = indent;
+            this.childIndent = childIndent;
+        }
+    }
+
+}
@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.io.Resources;
+import com.typesafe.config.ConfigRenderOptions;
 import com.typesafe.config.ConfigValue;
 import com.typesafe.config.ConfigValueFactory;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -42,11 +43,13 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.StringReader;
+import java.io.StringWriter;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -265,6 +268,55 @@ class HoconConfigurationLoaderTest {
         assertEquals(expectedOut, out);
     }
 
+    @Test
+    void testStreamingRenderMatchesTree() throws IOException {
+        final CommentedConfigurationNode node = CommentedConfigurationNode.root(n -> {
+            n.node("string").raw("hello world").comment("a comment\n# box\n");
+            n.node("unquoted").raw("plain-text");
+            n.node("keyword").raw("true story");
+            n.node("escapes").raw("tab\tquote\" slash\\ line\n");
+            n.node("with space", "inner.key").raw(12.5d);
+            n.node("numbers").act(c -> {
+                c.appendListNode().raw(1);
+                c.appendListNode().raw(Long.MAX_VALUE);
+                c.appendListNode().raw(2.5f);
+                c.appendListNode().raw(3f);
+            });
+            n.node("empty-map").raw(Collections.emptyMap());
+            n.node("empty-list").raw(Collections.emptyList());
+            n.node("nested").act(c -> {
+                c.appendListNode().act(e -> e.node("a").raw(true).comment("in a list"));
+                c.appendListNode().appendListNode().raw("deep");
+                c.appendListNode().raw(Collections.emptyMap()).comment("empty");
+            });
+        });
+
+        for (final boolean formatted : new boolean[] {true, false}) {
+            for (final boolean json : new boolean[] {true, false}) {
+                for (final boolean comments : new boolean[] {true, false}) {
+                    final StringWriter written = new StringWriter();
+                    final HoconConfigurationLoader loader = HoconConfigurationLoader.builder()
+                        .prettyPrinting(formatted)
+                        .emitJsonCompatible(json)
+                        .emitComments(comments)
+                        .indent(3)
+                        .sink(() -> new BufferedWriter(written))
+                        .build();
+                    loader.save(node);
+
+                    final ConfigRenderOptions options = ConfigRenderOptions.defaults()
+                        .setOriginComments(false)
+                        .setFormatted(formatted)
+                        .setJson(json)
+                        .setComments(comments)
+                        .setIndent(3);
+                    assertEquals(HoconConfigurationLoader.renderTree(node, options), written.toString(),
+                        () -> "formatted=" + formatted + ", json=" + json + ", comments=" + comments);
+                }
+            }
+        }
+    }
+
     private URL requireResource(final String path) {
         final @Nullable URL resource = this.getClass().getResource('/' + path);
         assertNotNull(resource, () -> "Resource " + path + " was not present when expected to be!");
@@ -30,9 +30,11 @@ import org.spongepowered.configurate.BasicConfigurationNode;
 import org.spongepowered.configurate.ConfigurateException;
 import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.ConfigurationOptions;
+import org.spongepowered.configurate.TreeBuilder;
 import org.spongepowered.configurate.loader.AbstractConfigurationLoader;
 import org.spongepowered.configurate.loader.CommentHandler;
 import org.spongepowered.configurate.loader.CommentHandlers;
+import org.spongepowered.configurate.loader.ConfigurationEventReader;
 import org.spongepowered.configurate.loader.LoaderOptionSource;
 import org.spongepowered.configurate.loader.ParsingException;
 import org.spongepowered.configurate.util.UnmodifiableCollections;
@@ -185,7 +187,9 @@ public final class JacksonConfigurationLoader extends AbstractConfigurationLoade
     protected void loadInternal(final BasicConfigurationNode node, final BufferedReader reader) throws ParsingException {
         try (JsonParser parser = this.factory.createParser(reader)) {
             parser.nextToken();
-            parseValue(parser, node);
+            final TreeBuilder<ConfigurationNode> tree = TreeBuilder.of(node);
+            parseValue(parser, tree, node);
+            tree.build();
         } catch (final StreamReadException ex) {
             throw newException(node, ex.getLocation(), ex.getRequestPayloadAsString(), ex.getMessage(), ex.getCause());
         } catch (final IOException ex) {
@@ -193,38 +197,48 @@ public final class JacksonConfigurationLoader extends AbstractConfigurationLoade
         }
     }
 
-    private static void parseValue(final JsonParser parser, final ConfigurationNode node) throws IOException {
+    @Override
+    protected ConfigurationEventReader streamInternal(final BufferedReader reader) throws ParsingException {
+        try {
+            return new JacksonEventReader(this.factory.createParser(reader), reader);
+        } catch (final IOException ex) {
+            throw new ParsingException(ParsingException.UNKNOWN_POS, ParsingException.UNKNOWN_POS, null, null, ex);
+        }
+    }
+
+    private static void parseValue(final JsonParser parser, final TreeBuilder<ConfigurationNode> tree,
+            final ConfigurationNode node) throws IOException {
         try {
             final JsonToken token = parser.getCurrentToken();
             switch (token) {
                 case START_OBJECT:
-                    parseObject(parser, node);
+                    parseObject(parser, tree, node);
                     break;
                 case START_ARRAY:
-                    parseArray(parser, node);
+                    parseArray(parser, tree, node);
                     break;
                 case VALUE_NUMBER_FLOAT:
                     final double doubleVal = parser.getDoubleValue();
                     if ((float) doubleVal != doubleVal) {
-                        node.raw(parser.getDoubleValue());
+                        tree.doubleValue(node, doubleVal);
                     } else {
-                        node.raw(parser.getFloatValue());
+                        tree.value(node, parser.getFloatValue());
                     }
                     break;
                 case VALUE_NUMBER_INT:
                     final long longVal = parser.getLongValue();
                     if ((int) longVal != longVal) {
-                        node.raw(parser.getLongValue());
+                        tree.longValue(node, longVal);
                     } else {
-                        node.raw(parser.getIntValue());
+                        tree.intValue(node, (int) longVal);
                     }
                     break;
                 case VALUE_STRING:
-                    node.raw(parser.getText());
+                    tree.value(node, parser.getText());
                     break;
                 case VALUE_TRUE:
                 case VALUE_FALSE:
-                    node.raw(parser.getBooleanValue());
+                    tree.booleanValue(node, parser.getBooleanValue());
                     break;
                 case VALUE_NULL: // Ignored values
                 case FIELD_NAME:
@@ -238,34 +252,36 @@ public final class JacksonConfigurationLoader extends AbstractConfigurationLoade
         }
     }
 
-    private static void parseArray(final JsonParser parser, final ConfigurationNode node) throws IOException {
+    private static void parseArray(final JsonParser parser, final TreeBuilder<ConfigurationNode> tree,
+            final ConfigurationNode node) throws IOException {
         boolean written = false;
         JsonToken token;
         while ((token = parser.nextToken()) != null) {
             if (token == JsonToken.END_ARRAY) { // ensure the type is preserved
                 if (!written) {
-                    node.raw(Collections.emptyList());
+                    tree.value(node, Collections.emptyList());
                 }
                 return;
             } else {
-                parseValue(parser, node.appendListNode());
+                parseValue(parser, tree, tree.appendListNode(node));
                 written = true;
             }
         }
         throw newException(node, parser.getCurrentLocation(), null, "Reached end of stream with unclosed array!", null);
     }
 
-    private static void parseObject(final JsonParser parser, final ConfigurationNode node) throws IOException {
+    private static void parseObject(final JsonParser parser, final TreeBuilder<ConfigurationNode> tree,
+            final ConfigurationNode node) throws IOException {
         boolean written = false;
         JsonToken token;
         while ((token = parser.nextToken()) != null) {
             if (token == JsonToken.END_OBJECT) { // ensure the type is preserved
                 if (!written) {
-                    node.raw(Collections.emptyMap());
+                    tree.value(node, Collections.emptyMap());
                 }
                 return;
             } else {
-                parseValue(parser, node.node(parser.getCurrentName()));
+                parseValue(parser, tree, tree.child(node, parser.getCurrentName()));
                 written = true;
             }
         }
@@ -288,7 +304,7 @@ public final class JacksonConfigurationLoader extends AbstractConfigurationLoade
         return BasicConfigurationNode.root(options.nativeTypes(NATIVE_TYPES));
     }
 
-    private static ParsingException newException(final ConfigurationNode node,
+    static ParsingException newException(final @Nullable ConfigurationNode node,
             final JsonLocation position,
             final @Nullable String content,
             final @Nullable String message,
@@ -311,6 +327,9 @@ public final class JacksonConfigurationLoader extends AbstractConfigurationLoade
         // no newline: set to length
         // too long: truncate
         // otherwise: trim to position of next newline
+        if (node == null) {
+            return new ParsingException(position.getLineNr(), position.getColumnNr(), context, message, cause);
+        }
         return new ParsingException(node, position.getLineNr(), position.getColumnNr(), context, message, cause);
     }
 
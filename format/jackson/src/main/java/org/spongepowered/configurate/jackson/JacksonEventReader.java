@@ -0,0 +1,154 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.jackson;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.loader.ConfigurationEvent;
+import org.spongepowered.configurate.loader.ConfigurationEventReader;
+import org.spongepowered.configurate.loader.ParsingException;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * An event reader pulling tokens directly from a Jackson {@link JsonParser}.
+ */
+final class JacksonEventReader implements ConfigurationEventReader {
+
+    private final JsonParser parser;
+    private final Reader source;
+    private @Nullable ConfigurationEvent current;
+    private @Nullable Object key;
+    private @Nullable Object scalar;
+
+    JacksonEventReader(final JsonParser parser, final Reader source) {
+        this.parser = parser;
+        this.source = source;
+    }
+
+    @Override
+    public ConfigurationEvent next() throws ParsingException {
+        this.key = null;
+        this.scalar = null;
+        try {
+            return this.current = this.advance();
+        } catch (final StreamReadException ex) {
+            throw JacksonConfigurationLoader.newException(null, ex.getLocation(), ex.getRequestPayloadAsString(), ex.getMessage(), ex.getCause());
+        } catch (final IOException ex) {
+            final JsonLocation loc = this.parser.getCurrentLocation();
+            throw new ParsingException(loc.getLineNr(), loc.getColumnNr(), null, ex.getMessage(), ex);
+        }
+    }
+
+    private ConfigurationEvent advance() throws IOException {
+        if (this.current == ConfigurationEvent.END_DOCUMENT) {
+            return ConfigurationEvent.END_DOCUMENT;
+        }
+
+        final @Nullable JsonToken token = this.parser.nextToken();
+        if (token == null) {
+            return ConfigurationEvent.END_DOCUMENT;
+        }
+        switch (token) {
+            case START_OBJECT:
+                return ConfigurationEvent.START_MAP;
+            case END_OBJECT:
+                return ConfigurationEvent.END_MAP;
+            case START_ARRAY:
+                return ConfigurationEvent.START_LIST;
+            case END_ARRAY:
+                return ConfigurationEvent.END_LIST;
+            case FIELD_NAME:
+                this.key = this.parser.getCurrentName();
+                return ConfigurationEvent.KEY;
+            case VALUE_NUMBER_FLOAT:
+                final double doubleVal = this.parser.getDoubleValue();
+                if ((float) doubleVal != doubleVal) {
+                    this.scalar = doubleVal;
+                } else {
+                    this.scalar = this.parser.getFloatValue();
+                }
+                return ConfigurationEvent.SCALAR;
+            case VALUE_NUMBER_INT:
+                final long longVal = this.parser.getLongValue();
+                if ((int) longVal != longVal) {
+                    this.scalar = longVal;
+                } else {
+                    this.scalar = (int) longVal;
+                }
+                return ConfigurationEvent.SCALAR;
+            case VALUE_STRING:
+                this.scalar = this.parser.getText();
+                return ConfigurationEvent.SCALAR;
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                this.scalar = this.parser.getBooleanValue();
+                return ConfigurationEvent.SCALAR;
+            case VALUE_NULL:
+                return ConfigurationEvent.SCALAR;
+            default:
+                final JsonLocation loc = this.parser.getTokenLocation();
+                throw new ParsingException(loc.getLineNr(), loc.getColumnNr(), this.parser.getText(), "Unsupported token type: " + token, null);
+        }
+    }
+
+    @Override
+    public Object key() {
+        if (this.current != ConfigurationEvent.KEY || this.key == null) {
+            throw new IllegalStateException("Current event is " + this.current + ", not KEY");
+        }
+        return this.key;
+    }
+
+    @Override
+    public @Nullable Object scalar() {
+        if (this.current != ConfigurationEvent.SCALAR) {
+            throw new IllegalStateException("Current event is " + this.current + ", not SCALAR");
+        }
+        return this.scalar;
+    }
+
+    @Override
+    public void skipValue() throws ParsingException {
+        final ConfigurationEvent event = this.next();
+        if (event == ConfigurationEvent.START_MAP || event == ConfigurationEvent.START_LIST) {
+            try {
+                // jackson can skip without decoding any scalars
+                this.parser.skipChildren();
+            } catch (final IOException ex) {
+                final JsonLocation loc = this.parser.getCurrentLocation();
+                throw new ParsingException(loc.getLineNr(), loc.getColumnNr(), null, ex.getMessage(), ex);
+            }
+            this.current = event == ConfigurationEvent.START_MAP ? ConfigurationEvent.END_MAP : ConfigurationEvent.END_LIST;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            this.parser.close();
+        } finally {
+            // the loader's factory does not auto-close sources
+            this.source.close();
+        }
+    }
+
+}
@@ -29,6 +29,8 @@ import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.ConfigurationOptions;
 import org.spongepowered.configurate.NodePath;
 import org.spongepowered.configurate.loader.AtomicFiles;
+import org.spongepowered.configurate.loader.ConfigurationEvent;
+import org.spongepowered.configurate.loader.ConfigurationEventReader;
 import org.spongepowered.configurate.loader.ConfigurationLoader;
 import org.spongepowered.configurate.loader.HeaderMode;
 import org.spongepowered.configurate.loader.ParsingException;
@@ -129,4 +131,38 @@ class JacksonConfigurationLoaderTest {
         assertTrue(ex.rawMessage().contains("Unexpected end-of-input"));
     }
 
+    @Test
+    void testStreamMatchesLoad() throws IOException {
+        final URL url = this.getClass().getResource("/example.json");
+        final ConfigurationLoader<BasicConfigurationNode> loader = JacksonConfigurationLoader.builder()
+                .url(url)
+                .build();
+
+        final BasicConfigurationNode streamed = loader.createNode();
+        try (ConfigurationEventReader reader = loader.stream()) {
+            reader.readValue(streamed);
+            assertEquals(ConfigurationEvent.END_DOCUMENT, reader.next());
+        }
+        assertEquals(loader.load(), streamed);
+    }
+
+    @Test
+    void testStreamSkipsEntries() throws IOException {
+        final ConfigurationLoader<BasicConfigurationNode> loader = JacksonConfigurationLoader.builder()
+                .source(() -> new BufferedReader(new StringReader("{\"skipped\": {\"a\": [1, 2, 3]}, \"kept\": 2.5}")))
+                .build();
+
+        try (ConfigurationEventReader reader = loader.stream()) {
+            assertEquals(ConfigurationEvent.START_MAP, reader.next());
+            assertEquals(ConfigurationEvent.KEY, reader.next());
+            assertEquals("skipped", reader.key());
+            reader.skipValue();
+            assertEquals(ConfigurationEvent.KEY, reader.next());
+            assertEquals("kept", reader.key());
+            assertEquals(ConfigurationEvent.SCALAR, reader.next());
+            assertEquals(2.5f, reader.scalar());
+            assertEquals(ConfigurationEvent.END_MAP, reader.next());
+            assertEquals(ConfigurationEvent.END_DOCUMENT, reader.next());
+        }
+    }
 }
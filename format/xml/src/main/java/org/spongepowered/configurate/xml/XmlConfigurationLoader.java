@@ -23,6 +23,7 @@ import org.spongepowered.configurate.CommentedConfigurationNodeIntermediary;
 import org.spongepowered.configurate.ConfigurateException;
 import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.ConfigurationOptions;
+import org.spongepowered.configurate.TreeBuilder;
 import org.spongepowered.configurate.loader.AbstractConfigurationLoader;
 import org.spongepowered.configurate.loader.CommentHandler;
 import org.spongepowered.configurate.loader.CommentHandlers;
@@ -47,15 +48,26 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 
 import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerConfigurationException;
@@ -124,6 +136,8 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
      *     <dd>Equivalent to {@link #resolvesExternalContent(boolean)}</dd>
      *     <dt>&lt;prefix&gt;.xml.includes-xml-declaration</dt>
      *     <dd>Equivalent to {@link #includesXmlDeclaration(boolean)}</dd>
+     *     <dt>&lt;prefix&gt;.xml.streaming</dt>
+     *     <dd>Equivalent to {@link #streaming(boolean)}</dd>
      * </dl>
      *
      * @since 4.0.0
@@ -135,6 +149,7 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
         private boolean writeExplicitType = true;
         private boolean resolvesExternalContent;
         private boolean includeXmlDeclaration = true;
+        private boolean streaming;
 
         Builder() {
             this.from(DEFAULT_OPTIONS_SOURCE);
@@ -147,6 +162,7 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
             this.writeExplicitType = options.getBoolean(this.writeExplicitType, "xml", "writes-explicit-type");
             this.resolvesExternalContent = options.getBoolean(this.resolvesExternalContent, "xml", "resolves-external-content");
             this.includeXmlDeclaration = options.getBoolean(this.includeXmlDeclaration, "xml", "includes-xml-declaration");
+            this.streaming = options.getBoolean(this.streaming, "xml", "streaming");
         }
 
         /**
@@ -304,6 +320,45 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
             return this.resolvesExternalContent;
         }
 
+        /**
+         * Sets whether the resultant loader should read and write documents
+         * with the streaming (StAX) API rather than building a DOM.
+         *
+         * <p>Streaming avoids holding an entire document model in memory
+         * while loading, and avoids the cost of setting up a transformer when
+         * saving. Documents are read into the same nodes as with the DOM
+         * implementation: attributes and comments are preserved in the same
+         * way, list elements keep their document order, and unless
+         * {@link #resolvesExternalContent(boolean) external content is
+         * resolved}, entity references are left unexpanded and their content
+         * is not read.</p>
+         *
+         * <p>Schema validation is only available through the DOM, so when a
+         * {@link #schema(Schema) schema} is set documents will still be
+         * loaded through a DOM.</p>
+         *
+         * <p>By default, this is false.</p>
+         *
+         * @param streaming whether to use the streaming implementation
+         * @return this builder (for chaining)
+         * @since 4.2.0
+         */
+        public Builder streaming(final boolean streaming) {
+            this.streaming = streaming;
+            return this;
+        }
+
+        /**
+         * Gets whether the resultant loader should use the streaming (StAX)
+         * implementation.
+         *
+         * @return whether to use the streaming implementation
+         * @since 4.2.0
+         */
+        public boolean streaming() {
+            return this.streaming;
+        }
+
         @Override
         public XmlConfigurationLoader build() {
             this.defaultOptions(o -> o.nativeTypes(NATIVE_TYPES));
@@ -317,6 +372,7 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
     private final boolean writeExplicitType;
     private final boolean includeXmlDeclaration;
     private final boolean resolvesExternalContent;
+    private final boolean streaming;
 
     private XmlConfigurationLoader(final Builder builder) {
         super(builder, new CommentHandler[] {CommentHandlers.XML_STYLE});
@@ -326,6 +382,7 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
         this.writeExplicitType = builder.writesExplicitType();
         this.includeXmlDeclaration = builder.includesXmlDeclaration();
         this.resolvesExternalContent = builder.resolvesExternalContent();
+        this.streaming = builder.streaming();
     }
 
     private DocumentBuilder newDocumentBuilder() throws ConfigurateException {
@@ -353,6 +410,20 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
         }
     }
 
+    private XMLInputFactory newInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        // match the DOM parser: no namespace processing
+        // adjacent text is merged while reading elements, since coalescing it here would also expand entity references
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+        if (!this.resolvesExternalContent) {
+            // like the DOM builder, leave entity references unexpanded, so their content is not read
+            factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
+            factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+            factory.setProperty(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+        }
+        return factory;
+    }
+
     private Transformer newTransformer() throws ConfigurateException {
         final TransformerFactory transformerFactory = TransformerFactory.newInstance();
         if (!this.resolvesExternalContent) {
@@ -376,11 +447,19 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
     }
 
     @Override
-    public @NonNull AttributedConfigurationNode load(@NonNull ConfigurationOptions options) throws ParsingException {
-        if (this.source == null) {
+    public @NonNull AttributedConfigurationNode load(final @NonNull ConfigurationOptions options) throws ParsingException {
+        final @Nullable Callable<BufferedReader> source = this.source;
+        if (source == null) {
             throw new ParsingException(-1, -1, "", "No source present to read from!", null);
         }
-        try (BufferedReader reader = this.source.call()) {
+        return this.loadCached(options, opts -> this.parse(source, opts));
+    }
+
+    private AttributedConfigurationNode parse(final Callable<BufferedReader> source, ConfigurationOptions options) throws ParsingException {
+        try (BufferedReader reader = source.call()) {
+            if (this.streaming && this.schema == null) {
+                return this.loadStreaming(reader, options);
+            }
             final DocumentBuilder documentBuilder = this.newDocumentBuilder();
 
             final Document document;
@@ -398,9 +477,9 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
                 if (child.getNodeType() == Node.COMMENT_NODE) {
                     options = options.header(this.unwrapHeader(child.getTextContent().trim()));
                 } else if (child.getNodeType() == Node.ELEMENT_NODE) {
-                    final AttributedConfigurationNode node = this.createNode(options);
-                    this.readElement(child, node);
-                    return node;
+                    final TreeBuilder<AttributedConfigurationNode> tree = TreeBuilder.of(this.createNode(options));
+                    this.readElement(child, tree, tree.root());
+                    return tree.build();
                 }
             }
             // empty document, fall through
@@ -414,6 +493,34 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
         return this.createNode(options);
     }
 
+    private AttributedConfigurationNode loadStreaming(final BufferedReader reader, ConfigurationOptions options) throws ParsingException {
+        try {
+            final XMLStreamReader stream = this.newInputFactory().createXMLStreamReader(reader);
+            try {
+                while (stream.hasNext()) {
+                    final int event = stream.next();
+                    if (event == XMLStreamConstants.COMMENT) {
+                        options = options.header(this.unwrapHeader(stream.getText().trim()));
+                    } else if (event == XMLStreamConstants.START_ELEMENT) {
+                        final TreeBuilder<AttributedConfigurationNode> tree = TreeBuilder.of(this.createNode(options));
+                        this.readElement(stream, tree, tree.root());
+                        return tree.build();
+                    }
+                }
+            } finally {
+                stream.close();
+            }
+        } catch (final XMLStreamException ex) {
+            final @Nullable Location location = ex.getLocation();
+            if (location != null) {
+                throw new ParsingException(location.getLineNumber(), location.getColumnNumber(), "", ex.getMessage(), ex.getCause());
+            }
+            throw new ParsingException(-1, -1, null, null, ex);
+        }
+        // empty document
+        return this.createNode(options);
+    }
+
     /**
      * Given a single comment node's comment, clear any prefix lines.
      *
@@ -449,7 +556,7 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
         MAP, LIST
     }
 
-    private void readElement(final Node from, final AttributedConfigurationNode to) {
+    private void readElement(final Node from, final TreeBuilder<AttributedConfigurationNode> tree, final AttributedConfigurationNode to) {
         @Nullable NodeType type = null;
 
         // copy the name of the tag
@@ -484,8 +591,9 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
             }
         }
 
-        // read out the child nodes into a multimap
+        // read out the child nodes into a multimap, keeping their document order for lists
         final Map<String, Collection<Node>> children = new LinkedHashMap<>();
+        final List<Node> elements = new ArrayList<>();
         if (from.hasChildNodes()) {
             final StringBuilder comment = new StringBuilder();
             final NodeList childNodes = from.getChildNodes();
@@ -493,6 +601,7 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
                 final Node child = childNodes.item(i);
                 if (child.getNodeType() == Node.ELEMENT_NODE) {
                     children.computeIfAbsent(child.getNodeName(), $ -> new ArrayList<>()).add(child);
+                    elements.add(child);
                     if (comment.length() > 0) {
                         child.setUserData(USER_DATA_COMMENT, comment.toString(), null);
                         comment.setLength(0);
@@ -509,7 +618,7 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
 
         // if there are no child nodes present, assume it's a scalar value
         if (children.isEmpty()) {
-            to.raw(parseValue(from.getTextContent()));
+            parseValue(tree, to, from.getTextContent());
             return;
         }
 
@@ -527,24 +636,150 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
         }
 
         if (type == NodeType.MAP) {
-            to.raw(Collections.emptyMap());
+            tree.value(to, Collections.emptyMap());
         } else {
-            to.raw(Collections.emptyList());
+            tree.value(to, Collections.emptyList());
         }
 
         // read out the elements
-        for (final Map.Entry<String, Collection<Node>> entry : children.entrySet()) {
-            AttributedConfigurationNode child;
-            if (type == NodeType.MAP) {
-                child = to.node(entry.getKey());
-                this.readElement(entry.getValue().iterator().next(), child);
-            } else {
-                for (final Node element : entry.getValue()) {
-                    child = to.appendListNode();
-                    this.readElement(element, child);
+        if (type == NodeType.MAP) {
+            for (final Map.Entry<String, Collection<Node>> entry : children.entrySet()) {
+                this.readElement(entry.getValue().iterator().next(), tree, tree.child(to, entry.getKey()));
+            }
+        } else {
+            for (final Node element : elements) {
+                this.readElement(element, tree, tree.appendListNode(to));
+            }
+        }
+    }
+
+    /**
+     * Read an element from a stream positioned on its start tag, leaving the
+     * stream positioned on the matching end tag.
+     *
+     * <p>This follows the same rules as the DOM implementation, but the type
+     * of an element without an explicit type is decided while its children
+     * are read. Children are read into a mapping until a duplicate tag name
+     * is found, at which point the element is converted to a list in
+     * document order.</p>
+     *
+     * @param stream the stream to read from
+     * @param tree the builder for the tree being read
+     * @param to the node to populate
+     * @throws XMLStreamException if the document could not be read
+     */
+    private void readElement(
+        final XMLStreamReader stream,
+        final TreeBuilder<AttributedConfigurationNode> tree,
+        final AttributedConfigurationNode to
+    ) throws XMLStreamException {
+        @Nullable NodeType type = null;
+        to.tagName(elementName(stream));
+
+        // copy attributes
+        for (int i = 0; i < stream.getAttributeCount(); i++) {
+            final QName name = stream.getAttributeName(i);
+            final String key = name.getPrefix().isEmpty() ? name.getLocalPart() : name.getPrefix() + ':' + name.getLocalPart();
+            final String value = stream.getAttributeValue(i);
+
+            // read the type of the node
+            if (key.equals(ATTRIBUTE_TYPE)) {
+                if (value.equals("map")) {
+                    type = NodeType.MAP;
+                } else if (value.equals("list")) {
+                    type = NodeType.LIST;
                 }
+
+                // don't add internal configurate attributes to the node
+                continue;
             }
+
+            to.addAttribute(key, value);
         }
+
+        final StringBuilder text = new StringBuilder();
+        final StringBuilder comment = new StringBuilder();
+        boolean hasChildren = false;
+        // only populated once an untyped element is known to be a list
+        @Nullable List<AttributedConfigurationNode> elements = null;
+        while (true) {
+            switch (stream.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    if (!hasChildren) {
+                        hasChildren = true;
+                        tree.value(to, type == NodeType.LIST ? Collections.emptyList() : Collections.emptyMap());
+                    }
+
+                    final String name = elementName(stream);
+                    final AttributedConfigurationNode child;
+                    if (type == NodeType.LIST) {
+                        child = tree.appendListNode(to);
+                    } else if (elements == null && !to.hasChild(name)) {
+                        child = tree.child(to, name);
+                    } else if (type == NodeType.MAP) {
+                        // only the first element with a given name is used
+                        skipElement(stream);
+                        comment.setLength(0);
+                        continue;
+                    } else {
+                        if (elements == null) {
+                            elements = new ArrayList<>(to.childrenMap().values());
+                        }
+                        child = this.createNode(to.options());
+                        elements.add(child);
+                    }
+
+                    if (comment.length() > 0) {
+                        child.comment(comment.toString());
+                        comment.setLength(0);
+                    }
+                    this.readElement(stream, tree, child);
+                    break;
+                case XMLStreamConstants.COMMENT:
+                    if (comment.length() > 0) {
+                        comment.append('\n');
+                    }
+                    comment.append(stream.getText().trim());
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    if (!hasChildren) {
+                        text.append(stream.getText());
+                    }
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    if (!hasChildren) {
+                        // if there are no child nodes present, assume it's a scalar value
+                        parseValue(tree, to, text.toString());
+                    } else if (elements != null) {
+                        tree.value(to, Collections.emptyList());
+                        for (final AttributedConfigurationNode element : elements) {
+                            to.appendListNode().from(element);
+                        }
+                    }
+                    return;
+                default:
+                    // processing instructions and other content are ignored
+            }
+        }
+    }
+
+    private static void skipElement(final XMLStreamReader stream) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            final int event = stream.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static String elementName(final XMLStreamReader stream) {
+        final @Nullable String prefix = stream.getPrefix();
+        return prefix == null || prefix.isEmpty() ? stream.getLocalName() : prefix + ':' + stream.getLocalName();
     }
 
     @Override
@@ -557,6 +792,11 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
 
     @Override
     protected void saveInternal(final ConfigurationNode node, final Writer writer) throws ConfigurateException {
+        if (this.streaming) {
+            this.saveStreaming(node, writer);
+            return;
+        }
+
         final DocumentBuilder documentBuilder = this.newDocumentBuilder();
         final Document document = documentBuilder.newDocument();
 
@@ -576,6 +816,115 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
         }
     }
 
+    private void saveStreaming(final ConfigurationNode node, final Writer writer) throws ConfigurateException {
+        try {
+            final XMLStreamWriter stream = XMLOutputFactory.newInstance().createXMLStreamWriter(writer);
+            try {
+                this.writeComment(stream, node, 0);
+                this.writeElement(stream, node, null, 0);
+                this.writeNewline(stream, 0);
+                stream.flush();
+            } finally {
+                stream.close();
+            }
+        } catch (final XMLStreamException ex) {
+            throw new ConfigurateException(node, ex);
+        }
+    }
+
+    /**
+     * Write a node as an element, producing the same output as the DOM
+     * implementation's transformer would.
+     *
+     * @param stream the stream to write to
+     * @param node the node to write
+     * @param forcedTag a tag name to use instead of the node's own
+     * @param depth the nesting depth of the element
+     * @throws XMLStreamException if the element could not be written
+     */
+    private void writeElement(final XMLStreamWriter stream, final ConfigurationNode node, final @Nullable String forcedTag,
+            final int depth) throws XMLStreamException {
+        String tag = this.defaultTagName;
+        // the DOM keeps attributes ordered by name
+        final Map<String, String> attributes = new TreeMap<>();
+
+        if (node instanceof AttributedConfigurationNode) {
+            final AttributedConfigurationNode attributedNode = (AttributedConfigurationNode) node;
+            tag = attributedNode.tagName();
+            attributes.putAll(attributedNode.attributes());
+        }
+        if (node.isList() && this.writeExplicitType) {
+            attributes.put(ATTRIBUTE_TYPE, "list");
+        }
+
+        @Nullable String text = null;
+        final boolean empty;
+        if (node.isMap()) {
+            empty = node.childCount() == 0;
+        } else if (node.isList()) {
+            empty = node.childCount() == 0;
+        } else {
+            text = Objects.toString(node.rawScalar());
+            empty = text.isEmpty();
+        }
+
+        if (empty) {
+            stream.writeEmptyElement(forcedTag == null ? tag : forcedTag);
+        } else {
+            stream.writeStartElement(forcedTag == null ? tag : forcedTag);
+        }
+        for (final Map.Entry<String, String> attribute : attributes.entrySet()) {
+            stream.writeAttribute(attribute.getKey(), attribute.getValue());
+        }
+        if (empty) {
+            return;
+        }
+
+        if (node.isMap()) {
+            for (final Map.Entry<Object, ? extends ConfigurationNode> child : node.childrenMap().entrySet()) {
+                this.writeNewline(stream, depth + 1);
+                if (this.writeComment(stream, child.getValue(), depth + 1)) {
+                    this.writeNewline(stream, depth + 1);
+                }
+                this.writeElement(stream, child.getValue(), child.getKey().toString(), depth + 1);
+            }
+            this.writeNewline(stream, depth);
+        } else if (node.isList()) {
+            for (final ConfigurationNode child : node.childrenList()) {
+                this.writeNewline(stream, depth + 1);
+                if (this.writeComment(stream, child, depth + 1)) {
+                    this.writeNewline(stream, depth + 1);
+                }
+                this.writeElement(stream, child, null, depth + 1);
+            }
+            this.writeNewline(stream, depth);
+        } else if (text != null) {
+            stream.writeCharacters(text);
+        }
+        stream.writeEndElement();
+    }
+
+    private boolean writeComment(final XMLStreamWriter stream, final ConfigurationNode node, final int depth) throws XMLStreamException {
+        if (node instanceof CommentedConfigurationNodeIntermediary<?>) {
+            final @Nullable String comment = ((CommentedConfigurationNodeIntermediary<?>) node).comment();
+            if (comment != null) {
+                stream.writeComment(" " + comment.trim() + " ");
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeNewline(final XMLStreamWriter stream, final int depth) throws XMLStreamException {
+        if (this.indent > 0) {
+            final StringBuilder whitespace = new StringBuilder(SYSTEM_LINE_SEPARATOR);
+            for (int i = depth * this.indent; i > 0; i--) {
+                whitespace.append(' ');
+            }
+            stream.writeCharacters(whitespace.toString());
+        }
+    }
+
     private void appendCommentIfNecessary(final Element parent, final ConfigurationNode node) {
         final @Nullable Node possibleComment = this.createCommentNode(parent.getOwnerDocument(), node);
         if (possibleComment != null) {
@@ -634,9 +983,11 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
         return AttributedConfigurationNode.root("root", options);
     }
 
-    private static Object parseValue(final String value) {
+    private static void parseValue(final TreeBuilder<AttributedConfigurationNode> tree, final AttributedConfigurationNode to,
+            final String value) {
         if (value.equals("true") || value.equals("false")) {
-            return Boolean.parseBoolean(value);
+            tree.booleanValue(to, Boolean.parseBoolean(value));
+            return;
         }
 
         try {
@@ -645,14 +996,15 @@ public final class XmlConfigurationLoader extends AbstractConfigurationLoader<At
                 final long longValue = Long.parseLong(value); // prevent losing precision
                 final int intValue = (int) longValue;
                 if (longValue == intValue) {
-                    return intValue;
+                    tree.intValue(to, intValue);
                 } else {
-                    return longValue;
+                    tree.longValue(to, longValue);
                 }
+            } else {
+                tree.doubleValue(to, doubleValue);
             }
-            return doubleValue;
         } catch (final NumberFormatException e) {
-            return value;
+            tree.value(to, value);
         }
     }
 
@@ -22,20 +22,29 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.google.common.io.Resources;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.spongepowered.configurate.AttributedConfigurationNode;
 import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.loader.AtomicFiles;
+import org.spongepowered.configurate.loader.LoaderCache;
+import org.spongepowered.configurate.util.FileFingerprint;
 
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Basic sanity checks for the loader.
@@ -161,4 +170,110 @@ class XmlConfigurationLoaderTest {
         assertEquals(Resources.readLines(original, UTF_8), Files.readAllLines(destination, UTF_8));
     }
 
+    @Test
+    void testStreamingMatchesDom() throws IOException {
+        for (final String resource : new String[] {"/example.xml", "/example2.xml", "/example3.xml"}) {
+            this.assertStreamingMatchesDom(resource);
+        }
+    }
+
+    private void assertStreamingMatchesDom(final String resource) throws IOException {
+        final URL url = this.getClass().getResource(resource);
+        final StringWriter domOutput = new StringWriter();
+        final StringWriter streamingOutput = new StringWriter();
+
+        final XmlConfigurationLoader dom = XmlConfigurationLoader.builder()
+                .indent(4)
+                .source(() -> new BufferedReader(new InputStreamReader(url.openStream(), UTF_8)))
+                .sink(() -> new BufferedWriter(domOutput))
+                .build();
+        final XmlConfigurationLoader streaming = XmlConfigurationLoader.builder()
+                .indent(4)
+                .streaming(true)
+                .source(() -> new BufferedReader(new InputStreamReader(url.openStream(), UTF_8)))
+                .sink(() -> new BufferedWriter(streamingOutput))
+                .build();
+
+        final AttributedConfigurationNode expected = dom.load();
+        final AttributedConfigurationNode actual = streaming.load();
+        assertEquals(expected, actual);
+        assertEquals(expected.options().header(), actual.options().header());
+
+        dom.save(expected);
+        streaming.save(actual);
+        assertEquals(domOutput.toString(), streamingOutput.toString());
+    }
+
+    @Test
+    void testStreamingAndDomReadDocumentAlike() throws IOException {
+        final String document = "<!DOCTYPE root [<!ENTITY entity \"text\">]>"
+            + "<root><inferred><a>1</a><b>2</b><a>3</a></inferred>"
+            + "<explicit configurate-type=\"list\"><a>4</a><b>5</b><a>6</a></explicit>"
+            + "<reference>before&entity;after</reference></root>";
+        final AttributedConfigurationNode dom = XmlConfigurationLoader.builder()
+                .source(() -> new BufferedReader(new StringReader(document)))
+                .build()
+                .load();
+        final AttributedConfigurationNode streaming = XmlConfigurationLoader.builder()
+                .streaming(true)
+                .source(() -> new BufferedReader(new StringReader(document)))
+                .build()
+                .load();
+
+        assertEquals(dom, streaming);
+        for (final AttributedConfigurationNode node : Arrays.asList(dom, streaming)) {
+            assertEquals(Arrays.asList(1, 2, 3), node.node("inferred").getList(Integer.class));
+            assertEquals("b", node.node("inferred", 1).tagName());
+            assertEquals(Arrays.asList(4, 5, 6), node.node("explicit").getList(Integer.class));
+            assertEquals("beforeafter", node.node("reference").getString());
+        }
+    }
+
+    @Test
+    void testLoadsFromCache(final @TempDir Path tempDir) throws IOException {
+        final Path file = tempDir.resolve("cached.xml");
+        Files.write(file, "<!-- A header -->\n<root><a key=\"value\">1</a></root>".getBytes(UTF_8));
+        final AtomicInteger hits = new AtomicInteger();
+        final LoaderCache memory = LoaderCache.memory();
+        final LoaderCache cache = new LoaderCache() {
+            @Override
+            public @Nullable FileFingerprint fingerprint(final Path source) throws IOException {
+                return memory.fingerprint(source);
+            }
+
+            @Override
+            public @Nullable ConfigurationNode get(final Path source) throws IOException {
+                final @Nullable ConfigurationNode node = memory.get(source);
+                if (node != null) {
+                    hits.incrementAndGet();
+                }
+                return node;
+            }
+
+            @Override
+            public void put(final Path source, final FileFingerprint fingerprint, final ConfigurationNode node) throws IOException {
+                memory.put(source, fingerprint, node);
+            }
+
+            @Override
+            public void invalidate(final Path source) throws IOException {
+                memory.invalidate(source);
+            }
+        };
+        final XmlConfigurationLoader loader = XmlConfigurationLoader.builder()
+                .path(file)
+                .cache(cache)
+                .build();
+
+        final AttributedConfigurationNode first = loader.load();
+        assertEquals(0, hits.get());
+        final AttributedConfigurationNode second = loader.load();
+        assertEquals(1, hits.get());
+
+        assertEquals(first, second);
+        assertEquals("root", second.tagName());
+        assertEquals("value", second.node("a").attribute("key"));
+        assertEquals("A header", second.options().header());
+    }
+
 }
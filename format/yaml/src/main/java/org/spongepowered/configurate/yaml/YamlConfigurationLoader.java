@@ -17,25 +17,41 @@
 package org.spongepowered.configurate.yaml;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.BasicConfigurationNode;
 import org.spongepowered.configurate.CommentedConfigurationNode;
+import org.spongepowered.configurate.ConfigurateException;
 import org.spongepowered.configurate.ConfigurationNode;
 import org.spongepowered.configurate.ConfigurationOptions;
+import org.spongepowered.configurate.TreeBuilder;
 import org.spongepowered.configurate.loader.AbstractConfigurationLoader;
 import org.spongepowered.configurate.loader.CommentHandler;
 import org.spongepowered.configurate.loader.CommentHandlers;
+import org.spongepowered.configurate.loader.ConfigurationEvent;
+import org.spongepowered.configurate.loader.ConfigurationEventReader;
 import org.spongepowered.configurate.loader.LoaderOptionSource;
+import org.spongepowered.configurate.loader.ParsingException;
 import org.spongepowered.configurate.util.UnmodifiableCollections;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.LoaderOptions;
-import org.yaml.snakeyaml.Yaml;
-import org.yaml.snakeyaml.constructor.Constructor;
+import org.yaml.snakeyaml.emitter.Emitter;
+import org.yaml.snakeyaml.events.StreamEndEvent;
+import org.yaml.snakeyaml.events.StreamStartEvent;
+import org.yaml.snakeyaml.parser.ParserImpl;
+import org.yaml.snakeyaml.reader.StreamReader;
 import org.yaml.snakeyaml.representer.Representer;
+import org.yaml.snakeyaml.resolver.Resolver;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.Writer;
 import java.math.BigInteger;
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -164,7 +180,10 @@ public final class YamlConfigurationLoader extends AbstractConfigurationLoader<C
         }
     }
 
-    private final ThreadLocal<Yaml> yaml;
+    private final LoaderOptions loaderOptions;
+    private final DumperOptions dumperOptions;
+    private final ThreadLocal<YamlConstructor> constructor;
+    private final ThreadLocal<YamlVisitor> visitor;
 
     private YamlConfigurationLoader(final Builder builder) {
         super(builder, new CommentHandler[] {CommentHandlers.HASH});
@@ -172,20 +191,138 @@ public final class YamlConfigurationLoader extends AbstractConfigurationLoader<C
             .setAcceptTabs(true)
             .setProcessComments(false);
         loaderOpts.setCodePointLimit(Integer.MAX_VALUE);
+        this.loaderOptions = loaderOpts;
 
         final DumperOptions opts = builder.options;
         opts.setDefaultFlowStyle(NodeStyle.asSnakeYaml(builder.style));
-        this.yaml = ThreadLocal.withInitial(() -> new Yaml(new Constructor(loaderOpts), new Representer(opts), opts, loaderOpts));
+        this.dumperOptions = opts;
+        this.constructor = ThreadLocal.withInitial(() -> new YamlConstructor(loaderOpts));
+        this.visitor = ThreadLocal.withInitial(() -> new YamlVisitor(representer(opts), new Resolver(), opts));
+    }
+
+    private static Representer representer(final DumperOptions options) {
+        // apply the same options the Yaml facade would
+        final Representer representer = new Representer(options);
+        representer.setDefaultFlowStyle(options.getDefaultFlowStyle());
+        representer.setDefaultScalarStyle(options.getDefaultScalarStyle());
+        representer.setTimeZone(options.getTimeZone());
+        return representer;
     }
 
     @Override
-    protected void loadInternal(final CommentedConfigurationNode node, final BufferedReader reader) {
-        node.raw(this.yaml.get().load(reader));
+    protected void loadInternal(final CommentedConfigurationNode node, final BufferedReader reader) throws ParsingException {
+        // build nodes straight from parser events, rather than composing a document and copying its Java representation
+        final YamlEventReader events = this.newEventReader(reader);
+        try {
+            final ConfigurationEvent first = events.next();
+            if (first != ConfigurationEvent.END_DOCUMENT) {
+                final TreeBuilder<ConfigurationNode> tree = TreeBuilder.of(node);
+                readValue(events, first, tree, node);
+                tree.build();
+            }
+        } catch (final ParsingException ex) {
+            ex.initPath(node::path);
+            throw ex;
+        }
+    }
+
+    private static void readValue(final YamlEventReader events, final ConfigurationEvent event,
+            final TreeBuilder<ConfigurationNode> tree, final ConfigurationNode node) throws ParsingException {
+        switch (event) {
+            case SCALAR:
+                tree.value(node, events.scalar());
+                break;
+            case START_LIST:
+                // ensure the type is preserved
+                tree.value(node, Collections.emptyList());
+                ConfigurationEvent element;
+                while ((element = events.next()) != ConfigurationEvent.END_LIST) {
+                    readValue(events, element, tree, tree.appendListNode(node));
+                }
+                break;
+            case START_MAP:
+                tree.value(node, Collections.emptyMap());
+                @Nullable List<ConfigurationNode> merged = null;
+                while (events.next() == ConfigurationEvent.KEY) {
+                    if (events.mergeKey()) {
+                        final TreeBuilder<ConfigurationNode> sourceTree = TreeBuilder.of(BasicConfigurationNode.root(node.options()));
+                        readValue(events, events.next(), sourceTree, sourceTree.root());
+                        final ConfigurationNode source = sourceTree.build();
+                        if (merged == null) {
+                            merged = new ArrayList<>();
+                        }
+                        if (source.isList()) {
+                            merged.addAll(source.childrenList());
+                        } else {
+                            merged.add(source);
+                        }
+                    } else {
+                        final ConfigurationNode child = tree.child(node, events.key());
+                        readValue(events, events.next(), tree, child);
+                    }
+                }
+                if (merged != null) {
+                    applyMerges(node, merged);
+                }
+                break;
+            default:
+                throw new ParsingException(node, ParsingException.UNKNOWN_POS, ParsingException.UNKNOWN_POS, null,
+                    "Expected a value but got " + event, null);
+        }
+    }
+
+    /**
+     * Apply the values of merge keys to a mapping node.
+     *
+     * <p>This matches SnakeYAML's own handling: keys from earlier sources take
+     * precedence over later ones, and keys declared directly in the mapping
+     * take precedence over all merged keys. Merged keys come first in
+     * iteration order.</p>
+     *
+     * @param node the mapping node
+     * @param sources the mappings to merge in
+     * @throws ParsingException if a source is not a mapping
+     */
+    private static void applyMerges(final ConfigurationNode node, final List<ConfigurationNode> sources) throws ParsingException {
+        final Map<Object, ConfigurationNode> result = new LinkedHashMap<>();
+        for (final ConfigurationNode source : sources) {
+            if (!source.isMap()) {
+                throw new ParsingException(node, ParsingException.UNKNOWN_POS, ParsingException.UNKNOWN_POS, null,
+                    "Expected a mapping or list of mappings for merging", null);
+            }
+            for (final Map.Entry<Object, ? extends ConfigurationNode> entry : source.childrenMap().entrySet()) {
+                result.putIfAbsent(entry.getKey(), entry.getValue());
+            }
+        }
+        for (final Map.Entry<Object, ? extends ConfigurationNode> entry : node.childrenMap().entrySet()) {
+            result.put(entry.getKey(), entry.getValue().copy());
+        }
+
+        node.raw(Collections.emptyMap());
+        for (final Map.Entry<Object, ConfigurationNode> entry : result.entrySet()) {
+            node.node(entry.getKey()).from(entry.getValue());
+        }
     }
 
     @Override
-    protected void saveInternal(final ConfigurationNode node, final Writer writer) {
-        this.yaml.get().dump(node.raw(), writer);
+    protected ConfigurationEventReader streamInternal(final BufferedReader reader) {
+        return this.newEventReader(reader);
+    }
+
+    private YamlEventReader newEventReader(final BufferedReader reader) {
+        return new YamlEventReader(new ParserImpl(new StreamReader(reader), this.loaderOptions), reader, this.constructor.get(), this.loaderOptions);
+    }
+
+    @Override
+    protected void saveInternal(final ConfigurationNode node, final Writer writer) throws ConfigurateException {
+        final Emitter emitter = new Emitter(writer, this.dumperOptions);
+        try {
+            emitter.emit(new StreamStartEvent(null, null));
+            node.visit(this.visitor.get(), emitter);
+            emitter.emit(new StreamEndEvent(null, null));
+        } catch (final IOException ex) {
+            throw ConfigurateException.wrap(node, ex);
+        }
     }
 
     @Override
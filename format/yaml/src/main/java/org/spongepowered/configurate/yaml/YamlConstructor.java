@@ -0,0 +1,73 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.yaml;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.constructor.Constructor;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+/**
+ * A constructor able to build individual scalar values straight from
+ * parser events.
+ *
+ * <p>Values are constructed exactly as they would be when composing a whole
+ * document, but without tracking constructed objects for the lifetime of
+ * the load. Tags are resolved separately so callers can recognise
+ * merge keys, which have no value of their own.</p>
+ */
+final class YamlConstructor extends Constructor {
+
+    private final Resolver resolver = new Resolver();
+
+    YamlConstructor(final LoaderOptions options) {
+        super(options);
+    }
+
+    /**
+     * Determine the tag of a scalar event, resolving implicit tags.
+     *
+     * @param event the scalar event
+     * @return the scalar's tag
+     */
+    Tag resolveTag(final ScalarEvent event) {
+        final @Nullable String tag = event.getTag();
+        if (tag == null || tag.equals("!")) {
+            return this.resolver.resolve(NodeId.scalar, event.getValue(), event.getImplicit().canOmitTagInPlainScalar());
+        }
+        return new Tag(tag);
+    }
+
+    /**
+     * Construct the value of a scalar event.
+     *
+     * @param event the scalar event
+     * @param tag the tag resolved for the event
+     * @return the constructed value
+     */
+    @Nullable Object constructScalar(final ScalarEvent event, final Tag tag) {
+        final boolean resolved = event.getTag() == null || event.getTag().equals("!");
+        final ScalarNode node = new ScalarNode(tag, resolved, event.getValue(), event.getStartMark(), event.getEndMark(),
+            event.getScalarStyle());
+        return this.getConstructor(node).construct(node);
+    }
+
+}
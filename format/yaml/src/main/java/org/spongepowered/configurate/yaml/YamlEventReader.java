@@ -0,0 +1,337 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.yaml;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.loader.ConfigurationEvent;
+import org.spongepowered.configurate.loader.ConfigurationEventReader;
+import org.spongepowered.configurate.loader.ParsingException;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.error.Mark;
+import org.yaml.snakeyaml.error.MarkedYAMLException;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.NodeEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.parser.Parser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An event reader translating SnakeYAML parser events.
+ *
+ * <p>Anchored values are recorded as they are read so that aliases can be
+ * replayed, meaning only anchored parts of a document are held in memory.
+ * Merge keys are reported as ordinary {@code <<} keys, leaving it to
+ * consumers to apply them.</p>
+ *
+ * <p>As with SnakeYAML's own composer, aliases of collections and the
+ * nesting depth of the document are limited by the {@link LoaderOptions}
+ * the reader is created with. Replaying aliases would otherwise let a small
+ * document expand without bound.</p>
+ */
+final class YamlEventReader implements ConfigurationEventReader {
+
+    private static final Recorded START_MAP = new Recorded(ConfigurationEvent.START_MAP, null);
+    private static final Recorded END_MAP = new Recorded(ConfigurationEvent.END_MAP, null);
+    private static final Recorded START_LIST = new Recorded(ConfigurationEvent.START_LIST, null);
+    private static final Recorded END_LIST = new Recorded(ConfigurationEvent.END_LIST, null);
+
+    private final Parser parser;
+    private final Reader source;
+    private final YamlConstructor constructor;
+    private final int maxCollectionAliases;
+    private final int nestingDepthLimit;
+    private int collectionAliases;
+    private final Deque<Frame> stack = new ArrayDeque<>();
+    private final Map<String, List<Recorded>> anchors = new HashMap<>();
+    private final List<Recording> recordings = new ArrayList<>();
+    private @Nullable Iterator<Recorded> replay;
+    private @Nullable Mark mark;
+    private boolean seenDocument;
+    private @Nullable ConfigurationEvent current;
+    private @Nullable Object key;
+    private boolean mergeKey;
+    private @Nullable Object scalar;
+
+    YamlEventReader(final Parser parser, final Reader source, final YamlConstructor constructor, final LoaderOptions options) {
+        this.parser = parser;
+        this.source = source;
+        this.constructor = constructor;
+        this.maxCollectionAliases = options.getMaxAliasesForCollections();
+        this.nestingDepthLimit = options.getNestingDepthLimit();
+    }
+
+    @Override
+    public ConfigurationEvent next() throws ParsingException {
+        this.key = null;
+        this.mergeKey = false;
+        this.scalar = null;
+        try {
+            return this.current = this.advance();
+        } catch (final MarkedYAMLException ex) {
+            final @Nullable Mark problem = ex.getProblemMark();
+            throw new ParsingException(
+                problem == null ? ParsingException.UNKNOWN_POS : problem.getLine() + 1,
+                problem == null ? ParsingException.UNKNOWN_POS : problem.getColumn() + 1,
+                problem == null ? null : problem.get_snippet(),
+                ex.getProblem(),
+                ex
+            );
+        } catch (final YAMLException ex) {
+            throw this.exception(ex.getMessage(), ex);
+        }
+    }
+
+    private ConfigurationEvent advance() throws ParsingException {
+        if (this.current == ConfigurationEvent.END_DOCUMENT) {
+            return ConfigurationEvent.END_DOCUMENT;
+        }
+
+        final @Nullable Recorded raw = this.nextRaw();
+        if (raw == null) {
+            return ConfigurationEvent.END_DOCUMENT;
+        }
+
+        final @Nullable Frame frame = this.stack.peek();
+        final boolean keyPosition = frame != null && frame.map && frame.expectKey;
+        switch (raw.type) {
+            case START_MAP:
+            case START_LIST:
+                if (keyPosition) {
+                    throw this.exception("Only scalar keys are supported", null);
+                }
+                if (frame != null && frame.map) {
+                    frame.expectKey = true;
+                }
+                if (this.stack.size() >= this.nestingDepthLimit) {
+                    throw this.exception("Nesting Depth exceeded max " + this.nestingDepthLimit, null);
+                }
+                this.stack.push(new Frame(raw.type == ConfigurationEvent.START_MAP));
+                return raw.type;
+            case END_MAP:
+            case END_LIST:
+                this.stack.pop();
+                return raw.type;
+            case SCALAR:
+            default:
+                if (keyPosition) {
+                    if (raw.value == null) {
+                        throw this.exception("Null keys are not supported", null);
+                    }
+                    frame.expectKey = false;
+                    this.key = raw.value;
+                    this.mergeKey = raw.merge;
+                    return ConfigurationEvent.KEY;
+                }
+                if (frame != null && frame.map) {
+                    frame.expectKey = true;
+                }
+                this.scalar = raw.value;
+                return ConfigurationEvent.SCALAR;
+        }
+    }
+
+    /**
+     * Read the next structural event, either from the parser or from a
+     * replayed alias.
+     *
+     * @return the next event, or null at the end of the document
+     * @throws ParsingException if an alias is unknown, or too many
+     *     collections are aliased
+     */
+    private @Nullable Recorded nextRaw() throws ParsingException {
+        while (true) {
+            final @Nullable Iterator<Recorded> replay = this.replay;
+            if (replay != null) {
+                if (replay.hasNext()) {
+                    return this.record(replay.next());
+                }
+                this.replay = null;
+            }
+
+            if (this.parser.peekEvent() == null) {
+                return null;
+            }
+            final Event event = this.parser.getEvent();
+            this.mark = event.getStartMark();
+            switch (event.getEventId()) {
+                case DocumentStart:
+                    if (this.seenDocument) {
+                        throw this.exception("Expected a single document in the stream", null);
+                    }
+                    this.seenDocument = true;
+                    continue;
+                case StreamEnd:
+                    return null;
+                case Alias:
+                    final String alias = ((AliasEvent) event).getAnchor();
+                    final @Nullable List<Recorded> recorded = this.anchors.get(alias);
+                    if (recorded == null) {
+                        throw this.exception("Found undefined alias " + alias, null);
+                    }
+                    if (recorded.get(0).type != ConfigurationEvent.SCALAR && ++this.collectionAliases > this.maxCollectionAliases) {
+                        throw this.exception("Number of aliases for non-scalar nodes exceeds the specified max=" + this.maxCollectionAliases, null);
+                    }
+                    this.replay = recorded.iterator();
+                    continue;
+                case Scalar:
+                    final ScalarEvent scalar = (ScalarEvent) event;
+                    this.beginRecording(scalar);
+                    final Tag tag = this.constructor.resolveTag(scalar);
+                    if (tag.equals(Tag.MERGE)) {
+                        return this.record(new Recorded(ConfigurationEvent.SCALAR, scalar.getValue(), true));
+                    }
+                    return this.record(new Recorded(ConfigurationEvent.SCALAR, this.constructor.constructScalar(scalar, tag)));
+                case MappingStart:
+                    this.beginRecording((NodeEvent) event);
+                    return this.record(START_MAP);
+                case MappingEnd:
+                    return this.record(END_MAP);
+                case SequenceStart:
+                    this.beginRecording((NodeEvent) event);
+                    return this.record(START_LIST);
+                case SequenceEnd:
+                    return this.record(END_LIST);
+                default: // stream start, document end, comments
+                    continue;
+            }
+        }
+    }
+
+    private void beginRecording(final NodeEvent event) {
+        final @Nullable String anchor = event.getAnchor();
+        if (anchor != null) {
+            this.recordings.add(new Recording(anchor));
+        }
+    }
+
+    private Recorded record(final Recorded event) {
+        if (this.recordings.isEmpty()) {
+            return event;
+        }
+
+        for (final Iterator<Recording> it = this.recordings.iterator(); it.hasNext();) {
+            final Recording recording = it.next();
+            recording.events.add(event);
+            if (event.type == ConfigurationEvent.START_MAP || event.type == ConfigurationEvent.START_LIST) {
+                recording.depth++;
+            } else if (event.type == ConfigurationEvent.END_MAP || event.type == ConfigurationEvent.END_LIST) {
+                recording.depth--;
+            }
+
+            if (recording.depth == 0) {
+                this.anchors.put(recording.anchor, recording.events);
+                it.remove();
+            }
+        }
+        return event;
+    }
+
+    private ParsingException exception(final @Nullable String message, final @Nullable Throwable cause) {
+        final @Nullable Mark mark = this.mark;
+        if (mark == null) {
+            return new ParsingException(ParsingException.UNKNOWN_POS, ParsingException.UNKNOWN_POS, null, message, cause);
+        }
+        return new ParsingException(mark.getLine() + 1, mark.getColumn() + 1, mark.get_snippet(), message, cause);
+    }
+
+    @Override
+    public Object key() {
+        if (this.current != ConfigurationEvent.KEY || this.key == null) {
+            throw new IllegalStateException("Current event is " + this.current + ", not KEY");
+        }
+        return this.key;
+    }
+
+    /**
+     * Get whether the current key is a merge key.
+     *
+     * <p>Merge keys are otherwise reported as a plain {@code <<} key.</p>
+     *
+     * @return whether the current event is a merge key
+     */
+    boolean mergeKey() {
+        return this.mergeKey;
+    }
+
+    @Override
+    public @Nullable Object scalar() {
+        if (this.current != ConfigurationEvent.SCALAR) {
+            throw new IllegalStateException("Current event is " + this.current + ", not SCALAR");
+        }
+        return this.scalar;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.source.close();
+    }
+
+    static final class Recorded {
+
+        final ConfigurationEvent type;
+        final @Nullable Object value;
+        final boolean merge;
+
+        Recorded(final ConfigurationEvent type, final @Nullable Object value) {
+            this(type, value, false);
+        }
+
+        Recorded(final ConfigurationEvent type, final @Nullable Object value, final boolean merge) {
+            this.type = type;
+            this.value = value;
+            this.merge = merge;
+        }
+
+    }
+
+    static final class Recording {
+
+        final String anchor;
+        final List<Recorded> events = new ArrayList<>();
+        int depth;
+
+        Recording(final String anchor) {
+            this.anchor = anchor;
+        }
+
+    }
+
+    static final class Frame {
+
+        final boolean map;
+        boolean expectKey;
+
+        Frame(final boolean map) {
+            this.map = map;
+            this.expectKey = map;
+        }
+
+    }
+
+}
@@ -0,0 +1,207 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.yaml;
+
+import static java.util.Objects.requireNonNull;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.configurate.ConfigurateException;
+import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.ConfigurationVisitor;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.emitter.Emitter;
+import org.yaml.snakeyaml.events.DocumentEndEvent;
+import org.yaml.snakeyaml.events.DocumentStartEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.ImplicitTuple;
+import org.yaml.snakeyaml.events.MappingEndEvent;
+import org.yaml.snakeyaml.events.MappingStartEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.events.SequenceEndEvent;
+import org.yaml.snakeyaml.events.SequenceStartEvent;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.representer.Representer;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * A visitor emitting SnakeYAML events directly from a node tree.
+ *
+ * <p>This produces the same events SnakeYAML's own serializer would for the
+ * node's {@link ConfigurationNode#raw() raw value}, without first copying the
+ * tree into Java collections and a SnakeYAML node graph. Only scalars are
+ * passed through the representer.</p>
+ */
+final class YamlVisitor implements ConfigurationVisitor<Emitter, Void, ConfigurateException> {
+
+    private final Representer representer;
+    private final Resolver resolver;
+    private final DumperOptions options;
+    private @Nullable ConfigurationNode start;
+
+    YamlVisitor(final Representer representer, final Resolver resolver, final DumperOptions options) {
+        this.representer = representer;
+        this.resolver = resolver;
+        this.options = options;
+    }
+
+    @Override
+    public Emitter newState() {
+        throw new UnsupportedOperationException("Emitter must be provided");
+    }
+
+    @Override
+    public void beginVisit(final ConfigurationNode node, final Emitter state) throws ConfigurateException {
+        this.start = node;
+        this.emit(node, state, new DocumentStartEvent(null, null, this.options.isExplicitStart(), this.options.getVersion(),
+            this.options.getTags()));
+        if (!node.isMap() && !node.isList() && node.rawScalar() == null) {
+            // the visitor will not enter a node without any value
+            this.emitNode(node, state, this.representer.represent(null));
+        }
+    }
+
+    @Override
+    public void enterNode(final ConfigurationNode node, final Emitter state) throws ConfigurateException {
+        final @Nullable ConfigurationNode parent = node.parent();
+        if (node != this.start && parent != null && parent.isMap()) {
+            final Object key = requireNonNull(node.key(), "Node must have key to be a value in a mapping");
+            this.emitNode(node, state, this.representer.represent(key));
+        }
+    }
+
+    @Override
+    public void enterMappingNode(final ConfigurationNode node, final Emitter state) throws ConfigurateException {
+        DumperOptions.FlowStyle style = this.options.getDefaultFlowStyle();
+        if (style == DumperOptions.FlowStyle.AUTO) {
+            style = DumperOptions.FlowStyle.FLOW;
+            for (final Map.Entry<Object, ? extends ConfigurationNode> entry : node.childrenMap().entrySet()) {
+                if (!this.isPlainScalar(entry.getKey()) || !this.isPlainScalar(entry.getValue())) {
+                    style = DumperOptions.FlowStyle.BLOCK;
+                    break;
+                }
+            }
+        }
+        this.emit(node, state, new MappingStartEvent(null, Tag.MAP.getValue(), true, null, null, style));
+    }
+
+    @Override
+    public void enterListNode(final ConfigurationNode node, final Emitter state) throws ConfigurateException {
+        DumperOptions.FlowStyle style = this.options.getDefaultFlowStyle();
+        if (style == DumperOptions.FlowStyle.AUTO) {
+            style = DumperOptions.FlowStyle.FLOW;
+            for (final ConfigurationNode child : node.childrenList()) {
+                if (!this.isPlainScalar(child)) {
+                    style = DumperOptions.FlowStyle.BLOCK;
+                    break;
+                }
+            }
+        }
+        this.emit(node, state, new SequenceStartEvent(null, Tag.SEQ.getValue(), true, null, null, style));
+    }
+
+    @Override
+    public void enterScalarNode(final ConfigurationNode node, final Emitter state) throws ConfigurateException {
+        this.emitNode(node, state, this.representer.represent(node.rawScalar()));
+    }
+
+    @Override
+    public void exitMappingNode(final ConfigurationNode node, final Emitter state) throws ConfigurateException {
+        this.emit(node, state, new MappingEndEvent(null, null));
+    }
+
+    @Override
+    public void exitListNode(final ConfigurationNode node, final Emitter state) throws ConfigurateException {
+        this.emit(node, state, new SequenceEndEvent(null, null));
+    }
+
+    @Override
+    public Void endVisit(final Emitter state) throws ConfigurateException {
+        final ConfigurationNode start = requireNonNull(this.start, "start");
+        this.start = null;
+        this.emit(start, state, new DocumentEndEvent(null, null, this.options.isExplicitEnd()));
+        return null;
+    }
+
+    private boolean isPlainScalar(final ConfigurationNode node) {
+        if (node.isMap() || node.isList()) {
+            return false;
+        }
+        return this.isPlainScalar(node.rawScalar());
+    }
+
+    private boolean isPlainScalar(final @Nullable Object value) {
+        final Node represented = this.representer.represent(value);
+        return represented instanceof ScalarNode && ((ScalarNode) represented).isPlain();
+    }
+
+    /**
+     * Emit the events for a represented SnakeYAML node.
+     *
+     * <p>Scalars will always produce scalar nodes, but values the representer
+     * does not know may be represented as collections.</p>
+     *
+     * @param source the configuration node being written
+     * @param state the emitter
+     * @param node the represented node
+     * @throws ConfigurateException if the emitter fails
+     */
+    private void emitNode(final ConfigurationNode source, final Emitter state, final Node node) throws ConfigurateException {
+        if (node.getNodeId() == NodeId.scalar) {
+            final ScalarNode scalar = (ScalarNode) node;
+            final Tag detected = this.resolver.resolve(NodeId.scalar, scalar.getValue(), true);
+            final Tag fallback = this.resolver.resolve(NodeId.scalar, scalar.getValue(), false);
+            final ImplicitTuple implicit = new ImplicitTuple(node.getTag().equals(detected), node.getTag().equals(fallback));
+            this.emit(source, state, new ScalarEvent(null, node.getTag().getValue(), implicit, scalar.getValue(), null, null,
+                scalar.getScalarStyle()));
+        } else if (node.getNodeId() == NodeId.sequence) {
+            final SequenceNode sequence = (SequenceNode) node;
+            final boolean implicit = node.getTag().equals(this.resolver.resolve(NodeId.sequence, null, true));
+            this.emit(source, state, new SequenceStartEvent(null, node.getTag().getValue(), implicit, null, null, sequence.getFlowStyle()));
+            for (final Node child : sequence.getValue()) {
+                this.emitNode(source, state, child);
+            }
+            this.emit(source, state, new SequenceEndEvent(null, null));
+        } else {
+            final MappingNode mapping = (MappingNode) node;
+            final boolean implicit = node.getTag().equals(this.resolver.resolve(NodeId.mapping, null, true));
+            this.emit(source, state, new MappingStartEvent(null, node.getTag().getValue(), implicit, null, null, mapping.getFlowStyle()));
+            for (final NodeTuple entry : mapping.getValue()) {
+                this.emitNode(source, state, entry.getKeyNode());
+                this.emitNode(source, state, entry.getValueNode());
+            }
+            this.emit(source, state, new MappingEndEvent(null, null));
+        }
+    }
+
+    private void emit(final ConfigurationNode node, final Emitter state, final Event event) throws ConfigurateException {
+        try {
+            state.emit(event);
+        } catch (final IOException ex) {
+            throw new ConfigurateException(node, ex);
+        }
+    }
+
+}
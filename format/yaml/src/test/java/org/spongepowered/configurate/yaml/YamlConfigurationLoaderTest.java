@@ -17,24 +17,37 @@
 package org.spongepowered.configurate.yaml;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.leangen.geantyref.TypeToken;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.spongepowered.configurate.BasicConfigurationNode;
 import org.spongepowered.configurate.CommentedConfigurationNode;
 import org.spongepowered.configurate.ConfigurateException;
 import org.spongepowered.configurate.ConfigurationNode;
+import org.spongepowered.configurate.loader.ConfigurationEvent;
+import org.spongepowered.configurate.loader.ConfigurationEventReader;
 import org.spongepowered.configurate.loader.ConfigurationLoader;
+import org.spongepowered.configurate.loader.ParsingException;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.Yaml;
 
 import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -111,4 +124,125 @@ class YamlConfigurationLoaderTest {
         }
     }
 
+    @Test
+    void testStreamMatchesLoad() throws IOException {
+        final URL url = this.getClass().getResource("/example.yml");
+        final ConfigurationLoader<CommentedConfigurationNode> loader = YamlConfigurationLoader.builder()
+            .url(url)
+            .build();
+
+        final CommentedConfigurationNode streamed = loader.createNode();
+        try (ConfigurationEventReader reader = loader.stream()) {
+            reader.readValue(streamed);
+            assertEquals(ConfigurationEvent.END_DOCUMENT, reader.next());
+        }
+        assertEquals(loader.load(), streamed);
+    }
+
+    @Test
+    void testStreamReplaysAliases() throws IOException {
+        final ConfigurationLoader<CommentedConfigurationNode> loader = YamlConfigurationLoader.builder()
+            .source(() -> new BufferedReader(new StringReader("base: &base\n  size: 3\n  tags: [a, b]\ncopy: *base\n")))
+            .build();
+
+        final CommentedConfigurationNode streamed = loader.createNode();
+        try (ConfigurationEventReader reader = loader.stream()) {
+            reader.readValue(streamed);
+        }
+        assertEquals(3, streamed.node("copy", "size").raw());
+        assertEquals(streamed.node("base").raw(), streamed.node("copy").raw());
+    }
+
+    @Test
+    void testMergeKeys() throws IOException {
+        final ConfigurationLoader<CommentedConfigurationNode> loader = YamlConfigurationLoader.builder()
+            .source(() -> new BufferedReader(new StringReader("base: &base\n  a: 1\n  b: 2\n"
+                + "extra: &extra\n  b: 5\n  c: 3\n"
+                + "merged:\n  <<: [*base, *extra]\n  a: 4\n  d: 5\n")))
+            .build();
+
+        final ConfigurationNode merged = loader.load().node("merged");
+        assertEquals(4, merged.node("a").raw());
+        assertEquals(2, merged.node("b").raw());
+        assertEquals(3, merged.node("c").raw());
+        assertEquals(Arrays.asList("a", "b", "c", "d"), new ArrayList<>(merged.childrenMap().keySet()));
+    }
+
+    @Test
+    void testAliasesOfCollectionsAreLimited() {
+        // a "billion laughs" document: each level aliases the previous one nine times
+        final StringBuilder document = new StringBuilder("lol0: &lol0 [lol]\n");
+        for (int i = 1; i < 10; i++) {
+            document.append("lol").append(i).append(": &lol").append(i).append(" [");
+            for (int j = 0; j < 9; j++) {
+                document.append(j == 0 ? "" : ", ").append("*lol").append(i - 1);
+            }
+            document.append("]\n");
+        }
+        final ConfigurationLoader<CommentedConfigurationNode> loader = YamlConfigurationLoader.builder()
+            .source(() -> new BufferedReader(new StringReader(document.toString())))
+            .build();
+
+        final ParsingException loaded = assertThrows(ParsingException.class, loader::load);
+        assertTrue(loaded.getMessage().contains("Number of aliases"), loaded.getMessage());
+        assertThrows(ParsingException.class, () -> {
+            try (ConfigurationEventReader reader = loader.stream()) {
+                reader.readValue(loader.createNode());
+            }
+        });
+    }
+
+    @Test
+    void testNestingDepthIsLimited() {
+        final int depth = 10_000;
+        final StringBuilder document = new StringBuilder("deep: ");
+        for (int i = 0; i < depth; i++) {
+            document.append('[');
+        }
+        for (int i = 0; i < depth; i++) {
+            document.append(']');
+        }
+        final ConfigurationLoader<CommentedConfigurationNode> loader = YamlConfigurationLoader.builder()
+            .source(() -> new BufferedReader(new StringReader(document.toString())))
+            .build();
+
+        final ParsingException ex = assertThrows(ParsingException.class, loader::load);
+        assertTrue(ex.getMessage().contains("Nesting Depth"), ex.getMessage());
+    }
+
+    @Test
+    void testSaveMatchesSnakeYaml() throws IOException {
+        final ConfigurationNode node = BasicConfigurationNode.root(n -> {
+            n.node("string").raw("hello");
+            n.node("quoted").raw("yes");
+            n.node("numeric").raw("123");
+            n.node("empty").raw("");
+            n.node("multiline").raw("line one\nline two\n");
+            n.node("number").raw(12.5d);
+            n.node("flag").raw(true);
+            n.node("nothing", "here").raw(Collections.emptyMap());
+            n.node("flat").act(c -> {
+                c.appendListNode().raw(1);
+                c.appendListNode().raw("two");
+            });
+            n.node("nested").act(c -> {
+                c.appendListNode().node("key").raw("value");
+                c.appendListNode().raw(Collections.emptyList());
+            });
+        });
+
+        for (final @Nullable NodeStyle style : new NodeStyle[] {null, NodeStyle.BLOCK, NodeStyle.FLOW}) {
+            final StringWriter written = new StringWriter();
+            final YamlConfigurationLoader loader = YamlConfigurationLoader.builder()
+                .nodeStyle(style)
+                .sink(() -> new BufferedWriter(written))
+                .build();
+            loader.save(node);
+
+            final DumperOptions options = new DumperOptions();
+            options.setIndent(4);
+            options.setDefaultFlowStyle(NodeStyle.asSnakeYaml(style));
+            assertEquals(new Yaml(options).dump(node.raw()), written.toString(), "style " + style);
+        }
+    }
 }
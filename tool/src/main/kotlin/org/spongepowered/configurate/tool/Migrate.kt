@@ -0,0 +1,217 @@
+/*
+ * Configurate
+ * Copyright (C) zml and Configurate contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.spongepowered.configurate.tool
+
+import com.github.ajalt.clikt.core.CliktCommand
+import com.github.ajalt.clikt.core.CliktError
+import com.github.ajalt.clikt.parameters.arguments.argument
+import com.github.ajalt.clikt.parameters.options.default
+import com.github.ajalt.clikt.parameters.options.flag
+import com.github.ajalt.clikt.parameters.options.multiple
+import com.github.ajalt.clikt.parameters.options.option
+import com.github.ajalt.clikt.parameters.options.required
+import com.github.ajalt.clikt.parameters.types.enum
+import com.github.ajalt.clikt.parameters.types.int
+import com.github.ajalt.clikt.parameters.types.path
+import com.github.ajalt.clikt.parameters.types.restrictTo
+import java.io.IOException
+import java.net.URLClassLoader
+import java.nio.file.FileSystems
+import java.nio.file.Path
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.function.Supplier
+import org.spongepowered.configurate.gson.GsonConfigurationLoader
+import org.spongepowered.configurate.hocon.HoconConfigurationLoader
+import org.spongepowered.configurate.loader.ConfigurationLoader
+import org.spongepowered.configurate.transformation.BatchMigration
+import org.spongepowered.configurate.transformation.ConfigurationTransformation
+import org.spongepowered.configurate.util.VirtualThreads
+import org.spongepowered.configurate.xml.XmlConfigurationLoader
+import org.spongepowered.configurate.yaml.YamlConfigurationLoader
+
+/** How many progress lines to print over the course of a migration */
+private const val PROGRESS_STEPS = 20
+
+/** File formats that can be migrated, with the extensions matched by default */
+enum class MigrationFormat(private vararg val extensions: String) {
+    YAML("yml", "yaml") {
+        override fun createLoader(path: Path): ConfigurationLoader<*> =
+            YamlConfigurationLoader.builder().path(path).build()
+    },
+    JSON("json") {
+        override fun createLoader(path: Path): ConfigurationLoader<*> =
+            GsonConfigurationLoader.builder().path(path).build()
+    },
+    HOCON("conf", "hocon") {
+        override fun createLoader(path: Path): ConfigurationLoader<*> =
+            HoconConfigurationLoader.builder().path(path).build()
+    },
+    XML("xml") {
+        override fun createLoader(path: Path): ConfigurationLoader<*> =
+            XmlConfigurationLoader.builder().path(path).build()
+    };
+
+    /** Create a loader that reads from and atomically saves to [path] */
+    abstract fun createLoader(path: Path): ConfigurationLoader<*>
+
+    /** Whether [path] has one of this format's extensions */
+    fun matches(path: Path): Boolean {
+        val name = path.fileName.toString()
+        return extensions.any { name.endsWith(".$it", ignoreCase = true) }
+    }
+}
+
+class Migrate :
+    CliktCommand(
+        help =
+            """
+    Apply a versioned transformation to every config file in a directory tree
+
+    Files are migrated in parallel, and each one is saved atomically. Files
+    already at the latest version are left untouched.
+    """
+                .trimIndent(),
+    ) {
+    private val directory by
+        argument(help = "Directory to search for configuration files")
+            .path(mustExist = true, canBeFile = false)
+    private val transformationClass by
+        option(
+                "-t",
+                "--transformation",
+                help =
+                    "Class implementing ConfigurationTransformation.Versioned, " +
+                        "or a Supplier of one, with a no-argument constructor"
+            )
+            .required()
+    private val classpath by
+        option("-c", "--classpath", help = "Jar or directory to load the transformation from")
+            .path(mustExist = true)
+            .multiple()
+    private val format by
+        option("-f", "--format", help = "Format of the files to migrate")
+            .enum<MigrationFormat>()
+            .required()
+    private val glob by
+        option(
+            "-g",
+            "--glob",
+            help = "Only migrate files whose path within the directory matches this glob"
+        )
+    private val threads by
+        option("-j", "--threads", help = "How many files to migrate at once")
+            .int()
+            .restrictTo(min = 1)
+            .default(Runtime.getRuntime().availableProcessors())
+    private val virtualThreads by
+        option("--virtual-threads", help = "Migrate each file on a virtual thread (Java 21+)")
+            .flag()
+    private val verbose by option("-v", "--verbose", help = "Report every migrated file").flag()
+
+    override fun run() {
+        // the transformation may still load classes while files are migrated
+        URLClassLoader(
+                classpath.map { it.toUri().toURL() }.toTypedArray(),
+                Migrate::class.java.classLoader
+            )
+            .use { migrate(loadTransformation(it)) }
+    }
+
+    private fun migrate(transformation: ConfigurationTransformation.Versioned) {
+        val matcher = glob?.let { FileSystems.getDefault().getPathMatcher("glob:$it") }
+        val builder =
+            BatchMigration.builder()
+                .transformation(transformation)
+                .loaderFactory { format.createLoader(it) }
+                .filter { matcher?.matches(directory.relativize(it)) ?: format.matches(it) }
+                .parallelism(threads)
+                .listener(ProgressListener())
+        if (virtualThreads) {
+            if (!VirtualThreads.available()) {
+                throw CliktError("Virtual threads require Java 21 or newer")
+            }
+            builder.executor(VirtualThreads.executor())
+        }
+
+        val result =
+            try {
+                builder.build().migrateDirectory(directory)
+            } catch (e: IOException) {
+                throw CliktError("Unable to list files in $directory: ${e.message}", e)
+            }
+
+        echo(
+            heading("Migrated") +
+                " $SPLIT ${result.migrated()} migrated, ${result.upToDate()} already up to date, " +
+                "${result.failures().size} failed"
+        )
+        if (!result.successful()) {
+            throw CliktError("${result.failures().size} files could not be migrated")
+        }
+    }
+
+    private fun loadTransformation(loader: ClassLoader): ConfigurationTransformation.Versioned {
+        val instance =
+            try {
+                Class.forName(transformationClass, true, loader).getDeclaredConstructor().newInstance()
+            } catch (e: ReflectiveOperationException) {
+                throw CliktError("Unable to create transformation $transformationClass: $e", e)
+            }
+
+        return when (instance) {
+            is ConfigurationTransformation.Versioned -> instance
+            is Supplier<*> -> instance.get() as? ConfigurationTransformation.Versioned
+            else -> null
+        }
+            ?: throw CliktError(
+                "$transformationClass does not provide a ConfigurationTransformation.Versioned"
+            )
+    }
+
+    /** Prints failures as they happen, and overall progress at regular intervals */
+    private inner class ProgressListener : BatchMigration.Listener {
+        private val done = AtomicInteger()
+        @Volatile private var total = 0
+
+        override fun started(files: Int) {
+            total = files
+            echo("Migrating $files files in @|blue,bold $directory|@")
+        }
+
+        override fun migrated(file: Path, from: Int, to: Int) {
+            if (verbose) {
+                echo("$CHILD_NODE ${directory.relativize(file)}: version $from $SPLIT $to")
+            }
+            progress()
+        }
+
+        override fun upToDate(file: Path, version: Int) = progress()
+
+        override fun failed(file: Path, error: Exception) {
+            echo("@|red,bold Failed|@ $SPLIT ${directory.relativize(file)}: ${error.message}", err = true)
+            progress()
+        }
+
+        private fun progress() {
+            val count = done.incrementAndGet()
+            val step = maxOf(1, total / PROGRESS_STEPS)
+            if (count % step == 0 || count == total) {
+                echo("$CHILD_CONT $count/$total")
+            }
+        }
+    }
+}
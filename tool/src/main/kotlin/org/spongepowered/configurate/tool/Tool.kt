@@ -97,7 +97,8 @@ class Tool :
             """
     This tool displays the Configurate data structures read from a config file
 
-    This helps to understand the internal structure of Configurate's nodes
+    This helps to understand the internal structure of Configurate's nodes.
+    The migrate command applies versioned transformations to many files at once.
     """
                 .trimIndent(),
     ) {
@@ -108,7 +109,7 @@ class Tool :
             autoEnvvarPrefix = "CONFIGURATE"
             console = JAnsiConsole()
         }
-        subcommands(Xml(), Yaml(), Json(), Hocon())
+        subcommands(Xml(), Yaml(), Json(), Hocon(), Migrate())
     }
 
     override fun run() = Unit